@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.ant;
+
+import de.poiu.kilt.bundlecontent.ParsedFileCache;
+import de.poiu.kilt.packaging.BundleConsolidator;
+import de.poiu.kilt.util.FileMatcher;
+import java.nio.charset.Charset;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.Task;
+
+
+/**
+ * Consolidates all resource bundles of a locale into a single resource.
+ */
+public class ConsolidateTask extends Task {
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /**
+   * The location of the source i18n resource bundle files.
+   */
+  private String propertiesRootDirectory= "i18n";
+
+  private List<String> i18nIncludes= new ArrayList<>();
+
+  private List<String> i18nExcludes= new ArrayList<>();
+
+  private boolean verbose= false;
+
+  private Charset propertyFileEncoding;
+
+  private ParsedFileCache parsedFileCache;
+
+  private String consolidatedResourceDir= "generated-resources";
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  @Override
+  public void execute() throws BuildException {
+    if (this.verbose) {
+      Configurator.setLevel(LogManager.getLogger("de.poiu.kilt").getName(), Level.DEBUG);
+    }
+
+    if (this.verbose) {
+      printProperties();
+    }
+
+    this.log("Consolidating resource bundles...");
+
+    final FileMatcher fileMatcher= new FileMatcher(Paths.get(this.propertiesRootDirectory), i18nIncludes, i18nExcludes);
+
+    new BundleConsolidator(this.parsedFileCache).consolidate(fileMatcher,
+                                         this.propertyFileEncoding,
+                                         Paths.get(this.consolidatedResourceDir));
+
+    this.log("...done");
+  }
+
+
+  public void setConsolidatedResourceDir(final String consolidatedResourceDir) {
+    this.consolidatedResourceDir= consolidatedResourceDir;
+  }
+
+
+  public void setPropertyFileEncoding(String fileEncoding) {
+    if (fileEncoding != null) {
+      this.propertyFileEncoding= Charset.forName(fileEncoding);
+    } else {
+      this.propertyFileEncoding= null;
+    }
+  }
+
+
+  public void setCacheDirectory(final String cacheDirectory) {
+    if (cacheDirectory != null && !cacheDirectory.trim().isEmpty()) {
+      this.parsedFileCache= new ParsedFileCache(Paths.get(cacheDirectory));
+    } else {
+      this.parsedFileCache= null;
+    }
+  }
+
+
+  public void setPropertiesRootDirectory(String propertiesRootDirectory) {
+    this.propertiesRootDirectory = propertiesRootDirectory;
+  }
+
+
+  public void setI18nIncludes(final String i18nIncludes) {
+    this.i18nIncludes= Arrays.asList(i18nIncludes.split("\\s+"));
+  }
+
+
+  public void setI18nExcludes(final String i18nExcludes) {
+    this.i18nExcludes= Arrays.asList(i18nExcludes.split("\\s+"));
+  }
+
+
+  public void setVerbose(final boolean verbose) {
+    this.verbose= verbose;
+  }
+
+
+  private void printProperties(){
+    final StringBuilder sb= new StringBuilder();
+
+    sb.append("verbose                 = ").append(this.verbose).append("\n");
+    sb.append("propertiesRootDirectory = ").append(this.propertiesRootDirectory).append("\n");
+    sb.append("i18nIncludes            = ").append(this.i18nIncludes).append("\n");
+    sb.append("i18nExcludes            = ").append(this.i18nExcludes).append("\n");
+    sb.append("propertyFileEncoding    = ").append(this.propertyFileEncoding).append("\n");
+    sb.append("consolidatedResourceDir = ").append(this.consolidatedResourceDir).append("\n");
+
+    System.out.println(sb.toString());
+  }
+}
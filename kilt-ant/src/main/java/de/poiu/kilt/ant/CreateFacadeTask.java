@@ -19,9 +19,12 @@ import com.palantir.javapoet.JavaFile;
 import com.palantir.javapoet.TypeSpec;
 import de.poiu.fez.Require;
 import de.poiu.kilt.facade.creation.FacadeCreator;
+import de.poiu.kilt.packaging.KeyIndexWriter;
+import de.poiu.kilt.bundlecontent.Catalogue;
 import de.poiu.kilt.bundlecontent.Language;
-import de.poiu.kilt.bundlecontent.ResourceBundleContent;
+import de.poiu.kilt.bundlecontent.ParsedFileCache;
 import de.poiu.kilt.bundlecontent.ResourceBundleContentHelper;
+import de.poiu.kilt.bundlecontent.StringPool;
 import de.poiu.kilt.util.FileMatcher;
 import java.io.File;
 import java.io.IOException;
@@ -43,6 +46,8 @@ import org.apache.tools.ant.Project;
 import org.apache.tools.ant.Task;
 import org.apache.tools.ant.types.FileSet;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 
 /**
  * Creates the I18n enum facades for type safe access to localized
@@ -67,6 +72,8 @@ public class CreateFacadeTask extends Task {
 
   private String propertyFileEncoding;
 
+  private ParsedFileCache parsedFileCache;
+
   private Path facadeGenerationDirectory = Paths.get("generated-sources");
 
   /**
@@ -87,6 +94,31 @@ public class CreateFacadeTask extends Task {
    */
   private String facadeAccessorClassName= "I18n";
 
+  /**
+   * The locale for which the generated enum facades should provide the translations directly.
+   */
+  private String singleLocale= null;
+
+  /**
+   * Whether to write a bundle manifest listing the available locales of each resource bundle.
+   * The I18n facade accessor uses this manifest to avoid looking up resource bundle files
+   * that don't exist.
+   */
+  private boolean createBundleManifest= false;
+
+  /**
+   * Whether to write an index of all bundle keys.
+   * The I18n facade accessor uses this index to speed up the lookup of translations via
+   * bundle name and key.
+   */
+  private boolean createKeyIndex= false;
+
+  /**
+   * The location to which the bundle manifest and the key index are written.
+   * This is only meaningful in combination with {@link #createBundleManifest} or {@link #createKeyIndex}.
+   */
+  private Path bundleManifestDirectory= Paths.get("generated-resources");
+
 
   /////////////////////////////////////////////////////////////////////////////
   //
@@ -115,19 +147,37 @@ public class CreateFacadeTask extends Task {
       final Map<String, Map<Language, File>> bundleNameToFilesMap = fbcHelper.toBundleNameToFilesMap(propertyFileSet);
 
       final FacadeCreator facadeCreator = new FacadeCreator();
+      final KeyIndexWriter keyIndexWriter= new KeyIndexWriter();
+      // share equal keys and values over all bundles
+      final StringPool stringPool= new StringPool();
       for (final Map.Entry<String, Map<Language, File>> entry : bundleNameToFilesMap.entrySet()) {
         final String bundleName = entry.getKey();
         final Map<Language, File> bundleTranslations = entry.getValue();
 
-        final ResourceBundleContent resourceBundleContent = ResourceBundleContent.forName(bundleName).fromFiles(bundleTranslations);
-        final TypeSpec resourceBundleEnumTypeSpec = facadeCreator.createFacadeEnumFor(resourceBundleContent);
+        final Catalogue catalogue = Catalogue.fromFiles(bundleName, bundleTranslations, UTF_8, stringPool, this.parsedFileCache);
+        final TypeSpec resourceBundleEnumTypeSpec = facadeCreator.createFacadeEnumFor(catalogue,
+                                                                                      singleLocale != null && !singleLocale.trim().isEmpty() ? Language.of(singleLocale.trim()) : null,
+                                                                                      // getPlural is only provided by the I18n class of kilt-runtime
+                                                                                      !copyFacadeAccessorClasses);
         final JavaFile javaFile = JavaFile.builder(generatedPackage, resourceBundleEnumTypeSpec).build();
         javaFile.writeTo(facadeGenerationDirectory);
+
+        if (createKeyIndex) {
+          keyIndexWriter.add(catalogue);
+        }
       }
 
       if (copyFacadeAccessorClasses) {
         facadeCreator.copyFacadeAccessorTemplates(facadeAccessorClassName, generatedPackage, facadeGenerationDirectory);
       }
+
+      if (createBundleManifest) {
+        facadeCreator.createBundleManifest(bundleNameToFilesMap, bundleManifestDirectory);
+      }
+
+      if (createKeyIndex) {
+        keyIndexWriter.write(bundleManifestDirectory);
+      }
     } catch (IOException e) {
       this.log("Could not write Java facade to file", e, Project.MSG_ERR);
       throw new RuntimeException(e);
@@ -163,6 +213,15 @@ public class CreateFacadeTask extends Task {
   }
 
 
+  public void setCacheDirectory(final String cacheDirectory) {
+    if (cacheDirectory != null && !cacheDirectory.trim().isEmpty()) {
+      this.parsedFileCache= new ParsedFileCache(Paths.get(cacheDirectory));
+    } else {
+      this.parsedFileCache= null;
+    }
+  }
+
+
   public void setCopyFacadeAccessorClasses(final boolean copyFacadeAccessorClasses) {
     this.copyFacadeAccessorClasses = copyFacadeAccessorClasses;
   }
@@ -178,6 +237,26 @@ public class CreateFacadeTask extends Task {
   }
 
 
+  public void setSingleLocale(final String singleLocale) {
+    this.singleLocale = singleLocale;
+  }
+
+
+  public void setCreateBundleManifest(final boolean createBundleManifest) {
+    this.createBundleManifest = createBundleManifest;
+  }
+
+
+  public void setCreateKeyIndex(final boolean createKeyIndex) {
+    this.createKeyIndex = createKeyIndex;
+  }
+
+
+  public void setBundleManifestDir(final String bundleManifestDir) {
+    this.bundleManifestDirectory = Paths.get(bundleManifestDir);
+  }
+
+
   public void setVerbose(final boolean verbose) {
     this.verbose= verbose;
   }
@@ -195,6 +274,10 @@ public class CreateFacadeTask extends Task {
     sb.append("generatedPackage          = ").append(this.generatedPackage).append("\n");
     sb.append("copyFacadeAccessorClasses = ").append(this.copyFacadeAccessorClasses).append("\n");
     sb.append("facadeAccessorClassName   = ").append(this.facadeAccessorClassName).append("\n");
+    sb.append("singleLocale              = ").append(this.singleLocale).append("\n");
+    sb.append("createBundleManifest      = ").append(this.createBundleManifest).append("\n");
+    sb.append("createKeyIndex            = ").append(this.createKeyIndex).append("\n");
+    sb.append("bundleManifestDirectory   = ").append(this.bundleManifestDirectory).append("\n");
 
     System.out.println(sb.toString());
   }
@@ -15,6 +15,7 @@
  */
 package de.poiu.kilt.ant;
 
+import de.poiu.kilt.bundlecontent.ParsedFileCache;
 import de.poiu.kilt.importexport.XlsImExporter;
 import de.poiu.kilt.util.FileMatcher;
 import java.io.File;
@@ -58,10 +59,14 @@ public class ExportXlsTask extends Task {
 
   private Charset propertyFileEncoding;
 
+  private ParsedFileCache parsedFileCache;
+
   private String xlsFile= null;
 
   private boolean deleteEmptyProperties= false;
 
+  private boolean offHeap= false;
+
 
   /////////////////////////////////////////////////////////////////////////////
   //
@@ -92,7 +97,9 @@ public class ExportXlsTask extends Task {
 
       XlsImExporter.exportXls(fileMatcher,
                               this.propertyFileEncoding,
-                              file);
+                              file,
+                              this.offHeap,
+                              this.parsedFileCache);
 
       this.log("...done");
     }
@@ -118,6 +125,15 @@ public class ExportXlsTask extends Task {
   }
 
 
+  public void setCacheDirectory(final String cacheDirectory) {
+    if (cacheDirectory != null && !cacheDirectory.trim().isEmpty()) {
+      this.parsedFileCache= new ParsedFileCache(Paths.get(cacheDirectory));
+    } else {
+      this.parsedFileCache= null;
+    }
+  }
+
+
   public boolean isDeleteEmptyProperties() {
     return this.deleteEmptyProperties;
   }
@@ -128,6 +144,11 @@ public class ExportXlsTask extends Task {
   }
 
 
+  public void setOffHeap(final boolean offHeap) {
+    this.offHeap= offHeap;
+  }
+
+
   public void setPropertiesRootDirectory(String propertiesRootDirectory) {
     this.propertiesRootDirectory = propertiesRootDirectory;
   }
@@ -157,6 +178,7 @@ public class ExportXlsTask extends Task {
     sb.append("i18nExcludes            = ").append(this.i18nExcludes).append("\n");
     sb.append("propertyFileEncoding    = ").append(this.propertyFileEncoding).append("\n");
     sb.append("xlsFile                 = ").append(this.xlsFile).append("\n");
+    sb.append("offHeap                 = ").append(this.offHeap).append("\n");
 
     System.out.println(sb.toString());
   }
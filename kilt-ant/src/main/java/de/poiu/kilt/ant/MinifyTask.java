@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.ant;
+
+import de.poiu.kilt.bundlecontent.ParsedFileCache;
+import de.poiu.kilt.reformatting.BundleMinifier;
+import de.poiu.kilt.util.FileMatcher;
+import java.nio.charset.Charset;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.Task;
+
+
+/**
+ * Writes minified copies of the resource bundle files into a separate directory.
+ */
+public class MinifyTask extends Task {
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /**
+   * The location of the source i18n resource bundle files.
+   */
+  private String propertiesRootDirectory= "i18n";
+
+  private List<String> i18nIncludes= new ArrayList<>();
+
+  private List<String> i18nExcludes= new ArrayList<>();
+
+  private boolean verbose= false;
+
+  private String propertyFileEncoding;
+
+  private ParsedFileCache parsedFileCache;
+
+  private String minifiedResourceDir= "classes";
+
+  /**
+   * Whether to write non-ASCII characters as is (encoded in UTF-8) instead of as escape sequences.
+   */
+  private boolean unescapedUnicode= false;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  @Override
+  public void execute() throws BuildException {
+    if (this.verbose) {
+      Configurator.setLevel(LogManager.getLogger("de.poiu.kilt").getName(), Level.DEBUG);
+    }
+
+    if (this.verbose) {
+      printProperties();
+    }
+
+    this.log("Minifying resource bundles into " + this.minifiedResourceDir + "...");
+    final FileMatcher fileMatcher= new FileMatcher(Paths.get(this.propertiesRootDirectory), i18nIncludes, i18nExcludes);
+    final Charset charset= this.propertyFileEncoding != null ? Charset.forName(this.propertyFileEncoding) : null;
+
+    final long savedBytes= new BundleMinifier(this.parsedFileCache).minify(fileMatcher,
+                                                                          charset,
+                                                                          Paths.get(this.minifiedResourceDir),
+                                                                          this.unescapedUnicode);
+
+    this.log("Saved " + savedBytes + " bytes");
+    this.log("...done");
+  }
+
+
+  public void setPropertiesRootDirectory(String propertiesRootDirectory) {
+    this.propertiesRootDirectory = propertiesRootDirectory;
+  }
+
+
+  public void setI18nIncludes(final String i18nIncludes) {
+    this.i18nIncludes= Arrays.asList(i18nIncludes.split("\\s+"));
+  }
+
+
+  public void setI18nExcludes(final String i18nExcludes) {
+    this.i18nExcludes= Arrays.asList(i18nExcludes.split("\\s+"));
+  }
+
+
+  public void setPropertyFileEncoding(String propertyFileEncoding) {
+    this.propertyFileEncoding = propertyFileEncoding;
+  }
+
+
+  public void setCacheDirectory(final String cacheDirectory) {
+    if (cacheDirectory != null && !cacheDirectory.trim().isEmpty()) {
+      this.parsedFileCache= new ParsedFileCache(Paths.get(cacheDirectory));
+    } else {
+      this.parsedFileCache= null;
+    }
+  }
+
+
+  public void setMinifiedResourceDir(String minifiedResourceDir) {
+    this.minifiedResourceDir = minifiedResourceDir;
+  }
+
+
+  public void setUnescapedUnicode(final boolean unescapedUnicode) {
+    this.unescapedUnicode= unescapedUnicode;
+  }
+
+
+  public void setVerbose(final boolean verbose) {
+    this.verbose= verbose;
+  }
+
+
+  private void printProperties(){
+    final StringBuilder sb= new StringBuilder();
+
+    sb.append("verbose                   = ").append(this.verbose).append("\n");
+    sb.append("propertiesRootDirectory   = ").append(this.propertiesRootDirectory).append("\n");
+    sb.append("i18nIncludes              = ").append(this.i18nIncludes).append("\n");
+    sb.append("i18nExcludes              = ").append(this.i18nExcludes).append("\n");
+    sb.append("propertyFileEncoding      = ").append(this.propertyFileEncoding).append("\n");
+    sb.append("minifiedResourceDir       = ").append(this.minifiedResourceDir).append("\n");
+    sb.append("unescapedUnicode          = ").append(this.unescapedUnicode).append("\n");
+
+    System.out.println(sb.toString());
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.ant;
+
+import de.poiu.kilt.bundlecontent.Language;
+import de.poiu.kilt.packaging.LocaleSubsetter;
+import de.poiu.kilt.util.FileMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.Task;
+
+
+/**
+ * Copies only the resource bundle files of a subset of locales and their fallback parents.
+ */
+public class SubsetLocalesTask extends Task {
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /**
+   * The location of the source i18n resource bundle files.
+   */
+  private String propertiesRootDirectory= "i18n";
+
+  private List<String> i18nIncludes= new ArrayList<>();
+
+  private List<String> i18nExcludes= new ArrayList<>();
+
+  private boolean verbose= false;
+
+  private List<Language> subsetLocales= new ArrayList<>();
+
+  private String subsetResourceDir= "generated-resources";
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  @Override
+  public void execute() throws BuildException {
+    if (this.verbose) {
+      Configurator.setLevel(LogManager.getLogger("de.poiu.kilt").getName(), Level.DEBUG);
+    }
+
+    if (this.verbose) {
+      printProperties();
+    }
+
+    if (this.subsetLocales.isEmpty()) {
+      throw new BuildException("At least one locale must be given.");
+    }
+
+    this.log("Subsetting resource bundles...");
+
+    final FileMatcher fileMatcher= new FileMatcher(Paths.get(this.propertiesRootDirectory), i18nIncludes, i18nExcludes);
+
+    new LocaleSubsetter().subset(fileMatcher,
+                                 this.subsetLocales,
+                                 Paths.get(this.subsetResourceDir));
+
+    this.log("...done");
+  }
+
+
+  public void setSubsetLocales(final String subsetLocales) {
+    this.subsetLocales= new ArrayList<>();
+    for (final String locale : subsetLocales.split("[,\\s]+")) {
+      if (!locale.isEmpty()) {
+        this.subsetLocales.add(Language.of(locale));
+      }
+    }
+  }
+
+
+  public void setSubsetResourceDir(final String subsetResourceDir) {
+    this.subsetResourceDir= subsetResourceDir;
+  }
+
+
+  public void setPropertiesRootDirectory(String propertiesRootDirectory) {
+    this.propertiesRootDirectory = propertiesRootDirectory;
+  }
+
+
+  public void setI18nIncludes(final String i18nIncludes) {
+    this.i18nIncludes= Arrays.asList(i18nIncludes.split("\\s+"));
+  }
+
+
+  public void setI18nExcludes(final String i18nExcludes) {
+    this.i18nExcludes= Arrays.asList(i18nExcludes.split("\\s+"));
+  }
+
+
+  public void setVerbose(final boolean verbose) {
+    this.verbose= verbose;
+  }
+
+
+  private void printProperties(){
+    final StringBuilder sb= new StringBuilder();
+
+    sb.append("verbose                 = ").append(this.verbose).append("\n");
+    sb.append("propertiesRootDirectory = ").append(this.propertiesRootDirectory).append("\n");
+    sb.append("i18nIncludes            = ").append(this.i18nIncludes).append("\n");
+    sb.append("i18nExcludes            = ").append(this.i18nExcludes).append("\n");
+    sb.append("subsetLocales           = ").append(this.subsetLocales).append("\n");
+    sb.append("subsetResourceDir       = ").append(this.subsetResourceDir).append("\n");
+
+    System.out.println(sb.toString());
+  }
+}
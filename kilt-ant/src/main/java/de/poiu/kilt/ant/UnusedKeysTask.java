@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.ant;
+
+import de.poiu.kilt.bundlecontent.ParsedFileCache;
+import de.poiu.kilt.analysis.UnusedKeyFinder;
+import de.poiu.kilt.util.FileMatcher;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.Task;
+
+
+/**
+ * Reports the keys of the resource bundles that are not referenced by any compiled class.
+ */
+public class UnusedKeysTask extends Task {
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /**
+   * The location of the source i18n resource bundle files.
+   */
+  private String propertiesRootDirectory= "i18n";
+
+  private List<String> i18nIncludes= new ArrayList<>();
+
+  private List<String> i18nExcludes= new ArrayList<>();
+
+  private boolean verbose= false;
+
+  private String propertyFileEncoding;
+
+  private ParsedFileCache parsedFileCache;
+
+  private String generatedPackage= "i18n.generated";
+
+  private List<Path> classesDirectories= Arrays.asList(Paths.get("classes"));
+
+  private boolean stripUnusedKeys= false;
+
+  private String packagedResourceDir= "classes";
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  @Override
+  public void execute() throws BuildException {
+    if (this.verbose) {
+      Configurator.setLevel(LogManager.getLogger("de.poiu.kilt").getName(), Level.DEBUG);
+    }
+
+    if (this.verbose) {
+      printProperties();
+    }
+
+    this.log("Searching for unused keys...");
+    final FileMatcher fileMatcher= new FileMatcher(Paths.get(this.propertiesRootDirectory), i18nIncludes, i18nExcludes);
+    final Charset charset= this.propertyFileEncoding != null ? Charset.forName(this.propertyFileEncoding) : null;
+
+    final UnusedKeyFinder finder= new UnusedKeyFinder(this.generatedPackage, this.parsedFileCache);
+    final Map<String, Set<String>> unusedKeys= finder.findUnusedKeys(fileMatcher, charset, this.classesDirectories);
+    unusedKeys.forEach((bundleName, keys) -> {
+      this.log("Unused keys in bundle " + bundleName + ": " + keys);
+    });
+
+    if (this.stripUnusedKeys) {
+      finder.stripUnusedKeys(unusedKeys, fileMatcher, charset, Paths.get(this.packagedResourceDir));
+    }
+
+    this.log("...done");
+  }
+
+
+  public void setPropertiesRootDirectory(String propertiesRootDirectory) {
+    this.propertiesRootDirectory = propertiesRootDirectory;
+  }
+
+
+  public void setI18nIncludes(final String i18nIncludes) {
+    this.i18nIncludes= Arrays.asList(i18nIncludes.split("\\s+"));
+  }
+
+
+  public void setI18nExcludes(final String i18nExcludes) {
+    this.i18nExcludes= Arrays.asList(i18nExcludes.split("\\s+"));
+  }
+
+
+  public void setPropertyFileEncoding(String propertyFileEncoding) {
+    this.propertyFileEncoding = propertyFileEncoding;
+  }
+
+
+  public void setCacheDirectory(final String cacheDirectory) {
+    if (cacheDirectory != null && !cacheDirectory.trim().isEmpty()) {
+      this.parsedFileCache= new ParsedFileCache(Paths.get(cacheDirectory));
+    } else {
+      this.parsedFileCache= null;
+    }
+  }
+
+
+  public void setGeneratedPackage(String generatedPackage) {
+    this.generatedPackage = generatedPackage;
+  }
+
+
+  public void setClassesDirectory(final String classesDirectory) {
+    this.classesDirectories= Arrays.stream(classesDirectory.split("[,\\s]+"))
+      .filter(s -> !s.isEmpty())
+      .map(Paths::get)
+      .collect(Collectors.toList());
+  }
+
+
+  public void setStripUnusedKeys(boolean stripUnusedKeys) {
+    this.stripUnusedKeys = stripUnusedKeys;
+  }
+
+
+  public void setPackagedResourceDir(String packagedResourceDir) {
+    this.packagedResourceDir = packagedResourceDir;
+  }
+
+
+  public void setVerbose(final boolean verbose) {
+    this.verbose= verbose;
+  }
+
+
+  private void printProperties(){
+    final StringBuilder sb= new StringBuilder();
+
+    sb.append("verbose                   = ").append(this.verbose).append("\n");
+    sb.append("propertiesRootDirectory   = ").append(this.propertiesRootDirectory).append("\n");
+    sb.append("i18nIncludes              = ").append(this.i18nIncludes).append("\n");
+    sb.append("i18nExcludes              = ").append(this.i18nExcludes).append("\n");
+    sb.append("propertyFileEncoding      = ").append(this.propertyFileEncoding).append("\n");
+    sb.append("generatedPackage          = ").append(this.generatedPackage).append("\n");
+    sb.append("classesDirectories        = ").append(this.classesDirectories).append("\n");
+    sb.append("stripUnusedKeys           = ").append(this.stripUnusedKeys).append("\n");
+    sb.append("packagedResourceDir       = ").append(this.packagedResourceDir).append("\n");
+
+    System.out.println(sb.toString());
+  }
+}
@@ -15,6 +15,7 @@
  */
 package de.poiu.kilt.cli;
 
+import de.poiu.kilt.bundlecontent.ParsedFileCache;
 import de.poiu.kilt.cli.config.KiltProperty;
 import java.io.File;
 import java.io.FileInputStream;
@@ -107,6 +108,13 @@ public abstract class AbstractKiltCommand {
   Charset propertyFileEncoding;
 
 
+  /**
+   * The directory to cache the parsed resource bundle files in.
+   */
+  @CommandLine.Option(names= {"--cacheDirectory"}, description= "The directory to cache the parsed resource bundle files in.")
+  Path cacheDirectory;
+
+
   /**
    * Whether to give more verbose output.
    */
@@ -140,6 +148,10 @@ public abstract class AbstractKiltCommand {
       this.propertyFileEncoding= Charset.forName(propsFromFile.getProperty(KiltProperty.PROPERTY_FILE_ENCODING.getKey()));
     }
 
+    if (!propsFromFile.getProperty(KiltProperty.CACHE_DIRECTORY.getKey(), "").trim().isEmpty()) {
+      this.cacheDirectory= Paths.get(propsFromFile.getProperty(KiltProperty.CACHE_DIRECTORY.getKey()));
+    }
+
     if (propsFromFile.containsKey(KiltProperty.VERBOSE.getKey())) {
       this.verbose= Boolean.valueOf(propsFromFile.getProperty(KiltProperty.VERBOSE.getKey()));
     }
@@ -154,6 +166,16 @@ public abstract class AbstractKiltCommand {
   //
   // Methods
 
+  /**
+   * Creates the ParsedFileCache for the configured {@link #cacheDirectory}.
+   *
+   * @return the ParsedFileCache to use or <code>null</code> if no cache directory is configured
+   */
+  ParsedFileCache createParsedFileCache() {
+    return this.cacheDirectory != null ? new ParsedFileCache(this.cacheDirectory) : null;
+  }
+
+
   private Properties readConfigFile() {
     //TODO: Use more sophisticated KiltProperties
     final Properties props= new Properties();
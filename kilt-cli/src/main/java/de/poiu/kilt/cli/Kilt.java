@@ -37,6 +37,12 @@ import picocli.CommandLine.HelpCommand;
            KiltCreateFacade.class,
            KiltReformat.class,
            KiltReorder.class,
+           KiltConsolidate.class,
+           KiltSegment.class,
+           KiltSubsetLocales.class,
+           KiltPrune.class,
+           KiltUnusedKeys.class,
+           KiltMinify.class,
          })
 public class Kilt implements Runnable {
 
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.cli;
+
+import com.google.common.base.Joiner;
+import de.poiu.kilt.cli.config.KiltProperty;
+import de.poiu.kilt.packaging.BundleConsolidator;
+import de.poiu.kilt.util.FileMatcher;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.config.Configurator;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+
+/**
+ *
+ * @author mherrn
+ */
+@Command(name = "consolidate",
+         description= "Consolidates all Java i18n resource bundles of a locale into a single resource",
+         sortOptions = false)
+public class KiltConsolidate extends AbstractKiltCommand implements Runnable {
+
+  private static final Logger LOGGER= LogManager.getLogger();
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  @Option(names = {"-o", "--consolidatedResourceDirectory"}, description= "The location to which the consolidated bundles are written. (default: ${DEFAULT-VALUE})")
+  private Path consolidatedResourceDirectory= Paths.get("generated-resources");
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  public KiltConsolidate() {
+    super();
+
+    if (propsFromFile.containsKey(KiltProperty.CONSOLIDATED_RESOURCE_DIR.getKey())) {
+      this.consolidatedResourceDirectory= Paths.get(propsFromFile.getProperty(KiltProperty.CONSOLIDATED_RESOURCE_DIR.getKey()));
+    }
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  @Override
+  public void run() {
+    if (this.verbose) {
+      Configurator.setLevel(LogManager.getLogger("de.poiu.kilt").getName(), Level.DEBUG);
+    }
+
+    if (this.verbose) {
+      printProperties();
+    }
+
+    final FileMatcher fileMatcher= new FileMatcher(this.propertiesRootDirectory, i18nIncludes, i18nExcludes);
+
+    new BundleConsolidator(super.createParsedFileCache()).consolidate(fileMatcher,
+                                         this.propertyFileEncoding,
+                                         this.consolidatedResourceDirectory);
+  }
+
+
+  private void printProperties(){
+    final StringBuilder sb= new StringBuilder();
+
+    sb.append("verbose                       = ").append(this.verbose).append("\n");
+    sb.append("propertiesRootDirectory       = ").append(this.propertiesRootDirectory).append("\n");
+    sb.append("i18nIncludes                  = ").append(Joiner.on(", ").join(this.i18nIncludes)).append("\n");
+    sb.append("i18nExcludes                  = ").append(Joiner.on(", ").join(this.i18nExcludes)).append("\n");
+    sb.append("propertyFileEncoding          = ").append(this.propertyFileEncoding).append("\n");
+    sb.append("consolidatedResourceDirectory = ").append(this.consolidatedResourceDirectory.toAbsolutePath()).append("\n");
+
+    System.out.println(sb.toString());
+  }
+}
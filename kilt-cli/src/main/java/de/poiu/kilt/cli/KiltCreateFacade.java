@@ -19,9 +19,12 @@ import com.google.common.base.Joiner;
 import com.palantir.javapoet.JavaFile;
 import com.palantir.javapoet.TypeSpec;
 import de.poiu.kilt.facade.creation.FacadeCreator;
+import de.poiu.kilt.packaging.KeyIndexWriter;
+import de.poiu.kilt.bundlecontent.Catalogue;
 import de.poiu.kilt.bundlecontent.Language;
-import de.poiu.kilt.bundlecontent.ResourceBundleContent;
+import de.poiu.kilt.bundlecontent.ParsedFileCache;
 import de.poiu.kilt.bundlecontent.ResourceBundleContentHelper;
+import de.poiu.kilt.bundlecontent.StringPool;
 import de.poiu.kilt.util.FileMatcher;
 import java.io.File;
 import java.io.IOException;
@@ -35,6 +38,8 @@ import org.apache.logging.log4j.Logger;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 
 /**
  *
@@ -90,6 +95,39 @@ public class KiltCreateFacade extends AbstractKiltCommand implements Runnable {
   private String facadeAccessorClassName= "I18n";
 
 
+  /**
+   * The locale for which the generated enum facades should provide the translations directly.
+   */
+  @Option(names={"-l", "--singleLocale"}, description= "The locale for which the enum facades should provide the translations directly without any resource bundle lookup.")
+  private String singleLocale= null;
+
+
+  /**
+   * Whether to write a bundle manifest listing the available locales of each resource bundle.
+   * The I18n facade accessor uses this manifest to avoid looking up resource bundle files
+   * that don't exist.
+   */
+  @Option(names={"-m", "--createBundleManifest"}, description= "Whether to write a bundle manifest listing the available locales of each resource bundle. (default: ${DEFAULT-VALUE})")
+  private boolean createBundleManifest= false;
+
+
+  /**
+   * Whether to write an index of all bundle keys.
+   * The I18n facade accessor uses this index to speed up the lookup of translations via
+   * bundle name and key.
+   */
+  @Option(names={"-k", "--createKeyIndex"}, description= "Whether to write an index of all bundle keys. (default: ${DEFAULT-VALUE})")
+  private boolean createKeyIndex= false;
+
+
+  /**
+   * The location to which the bundle manifest and the key index are written.
+   * This is only meaningful in combination with {@link #createBundleManifest} or {@link #createKeyIndex}.
+   */
+  @Option(names={"--bundleManifestDirectory"}, description= "The location to which the bundle manifest and the key index are written. (default: ${DEFAULT-VALUE})")
+  private Path bundleManifestDirectory= Paths.get("generated-resources");
+
+
 
   /////////////////////////////////////////////////////////////////////////////
   //
@@ -118,19 +156,38 @@ public class KiltCreateFacade extends AbstractKiltCommand implements Runnable {
       final Map<String, Map<Language, File>> bundleNameToFilesMap = fbcHelper.toBundleNameToFilesMap(propertyFileSet);
 
       final FacadeCreator facadeCreator = new FacadeCreator();
+      final KeyIndexWriter keyIndexWriter= new KeyIndexWriter();
+      // share equal keys and values over all bundles
+      final StringPool stringPool= new StringPool();
+      final ParsedFileCache parsedFileCache= super.createParsedFileCache();
       for (final Map.Entry<String, Map<Language, File>> entry : bundleNameToFilesMap.entrySet()) {
         final String bundleName = entry.getKey();
         final Map<Language, File> bundleTranslations = entry.getValue();
 
-        final ResourceBundleContent resourceBundleContent = ResourceBundleContent.forName(bundleName).fromFiles(bundleTranslations);
-        final TypeSpec resourceBundleEnumTypeSpec = facadeCreator.createFacadeEnumFor(resourceBundleContent);
+        final Catalogue catalogue = Catalogue.fromFiles(bundleName, bundleTranslations, UTF_8, stringPool, parsedFileCache);
+        final TypeSpec resourceBundleEnumTypeSpec = facadeCreator.createFacadeEnumFor(catalogue,
+                                                                                      singleLocale != null && !singleLocale.trim().isEmpty() ? Language.of(singleLocale.trim()) : null,
+                                                                                      // getPlural is only provided by the I18n class of kilt-runtime
+                                                                                      !copyFacadeAccessorClasses);
         final JavaFile javaFile = JavaFile.builder(generatedPackage, resourceBundleEnumTypeSpec).build();
         javaFile.writeTo(outputDirectory);
+
+        if (createKeyIndex) {
+          keyIndexWriter.add(catalogue);
+        }
       }
 
       if (copyFacadeAccessorClasses) {
         facadeCreator.copyFacadeAccessorTemplates(facadeAccessorClassName, generatedPackage, outputDirectory);
       }
+
+      if (createBundleManifest) {
+        facadeCreator.createBundleManifest(bundleNameToFilesMap, bundleManifestDirectory);
+      }
+
+      if (createKeyIndex) {
+        keyIndexWriter.write(bundleManifestDirectory);
+      }
     } catch (IOException e) {
       throw new RuntimeException("Could not write Java facade to file", e);
     }
@@ -150,6 +207,10 @@ public class KiltCreateFacade extends AbstractKiltCommand implements Runnable {
     //sb.append("javaFileEncoding          = ").append(this.javaFileEncoding).append("\n");
     sb.append("copyFacadeAccessorClasses = ").append(this.copyFacadeAccessorClasses).append("\n");
     sb.append("facadeAccessorClassName   = ").append(this.facadeAccessorClassName).append("\n");
+    sb.append("singleLocale              = ").append(this.singleLocale).append("\n");
+    sb.append("createBundleManifest      = ").append(this.createBundleManifest).append("\n");
+    sb.append("createKeyIndex            = ").append(this.createKeyIndex).append("\n");
+    sb.append("bundleManifestDirectory   = ").append(this.bundleManifestDirectory.toAbsolutePath()).append("\n");
 
     System.out.println(sb.toString());
   }
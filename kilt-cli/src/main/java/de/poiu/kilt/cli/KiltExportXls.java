@@ -52,6 +52,14 @@ public class KiltExportXls extends AbstractKiltCommand implements Runnable {
   @Option(names = {"-x", "--xlsFile"}, description= "The XLS(X) file to export to. (default: ${DEFAULT-VALUE})")
   private Path xlsFile= Paths.get("i18n.xlsx");
 
+  /**
+   * Whether to keep the content of the resource bundles outside of the heap while exporting.
+   */
+  @Option(names={"--offHeap"},
+          description= "Whether to keep the content of the resource bundles outside of the heap while exporting."
+            + " (default: ${DEFAULT-VALUE})")
+  private boolean offHeap= false;
+
 
   /////////////////////////////////////////////////////////////////////////////
   //
@@ -63,6 +71,10 @@ public class KiltExportXls extends AbstractKiltCommand implements Runnable {
     if (propsFromFile.containsKey(KiltProperty.XLS_FILE.getKey())) {
       this.xlsFile= Paths.get(propsFromFile.getProperty(KiltProperty.XLS_FILE.getKey()));
     }
+
+    if (propsFromFile.containsKey(KiltProperty.OFF_HEAP.getKey())) {
+      this.offHeap= Boolean.valueOf(propsFromFile.getProperty(KiltProperty.OFF_HEAP.getKey()).trim());
+    }
   }
 
 
@@ -87,7 +99,9 @@ public class KiltExportXls extends AbstractKiltCommand implements Runnable {
 
       XlsImExporter.exportXls(fileMatcher,
                               this.propertyFileEncoding,
-                              this.xlsFile.toFile());
+                              this.xlsFile.toFile(),
+                              this.offHeap,
+                              super.createParsedFileCache());
     } catch (IOException e) {
       throw new RuntimeException("Error exporting property files to XLS.", e);
     }
@@ -103,6 +117,7 @@ public class KiltExportXls extends AbstractKiltCommand implements Runnable {
     sb.append("i18nExcludes            = ").append(Joiner.on(", ").join(this.i18nExcludes)).append("\n");
     sb.append("propertyFileEncoding    = ").append(this.propertyFileEncoding).append("\n");
     sb.append("xlsFile                 = ").append(this.xlsFile.toAbsolutePath()).append("\n");
+    sb.append("offHeap                 = ").append(this.offHeap).append("\n");
 
     System.out.println(sb.toString());
   }
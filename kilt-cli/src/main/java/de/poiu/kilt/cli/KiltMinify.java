@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.cli;
+
+import com.google.common.base.Joiner;
+import de.poiu.kilt.cli.config.KiltProperty;
+import de.poiu.kilt.reformatting.BundleMinifier;
+import de.poiu.kilt.util.FileMatcher;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+
+/**
+ *
+ * @author mherrn
+ */
+@Command(name = "minify",
+         description= "Writes minified copies of Java i18n resource bundles into a separate directory.",
+         sortOptions = false)
+public class KiltMinify extends AbstractKiltCommand implements Runnable {
+
+  private static final Logger LOGGER= LogManager.getLogger();
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /**
+   * The directory to write the minified resource bundle files to.
+   */
+  @Option(names={"-o", "--minifiedResourceDirectory"}, description= "The directory to write the minified resource bundle files to. (default: ${DEFAULT-VALUE})")
+  private Path minifiedResourceDirectory= Paths.get("classes");
+
+  /**
+   * Whether to write non-ASCII characters as is (encoded in UTF-8) instead of as escape sequences.
+   */
+  @Option(names={"--unescapedUnicode"},
+          description= "Whether to write non-ASCII characters as is (encoded in UTF-8) instead of as \\uXXXX escape sequences."
+            + " Such files can't be read by the copied facade accessor classes on Java 8. (default: ${DEFAULT-VALUE})")
+  private boolean unescapedUnicode= false;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  public KiltMinify() {
+    super();
+
+    if (propsFromFile.containsKey(KiltProperty.MINIFIED_RESOURCE_DIR.getKey())) {
+      this.minifiedResourceDirectory= Paths.get(propsFromFile.getProperty(KiltProperty.MINIFIED_RESOURCE_DIR.getKey()));
+    }
+
+    if (propsFromFile.containsKey(KiltProperty.UNESCAPED_UNICODE.getKey())) {
+      this.unescapedUnicode= Boolean.valueOf(propsFromFile.getProperty(KiltProperty.UNESCAPED_UNICODE.getKey()).trim());
+    }
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  @Override
+  public void run() {
+    if (this.verbose) {
+      printProperties();
+    }
+
+    final FileMatcher fileMatcher= new FileMatcher(this.propertiesRootDirectory, i18nIncludes, i18nExcludes);
+
+    final long savedBytes= new BundleMinifier(super.createParsedFileCache()).minify(fileMatcher,
+                                                                                   super.propertyFileEncoding,
+                                                                                   this.minifiedResourceDirectory,
+                                                                                   this.unescapedUnicode);
+
+    System.out.println("Saved " + savedBytes + " bytes");
+  }
+
+
+  private void printProperties(){
+    final StringBuilder sb= new StringBuilder();
+
+    sb.append("verbose                   = ").append(this.verbose).append("\n");
+    sb.append("propertiesRootDirectory   = ").append(this.propertiesRootDirectory).append("\n");
+    sb.append("i18nIncludes              = ").append(Joiner.on(", ").join(this.i18nIncludes)).append("\n");
+    sb.append("i18nExcludes              = ").append(Joiner.on(", ").join(this.i18nExcludes)).append("\n");
+    sb.append("propertyFileEncoding      = ").append(this.propertyFileEncoding).append("\n");
+    sb.append("minifiedResourceDirectory = ").append(this.minifiedResourceDirectory.toAbsolutePath()).append("\n");
+    sb.append("unescapedUnicode          = ").append(this.unescapedUnicode).append("\n");
+
+    System.out.println(sb.toString());
+  }
+}
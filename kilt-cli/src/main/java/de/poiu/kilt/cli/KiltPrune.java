@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.cli;
+
+import com.google.common.base.Joiner;
+import de.poiu.kilt.cli.config.KiltProperty;
+import de.poiu.kilt.optimization.RedundancyPruner;
+import de.poiu.kilt.util.FileMatcher;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+
+/**
+ *
+ * @author mherrn
+ */
+@Command(name = "prune",
+         description= "Removes translations from Java i18n resource bundle files that are identical to the value inherited via the fallback chain.",
+         sortOptions = false)
+public class KiltPrune extends AbstractKiltCommand implements Runnable {
+
+  private static final Logger LOGGER= LogManager.getLogger();
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /**
+   * Whether to move values shared by all locales of a bundle into the base bundle.
+   */
+  @Option(names={"-s", "--hoistSharedValues"},
+          description= "Whether to move values shared by all locales of a bundle into the base bundle."
+            + " (default: ${DEFAULT-VALUE})")
+  private boolean hoistSharedValues= false;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  public KiltPrune() {
+    super();
+
+    if (propsFromFile.containsKey(KiltProperty.HOIST_SHARED_VALUES.getKey())) {
+      this.hoistSharedValues= Boolean.valueOf(propsFromFile.getProperty(KiltProperty.HOIST_SHARED_VALUES.getKey()).trim());
+    }
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  @Override
+  public void run() {
+    if (this.verbose) {
+      printProperties();
+    }
+
+    final FileMatcher fileMatcher= new FileMatcher(this.propertiesRootDirectory, i18nIncludes, i18nExcludes);
+
+    final RedundancyPruner pruner= new RedundancyPruner(super.createParsedFileCache());
+    final RedundancyPruner.Result result= pruner.prune(fileMatcher, super.propertyFileEncoding, this.hoistSharedValues);
+
+    System.out.println("Pruned " + result.getPrunedCount() + " translations, saved " + result.getSavedBytes() + " bytes");
+  }
+
+
+  private void printProperties(){
+    final StringBuilder sb= new StringBuilder();
+
+    sb.append("verbose                   = ").append(this.verbose).append("\n");
+    sb.append("propertiesRootDirectory   = ").append(this.propertiesRootDirectory).append("\n");
+    sb.append("i18nIncludes              = ").append(Joiner.on(", ").join(this.i18nIncludes)).append("\n");
+    sb.append("i18nExcludes              = ").append(Joiner.on(", ").join(this.i18nExcludes)).append("\n");
+    sb.append("propertyFileEncoding      = ").append(this.propertyFileEncoding).append("\n");
+    sb.append("hoistSharedValues         = ").append(this.hoistSharedValues).append("\n");
+
+    System.out.println(sb.toString());
+  }
+}
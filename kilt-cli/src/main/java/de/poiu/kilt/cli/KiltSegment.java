@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.cli;
+
+import com.google.common.base.Joiner;
+import de.poiu.kilt.cli.config.KiltProperty;
+import de.poiu.kilt.packaging.BundleSegmenter;
+import de.poiu.kilt.util.FileMatcher;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.config.Configurator;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+
+/**
+ *
+ * @author mherrn
+ */
+@Command(name = "segment",
+         description= "Splits large Java i18n resource bundles into segments that are loaded on demand",
+         sortOptions = false)
+public class KiltSegment extends AbstractKiltCommand implements Runnable {
+
+  private static final Logger LOGGER= LogManager.getLogger();
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  @Option(names = {"-o", "--segmentedResourceDirectory"}, description= "The location to which the segmented bundles are written. (default: ${DEFAULT-VALUE})")
+  private Path segmentedResourceDirectory= Paths.get("generated-resources");
+
+  @Option(names = {"-s", "--segmentationStrategy"}, description= "How to assign the keys to segments."
+            + " Possible values: ${COMPLETION-CANDIDATES}"
+            + " (default: ${DEFAULT-VALUE})")
+  private BundleSegmenter.Strategy segmentationStrategy= BundleSegmenter.Strategy.HASH;
+
+  @Option(names = {"-c", "--segmentCount"}, description= "The number of segments when assigning the keys by their hash. (default: ${DEFAULT-VALUE})")
+  private int segmentCount= BundleSegmenter.DEFAULT_SEGMENT_COUNT;
+
+  @Option(names = {"-m", "--segmentMinimumKeyCount"}, description= "The minimum number of keys of a bundle to be segmented. (default: ${DEFAULT-VALUE})")
+  private int segmentMinimumKeyCount= BundleSegmenter.DEFAULT_MINIMUM_KEY_COUNT;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  public KiltSegment() {
+    super();
+
+    if (propsFromFile.containsKey(KiltProperty.SEGMENTED_RESOURCE_DIR.getKey())) {
+      this.segmentedResourceDirectory= Paths.get(propsFromFile.getProperty(KiltProperty.SEGMENTED_RESOURCE_DIR.getKey()));
+    }
+
+    if (propsFromFile.containsKey(KiltProperty.SEGMENTATION_STRATEGY.getKey())) {
+      this.segmentationStrategy= BundleSegmenter.Strategy.valueOf(propsFromFile.getProperty(KiltProperty.SEGMENTATION_STRATEGY.getKey()).trim().toUpperCase());
+    }
+
+    if (propsFromFile.containsKey(KiltProperty.SEGMENT_COUNT.getKey())) {
+      this.segmentCount= Integer.parseInt(propsFromFile.getProperty(KiltProperty.SEGMENT_COUNT.getKey()).trim());
+    }
+
+    if (propsFromFile.containsKey(KiltProperty.SEGMENT_MINIMUM_KEY_COUNT.getKey())) {
+      this.segmentMinimumKeyCount= Integer.parseInt(propsFromFile.getProperty(KiltProperty.SEGMENT_MINIMUM_KEY_COUNT.getKey()).trim());
+    }
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  @Override
+  public void run() {
+    if (this.verbose) {
+      Configurator.setLevel(LogManager.getLogger("de.poiu.kilt").getName(), Level.DEBUG);
+    }
+
+    if (this.verbose) {
+      printProperties();
+    }
+
+    final FileMatcher fileMatcher= new FileMatcher(this.propertiesRootDirectory, i18nIncludes, i18nExcludes);
+
+    new BundleSegmenter(this.segmentationStrategy, this.segmentCount, this.segmentMinimumKeyCount, super.createParsedFileCache())
+      .segment(fileMatcher,
+               this.propertyFileEncoding,
+               this.segmentedResourceDirectory);
+  }
+
+
+  private void printProperties(){
+    final StringBuilder sb= new StringBuilder();
+
+    sb.append("verbose                    = ").append(this.verbose).append("\n");
+    sb.append("propertiesRootDirectory    = ").append(this.propertiesRootDirectory).append("\n");
+    sb.append("i18nIncludes               = ").append(Joiner.on(", ").join(this.i18nIncludes)).append("\n");
+    sb.append("i18nExcludes               = ").append(Joiner.on(", ").join(this.i18nExcludes)).append("\n");
+    sb.append("propertyFileEncoding       = ").append(this.propertyFileEncoding).append("\n");
+    sb.append("segmentedResourceDirectory = ").append(this.segmentedResourceDirectory.toAbsolutePath()).append("\n");
+    sb.append("segmentationStrategy       = ").append(this.segmentationStrategy).append("\n");
+    sb.append("segmentCount               = ").append(this.segmentCount).append("\n");
+    sb.append("segmentMinimumKeyCount     = ").append(this.segmentMinimumKeyCount).append("\n");
+
+    System.out.println(sb.toString());
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.cli;
+
+import com.google.common.base.Joiner;
+import de.poiu.kilt.bundlecontent.Language;
+import de.poiu.kilt.cli.config.KiltProperty;
+import de.poiu.kilt.packaging.LocaleSubsetter;
+import de.poiu.kilt.util.FileMatcher;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.config.Configurator;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+
+/**
+ *
+ * @author mherrn
+ */
+@Command(name = "subset-locales",
+         description= "Copies only the Java i18n resource bundle files of the given locales and their fallback parents",
+         sortOptions = false)
+public class KiltSubsetLocales extends AbstractKiltCommand implements Runnable {
+
+  private static final Logger LOGGER= LogManager.getLogger();
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  @Option(names = {"-l", "--locales", "--subsetLocales"}, split = ",", description= "The locales to copy the resource bundle files for.")
+  private String[] subsetLocales= {};
+
+  @Option(names = {"-o", "--subsetResourceDirectory"}, description= "The location to which the resource bundle files are copied. (default: ${DEFAULT-VALUE})")
+  private Path subsetResourceDirectory= Paths.get("generated-resources");
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  public KiltSubsetLocales() {
+    super();
+
+    if (propsFromFile.containsKey(KiltProperty.SUBSET_LOCALES.getKey())) {
+      this.subsetLocales= propsFromFile.getProperty(KiltProperty.SUBSET_LOCALES.getKey()).split(",");
+    }
+
+    if (propsFromFile.containsKey(KiltProperty.SUBSET_RESOURCE_DIR.getKey())) {
+      this.subsetResourceDirectory= Paths.get(propsFromFile.getProperty(KiltProperty.SUBSET_RESOURCE_DIR.getKey()));
+    }
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  @Override
+  public void run() {
+    if (this.verbose) {
+      Configurator.setLevel(LogManager.getLogger("de.poiu.kilt").getName(), Level.DEBUG);
+    }
+
+    if (this.verbose) {
+      printProperties();
+    }
+
+    final List<Language> locales= new ArrayList<>();
+    for (final String locale : this.subsetLocales) {
+      if (!locale.trim().isEmpty()) {
+        locales.add(Language.of(locale.trim()));
+      }
+    }
+    if (locales.isEmpty()) {
+      throw new ValidationException("At least one locale must be given.");
+    }
+
+    final FileMatcher fileMatcher= new FileMatcher(this.propertiesRootDirectory, i18nIncludes, i18nExcludes);
+
+    new LocaleSubsetter().subset(fileMatcher,
+                                 locales,
+                                 this.subsetResourceDirectory);
+  }
+
+
+  private void printProperties(){
+    final StringBuilder sb= new StringBuilder();
+
+    sb.append("verbose                 = ").append(this.verbose).append("\n");
+    sb.append("propertiesRootDirectory = ").append(this.propertiesRootDirectory).append("\n");
+    sb.append("i18nIncludes            = ").append(Joiner.on(", ").join(this.i18nIncludes)).append("\n");
+    sb.append("i18nExcludes            = ").append(Joiner.on(", ").join(this.i18nExcludes)).append("\n");
+    sb.append("subsetLocales           = ").append(Joiner.on(", ").join(this.subsetLocales)).append("\n");
+    sb.append("subsetResourceDirectory = ").append(this.subsetResourceDirectory.toAbsolutePath()).append("\n");
+
+    System.out.println(sb.toString());
+  }
+}
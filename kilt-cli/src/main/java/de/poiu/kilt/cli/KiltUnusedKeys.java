@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.cli;
+
+import com.google.common.base.Joiner;
+import de.poiu.kilt.analysis.UnusedKeyFinder;
+import de.poiu.kilt.cli.config.KiltProperty;
+import de.poiu.kilt.util.FileMatcher;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+
+/**
+ *
+ * @author mherrn
+ */
+@Command(name = "unused-keys",
+         description= "Reports the keys of Java i18n resource bundles that are not referenced by any compiled class.",
+         sortOptions = false)
+public class KiltUnusedKeys extends AbstractKiltCommand implements Runnable {
+
+  private static final Logger LOGGER= LogManager.getLogger();
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /**
+   * The package name under which the facade(s) were generated.
+   */
+  @Option(names={"-p", "--package", "--generatedPackage"}, description= "The package name under which the facade(s) were generated. (default: ${DEFAULT-VALUE})")
+  private String generatedPackage= "i18n.generated";
+
+  /**
+   * The directories containing the compiled classes to scan.
+   */
+  @Option(names={"-c", "--classesDirectory"}, split= ",", description= "The comma separated directories containing the compiled classes to scan. (default: ${DEFAULT-VALUE})")
+  private Path[] classesDirectories= {Paths.get("classes")};
+
+  /**
+   * Whether to remove the unused keys from the copies of the resource bundle files in the
+   * packaged resource directory.
+   */
+  @Option(names={"-s", "--stripUnusedKeys"}, description= "Whether to remove the unused keys from the copies of the resource bundle files in the packaged resource directory. (default: ${DEFAULT-VALUE})")
+  private boolean stripUnusedKeys= false;
+
+  /**
+   * The directory containing the copies of the resource bundle files that are packaged.
+   * This is only meaningful in combination with {@link #stripUnusedKeys}.
+   */
+  @Option(names={"-o", "--packagedResourceDirectory"}, description= "The directory containing the copies of the resource bundle files that are packaged. (default: ${DEFAULT-VALUE})")
+  private Path packagedResourceDirectory= Paths.get("classes");
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  public KiltUnusedKeys() {
+    super();
+
+    if (propsFromFile.containsKey(KiltProperty.GENERATED_PACKAGE.getKey())) {
+      this.generatedPackage= propsFromFile.getProperty(KiltProperty.GENERATED_PACKAGE.getKey()).trim();
+    }
+
+    if (propsFromFile.containsKey(KiltProperty.CLASSES_DIRECTORY.getKey())) {
+      this.classesDirectories= Arrays.stream(propsFromFile.getProperty(KiltProperty.CLASSES_DIRECTORY.getKey()).split(","))
+        .map(String::trim)
+        .filter(s -> !s.isEmpty())
+        .map(Paths::get)
+        .toArray(Path[]::new);
+    }
+
+    if (propsFromFile.containsKey(KiltProperty.STRIP_UNUSED_KEYS.getKey())) {
+      this.stripUnusedKeys= Boolean.valueOf(propsFromFile.getProperty(KiltProperty.STRIP_UNUSED_KEYS.getKey()).trim());
+    }
+
+    if (propsFromFile.containsKey(KiltProperty.PACKAGED_RESOURCE_DIR.getKey())) {
+      this.packagedResourceDirectory= Paths.get(propsFromFile.getProperty(KiltProperty.PACKAGED_RESOURCE_DIR.getKey()));
+    }
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  @Override
+  public void run() {
+    if (this.verbose) {
+      printProperties();
+    }
+
+    final FileMatcher fileMatcher= new FileMatcher(this.propertiesRootDirectory, i18nIncludes, i18nExcludes);
+
+    final UnusedKeyFinder finder= new UnusedKeyFinder(this.generatedPackage, super.createParsedFileCache());
+    final Map<String, Set<String>> unusedKeys= finder.findUnusedKeys(fileMatcher, super.propertyFileEncoding, Arrays.asList(this.classesDirectories));
+    unusedKeys.forEach((bundleName, keys) -> {
+      System.out.println(bundleName + ":");
+      keys.forEach(key -> System.out.println("  " + key));
+    });
+
+    if (this.stripUnusedKeys) {
+      finder.stripUnusedKeys(unusedKeys, fileMatcher, super.propertyFileEncoding, this.packagedResourceDirectory);
+    }
+  }
+
+
+  private void printProperties(){
+    final StringBuilder sb= new StringBuilder();
+
+    sb.append("verbose                   = ").append(this.verbose).append("\n");
+    sb.append("propertiesRootDirectory   = ").append(this.propertiesRootDirectory).append("\n");
+    sb.append("i18nIncludes              = ").append(Joiner.on(", ").join(this.i18nIncludes)).append("\n");
+    sb.append("i18nExcludes              = ").append(Joiner.on(", ").join(this.i18nExcludes)).append("\n");
+    sb.append("propertyFileEncoding      = ").append(this.propertyFileEncoding).append("\n");
+    sb.append("generatedPackage          = ").append(this.generatedPackage).append("\n");
+    sb.append("classesDirectories        = ").append(Joiner.on(", ").join(this.classesDirectories)).append("\n");
+    sb.append("stripUnusedKeys           = ").append(this.stripUnusedKeys).append("\n");
+    sb.append("packagedResourceDirectory = ").append(this.packagedResourceDirectory.toAbsolutePath()).append("\n");
+
+    System.out.println(sb.toString());
+  }
+}
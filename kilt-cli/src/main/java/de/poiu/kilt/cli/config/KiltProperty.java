@@ -25,13 +25,32 @@ public enum KiltProperty {
   I18N_INCLUDES("i18nIncludes"),
   I18N_EXCLUDES("i18nExcludes"),
   PROPERTY_FILE_ENCODING("propertyFileEncoding"),
+  CACHE_DIRECTORY("cacheDirectory"),
   XLS_FILE("xlsFile"),
+  OFF_HEAP("offHeap"),
   DELETE_EMPTY_PROPERTIES("deleteEmptyProperties"),
   MISSING_KEY_ACTION("missingKeyAction"),
   FACADE_GENERATION_DIR("facadeGenerationDir"),
   GENERATED_PACKAGE("generatedPackage"),
   COPY_FACADE_ACCESSOR_CLASSES("copyFacadeAccessorClasses"),
   FACADE_ACCESSOR_CLASS_NAME("facadeAccessorClassName"),
+  SINGLE_LOCALE("singleLocale"),
+  CREATE_BUNDLE_MANIFEST("createBundleManifest"),
+  CREATE_KEY_INDEX("createKeyIndex"),
+  BUNDLE_MANIFEST_DIR("bundleManifestDir"),
+  CONSOLIDATED_RESOURCE_DIR("consolidatedResourceDir"),
+  SEGMENTED_RESOURCE_DIR("segmentedResourceDir"),
+  SEGMENTATION_STRATEGY("segmentationStrategy"),
+  SEGMENT_COUNT("segmentCount"),
+  SEGMENT_MINIMUM_KEY_COUNT("segmentMinimumKeyCount"),
+  SUBSET_LOCALES("subsetLocales"),
+  SUBSET_RESOURCE_DIR("subsetResourceDir"),
+  HOIST_SHARED_VALUES("hoistSharedValues"),
+  CLASSES_DIRECTORY("classesDirectory"),
+  STRIP_UNUSED_KEYS("stripUnusedKeys"),
+  PACKAGED_RESOURCE_DIR("packagedResourceDir"),
+  MINIFIED_RESOURCE_DIR("minifiedResourceDir"),
+  UNESCAPED_UNICODE("unescapedUnicode"),
   VERBOSE("verbose"),
   ;
 
@@ -0,0 +1,337 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.analysis;
+
+import de.poiu.fez.Require;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+
+/**
+ * The references and string literals contained in the constant pool of a class file.
+ * <p>
+ * Only the constant pool is read. The bytecode of the methods is not analyzed. Therefore this
+ * class only knows <i>which</i> fields and methods are referenced and which string literals are
+ * used somewhere in the class, but not where and how.
+ * <p>
+ * Class names are given in their internal form (like <code>java/lang/String</code>).
+ * <p>
+ * This is an immutable class.
+ *
+ * @author mherrn
+ */
+final class ClassFileConstants {
+
+  /** The magic number at the start of each class file. */
+  private static final int MAGIC= 0xCAFEBABE;
+
+  private static final int CONSTANT_UTF8               = 1;
+  private static final int CONSTANT_INTEGER            = 3;
+  private static final int CONSTANT_FLOAT              = 4;
+  private static final int CONSTANT_LONG               = 5;
+  private static final int CONSTANT_DOUBLE             = 6;
+  private static final int CONSTANT_CLASS              = 7;
+  private static final int CONSTANT_STRING             = 8;
+  private static final int CONSTANT_FIELDREF           = 9;
+  private static final int CONSTANT_METHODREF          = 10;
+  private static final int CONSTANT_INTERFACE_METHODREF= 11;
+  private static final int CONSTANT_NAME_AND_TYPE      = 12;
+  private static final int CONSTANT_METHOD_HANDLE      = 15;
+  private static final int CONSTANT_METHOD_TYPE        = 16;
+  private static final int CONSTANT_DYNAMIC            = 17;
+  private static final int CONSTANT_INVOKE_DYNAMIC     = 18;
+  private static final int CONSTANT_MODULE             = 19;
+  private static final int CONSTANT_PACKAGE            = 20;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /** The name of the class in internal form. */
+  private final String className;
+
+  /** The string literals used in the class. */
+  private final Set<String> stringLiterals;
+
+  /** The referenced fields. */
+  private final Set<MemberRef> fieldRefs;
+
+  /** The referenced methods (including interface methods). */
+  private final Set<MemberRef> methodRefs;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  private ClassFileConstants(final String className,
+                             final Set<String> stringLiterals,
+                             final Set<MemberRef> fieldRefs,
+                             final Set<MemberRef> methodRefs) {
+    this.className= className;
+    this.stringLiterals= Collections.unmodifiableSet(stringLiterals);
+    this.fieldRefs= Collections.unmodifiableSet(fieldRefs);
+    this.methodRefs= Collections.unmodifiableSet(methodRefs);
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  /**
+   * Reads the constant pool of the given class file.
+   *
+   * @param classFile the class file to read
+   * @return the constants of the class file
+   * @throws RuntimeException if reading the class file fails
+   */
+  public static ClassFileConstants read(final Path classFile) {
+    Require.nonNull(classFile);
+
+    try (final InputStream in= Files.newInputStream(classFile)) {
+      return read(in);
+    } catch (IOException ex) {
+      throw new RuntimeException("Error reading class file " + classFile, ex);
+    }
+  }
+
+
+  /**
+   * Reads the constant pool of the class file provided by the given InputStream.
+   * <p>
+   * The stream is not closed by this method.
+   *
+   * @param inputStream the stream providing the class file
+   * @return the constants of the class file
+   * @throws IOException if reading the class file fails or it is not a valid class file
+   */
+  public static ClassFileConstants read(final InputStream inputStream) throws IOException {
+    Require.nonNull(inputStream);
+
+    final DataInputStream in= new DataInputStream(new BufferedInputStream(inputStream));
+    if (in.readInt() != MAGIC) {
+      throw new IOException("Not a class file");
+    }
+    in.readUnsignedShort(); // minor version
+    in.readUnsignedShort(); // major version
+
+    final int count= in.readUnsignedShort();
+    final int[] tags= new int[count];
+    final String[] utf8s= new String[count];
+    // the first index referenced by the entry (e.g. the name of a class, the class of a Fieldref)
+    final int[] index1= new int[count];
+    // the second index referenced by the entry (e.g. the NameAndType of a Fieldref)
+    final int[] index2= new int[count];
+
+    for (int i= 1; i < count; i++) {
+      final int tag= in.readUnsignedByte();
+      tags[i]= tag;
+      switch (tag) {
+        case CONSTANT_UTF8:
+          utf8s[i]= in.readUTF();
+          break;
+        case CONSTANT_INTEGER:
+        case CONSTANT_FLOAT:
+          in.readInt();
+          break;
+        case CONSTANT_LONG:
+        case CONSTANT_DOUBLE:
+          in.readLong();
+          // 8-byte constants take up two entries
+          i++;
+          break;
+        case CONSTANT_CLASS:
+        case CONSTANT_STRING:
+        case CONSTANT_METHOD_TYPE:
+        case CONSTANT_MODULE:
+        case CONSTANT_PACKAGE:
+          index1[i]= in.readUnsignedShort();
+          break;
+        case CONSTANT_FIELDREF:
+        case CONSTANT_METHODREF:
+        case CONSTANT_INTERFACE_METHODREF:
+        case CONSTANT_NAME_AND_TYPE:
+        case CONSTANT_DYNAMIC:
+        case CONSTANT_INVOKE_DYNAMIC:
+          index1[i]= in.readUnsignedShort();
+          index2[i]= in.readUnsignedShort();
+          break;
+        case CONSTANT_METHOD_HANDLE:
+          in.readUnsignedByte();
+          index1[i]= in.readUnsignedShort();
+          break;
+        default:
+          throw new IOException("Unknown constant pool tag " + tag + " at index " + i);
+      }
+    }
+
+    in.readUnsignedShort(); // access flags
+    final int thisClass= in.readUnsignedShort();
+
+    final Set<String> stringLiterals= new HashSet<>();
+    final Set<MemberRef> fieldRefs= new HashSet<>();
+    final Set<MemberRef> methodRefs= new HashSet<>();
+    for (int i= 1; i < count; i++) {
+      switch (tags[i]) {
+        case CONSTANT_STRING:
+          stringLiterals.add(utf8s[index1[i]]);
+          break;
+        case CONSTANT_FIELDREF:
+          fieldRefs.add(toMemberRef(i, utf8s, index1, index2));
+          break;
+        case CONSTANT_METHODREF:
+        case CONSTANT_INTERFACE_METHODREF:
+          methodRefs.add(toMemberRef(i, utf8s, index1, index2));
+          break;
+        default:
+          // other constants are not of interest
+      }
+    }
+
+    return new ClassFileConstants(utf8s[index1[thisClass]], stringLiterals, fieldRefs, methodRefs);
+  }
+
+
+  private static MemberRef toMemberRef(final int i, final String[] utf8s, final int[] index1, final int[] index2) {
+    final int classIndex= index1[i];
+    final int nameAndTypeIndex= index2[i];
+    return new MemberRef(utf8s[index1[classIndex]],
+                         utf8s[index1[nameAndTypeIndex]],
+                         utf8s[index2[nameAndTypeIndex]]);
+  }
+
+
+  /**
+   * Returns the name of the class in internal form.
+   *
+   * @return the name of the class
+   */
+  public String getClassName() {
+    return this.className;
+  }
+
+
+  /**
+   * Returns the string literals used in the class.
+   *
+   * @return the string literals used in the class
+   */
+  public Set<String> getStringLiterals() {
+    return this.stringLiterals;
+  }
+
+
+  /**
+   * Returns the fields referenced by the class.
+   *
+   * @return the referenced fields
+   */
+  public Set<MemberRef> getFieldRefs() {
+    return this.fieldRefs;
+  }
+
+
+  /**
+   * Returns the methods referenced by the class.
+   *
+   * @return the referenced methods
+   */
+  public Set<MemberRef> getMethodRefs() {
+    return this.methodRefs;
+  }
+
+
+  @Override
+  public String toString() {
+    return "ClassFileConstants{" + "className=" + className + '}';
+  }
+
+
+  /**
+   * A reference to a field or method of a class.
+   * <p>
+   * This is an immutable class.
+   */
+  static final class MemberRef {
+    /** The class declaring the member in internal form. */
+    private final String owner;
+
+    /** The name of the member. */
+    private final String name;
+
+    /** The type descriptor of the member. */
+    private final String descriptor;
+
+
+    MemberRef(final String owner, final String name, final String descriptor) {
+      this.owner= owner;
+      this.name= name;
+      this.descriptor= descriptor;
+    }
+
+
+    public String getOwner() {
+      return this.owner;
+    }
+
+
+    public String getName() {
+      return this.name;
+    }
+
+
+    public String getDescriptor() {
+      return this.descriptor;
+    }
+
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(this.owner, this.name, this.descriptor);
+    }
+
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      final MemberRef other= (MemberRef) obj;
+      return Objects.equals(this.owner, other.owner)
+        && Objects.equals(this.name, other.name)
+        && Objects.equals(this.descriptor, other.descriptor);
+    }
+
+
+    @Override
+    public String toString() {
+      return this.owner + "." + this.name + ":" + this.descriptor;
+    }
+  }
+}
@@ -0,0 +1,390 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.analysis;
+
+import de.poiu.apron.ApronOptions;
+import de.poiu.apron.PropertyFile;
+import de.poiu.fez.Require;
+import de.poiu.kilt.bundlecontent.Language;
+import de.poiu.kilt.bundlecontent.Catalogue;
+import de.poiu.kilt.bundlecontent.ParsedFileCache;
+import de.poiu.kilt.bundlecontent.ResourceBundleContentHelper;
+import de.poiu.kilt.bundlecontent.StringPool;
+import de.poiu.kilt.facade.creation.BundleNormalizer;
+import de.poiu.kilt.util.FileMatcher;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+
+/**
+ * Finds the keys of resource bundles that are not referenced by any compiled class.
+ * <p>
+ * The class files are scanned (in parallel) for
+ * <ul>
+ *   <li>references to the enum constants of the generated facades and</li>
+ *   <li>string literals in classes that call one of the lookup methods of the I18n accessor
+ *       taking the bundle name and key as strings (like <code>I18n#get(String, String)</code>).</li>
+ * </ul>
+ * Only the constant pool of the class files is read. String literals are therefore not
+ * attributed to a specific call. A key is considered as used if its value appears as string
+ * literal anywhere in such a class. Similarly if a class calls <code>values()</code> or
+ * <code>valueOf(String)</code> of a facade, all keys of that facade are considered as used. This
+ * way some unused keys may not be found, but no key referenced via a facade constant or a string
+ * literal is reported.
+ * <p>
+ * Keys of a plural family (like <code>items.one</code> and <code>items.other</code>) are considered
+ * as used if their base key (like <code>items</code>) is used.
+ * <p>
+ * Keys that are only looked up with dynamically built strings can not be detected and will be
+ * reported as unused.
+ *
+ * @author mherrn
+ */
+public class UnusedKeyFinder {
+  private static final Logger LOGGER= LogManager.getLogger();
+
+  /** The names of the methods of the I18n accessor that take the bundle name and key as strings. */
+  private static final Set<String> LOOKUP_METHOD_NAMES= new HashSet<>(Arrays.asList(
+    "get", "getOrDefault", "contains", "getPlural", "getHtml", "getJson", "getBytes"));
+
+  /** The start of the descriptor of the lookup methods taking the bundle name and key as strings. */
+  private static final String LOOKUP_DESCRIPTOR_PREFIX= "(Ljava/lang/String;Ljava/lang/String;";
+
+  /** The suffixes of the keys of plural families. */
+  private static final List<String> PLURAL_CATEGORY_SUFFIXES= Arrays.asList(".zero", ".one", ".two", ".few", ".many", ".other");
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /** The package of the generated facades. */
+  private final String generatedPackage;
+
+  /** The cache of parsed files or <code>null</code> if no cache is used. */
+  private final ParsedFileCache parsedFileCache;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  /**
+   * Creates a new UnusedKeyFinder for the facades generated into the given package.
+   *
+   * @param generatedPackage the package name under which the facades were generated
+   */
+  public UnusedKeyFinder(final String generatedPackage) {
+    this(generatedPackage, null);
+  }
+
+
+  /**
+   * Creates a new UnusedKeyFinder for the facades generated into the given package that reads
+   * the resource bundle files via the given ParsedFileCache.
+   *
+   * @param generatedPackage the package name under which the facades were generated
+   * @param parsedFileCache the cache of parsed files to use or <code>null</code> to parse all files
+   */
+  public UnusedKeyFinder(final String generatedPackage, final ParsedFileCache parsedFileCache) {
+    Require.nonNull(generatedPackage);
+    this.generatedPackage= generatedPackage;
+    this.parsedFileCache= parsedFileCache;
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  /**
+   * Finds the keys of the resource bundles matched by the given FileMatcher that are not referenced
+   * by any of the class files in the given directories.
+   *
+   * @param fileMatcher the FileMatcher for the resource bundle files
+   * @param propertyFileEncoding the encoding of the resource bundle files
+   * @param classDirectories the directories containing the compiled classes
+   * @return the unused keys of each resource bundle. Bundles without unused keys are not contained.
+   */
+  public Map<String, Set<String>> findUnusedKeys(final FileMatcher fileMatcher,
+                                                 final Charset propertyFileEncoding,
+                                                 final Collection<Path> classDirectories) {
+    Require.nonNull(fileMatcher);
+    Require.nonNull(classDirectories);
+
+    final Charset charset= propertyFileEncoding != null ? propertyFileEncoding : UTF_8;
+    final Set<File> propertyFiles= fileMatcher.findMatchingFiles();
+    final ResourceBundleContentHelper fbcHelper= new ResourceBundleContentHelper(fileMatcher.getRoot());
+    final Map<String, Map<Language, File>> bundleNameToFilesMap= fbcHelper.toBundleNameToFilesMap(propertyFiles);
+
+    final Set<String> facadeClassNames= new HashSet<>();
+    bundleNameToFilesMap.keySet().forEach(bundleName -> facadeClassNames.add(this.toFacadeClassName(bundleName)));
+
+    final Usage usage= this.findClassFiles(classDirectories).parallelStream()
+      .map(ClassFileConstants::read)
+      .collect(() -> new Usage(facadeClassNames), Usage::add, Usage::addAll);
+    LOGGER.log(Level.DEBUG, "Found {} facade constant references and {} string literals in lookup calls.",
+               usage.usedConstants.size(), usage.stringLiterals.size());
+
+    final Map<String, Set<String>> unusedKeys= new TreeMap<>();
+    bundleNameToFilesMap.forEach((bundleName, bundleFiles) -> {
+      final String facadeClassName= this.toFacadeClassName(bundleName);
+      final Catalogue catalogue= Catalogue.fromFiles(bundleName, bundleFiles, charset, new StringPool(), this.parsedFileCache);
+
+      final Set<String> bundleUnusedKeys= new TreeSet<>();
+      for (final String key : catalogue.getKeys()) {
+        if (key != null && !key.trim().isEmpty() && !usage.isUsed(facadeClassName, key)) {
+          bundleUnusedKeys.add(key);
+        }
+      }
+
+      if (!bundleUnusedKeys.isEmpty()) {
+        LOGGER.log(Level.DEBUG, "Unused keys in bundle {}: {}", bundleName, bundleUnusedKeys);
+        unusedKeys.put(bundleName, bundleUnusedKeys);
+      }
+    });
+
+    LOGGER.log(Level.INFO, "Found {} unused keys in {} bundles.",
+               unusedKeys.values().stream().mapToInt(Set::size).sum(), unusedKeys.size());
+    return unusedKeys;
+  }
+
+
+  /**
+   * Removes the given unused keys from the copies of the resource bundle files in the given
+   * directory.
+   * <p>
+   * This is meant to be applied to the resource bundle files in the build output (like
+   * <code>target/classes</code>) to strip the unused keys from the packaged bundles while
+   * leaving the original resource bundle files untouched. The copies are expected at the same
+   * path relative to the given directory as the original files relative to the root of the
+   * FileMatcher. Missing copies are ignored.
+   *
+   * @param unusedKeys the unused keys of each resource bundle as returned by {@link #findUnusedKeys(de.poiu.kilt.util.FileMatcher, java.nio.charset.Charset, java.util.Collection)}
+   * @param fileMatcher the FileMatcher for the original resource bundle files
+   * @param propertyFileEncoding the encoding of the resource bundle files
+   * @param packagedResourceDirectory the directory containing the copies of the resource bundle files
+   * @return the number of removed entries
+   */
+  public int stripUnusedKeys(final Map<String, Set<String>> unusedKeys,
+                             final FileMatcher fileMatcher,
+                             final Charset propertyFileEncoding,
+                             final Path packagedResourceDirectory) {
+    Require.nonNull(unusedKeys);
+    Require.nonNull(fileMatcher);
+    Require.nonNull(packagedResourceDirectory);
+
+    final Charset charset= propertyFileEncoding != null ? propertyFileEncoding : UTF_8;
+    final ApronOptions apronOptions= ApronOptions.create().with(charset);
+    final Set<File> propertyFiles= fileMatcher.findMatchingFiles();
+    final ResourceBundleContentHelper fbcHelper= new ResourceBundleContentHelper(fileMatcher.getRoot());
+    final Map<String, Map<Language, File>> bundleNameToFilesMap= fbcHelper.toBundleNameToFilesMap(propertyFiles);
+
+    final Path root= fileMatcher.getRoot().toAbsolutePath();
+    int removedCount= 0;
+    for (final Map.Entry<String, Set<String>> entry : unusedKeys.entrySet()) {
+      final Map<Language, File> bundleFiles= bundleNameToFilesMap.get(entry.getKey());
+      if (bundleFiles == null) {
+        continue;
+      }
+
+      for (final File bundleFile : bundleFiles.values()) {
+        final File packagedFile= packagedResourceDirectory.resolve(root.relativize(bundleFile.toPath().toAbsolutePath()).toString()).toFile();
+        if (!packagedFile.exists()) {
+          LOGGER.log(Level.DEBUG, "No packaged copy of {} found at {}", bundleFile, packagedFile);
+          continue;
+        }
+
+        final PropertyFile propertyFile= PropertyFile.from(packagedFile, charset);
+        int fileRemovedCount= 0;
+        for (final String key : entry.getValue()) {
+          if (propertyFile.containsKey(key)) {
+            propertyFile.remove(key);
+            fileRemovedCount++;
+          }
+        }
+
+        if (fileRemovedCount > 0) {
+          propertyFile.overwrite(packagedFile, apronOptions);
+          LOGGER.log(Level.DEBUG, "Stripped {} unused keys from {}", fileRemovedCount, packagedFile);
+          removedCount+= fileRemovedCount;
+        }
+      }
+    }
+
+    LOGGER.log(Level.INFO, "Stripped {} unused entries from the packaged bundles in {}.", removedCount, packagedResourceDirectory);
+    return removedCount;
+  }
+
+
+  /**
+   * Returns the name of the generated facade class for the given bundle in internal form.
+   *
+   * @param bundleName the name of the bundle
+   * @return the internal name of the facade class
+   */
+  private String toFacadeClassName(final String bundleName) {
+    final String className= BundleNormalizer.toClassName(bundleName);
+    return this.generatedPackage.isEmpty()
+           ? className
+           : this.generatedPackage.replace('.', '/') + "/" + className;
+  }
+
+
+  /**
+   * Returns all class files in the given directories.
+   *
+   * @param classDirectories the directories to search for class files
+   * @return all class files in the given directories
+   */
+  private List<Path> findClassFiles(final Collection<Path> classDirectories) {
+    final List<Path> classFiles= new ArrayList<>();
+    for (final Path classDirectory : classDirectories) {
+      if (!Files.isDirectory(classDirectory)) {
+        LOGGER.log(Level.WARN, "Ignoring non-existing class directory {}", classDirectory);
+        continue;
+      }
+
+      try (final Stream<Path> paths= Files.walk(classDirectory)) {
+        classFiles.addAll(paths
+          .filter(p -> p.getFileName().toString().endsWith(".class"))
+          .filter(Files::isRegularFile)
+          .collect(Collectors.toList()));
+      } catch (IOException ex) {
+        throw new RuntimeException("Error scanning class directory " + classDirectory, ex);
+      }
+    }
+    return classFiles;
+  }
+
+
+  /**
+   * Returns the base key of the plural family the given key belongs to.
+   *
+   * @param key the key
+   * @return the base key or <code>null</code> if the key has no suffix of a plural category
+   */
+  static String toPluralBaseKey(final String key) {
+    for (final String suffix : PLURAL_CATEGORY_SUFFIXES) {
+      if (key.endsWith(suffix) && key.length() > suffix.length()) {
+        return key.substring(0, key.length() - suffix.length());
+      }
+    }
+    return null;
+  }
+
+
+  /**
+   * The usage of facade constants and string literals collected from the class files.
+   * <p>
+   * This is a mutable class and not thread-safe. It is meant to be used as mutable container for
+   * {@link Stream#collect(java.util.function.Supplier, java.util.function.BiConsumer, java.util.function.BiConsumer)}.
+   */
+  private static final class Usage {
+    /** The internal names of the facade classes. */
+    private final Set<String> facadeClassNames;
+
+    /** The referenced facade constants as <code>&lt;class&gt;.&lt;constant&gt;</code>. */
+    private final Set<String> usedConstants= new HashSet<>();
+
+    /** The facade classes whose constants are accessed dynamically via <code>values()</code> or <code>valueOf()</code>. */
+    private final Set<String> fullyUsedFacades= new HashSet<>();
+
+    /** The string literals of the classes calling one of the lookup methods. */
+    private final Set<String> stringLiterals= new HashSet<>();
+
+
+    private Usage(final Set<String> facadeClassNames) {
+      this.facadeClassNames= facadeClassNames;
+    }
+
+
+    private void add(final ClassFileConstants classFile) {
+      if (this.isFacadeClass(classFile.getClassName())) {
+        // the facades reference all their own constants
+        return;
+      }
+
+      for (final ClassFileConstants.MemberRef fieldRef : classFile.getFieldRefs()) {
+        if (this.facadeClassNames.contains(fieldRef.getOwner())) {
+          this.usedConstants.add(fieldRef.getOwner() + "." + fieldRef.getName());
+        }
+      }
+
+      boolean callsLookupMethod= false;
+      for (final ClassFileConstants.MemberRef methodRef : classFile.getMethodRefs()) {
+        if (this.facadeClassNames.contains(methodRef.getOwner())
+          && (methodRef.getName().equals("values") || methodRef.getName().equals("valueOf"))) {
+          this.fullyUsedFacades.add(methodRef.getOwner());
+        }
+        if (LOOKUP_METHOD_NAMES.contains(methodRef.getName())
+          && methodRef.getDescriptor().startsWith(LOOKUP_DESCRIPTOR_PREFIX)) {
+          callsLookupMethod= true;
+        }
+      }
+
+      if (callsLookupMethod) {
+        this.stringLiterals.addAll(classFile.getStringLiterals());
+      }
+    }
+
+
+    private void addAll(final Usage other) {
+      this.usedConstants.addAll(other.usedConstants);
+      this.fullyUsedFacades.addAll(other.fullyUsedFacades);
+      this.stringLiterals.addAll(other.stringLiterals);
+    }
+
+
+    private boolean isFacadeClass(final String className) {
+      final int idx= className.indexOf('$');
+      return this.facadeClassNames.contains(idx < 0 ? className : className.substring(0, idx));
+    }
+
+
+    private boolean isUsed(final String facadeClassName, final String key) {
+      if (this.fullyUsedFacades.contains(facadeClassName)
+        || this.stringLiterals.contains(key)
+        || this.usedConstants.contains(facadeClassName + "." + BundleNormalizer.toConstName(key))) {
+        return true;
+      }
+
+      final String baseKey= toPluralBaseKey(key);
+      return baseKey != null
+        && (this.stringLiterals.contains(baseKey)
+            || this.usedConstants.contains(facadeClassName + "." + BundleNormalizer.toConstName(baseKey)));
+    }
+  }
+}
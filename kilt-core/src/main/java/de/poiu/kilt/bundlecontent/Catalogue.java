@@ -0,0 +1,488 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.bundlecontent;
+
+import de.poiu.fez.Require;
+import de.poiu.kilt.facade.creation.TranslationComparator;
+import java.io.File;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+
+/**
+ * A columnar representation of all keys and translations of a localization resource bundle.
+ * <p>
+ * In contrast to {@link ResourceBundleContent} this class doesn't hold a {@link Translation}
+ * object for each value. Instead it holds a dictionary of all keys, a dictionary of all languages
+ * and one column of values per language. The value of a key in a language is therefore found
+ * via the index of the key and the index of the language.
+ * <p>
+ * The keys are kept in the order of their first occurrence. The languages are sorted in the same
+ * order as the translations in {@link ResourceBundleContent} (see
+ * {@link TranslationComparator#compareLanguages(Language, Language)}).
+ * <p>
+ * A Catalogue can be converted from and to a ResourceBundleContent via
+ * {@link #of(ResourceBundleContent)} and {@link #toResourceBundleContent()}.
+ * <p>
+ * This is a thread-safe immutable class.
+ *
+ * @author mherrn
+ */
+public class Catalogue {
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /** The bundleBasename of this bundle. */
+  private final String bundleBaseName;
+
+  /** The dictionary of all keys of this bundle. */
+  private final String[] keys;
+
+  /** The index of each key in {@link #keys}. */
+  private final Map<String, Integer> keyIndexes;
+
+  /** The dictionary of all languages of this bundle. */
+  private final Language[] languages;
+
+  /** The index of each language in {@link #languages} by the id of the language or -1 if missing. */
+  private final int[] languageIndexesById;
+
+  /**
+   * The values of this bundle. The first dimension is the index of the language, the second one
+   * the index of the key. Missing translations are <code>null</code>.
+   */
+  private final String[][] values;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  private Catalogue(final String bundleBaseName,
+                    final String[] keys,
+                    final Map<String, Integer> keyIndexes,
+                    final Language[] languages,
+                    final String[][] values) {
+    this.bundleBaseName= bundleBaseName;
+    this.keys= keys;
+    this.keyIndexes= keyIndexes;
+    this.languages= languages;
+    this.languageIndexesById= new int[Arrays.stream(languages).mapToInt(Language::getId).max().orElse(-1) + 1];
+    Arrays.fill(this.languageIndexesById, -1);
+    for (int l= 0; l < languages.length; l++) {
+      this.languageIndexesById[languages[l].getId()]= l;
+    }
+    this.values= values;
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  /**
+   * Creates a new Catalogue for the given bundle with the translations from the given map of
+   * bundle files.
+   * <p>
+   * This method assumes that the .properties file are stored with UTF-8 encoding.
+   *
+   * @param bundleBaseName the bundleBasename
+   * @param bundleFiles the file containing the translations for this bundle for each language
+   * @return a Catalogue with the translations from the given files
+   */
+  public static Catalogue fromFiles(final String bundleBaseName, final Map<Language, File> bundleFiles) {
+    return fromFiles(bundleBaseName, bundleFiles, UTF_8);
+  }
+
+
+  /**
+   * Creates a new Catalogue for the given bundle with the translations from the given map of
+   * bundle files.
+   *
+   * @param bundleBaseName the bundleBasename
+   * @param bundleFiles the file containing the translations for this bundle for each language
+   * @param charset the charset in which the .properties files are written
+   * @return a Catalogue with the translations from the given files
+   */
+  public static Catalogue fromFiles(final String bundleBaseName, final Map<Language, File> bundleFiles, final Charset charset) {
+    return fromFiles(bundleBaseName, bundleFiles, charset, new StringPool());
+  }
+
+
+  /**
+   * Creates a new Catalogue for the given bundle with the translations from the given map of
+   * bundle files.
+   * <p>
+   * All keys and values are interned in the given StringPool. To share the strings between
+   * several bundles, the same StringPool can be given for each of them.
+   * <p>
+   * The files are parsed concurrently in the common ForkJoinPool.
+   *
+   * @param bundleBaseName the bundleBasename
+   * @param bundleFiles the file containing the translations for this bundle for each language
+   * @param charset the charset in which the .properties files are written
+   * @param stringPool the pool to intern the keys and values in
+   * @return a Catalogue with the translations from the given files
+   */
+  public static Catalogue fromFiles(final String bundleBaseName,
+                                    final Map<Language, File> bundleFiles,
+                                    final Charset charset,
+                                    final StringPool stringPool) {
+    return fromFiles(bundleBaseName, bundleFiles, charset, stringPool, null);
+  }
+
+
+  /**
+   * Creates a new Catalogue for the given bundle with the translations from the given map of
+   * bundle files.
+   * <p>
+   * All keys and values are interned in the given StringPool. To share the strings between
+   * several bundles, the same StringPool can be given for each of them.
+   * <p>
+   * If a ParsedFileCache is given, only files that are not contained in the cache or have
+   * changed are actually parsed.
+   * <p>
+   * The files are parsed concurrently in the common ForkJoinPool.
+   *
+   * @param bundleBaseName the bundleBasename
+   * @param bundleFiles the file containing the translations for this bundle for each language
+   * @param charset the charset in which the .properties files are written
+   * @param stringPool the pool to intern the keys and values in
+   * @param parsedFileCache the cache of parsed files to use or <code>null</code> to parse all files
+   * @return a Catalogue with the translations from the given files
+   */
+  public static Catalogue fromFiles(final String bundleBaseName,
+                                    final Map<Language, File> bundleFiles,
+                                    final Charset charset,
+                                    final StringPool stringPool,
+                                    final ParsedFileCache parsedFileCache) {
+    return fromFiles(bundleBaseName, bundleFiles, charset, stringPool, parsedFileCache, ForkJoinPool.commonPool());
+  }
+
+
+  /**
+   * Creates a new Catalogue for the given bundle with the translations from the given map of
+   * bundle files.
+   * <p>
+   * All keys and values are interned in the given StringPool. To share the strings between
+   * several bundles, the same StringPool can be given for each of them.
+   * <p>
+   * Each file is parsed in a separate task on the given executor. The result is the same as if
+   * the files were parsed one after the other.
+   *
+   * @param bundleBaseName the bundleBasename
+   * @param bundleFiles the file containing the translations for this bundle for each language
+   * @param charset the charset in which the .properties files are written
+   * @param stringPool the pool to intern the keys and values in
+   * @param parsedFileCache the cache of parsed files to use or <code>null</code> to parse all files
+   * @param executor the executor to parse the files on
+   * @return a Catalogue with the translations from the given files
+   */
+  public static Catalogue fromFiles(final String bundleBaseName,
+                                    final Map<Language, File> bundleFiles,
+                                    final Charset charset,
+                                    final StringPool stringPool,
+                                    final ParsedFileCache parsedFileCache,
+                                    final Executor executor) {
+    Require.nonNull(bundleBaseName);
+
+    final Map<Language, Map<String, String>> columns= ResourceBundleContent.parseFiles(bundleFiles, charset, stringPool, parsedFileCache, executor);
+    return fromColumns(bundleBaseName, columns);
+  }
+
+
+  /**
+   * Creates a new Catalogue with the same keys and translations as the given ResourceBundleContent.
+   * <p>
+   * If the given ResourceBundleContent contains more than one translation of a key for the
+   * same language, only the first one is taken over.
+   *
+   * @param resourceBundleContent the ResourceBundleContent to convert
+   * @return a Catalogue with the keys and translations of the given ResourceBundleContent
+   */
+  public static Catalogue of(final ResourceBundleContent resourceBundleContent) {
+    Require.nonNull(resourceBundleContent);
+
+    final Map<Language, Map<String, String>> columns= new LinkedHashMap<>();
+    final List<String> keysInOrder= new ArrayList<>(resourceBundleContent.getContent().keySet());
+    resourceBundleContent.getContent().forEach((key, translation) -> {
+      columns.computeIfAbsent(translation.getLang(), l -> new HashMap<>())
+        .putIfAbsent(key, translation.getValue());
+    });
+
+    return fromColumns(resourceBundleContent.getBundleBaseName(), keysInOrder, columns);
+  }
+
+
+  /**
+   * Creates a new Catalogue from the given columns of values. The keys are ordered by their first
+   * occurrence in the columns.
+   *
+   * @param bundleBaseName the bundleBasename
+   * @param columns the values of each language
+   * @return the new Catalogue
+   */
+  private static Catalogue fromColumns(final String bundleBaseName, final Map<Language, Map<String, String>> columns) {
+    final Map<String, Boolean> keysInOrder= new LinkedHashMap<>();
+    columns.values().forEach(column -> column.keySet().forEach(key -> keysInOrder.put(key, Boolean.TRUE)));
+    return fromColumns(bundleBaseName, keysInOrder.keySet(), columns);
+  }
+
+
+  /**
+   * Creates a new Catalogue from the given columns of values.
+   *
+   * @param bundleBaseName the bundleBasename
+   * @param keysInOrder all keys in the order in which they should appear in the Catalogue
+   * @param columns the values of each language
+   * @return the new Catalogue
+   */
+  private static Catalogue fromColumns(final String bundleBaseName,
+                                       final Collection<String> keysInOrder,
+                                       final Map<Language, Map<String, String>> columns) {
+    final String[] keys= keysInOrder.toArray(new String[keysInOrder.size()]);
+    final Map<String, Integer> keyIndexes= new HashMap<>(keys.length * 4 / 3 + 1);
+    for (int i= 0; i < keys.length; i++) {
+      keyIndexes.put(keys[i], i);
+    }
+
+    final Language[] languages= columns.keySet().toArray(new Language[columns.size()]);
+    Arrays.sort(languages, TranslationComparator::compareLanguages);
+
+    final String[][] values= new String[languages.length][];
+    for (int l= 0; l < languages.length; l++) {
+      final String[] column= new String[keys.length];
+      columns.get(languages[l]).forEach((key, value) -> column[keyIndexes.get(key)]= value);
+      values[l]= column;
+    }
+
+    return new Catalogue(bundleBaseName, keys, keyIndexes, languages, values);
+  }
+
+
+  /**
+   * Returns a new ResourceBundleContent with the same keys and translations as this Catalogue.
+   *
+   * @return a ResourceBundleContent with the keys and translations of this Catalogue
+   */
+  public ResourceBundleContent toResourceBundleContent() {
+    final ResourceBundleContent resourceBundleContent= ResourceBundleContent.forName(this.bundleBaseName);
+    for (int k= 0; k < this.keys.length; k++) {
+      for (int l= 0; l < this.languages.length; l++) {
+        if (this.values[l][k] != null) {
+          resourceBundleContent.addTranslation(this.keys[k], new Translation(this.languages[l], this.values[l][k]));
+        }
+      }
+    }
+    return resourceBundleContent;
+  }
+
+
+  /**
+   * Returns the bundleBasename.
+   *
+   * @return the bundleBasename
+   */
+  public String getBundleBaseName() {
+    return this.bundleBaseName;
+  }
+
+
+  /**
+   * Returns the number of keys in this bundle.
+   *
+   * @return the number of keys in this bundle
+   */
+  public int getKeyCount() {
+    return this.keys.length;
+  }
+
+
+  /**
+   * Returns the key with the given index.
+   *
+   * @param keyIndex the index of the key
+   * @return the key with the given index
+   * @throws IndexOutOfBoundsException if there is no key with the given index
+   */
+  public String getKey(final int keyIndex) {
+    return this.keys[keyIndex];
+  }
+
+
+  /**
+   * Returns all keys of this bundle in the order of their indexes.
+   *
+   * @return all keys of this bundle
+   */
+  public List<String> getKeys() {
+    return Collections.unmodifiableList(Arrays.asList(this.keys));
+  }
+
+
+  /**
+   * Returns the index of the given key.
+   *
+   * @param key the key whose index to return
+   * @return the index of the given key or -1 if this bundle doesn't contain the key
+   */
+  public int indexOfKey(final String key) {
+    final Integer index= this.keyIndexes.get(key);
+    return index != null ? index : -1;
+  }
+
+
+  /**
+   * Returns whether this bundle contains the given key.
+   *
+   * @param key the key to check
+   * @return whether this bundle contains the given key
+   */
+  public boolean containsKey(final String key) {
+    return this.keyIndexes.containsKey(key);
+  }
+
+
+  /**
+   * Returns the number of languages in this bundle.
+   *
+   * @return the number of languages in this bundle
+   */
+  public int getLanguageCount() {
+    return this.languages.length;
+  }
+
+
+  /**
+   * Returns the language with the given index.
+   *
+   * @param languageIndex the index of the language
+   * @return the language with the given index
+   * @throws IndexOutOfBoundsException if there is no language with the given index
+   */
+  public Language getLanguage(final int languageIndex) {
+    return this.languages[languageIndex];
+  }
+
+
+  /**
+   * Returns all languages of this bundle in the order of their indexes.
+   *
+   * @return all languages of this bundle
+   */
+  public List<Language> getLanguages() {
+    return Collections.unmodifiableList(Arrays.asList(this.languages));
+  }
+
+
+  /**
+   * Returns the index of the given language.
+   *
+   * @param language the language whose index to return
+   * @return the index of the given language or -1 if this bundle doesn't contain the language
+   */
+  public int indexOfLanguage(final Language language) {
+    final int id= language.getId();
+    return id < this.languageIndexesById.length ? this.languageIndexesById[id] : -1;
+  }
+
+
+  /**
+   * Returns the value of a key in a language.
+   *
+   * @param languageIndex the index of the language
+   * @param keyIndex the index of the key
+   * @return the value of the key in the language or <code>null</code> if there is no such translation
+   * @throws IndexOutOfBoundsException if there is no key or language with the given index
+   */
+  public String getValue(final int languageIndex, final int keyIndex) {
+    return this.values[languageIndex][keyIndex];
+  }
+
+
+  /**
+   * Returns the value of a key in a language.
+   *
+   * @param key the key
+   * @param language the language
+   * @return the value of the key in the language or <code>null</code> if there is no such translation
+   */
+  public String getValue(final String key, final Language language) {
+    final int keyIndex= this.indexOfKey(key);
+    final int languageIndex= this.indexOfLanguage(language);
+    if (keyIndex < 0 || languageIndex < 0) {
+      return null;
+    }
+    return this.values[languageIndex][keyIndex];
+  }
+
+
+  /**
+   * Returns the translations of a key in the order of the languages.
+   * <p>
+   * The Translation objects are created on each call and are not held by this Catalogue.
+   *
+   * @param keyIndex the index of the key
+   * @return the translations of the key
+   * @throws IndexOutOfBoundsException if there is no key with the given index
+   */
+  public List<Translation> getTranslations(final int keyIndex) {
+    if (keyIndex < 0 || keyIndex >= this.keys.length) {
+      throw new IndexOutOfBoundsException("No key with index " + keyIndex);
+    }
+
+    final List<Translation> translations= new ArrayList<>(this.languages.length);
+    for (int l= 0; l < this.languages.length; l++) {
+      if (this.values[l][keyIndex] != null) {
+        translations.add(new Translation(this.languages[l], this.values[l][keyIndex]));
+      }
+    }
+    return translations;
+  }
+
+
+  /**
+   * Returns the translations of a key in the order of the languages.
+   * <p>
+   * The Translation objects are created on each call and are not held by this Catalogue.
+   *
+   * @param key the key
+   * @return the translations of the key or an empty list if this bundle doesn't contain the key
+   */
+  public List<Translation> getTranslations(final String key) {
+    final int keyIndex= this.indexOfKey(key);
+    return keyIndex >= 0 ? this.getTranslations(keyIndex) : Collections.emptyList();
+  }
+
+
+  @Override
+  public String toString() {
+    return "Catalogue{" + "bundleName=" + bundleBaseName + ", keys=" + keys.length + ", languages=" + Arrays.toString(languages) + '}';
+  }
+}
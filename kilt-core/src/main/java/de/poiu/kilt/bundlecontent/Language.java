@@ -15,10 +15,17 @@
  */
 package de.poiu.kilt.bundlecontent;
 
-import com.google.common.collect.ComparisonChain;
-import com.google.common.collect.Ordering;
 import de.poiu.fez.Require;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Container for a language.
@@ -26,30 +33,127 @@ import java.util.Objects;
  * This is only a dumb wrapper. It does not recognize whether 'de' and 'deu' are actually the
  * same language and be therefore treated as different languages.
  * <p>
+ * The instances returned by {@link #of(java.lang.String)} are canonical. There is exactly one
+ * such instance per language string. Each of them has a dense integer id (see {@link #getId()})
+ * that can be used to index arrays or bitsets by language. The canonical instances are never
+ * released, which is no problem, since an application only knows a limited number of languages.
+ * <p>
  * This is a thread-safe immutable class.
  */
 public class Language implements Comparable<Language> {
+
+  /** The rank of the default language (the empty language string). */
+  private static final int RANK_DEFAULT= 0;
+  /** The rank of the language <code>_</code>. */
+  private static final int RANK_UNDERSCORE= 1;
+  /** The rank of the pseudo-languages starting with <code>&lt;</code>. */
+  private static final int RANK_PSEUDO= 2;
+  /** The rank of all other languages. */
+  private static final int RANK_OTHER= 3;
+
+  /** The canonical instances of all languages by their language string. */
+  private static final ConcurrentMap<String, Language> REGISTRY= new ConcurrentHashMap<>();
+
+  /** The canonical instances of all languages by their id. */
+  private static final List<Language> REGISTRY_BY_ID= new CopyOnWriteArrayList<>();
+
   final String lang;
 
+  /** The id of this language. */
+  private final int id;
+
+  /** The rank of this language in the order of translations. */
+  private final int rank;
+
+
   /**
    * Creates a new instance of this class for the given language string.
+   * <p>
+   * The created instance is equal to the canonical instance for the same language string
+   * and has the same id.
+   *
    * @param lang the language string for this Language
+   * @deprecated use {@link #of(java.lang.String)} to get the canonical instance instead
    */
+  @Deprecated
   public Language(final String lang) {
-    Require.nonNull(lang);
+    this(lang, of(lang).getId());
+  }
+
+
+  private Language(final String lang, final int id) {
     this.lang= lang;
+    this.id= id;
+    this.rank= lang.isEmpty()         ? RANK_DEFAULT
+             : lang.equals("_")       ? RANK_UNDERSCORE
+             : lang.startsWith("<")   ? RANK_PSEUDO
+             :                          RANK_OTHER;
   }
 
+
   /**
-   * Creates a new instance of this class for the given language string.
+   * Returns the canonical instance of this class for the given language string.
+   *
    * @param lang the language string for this Language
    * @return the Language for the given language string
    */
   public static Language of(final String lang) {
     Require.nonNull(lang);
-    return new Language(lang);
+
+    final Language existing= REGISTRY.get(lang);
+    if (existing != null) {
+      return existing;
+    }
+
+    synchronized (REGISTRY_BY_ID) {
+      return REGISTRY.computeIfAbsent(lang, l -> {
+        final Language language= new Language(l, REGISTRY_BY_ID.size());
+        REGISTRY_BY_ID.add(language);
+        return language;
+      });
+    }
+  }
+
+
+  /**
+   * Returns the canonical instance of this class with the given id.
+   *
+   * @param id the id of the language
+   * @return the Language with the given id
+   * @throws IndexOutOfBoundsException if there is no language with the given id
+   */
+  public static Language byId(final int id) {
+    return REGISTRY_BY_ID.get(id);
+  }
+
+
+  /**
+   * Returns the id of this Language.
+   * <p>
+   * The ids are assigned in the order in which the languages are first requested, starting at 0.
+   * Equal languages have the same id.
+   *
+   * @return the id of this Language
+   */
+  public int getId() {
+    return id;
   }
 
+
+  /**
+   * Returns the rank of this Language in the order of translations.
+   * <p>
+   * The default language (the empty language string) has the lowest rank, followed by
+   * <code>_</code>, followed by all pseudo-languages starting with <code>&lt;</code>. All other
+   * languages share the highest rank.
+   *
+   * @return the rank of this Language
+   */
+  public int getRank() {
+    return rank;
+  }
+
+
   /**
    * Returns the language string for this Language
    * @return the language string for this Language
@@ -58,11 +162,80 @@ public class Language implements Comparable<Language> {
     return lang;
   }
 
+  /**
+   * Returns the chain of languages to look up translations for this language.
+   * <p>
+   * The chain starts with this language itself, followed by the less specific languages and ends
+   * with the default language (the empty language string). It follows the order of the
+   * candidate locales of {@link java.util.ResourceBundle.Control#getCandidateLocales(java.lang.String, java.util.Locale)}.
+   * For example the chain for <code>zh_Hant_TW</code> is
+   * <code>[zh_Hant_TW, zh_Hant, zh_TW, zh, ""]</code>.
+   * <p>
+   * The language string is expected to be in the same format as the locale part of a resource
+   * bundle file name: <code>language[_script][_country][_variant]</code>.
+   *
+   * @return the chain of languages to look up translations for this language
+   */
+  public List<Language> getFallbackChain() {
+    final Set<String> chain= new LinkedHashSet<>();
+
+    if (!this.lang.isEmpty()) {
+      final String[] parts= this.lang.split("_", -1);
+      final String language= parts[0];
+      int i= 1;
+
+      String script= "";
+      if (i < parts.length && parts[i].length() == 4 && parts[i].chars().allMatch(Character::isLetter)) {
+        script= parts[i++];
+      }
+
+      String country= "";
+      if (i < parts.length && (parts[i].length() == 2 && parts[i].chars().allMatch(Character::isLetter)
+                               || parts[i].length() == 3 && parts[i].chars().allMatch(Character::isDigit))) {
+        country= parts[i++];
+      }
+
+      final String variant= i < parts.length
+                            ? String.join("_", Arrays.asList(parts).subList(i, parts.length))
+                            : "";
+
+      if (!script.isEmpty()) {
+        chain.add(join(language, script, country, variant));
+        chain.add(join(language, script, country, ""));
+        chain.add(join(language, script, "", ""));
+      }
+      chain.add(join(language, "", country, variant));
+      chain.add(join(language, "", country, ""));
+      chain.add(language);
+    }
+    chain.add("");
+
+    final List<Language> result= new ArrayList<>(chain.size());
+    chain.forEach(l -> result.add(Language.of(l)));
+    return result;
+  }
+
+
+  /**
+   * Joins the given (possibly empty) parts of a language string with an underscore.
+   *
+   * @param parts the parts to join
+   * @return the joined language string without any empty parts
+   */
+  private static String join(final String... parts) {
+    final StringJoiner sj= new StringJoiner("_");
+    for (final String part : parts) {
+      if (!part.isEmpty()) {
+        sj.add(part);
+      }
+    }
+    return sj.toString();
+  }
+
+
   @Override
   public int compareTo(Language o) {
-    return ComparisonChain.start()
-      .compare(this.getLang(), o.getLang(), Ordering.natural().nullsFirst())
-      .result();
+    return this.lang.compareTo(o.lang);
   }
 
 
@@ -86,7 +259,7 @@ public class Language implements Comparable<Language> {
       return false;
     }
     final Language other = (Language) obj;
-    if (!Objects.equals(this.lang, other.lang)) {
+    if (this.id != other.id) {
       return false;
     }
     return true;
@@ -0,0 +1,582 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.bundlecontent;
+
+import de.poiu.fez.Require;
+import de.poiu.kilt.facade.creation.TranslationComparator;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+
+/**
+ * A columnar representation of all keys and translations of a localization resource bundle that
+ * stores its content outside of the Java heap.
+ * <p>
+ * This class provides the same index based access as {@link Catalogue}, but keeps all keys and
+ * values as UTF-8 in direct ByteBuffers. Strings are only decoded when they are requested.
+ * Therefore even bundles with millions of translations only occupy a few objects on the heap and
+ * don't increase the garbage collection load.
+ * <p>
+ * The content is organized as follows:
+ * <ul>
+ *   <li>All strings are appended to a list of large direct buffers (the arena), each string
+ *       prefixed by its length. A string is referenced by the index of its buffer and its
+ *       offset in that buffer.</li>
+ *   <li>The references of the keys are stored in a direct buffer in the order of their first
+ *       occurrence.</li>
+ *   <li>A direct buffer holds an open-addressing hash table mapping the hash of each key to its
+ *       index.</li>
+ *   <li>For each language a direct buffer holds the references of the values by the index of
+ *       their key.</li>
+ * </ul>
+ * The languages are sorted in the same order as in {@link Catalogue}.
+ * <p>
+ * The first buffer of the arena is sized by the size of the bundle files, so that small bundles
+ * don't occupy a full buffer of 1 MiB.
+ * <p>
+ * An OffHeapCatalogue should be {@link #close() closed} after use. It is not usable anymore
+ * afterwards. Closing only releases the references to the direct buffers. Java 8 provides no
+ * way to free the memory of a direct buffer explicitly. It is only freed when the buffers are
+ * garbage collected. The amount of memory that may be occupied by direct buffers in the meantime
+ * can be limited with <code>-XX:MaxDirectMemorySize</code>.
+ * <p>
+ * An OffHeapCatalogue is immutable after its creation. Reading from it is thread-safe, but it
+ * must not be closed while it is still read.
+ *
+ * @author mherrn
+ */
+public class OffHeapCatalogue implements AutoCloseable {
+
+  /** The size of the buffers of the arena. Larger strings get a buffer of their own. */
+  private static final int ARENA_BUFFER_SIZE= 1 << 20;
+
+  /** The minimum size of the first buffer of the arena. */
+  private static final int MIN_ARENA_BUFFER_SIZE= 1 << 10;
+
+  /** The size of a reference to a string. */
+  private static final int REF_SIZE= Long.BYTES;
+
+  /** The size of a slot in the key index (the hash and the index of the key + 1). */
+  private static final int SLOT_SIZE= 2 * Integer.BYTES;
+
+  /** The initial number of keys to allocate space for. */
+  private static final int INITIAL_CAPACITY= 256;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /** The bundleBasename of this bundle. */
+  private final String bundleBaseName;
+
+  /** The dictionary of all languages of this bundle. */
+  private final Language[] languages;
+
+  /** The index of each language in {@link #languages} by the id of the language or -1 if missing. */
+  private final int[] languageIndexesById;
+
+  /** The buffers holding the UTF-8 encoded strings, each prefixed with its length. */
+  private List<ByteBuffer> arena= new ArrayList<>();
+
+  /** The references of all keys by their index. */
+  private ByteBuffer keyRefs;
+
+  /** The hash table of the keys. A slot holds the hash of a key and its index + 1 (0 for an empty slot). */
+  private ByteBuffer keyIndex;
+
+  /** The references of all values. One buffer for each language, indexed by the index of the key. A reference of 0 is a missing value. */
+  private ByteBuffer[] valueRefs;
+
+  /** The size of the next buffer to allocate for the arena. */
+  private int nextArenaBufferSize;
+
+  /** The number of keys in this bundle. */
+  private int keyCount;
+
+  /** The number of keys that can be stored without growing {@link #keyRefs} and {@link #valueRefs}. */
+  private int capacity;
+
+  /** The total number of bytes allocated outside of the heap. */
+  private long offHeapSize;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  private OffHeapCatalogue(final String bundleBaseName, final Language[] languages, final int firstArenaBufferSize) {
+    this.bundleBaseName= bundleBaseName;
+    this.nextArenaBufferSize= firstArenaBufferSize;
+    this.languages= languages;
+    this.languageIndexesById= new int[Arrays.stream(languages).mapToInt(Language::getId).max().orElse(-1) + 1];
+    Arrays.fill(this.languageIndexesById, -1);
+    for (int l= 0; l < languages.length; l++) {
+      this.languageIndexesById[languages[l].getId()]= l;
+    }
+
+    this.capacity= INITIAL_CAPACITY;
+    this.keyRefs= this.allocate(this.capacity * REF_SIZE);
+    this.keyIndex= this.allocate(2 * this.capacity * SLOT_SIZE);
+    this.valueRefs= new ByteBuffer[languages.length];
+    for (int l= 0; l < languages.length; l++) {
+      this.valueRefs[l]= this.allocate(this.capacity * REF_SIZE);
+    }
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  /**
+   * Creates a new OffHeapCatalogue for the given bundle with the translations from the given map
+   * of bundle files.
+   * <p>
+   * The files are read via {@link PropertiesScanner} and their key-value pairs are directly
+   * written to the off-heap storage without building an intermediate map. The
+   * {@link ParsedFileCache} is therefore not used.
+   *
+   * @param bundleBaseName the bundleBasename
+   * @param bundleFiles the file containing the translations for this bundle for each language
+   * @param charset the charset in which the .properties files are written (UTF-8 if <code>null</code>)
+   * @return an OffHeapCatalogue with the translations from the given files
+   */
+  public static OffHeapCatalogue fromFiles(final String bundleBaseName,
+                                           final Map<Language, File> bundleFiles,
+                                           final Charset charset) {
+    Require.nonNull(bundleBaseName);
+    Require.nonNull(bundleFiles);
+
+    final Language[] languages= bundleFiles.keySet().toArray(new Language[bundleFiles.size()]);
+    Arrays.sort(languages, TranslationComparator::compareLanguages);
+
+    // the UTF-8 encoded keys and values are usually not larger than the files
+    long fileSize= 0;
+    for (final File file : bundleFiles.values()) {
+      fileSize+= file.length();
+    }
+    final int firstArenaBufferSize= (int) Math.max(MIN_ARENA_BUFFER_SIZE, Math.min(ARENA_BUFFER_SIZE, fileSize));
+
+    final OffHeapCatalogue catalogue= new OffHeapCatalogue(bundleBaseName, languages, firstArenaBufferSize);
+    for (final Map.Entry<Language, File> entry : bundleFiles.entrySet()) {
+      final int languageIndex= catalogue.indexOfLanguage(entry.getKey());
+      PropertiesScanner.scan(entry.getValue(), charset, (key, value) -> catalogue.put(languageIndex, key, value));
+    }
+
+    return catalogue;
+  }
+
+
+  /**
+   * Returns the bundleBasename.
+   *
+   * @return the bundleBasename
+   */
+  public String getBundleBaseName() {
+    return this.bundleBaseName;
+  }
+
+
+  /**
+   * Returns the number of keys in this bundle.
+   *
+   * @return the number of keys in this bundle
+   */
+  public int getKeyCount() {
+    return this.keyCount;
+  }
+
+
+  /**
+   * Returns the key with the given index.
+   * <p>
+   * The key is decoded on each call.
+   *
+   * @param keyIndex the index of the key
+   * @return the key with the given index
+   * @throws IndexOutOfBoundsException if there is no key with the given index
+   * @throws IllegalStateException if this OffHeapCatalogue is already closed
+   */
+  public String getKey(final int keyIndex) {
+    this.checkKeyIndex(keyIndex);
+    return this.decode(this.keyRefs.getLong(keyIndex * REF_SIZE));
+  }
+
+
+  /**
+   * Returns the index of the given key.
+   *
+   * @param key the key whose index to return
+   * @return the index of the given key or -1 if this bundle doesn't contain the key
+   * @throws IllegalStateException if this OffHeapCatalogue is already closed
+   */
+  public int indexOfKey(final String key) {
+    Require.nonNull(key);
+    this.checkOpen();
+
+    final byte[] bytes= key.getBytes(UTF_8);
+    final int hash= hash(bytes);
+    final int mask= this.keyIndex.capacity() / SLOT_SIZE - 1;
+    for (int slot= hash & mask; ; slot= (slot + 1) & mask) {
+      final int storedIndex= this.keyIndex.getInt(slot * SLOT_SIZE + Integer.BYTES);
+      if (storedIndex == 0) {
+        return -1;
+      }
+      if (this.keyIndex.getInt(slot * SLOT_SIZE) == hash
+        && this.equalsStored(this.keyRefs.getLong((storedIndex - 1) * REF_SIZE), bytes)) {
+        return storedIndex - 1;
+      }
+    }
+  }
+
+
+  /**
+   * Returns whether this bundle contains the given key.
+   *
+   * @param key the key to check
+   * @return whether this bundle contains the given key
+   * @throws IllegalStateException if this OffHeapCatalogue is already closed
+   */
+  public boolean containsKey(final String key) {
+    return this.indexOfKey(key) >= 0;
+  }
+
+
+  /**
+   * Returns the number of languages in this bundle.
+   *
+   * @return the number of languages in this bundle
+   */
+  public int getLanguageCount() {
+    return this.languages.length;
+  }
+
+
+  /**
+   * Returns the language with the given index.
+   *
+   * @param languageIndex the index of the language
+   * @return the language with the given index
+   * @throws IndexOutOfBoundsException if there is no language with the given index
+   */
+  public Language getLanguage(final int languageIndex) {
+    return this.languages[languageIndex];
+  }
+
+
+  /**
+   * Returns all languages of this bundle in their sort order.
+   *
+   * @return all languages of this bundle
+   */
+  public List<Language> getLanguages() {
+    return Collections.unmodifiableList(Arrays.asList(this.languages));
+  }
+
+
+  /**
+   * Returns the index of the given language.
+   *
+   * @param language the language whose index to return
+   * @return the index of the given language or -1 if this bundle doesn't contain the language
+   */
+  public int indexOfLanguage(final Language language) {
+    final int id= language.getId();
+    return id < this.languageIndexesById.length ? this.languageIndexesById[id] : -1;
+  }
+
+
+  /**
+   * Returns whether a key has a value in a language.
+   * <p>
+   * In contrast to {@link #getValue(int, int)} this method doesn't decode the value.
+   *
+   * @param languageIndex the index of the language
+   * @param keyIndex the index of the key
+   * @return whether the key has a value in the language
+   * @throws IndexOutOfBoundsException if there is no key or language with the given index
+   * @throws IllegalStateException if this OffHeapCatalogue is already closed
+   */
+  public boolean hasValue(final int languageIndex, final int keyIndex) {
+    this.checkKeyIndex(keyIndex);
+    return this.valueRefs[languageIndex].getLong(keyIndex * REF_SIZE) != 0;
+  }
+
+
+  /**
+   * Returns the value of a key in a language.
+   * <p>
+   * The value is decoded on each call.
+   *
+   * @param languageIndex the index of the language
+   * @param keyIndex the index of the key
+   * @return the value of the key in the language or <code>null</code> if there is no such translation
+   * @throws IndexOutOfBoundsException if there is no key or language with the given index
+   * @throws IllegalStateException if this OffHeapCatalogue is already closed
+   */
+  public String getValue(final int languageIndex, final int keyIndex) {
+    this.checkKeyIndex(keyIndex);
+    final long ref= this.valueRefs[languageIndex].getLong(keyIndex * REF_SIZE);
+    return ref != 0 ? this.decode(ref) : null;
+  }
+
+
+  /**
+   * Returns the value of a key in a language.
+   *
+   * @param key the key
+   * @param language the language
+   * @return the value of the key in the language or <code>null</code> if there is no such translation
+   * @throws IllegalStateException if this OffHeapCatalogue is already closed
+   */
+  public String getValue(final String key, final Language language) {
+    final int keyIndex= this.indexOfKey(key);
+    final int languageIndex= this.indexOfLanguage(language);
+    if (keyIndex < 0 || languageIndex < 0) {
+      return null;
+    }
+    return this.getValue(languageIndex, keyIndex);
+  }
+
+
+  /**
+   * Returns the number of bytes allocated outside of the heap by this OffHeapCatalogue.
+   *
+   * @return the number of bytes allocated outside of the heap
+   */
+  public long getOffHeapSize() {
+    return this.offHeapSize;
+  }
+
+
+  /**
+   * Releases the direct buffers of this OffHeapCatalogue.
+   * <p>
+   * This OffHeapCatalogue is not usable anymore afterwards.
+   * <p>
+   * This method doesn't free the memory of the buffers. On Java 8 it is only freed when the
+   * buffers are garbage collected.
+   */
+  @Override
+  public void close() {
+    this.arena= null;
+    this.keyRefs= null;
+    this.keyIndex= null;
+    this.valueRefs= null;
+  }
+
+
+  @Override
+  public String toString() {
+    return "OffHeapCatalogue{" + "bundleName=" + bundleBaseName + ", keys=" + keyCount + ", languages=" + Arrays.toString(languages) + ", offHeapSize=" + offHeapSize + '}';
+  }
+
+
+  /**
+   * Sets the value of a key in a language. If the key doesn't exist yet, it is appended to the
+   * keys of this bundle. If the key already has a value in the language, it is replaced.
+   *
+   * @param languageIndex the index of the language
+   * @param key the key
+   * @param value the value
+   */
+  private void put(final int languageIndex, final String key, final String value) {
+    final byte[] bytes= key.getBytes(UTF_8);
+    final int hash= hash(bytes);
+
+    int mask= this.keyIndex.capacity() / SLOT_SIZE - 1;
+    int slot= hash & mask;
+    int keyIdx= -1;
+    while (true) {
+      final int storedIndex= this.keyIndex.getInt(slot * SLOT_SIZE + Integer.BYTES);
+      if (storedIndex == 0) {
+        break;
+      }
+      if (this.keyIndex.getInt(slot * SLOT_SIZE) == hash
+        && this.equalsStored(this.keyRefs.getLong((storedIndex - 1) * REF_SIZE), bytes)) {
+        keyIdx= storedIndex - 1;
+        break;
+      }
+      slot= (slot + 1) & mask;
+    }
+
+    if (keyIdx < 0) {
+      // a new key
+      if (this.keyCount == this.capacity) {
+        this.grow();
+        mask= this.keyIndex.capacity() / SLOT_SIZE - 1;
+        slot= hash & mask;
+        while (this.keyIndex.getInt(slot * SLOT_SIZE + Integer.BYTES) != 0) {
+          slot= (slot + 1) & mask;
+        }
+      }
+
+      keyIdx= this.keyCount++;
+      this.keyRefs.putLong(keyIdx * REF_SIZE, this.store(bytes));
+      this.keyIndex.putInt(slot * SLOT_SIZE, hash);
+      this.keyIndex.putInt(slot * SLOT_SIZE + Integer.BYTES, keyIdx + 1);
+    }
+
+    this.valueRefs[languageIndex].putLong(keyIdx * REF_SIZE, this.store(value.getBytes(UTF_8)));
+  }
+
+
+  /**
+   * Doubles the capacity for keys. The key index is rebuilt for the new capacity.
+   */
+  private void grow() {
+    this.capacity*= 2;
+    this.keyRefs= this.copy(this.keyRefs, this.capacity * REF_SIZE);
+    for (int l= 0; l < this.valueRefs.length; l++) {
+      this.valueRefs[l]= this.copy(this.valueRefs[l], this.capacity * REF_SIZE);
+    }
+
+    // keep the load factor of the key index at 0.5 at most
+    final ByteBuffer oldKeyIndex= this.keyIndex;
+    this.offHeapSize-= oldKeyIndex.capacity();
+    this.keyIndex= this.allocate(2 * this.capacity * SLOT_SIZE);
+    final int mask= this.keyIndex.capacity() / SLOT_SIZE - 1;
+    for (int oldSlot= 0; oldSlot < oldKeyIndex.capacity() / SLOT_SIZE; oldSlot++) {
+      final int storedIndex= oldKeyIndex.getInt(oldSlot * SLOT_SIZE + Integer.BYTES);
+      if (storedIndex != 0) {
+        final int hash= oldKeyIndex.getInt(oldSlot * SLOT_SIZE);
+        int slot= hash & mask;
+        while (this.keyIndex.getInt(slot * SLOT_SIZE + Integer.BYTES) != 0) {
+          slot= (slot + 1) & mask;
+        }
+        this.keyIndex.putInt(slot * SLOT_SIZE, hash);
+        this.keyIndex.putInt(slot * SLOT_SIZE + Integer.BYTES, storedIndex);
+      }
+    }
+  }
+
+
+  /**
+   * Appends the given bytes to the arena.
+   *
+   * @param bytes the bytes to store
+   * @return the reference to the stored bytes (never 0)
+   */
+  private long store(final byte[] bytes) {
+    final int size= Integer.BYTES + bytes.length;
+
+    ByteBuffer buffer= this.arena.isEmpty() ? null : this.arena.get(this.arena.size() - 1);
+    if (buffer == null || buffer.remaining() < size) {
+      buffer= this.allocate(Math.max(this.nextArenaBufferSize, size));
+      this.arena.add(buffer);
+      this.nextArenaBufferSize= ARENA_BUFFER_SIZE;
+    }
+
+    final int offset= buffer.position();
+    buffer.putInt(bytes.length);
+    buffer.put(bytes);
+
+    // the buffer number is incremented by one to never produce a reference of 0
+    return ((long) this.arena.size() << 32) | offset;
+  }
+
+
+  /**
+   * Decodes the string with the given reference.
+   */
+  private String decode(final long ref) {
+    final ByteBuffer buffer= this.arena.get((int) (ref >>> 32) - 1);
+    final int offset= (int) ref;
+    final byte[] bytes= new byte[buffer.getInt(offset)];
+
+    // read from a duplicate to not change the position of the shared buffer
+    final ByteBuffer view= buffer.duplicate();
+    view.position(offset + Integer.BYTES);
+    view.get(bytes);
+    return new String(bytes, UTF_8);
+  }
+
+
+  /**
+   * Returns whether the string with the given reference consists of the given bytes.
+   */
+  private boolean equalsStored(final long ref, final byte[] bytes) {
+    final ByteBuffer buffer= this.arena.get((int) (ref >>> 32) - 1);
+    final int offset= (int) ref;
+    if (buffer.getInt(offset) != bytes.length) {
+      return false;
+    }
+
+    for (int i= 0; i < bytes.length; i++) {
+      if (buffer.get(offset + Integer.BYTES + i) != bytes[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+
+  private ByteBuffer allocate(final int size) {
+    this.offHeapSize+= size;
+    return ByteBuffer.allocateDirect(size);
+  }
+
+
+  /**
+   * Returns a new direct buffer of the given size with the content of the given buffer.
+   */
+  private ByteBuffer copy(final ByteBuffer buffer, final int newSize) {
+    final ByteBuffer copy= this.allocate(newSize);
+    final ByteBuffer source= buffer.duplicate();
+    source.clear();
+    copy.put(source);
+    copy.clear();
+    this.offHeapSize-= buffer.capacity();
+    return copy;
+  }
+
+
+  private void checkOpen() {
+    if (this.arena == null) {
+      throw new IllegalStateException("OffHeapCatalogue for bundle " + this.bundleBaseName + " is already closed.");
+    }
+  }
+
+
+  private void checkKeyIndex(final int keyIndex) {
+    this.checkOpen();
+    if (keyIndex < 0 || keyIndex >= this.keyCount) {
+      throw new IndexOutOfBoundsException("No key with index " + keyIndex);
+    }
+  }
+
+
+  /**
+   * Returns the hash of the given bytes. The bits are spread, since the hash is used to
+   * address the slots of a power of two sized table.
+   */
+  private static int hash(final byte[] bytes) {
+    int h= 1;
+    for (final byte b : bytes) {
+      h= 31 * h + b;
+    }
+    return h ^ (h >>> 16);
+  }
+}
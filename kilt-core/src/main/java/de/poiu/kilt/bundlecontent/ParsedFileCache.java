@@ -0,0 +1,485 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.bundlecontent;
+
+import de.poiu.fez.Require;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+
+/**
+ * An on-disk cache of the key-value pairs of parsed .properties files.
+ * <p>
+ * For each parsed file an entry is written to the cache directory. It contains the key-value
+ * pairs of the file in a compact binary encoding together with the size, last modification time
+ * and SHA-256 hash of the file. When the file is read again, the cached key-value pairs are used
+ * <ul>
+ *   <li>if size and last modification time are unchanged (and the last modification time lies
+ *       clearly before the time the entry was verified, so that a modification within the
+ *       resolution of the file system timestamps can't go unnoticed) or</li>
+ *   <li>if the content hash is unchanged (e.g. if the file was only rewritten with the same
+ *       content).</li>
+ * </ul>
+ * Otherwise the file is parsed again and its entry replaced.
+ * <p>
+ * The cache is given explicitly to the read-only consumers of .properties files (like
+ * {@link Catalogue#fromFiles(java.lang.String, java.util.Map, java.nio.charset.Charset, de.poiu.kilt.bundlecontent.StringPool, de.poiu.kilt.bundlecontent.ParsedFileCache)}).
+ * A cache entry is never trusted without checking it against the current file, so it is safe to
+ * share the same cache directory between several commands and projects.
+ * <p>
+ * Keys and values are stored as UTF-16 code units, so that they are restored exactly, even if
+ * they contain unpaired surrogates.
+ * <p>
+ * Entries are written to a temporary file and then moved to their final name, so concurrent
+ * readers never see a partial entry. Failing to read or write an entry is never fatal. In that
+ * case the file is just parsed again.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author mherrn
+ */
+public class ParsedFileCache {
+
+  private static final Logger LOGGER= LogManager.getLogger();
+
+  /** The magic number at the start of each cache entry. */
+  private static final int MAGIC= 0x4B505043; // "KPPC"
+
+  /** The version of the format of the cache entries. Must be increased on incompatible changes. */
+  private static final int FORMAT_VERSION= 2;
+
+  /** The suffix of the cache entries. */
+  private static final String ENTRY_SUFFIX= ".kpc";
+
+  /** The minimum time between the last modification of a file and the verification of its entry to trust its timestamp. */
+  private static final long RACY_MARGIN_MILLIS= 2_000;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /** The directory to store the cache entries in. */
+  private final Path directory;
+
+  /** The number of files that were read from the cache. */
+  private final AtomicInteger hitCount= new AtomicInteger();
+
+  /** The number of files that had to be parsed. */
+  private final AtomicInteger missCount= new AtomicInteger();
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  /**
+   * Creates a new ParsedFileCache storing its entries in the given directory.
+   * <p>
+   * The directory is created when the first entry is written.
+   *
+   * @param directory the directory to store the cache entries in
+   */
+  public ParsedFileCache(final Path directory) {
+    Require.nonNull(directory);
+    this.directory= directory.toAbsolutePath().normalize();
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  /**
+   * Reads the key-value pairs of the given .properties file via the given cache. If no cache is
+   * given, the file is just parsed.
+   *
+   * @param file the file to read
+   * @param charset the encoding of the file (UTF-8 if <code>null</code>)
+   * @param stringPool the pool to intern the keys and values in
+   * @param cache the cache to use or <code>null</code> to parse the file
+   * @return the key-value pairs of the file in the order of their occurrence
+   * @throws RuntimeException if reading the file fails
+   * @throws IllegalArgumentException if the file contains a malformed <code>&#92;uXXXX</code> escape sequence
+   */
+  public static Map<String, String> read(final File file,
+                                         final Charset charset,
+                                         final StringPool stringPool,
+                                         final ParsedFileCache cache) {
+    if (cache != null) {
+      return cache.get(file, charset, stringPool);
+    }
+
+    Require.nonNull(stringPool);
+    final Map<String, String> entries= new LinkedHashMap<>();
+    PropertiesScanner.scan(file, charset, (key, value) -> {
+      entries.put(stringPool.intern(key), stringPool.intern(value));
+    });
+    return entries;
+  }
+
+
+  /**
+   * Returns the key-value pairs of the given .properties file.
+   * <p>
+   * If this cache contains an up-to-date entry for the file, the key-value pairs are read from
+   * the cache. Otherwise the file is parsed and the result stored in the cache.
+   *
+   * @param file the file to read
+   * @param charset the encoding of the file (UTF-8 if <code>null</code>)
+   * @param stringPool the pool to intern the keys and values in
+   * @return the key-value pairs of the file in the order of their occurrence
+   * @throws RuntimeException if reading the file fails
+   * @throws IllegalArgumentException if the file contains a malformed <code>&#92;uXXXX</code> escape sequence
+   */
+  public Map<String, String> get(final File file, final Charset charset, final StringPool stringPool) {
+    Require.nonNull(file);
+    Require.nonNull(stringPool);
+
+    final Path path= file.toPath().toAbsolutePath().normalize();
+    final String charsetName= (charset != null ? charset : UTF_8).name();
+    final Path entryFile= this.directory.resolve(entryName(path, charsetName));
+
+    final BasicFileAttributes attributes;
+    try {
+      attributes= Files.readAttributes(path, BasicFileAttributes.class);
+    } catch (IOException ex) {
+      throw new RuntimeException("Error reading file " + file, ex);
+    }
+    final long size= attributes.size();
+    final long lastModified= attributes.lastModifiedTime().toMillis();
+
+    byte[] bytes= null;
+    byte[] cachedHash= null;
+    Map<String, String> cachedEntries= null;
+    // read the entry at once, so that the lengths stored in it can be checked against its size
+    try (final DataInputStream in= new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(entryFile)))) {
+      final Header header= readHeader(in);
+      if (header != null && header.path.equals(path.toString()) && header.charsetName.equals(charsetName)) {
+        if (header.size == size
+          && header.lastModified == lastModified
+          && header.verifiedAt - lastModified > RACY_MARGIN_MILLIS) {
+          final Map<String, String> entries= readEntries(in, stringPool);
+          this.hitCount.incrementAndGet();
+          LOGGER.log(Level.DEBUG, "Read {} from cache.", file);
+          return entries;
+        }
+
+        // the timestamp can't be trusted, so compare the content
+        bytes= PropertiesScanner.readFully(file);
+        if (Arrays.equals(header.hash, hash(bytes))) {
+          cachedEntries= readEntries(in, stringPool);
+          cachedHash= header.hash;
+        }
+      }
+    } catch (NoSuchFileException ex) {
+      // no entry for this file yet
+    } catch (IOException | RuntimeException | OutOfMemoryError ex) {
+      // a corrupt entry must never be fatal, just parse the file again
+      LOGGER.log(Level.DEBUG, "Ignoring unreadable cache entry " + entryFile + " for file " + file, ex);
+    }
+
+    if (cachedEntries != null) {
+      this.hitCount.incrementAndGet();
+      LOGGER.log(Level.DEBUG, "Read {} from cache (unchanged content).", file);
+      // refresh the entry, so that its timestamp can be trusted next time
+      this.store(entryFile, path, charsetName, size, lastModified, cachedHash, cachedEntries);
+      return cachedEntries;
+    }
+
+    if (bytes == null) {
+      try {
+        bytes= PropertiesScanner.readFully(file);
+      } catch (IOException ex) {
+        throw new RuntimeException("Error reading file " + file, ex);
+      }
+    }
+    return this.parse(file, bytes, charset, stringPool, entryFile, path, charsetName, size, lastModified);
+  }
+
+
+  /**
+   * Returns the number of files that were read from this cache.
+   *
+   * @return the number of files that were read from this cache
+   */
+  public int getHitCount() {
+    return this.hitCount.get();
+  }
+
+
+  /**
+   * Returns the number of files that had to be parsed since they were not contained in this
+   * cache or had changed.
+   *
+   * @return the number of files that had to be parsed
+   */
+  public int getMissCount() {
+    return this.missCount.get();
+  }
+
+
+  /**
+   * Parses the given content of a file and stores the result in the cache.
+   */
+  private Map<String, String> parse(final File file,
+                                    final byte[] bytes,
+                                    final Charset charset,
+                                    final StringPool stringPool,
+                                    final Path entryFile,
+                                    final Path path,
+                                    final String charsetName,
+                                    final long size,
+                                    final long lastModified) {
+    final Map<String, String> entries= new LinkedHashMap<>();
+    PropertiesScanner.scan(bytes, charset, file, (key, value) -> {
+      entries.put(stringPool.intern(key), stringPool.intern(value));
+    });
+
+    this.missCount.incrementAndGet();
+    LOGGER.log(Level.DEBUG, "Parsed {}.", file);
+    this.store(entryFile, path, charsetName, size, lastModified, hash(bytes), entries);
+    return entries;
+  }
+
+
+  /**
+   * Writes a cache entry.
+   * <p>
+   * The entry is written to a temporary file and then moved to its final name. Errors are
+   * logged, but otherwise ignored.
+   */
+  private void store(final Path entryFile,
+                     final Path path,
+                     final String charsetName,
+                     final long size,
+                     final long lastModified,
+                     final byte[] hash,
+                     final Map<String, String> entries) {
+    Path tmpFile= null;
+    try {
+      Files.createDirectories(this.directory);
+      tmpFile= Files.createTempFile(this.directory, entryFile.getFileName().toString(), ".tmp");
+
+      try (final DataOutputStream out= new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpFile)))) {
+        out.writeInt(MAGIC);
+        out.writeByte(FORMAT_VERSION);
+        writeString(out, path.toString());
+        writeString(out, charsetName);
+        out.writeLong(size);
+        out.writeLong(lastModified);
+        out.writeLong(System.currentTimeMillis());
+        out.write(hash);
+        writeVarInt(out, entries.size());
+        for (final Map.Entry<String, String> entry : entries.entrySet()) {
+          writeString(out, entry.getKey());
+          writeString(out, entry.getValue());
+        }
+      }
+
+      try {
+        Files.move(tmpFile, entryFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException ex) {
+        Files.move(tmpFile, entryFile, StandardCopyOption.REPLACE_EXISTING);
+      }
+      tmpFile= null;
+    } catch (IOException ex) {
+      LOGGER.log(Level.WARN, "Error writing cache entry " + entryFile, ex);
+    } finally {
+      if (tmpFile != null) {
+        try {
+          Files.deleteIfExists(tmpFile);
+        } catch (IOException ex) {
+          LOGGER.log(Level.DEBUG, "Error deleting temporary file " + tmpFile, ex);
+        }
+      }
+    }
+  }
+
+
+  /**
+   * Reads the header of a cache entry.
+   *
+   * @return the header or <code>null</code> if the entry was written in an incompatible format
+   */
+  private static Header readHeader(final DataInputStream in) throws IOException {
+    if (in.readInt() != MAGIC || in.readUnsignedByte() != FORMAT_VERSION) {
+      return null;
+    }
+
+    final Header header= new Header();
+    header.path= readString(in);
+    header.charsetName= readString(in);
+    header.size= in.readLong();
+    header.lastModified= in.readLong();
+    header.verifiedAt= in.readLong();
+    header.hash= new byte[32];
+    in.readFully(header.hash);
+    return header;
+  }
+
+
+  /**
+   * Reads the key-value pairs of a cache entry.
+   */
+  private static Map<String, String> readEntries(final DataInputStream in, final StringPool stringPool) throws IOException {
+    final int count= readVarInt(in);
+    // each entry takes at least two bytes
+    if (count > in.available() / 2) {
+      throw new IOException("Invalid number of entries in cache entry: " + count);
+    }
+    final Map<String, String> entries= new LinkedHashMap<>(count * 4 / 3 + 1);
+    for (int i= 0; i < count; i++) {
+      final String key= readString(in);
+      final String value= readString(in);
+      entries.put(stringPool.intern(key), stringPool.intern(value));
+    }
+    return entries;
+  }
+
+
+  /**
+   * Returns the name of the cache entry for the given file and charset.
+   */
+  private static String entryName(final Path path, final String charsetName) {
+    final byte[] hash= hash((path.toString() + '\0' + charsetName).getBytes(UTF_8));
+
+    final StringBuilder sb= new StringBuilder(32 + ENTRY_SUFFIX.length());
+    for (int i= 0; i < 16; i++) {
+      sb.append(Character.forDigit((hash[i] >> 4) & 0xF, 16));
+      sb.append(Character.forDigit(hash[i] & 0xF, 16));
+    }
+    return sb.append(ENTRY_SUFFIX).toString();
+  }
+
+
+  /**
+   * Returns the SHA-256 hash of the given bytes.
+   */
+  private static byte[] hash(final byte[] bytes) {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(bytes);
+    } catch (NoSuchAlgorithmException ex) {
+      // every Java platform is required to support SHA-256
+      throw new IllegalStateException(ex);
+    }
+  }
+
+
+  /**
+   * Writes a string as its number of UTF-16 code units followed by the code units themselves.
+   * <p>
+   * Unlike an encoding in UTF-8 this is lossless for strings with unpaired surrogates.
+   */
+  private static void writeString(final DataOutputStream out, final String s) throws IOException {
+    writeVarInt(out, s.length());
+    for (int i= 0; i < s.length(); i++) {
+      out.writeChar(s.charAt(i));
+    }
+  }
+
+
+  /**
+   * Reads a string written by {@link #writeString(java.io.DataOutputStream, java.lang.String)}.
+   * <p>
+   * The given stream must return the exact number of remaining bytes of the entry from
+   * {@link DataInputStream#available()}.
+   */
+  private static String readString(final DataInputStream in) throws IOException {
+    final int length= readVarInt(in);
+    if (length > in.available() / 2) {
+      throw new IOException("Invalid string length in cache entry: " + length);
+    }
+
+    final char[] chars= new char[length];
+    for (int i= 0; i < length; i++) {
+      chars[i]= in.readChar();
+    }
+    return new String(chars);
+  }
+
+
+  /**
+   * Writes a non-negative int in 7 bit groups, so that small values take only a single byte.
+   */
+  private static void writeVarInt(final OutputStream out, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      out.write((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.write(value);
+  }
+
+
+  private static int readVarInt(final InputStream in) throws IOException {
+    int value= 0;
+    for (int shift= 0; shift < 32; shift += 7) {
+      final int b= in.read();
+      if (b < 0) {
+        throw new IOException("Unexpected end of cache entry");
+      }
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        if (value < 0) {
+          throw new IOException("Invalid length in cache entry");
+        }
+        return value;
+      }
+    }
+    throw new IOException("Invalid length in cache entry");
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Inner classes
+
+  /**
+   * The header of a cache entry.
+   */
+  private static class Header {
+    private String path;
+    private String charsetName;
+    private long size;
+    private long lastModified;
+    private long verifiedAt;
+    private byte[] hash;
+  }
+}
@@ -0,0 +1,406 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.bundlecontent;
+
+import de.poiu.fez.Require;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+
+/**
+ * A fast read-only scanner for the key-value pairs of .properties files.
+ * <p>
+ * In contrast to apron's <code>PropertyFile</code> this scanner doesn't build a model of the file
+ * including comments and formatting. It only decodes the key-value pairs and passes them to a
+ * callback. It follows the same rules as {@link java.util.Properties#load(java.io.Reader)}
+ * regarding comments, line continuations, separators and escape sequences.
+ * <p>
+ * This scanner is therefore meant for consumers that only read the key-value pairs. To modify
+ * .properties files while retaining their formatting use apron.
+ *
+ * @author mherrn
+ */
+public final class PropertiesScanner {
+
+  /** The initial size of the line buffers. */
+  private static final int INITIAL_BUFFER_SIZE= 128;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  private PropertiesScanner() {
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  /**
+   * Reads the key-value pairs of the given .properties file into a map.
+   * <p>
+   * The key-value pairs are contained in the order of their occurrence in the file. If a key
+   * occurs more than once in the file, its last value is contained.
+   *
+   * @param file the file to read
+   * @param charset the encoding of the file (UTF-8 if <code>null</code>)
+   * @return the key-value pairs of the file
+   * @throws RuntimeException if reading the file fails
+   * @throws IllegalArgumentException if the file contains a malformed <code>&#92;uXXXX</code> escape sequence
+   */
+  public static Map<String, String> toMap(final File file, final Charset charset) {
+    final Map<String, String> map= new LinkedHashMap<>();
+    scan(file, charset, map::put);
+    return map;
+  }
+
+
+  /**
+   * Reads the key-value pairs of the given .properties file and passes them to the given consumer
+   * in the order of their occurrence in the file.
+   * <p>
+   * The file is read via a FileChannel into a single buffer. If the charset is ISO-8859-1 the
+   * bytes are converted to chars directly, otherwise malformed input is replaced in the same
+   * way as by an InputStreamReader.
+   *
+   * @param file the file to read
+   * @param charset the encoding of the file (UTF-8 if <code>null</code>)
+   * @param consumer the consumer of the key-value pairs
+   * @throws RuntimeException if reading the file fails
+   * @throws IllegalArgumentException if the file contains a malformed <code>&#92;uXXXX</code> escape sequence
+   */
+  public static void scan(final File file, final Charset charset, final BiConsumer<String, String> consumer) {
+    Require.nonNull(file);
+    Require.nonNull(consumer);
+
+    final byte[] bytes;
+    try {
+      bytes= readFully(file);
+    } catch (IOException ex) {
+      throw new RuntimeException("Error reading file " + file, ex);
+    }
+
+    scan(bytes, charset, file, consumer);
+  }
+
+
+  /**
+   * Reads the key-value pairs of the given content of a .properties file and passes them to the
+   * given consumer in the order of their occurrence in the file.
+   *
+   * @param bytes the content of the file
+   * @param charset the encoding of the file (UTF-8 if <code>null</code>)
+   * @param file the file the content was read from (only used in error messages)
+   * @param consumer the consumer of the key-value pairs
+   * @throws RuntimeException if decoding the content fails
+   * @throws IllegalArgumentException if the content contains a malformed <code>&#92;uXXXX</code> escape sequence
+   */
+  static void scan(final byte[] bytes, final Charset charset, final File file, final BiConsumer<String, String> consumer) {
+    final CharBuffer content;
+    try {
+      content= decode(ByteBuffer.wrap(bytes), charset != null ? charset : UTF_8);
+    } catch (CharacterCodingException ex) {
+      throw new RuntimeException("Error reading file " + file, ex);
+    }
+
+    try {
+      scan(content.array(), content.arrayOffset() + content.position(), content.arrayOffset() + content.limit(), consumer);
+    } catch (IllegalArgumentException ex) {
+      throw new IllegalArgumentException("Error parsing file " + file + ": " + ex.getMessage(), ex);
+    }
+  }
+
+
+  /**
+   * Reads the whole content of the given file via a FileChannel.
+   *
+   * @param file the file to read
+   * @return the content of the file
+   * @throws IOException if reading the file fails
+   */
+  static byte[] readFully(final File file) throws IOException {
+    try (final FileChannel channel= FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      final long size= channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new IOException("File too large: " + size + " bytes");
+      }
+
+      final ByteBuffer bytes= ByteBuffer.allocate((int) size);
+      while (bytes.hasRemaining() && channel.read(bytes) >= 0) {
+        // read until the buffer is full or the end of the file is reached
+      }
+
+      return bytes.position() == bytes.capacity()
+               ? bytes.array()
+               : Arrays.copyOf(bytes.array(), bytes.position());
+    }
+  }
+
+
+  /**
+   * Reads the key-value pairs of the given .properties content and passes them to the given
+   * consumer in the order of their occurrence.
+   *
+   * @param content the content of a .properties file
+   * @param consumer the consumer of the key-value pairs
+   * @throws IllegalArgumentException if the content contains a malformed <code>&#92;uXXXX</code> escape sequence
+   */
+  public static void scan(final CharSequence content, final BiConsumer<String, String> consumer) {
+    Require.nonNull(content);
+    Require.nonNull(consumer);
+
+    final char[] chars= content.toString().toCharArray();
+    scan(chars, 0, chars.length, consumer);
+  }
+
+
+  /**
+   * Decodes the given bytes into chars.
+   *
+   * @param bytes the bytes to decode
+   * @param charset the charset to decode the bytes with
+   * @return the decoded chars in a buffer backed by an array
+   * @throws CharacterCodingException if decoding fails
+   */
+  private static CharBuffer decode(final ByteBuffer bytes, final Charset charset) throws CharacterCodingException {
+    if (charset.equals(ISO_8859_1)) {
+      final char[] chars= new char[bytes.remaining()];
+      for (int i= 0; i < chars.length; i++) {
+        chars[i]= (char) (bytes.get() & 0xFF);
+      }
+      return CharBuffer.wrap(chars);
+    }
+
+    return charset.newDecoder()
+      .onMalformedInput(CodingErrorAction.REPLACE)
+      .onUnmappableCharacter(CodingErrorAction.REPLACE)
+      .decode(bytes);
+  }
+
+
+  /**
+   * Reads the key-value pairs of the given chars and passes them to the given consumer.
+   * <p>
+   * This is a state machine that first assembles a logical line (joining continuation lines and
+   * dropping comments and blank lines) and then splits it into key and value.
+   *
+   * @param in the chars to read
+   * @param start the index of the first char to read
+   * @param end the index after the last char to read
+   * @param consumer the consumer of the key-value pairs
+   */
+  private static void scan(final char[] in, final int start, final int end, final BiConsumer<String, String> consumer) {
+    char[] line= new char[INITIAL_BUFFER_SIZE];
+    final char[][] convertBuffer= { new char[INITIAL_BUFFER_SIZE] };
+    int pos= start;
+
+    while (true) {
+      // assemble the next logical line
+      int len= 0;
+      boolean skipWhiteSpace= true;
+      boolean appendedLineBegin= false;
+      boolean precedingBackslash= false;
+      boolean skipLF= false;
+      boolean eof= false;
+
+      while (true) {
+        if (pos >= end) {
+          if (len == 0) {
+            return;
+          }
+          if (precedingBackslash) {
+            len--;
+          }
+          eof= true;
+          break;
+        }
+
+        char c= in[pos++];
+        if (skipLF) {
+          skipLF= false;
+          if (c == '\n') {
+            continue;
+          }
+        }
+
+        if (skipWhiteSpace) {
+          if (c == ' ' || c == '\t' || c == '\f') {
+            continue;
+          }
+          if (!appendedLineBegin && (c == '\r' || c == '\n')) {
+            continue;
+          }
+          skipWhiteSpace= false;
+          appendedLineBegin= false;
+        }
+
+        if (len == 0 && (c == '#' || c == '!')) {
+          // skip the rest of the comment line
+          while (pos < end && c != '\r' && c != '\n') {
+            c= in[pos++];
+          }
+          skipWhiteSpace= true;
+          continue;
+        }
+
+        if (c != '\n' && c != '\r') {
+          if (len == line.length) {
+            line= Arrays.copyOf(line, line.length * 2);
+          }
+          line[len++]= c;
+          precedingBackslash= c == '\\' && !precedingBackslash;
+        } else if (len == 0) {
+          // skip blank lines
+          skipWhiteSpace= true;
+        } else if (pos >= end) {
+          // the last line doesn't need to be joined with a following line
+          if (precedingBackslash) {
+            len--;
+          }
+          eof= true;
+          break;
+        } else if (precedingBackslash) {
+          // the line is continued on the next line
+          len--;
+          skipWhiteSpace= true;
+          appendedLineBegin= true;
+          precedingBackslash= false;
+          skipLF= c == '\r';
+        } else {
+          break;
+        }
+      }
+
+      // split the logical line into key and value
+      int keyLen= 0;
+      int valueStart= len;
+      boolean hasSeparator= false;
+      precedingBackslash= false;
+      while (keyLen < len) {
+        final char c= line[keyLen];
+        if ((c == '=' || c == ':') && !precedingBackslash) {
+          valueStart= keyLen + 1;
+          hasSeparator= true;
+          break;
+        } else if ((c == ' ' || c == '\t' || c == '\f') && !precedingBackslash) {
+          valueStart= keyLen + 1;
+          break;
+        }
+        precedingBackslash= c == '\\' && !precedingBackslash;
+        keyLen++;
+      }
+
+      while (valueStart < len) {
+        final char c= line[valueStart];
+        if (c != ' ' && c != '\t' && c != '\f') {
+          if (!hasSeparator && (c == '=' || c == ':')) {
+            hasSeparator= true;
+          } else {
+            break;
+          }
+        }
+        valueStart++;
+      }
+
+      final String key= unescape(line, 0, keyLen, convertBuffer);
+      final String value= unescape(line, valueStart, len, convertBuffer);
+      consumer.accept(key, value);
+
+      if (eof) {
+        return;
+      }
+    }
+  }
+
+
+  /**
+   * Resolves the escape sequences in the given range of chars.
+   *
+   * @param in the chars to unescape
+   * @param start the index of the first char to unescape
+   * @param end the index after the last char to unescape
+   * @param buffer a holder for the reusable output buffer (may be replaced by a larger one)
+   * @return the unescaped string
+   * @throws IllegalArgumentException if the chars contain a malformed <code>&#92;uXXXX</code> escape sequence
+   */
+  private static String unescape(final char[] in, final int start, final int end, final char[][] buffer) {
+    if (buffer[0].length < end - start) {
+      buffer[0]= new char[(end - start) * 2];
+    }
+
+    final char[] out= buffer[0];
+    int outLen= 0;
+    int off= start;
+    while (off < end) {
+      char c= in[off++];
+      if (c != '\\') {
+        out[outLen++]= c;
+        continue;
+      }
+
+      if (off >= end) {
+        // a single trailing backslash is dropped
+        break;
+      }
+
+      c= in[off++];
+      if (c == 'u') {
+        if (off > end - 4) {
+          throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+        }
+        int value= 0;
+        for (int i= 0; i < 4; i++) {
+          final char d= in[off++];
+          final int digit= d >= '0' && d <= '9' ? d - '0'
+                         : d >= 'a' && d <= 'f' ? d - 'a' + 10
+                         : d >= 'A' && d <= 'F' ? d - 'A' + 10
+                         : -1;
+          if (digit < 0) {
+            throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+          }
+          value= (value << 4) + digit;
+        }
+        out[outLen++]= (char) value;
+      } else {
+        switch (c) {
+          case 't': out[outLen++]= '\t'; break;
+          case 'r': out[outLen++]= '\r'; break;
+          case 'n': out[outLen++]= '\n'; break;
+          case 'f': out[outLen++]= '\f'; break;
+          default:  out[outLen++]= c;
+        }
+      }
+    }
+
+    return new String(out, 0, outLen);
+  }
+}
@@ -19,12 +19,17 @@ import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.MultimapBuilder;
 import com.google.common.collect.SetMultimap;
-import de.poiu.apron.PropertyFile;
+import de.poiu.fez.Require;
 import de.poiu.kilt.facade.creation.InconsistentBundleBaseNameException;
 import de.poiu.kilt.facade.creation.TranslationComparator;
 import java.io.File;
 import java.nio.charset.Charset;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
@@ -153,22 +158,148 @@ public class ResourceBundleContent {
    * @throws InconsistentBundleBaseNameException if the given files don't share a common basename
    */
   public ResourceBundleContent fromFiles(final Map<Language, File> bundleFiles, final Charset charset) {
-    final SetMultimap<String, Translation> translations= MultimapBuilder.linkedHashKeys().linkedHashSetValues().build();
+    return fromFiles(bundleFiles, charset, new StringPool());
+  }
+
+
+  /**
+   * Returns a new FacadeBundleContent derived from this one and set its translations
+   * based on the given map of bundle files.
+   * <p>
+   * All keys and values are interned in the given StringPool. To share the strings between
+   * several bundles, the same StringPool can be given for each of them.
+   * <p>
+   * The files are parsed concurrently in the common ForkJoinPool.
+   *
+   * @param bundleFiles the file containing the translations for this bundle for each language
+   * @param charset the charset in which the .properties files are written
+   * @param stringPool the pool to intern the keys and values in
+   * @return a FacadeBundleContent with the translations from the given files
+   * @throws InconsistentBundleBaseNameException if the given files don't share a common basename
+   */
+  public ResourceBundleContent fromFiles(final Map<Language, File> bundleFiles, final Charset charset, final StringPool stringPool) {
+    return fromFiles(bundleFiles, charset, stringPool, null);
+  }
+
+
+  /**
+   * Returns a new FacadeBundleContent derived from this one and set its translations
+   * based on the given map of bundle files.
+   * <p>
+   * All keys and values are interned in the given StringPool. To share the strings between
+   * several bundles, the same StringPool can be given for each of them.
+   * <p>
+   * If a ParsedFileCache is given, only files that are not contained in the cache or have
+   * changed are actually parsed.
+   * <p>
+   * The files are parsed concurrently in the common ForkJoinPool.
+   *
+   * @param bundleFiles the file containing the translations for this bundle for each language
+   * @param charset the charset in which the .properties files are written
+   * @param stringPool the pool to intern the keys and values in
+   * @param parsedFileCache the cache of parsed files to use or <code>null</code> to parse all files
+   * @return a FacadeBundleContent with the translations from the given files
+   * @throws InconsistentBundleBaseNameException if the given files don't share a common basename
+   */
+  public ResourceBundleContent fromFiles(final Map<Language, File> bundleFiles,
+                                         final Charset charset,
+                                         final StringPool stringPool,
+                                         final ParsedFileCache parsedFileCache) {
+    return fromFiles(bundleFiles, charset, stringPool, parsedFileCache, ForkJoinPool.commonPool());
+  }
 
-    for (final Map.Entry<Language, File> entry : bundleFiles.entrySet()) {
-      final Language lang = entry.getKey();
-      final File file = entry.getValue();
 
-      final PropertyFile propertyFile = PropertyFile.from(file, charset);
-      propertyFile.toMap().forEach((String key, String value) -> {
+  /**
+   * Returns a new FacadeBundleContent derived from this one and set its translations
+   * based on the given map of bundle files.
+   * <p>
+   * All keys and values are interned in the given StringPool. To share the strings between
+   * several bundles, the same StringPool can be given for each of them.
+   * <p>
+   * Each file is parsed in a separate task on the given executor. The results are merged in the
+   * iteration order of the given map, so the result is the same as if the files were parsed
+   * one after the other. To parse the files in the calling thread, <code>Runnable::run</code> can
+   * be given as executor.
+   *
+   * @param bundleFiles the file containing the translations for this bundle for each language
+   * @param charset the charset in which the .properties files are written
+   * @param stringPool the pool to intern the keys and values in
+   * @param parsedFileCache the cache of parsed files to use or <code>null</code> to parse all files
+   * @param executor the executor to parse the files on
+   * @return a FacadeBundleContent with the translations from the given files
+   * @throws InconsistentBundleBaseNameException if the given files don't share a common basename
+   */
+  public ResourceBundleContent fromFiles(final Map<Language, File> bundleFiles,
+                                         final Charset charset,
+                                         final StringPool stringPool,
+                                         final ParsedFileCache parsedFileCache,
+                                         final Executor executor) {
+    final SetMultimap<String, Translation> translations= MultimapBuilder.linkedHashKeys().linkedHashSetValues().build();
+
+    parseFiles(bundleFiles, charset, stringPool, parsedFileCache, executor).forEach((lang, entries) -> {
+      entries.forEach((String key, String value) -> {
         translations.put(key, new Translation(lang, value));
       });
-    }
+    });
 
     return new ResourceBundleContent(this.bundleBaseName, translations);
   }
 
 
+  /**
+   * Parses the given bundle files concurrently on the given executor.
+   * <p>
+   * The returned map contains the key-value pairs of each file in the iteration order of the
+   * given map. The key-value pairs of each file are contained in the order of their occurrence
+   * in the file.
+   * <p>
+   * If parsing a file fails, the exception of the first failed file (in the iteration order of
+   * the given map) is rethrown.
+   * <p>
+   * If a ParsedFileCache is given, only files that are not contained in the cache or have
+   * changed are actually parsed.
+   *
+   * @param bundleFiles the file containing the translations for this bundle for each language
+   * @param charset the charset in which the .properties files are written
+   * @param stringPool the pool to intern the keys and values in
+   * @param parsedFileCache the cache of parsed files to use or <code>null</code> to parse all files
+   * @param executor the executor to parse the files on
+   * @return the key-value pairs of each file
+   */
+  static Map<Language, Map<String, String>> parseFiles(final Map<Language, File> bundleFiles,
+                                                       final Charset charset,
+                                                       final StringPool stringPool,
+                                                       final ParsedFileCache parsedFileCache,
+                                                       final Executor executor) {
+    Require.nonNull(bundleFiles);
+    Require.nonNull(stringPool);
+    Require.nonNull(executor);
+
+    final Map<Language, CompletableFuture<Map<String, String>>> futures= new LinkedHashMap<>();
+    for (final Map.Entry<Language, File> entry : bundleFiles.entrySet()) {
+      final File file= entry.getValue();
+      futures.put(entry.getKey(), CompletableFuture.supplyAsync(() -> ParsedFileCache.read(file, charset, stringPool, parsedFileCache), executor));
+    }
+
+    // merge the results single-threaded and in a deterministic order
+    final Map<Language, Map<String, String>> result= new LinkedHashMap<>();
+    for (final Map.Entry<Language, CompletableFuture<Map<String, String>>> entry : futures.entrySet()) {
+      try {
+        result.put(entry.getKey(), entry.getValue().join());
+      } catch (CompletionException ex) {
+        if (ex.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) ex.getCause();
+        } else if (ex.getCause() instanceof Error) {
+          throw (Error) ex.getCause();
+        }
+        throw ex;
+      }
+    }
+
+    return result;
+  }
+
+
   @Override
   public String toString() {
     return "FacadeBundleContent{" + "bundleName=" + bundleBaseName + "\n\t, content=" + content + '}';
@@ -16,18 +16,30 @@
 package de.poiu.kilt.bundlecontent;
 
 import de.poiu.fez.Require;
+import de.poiu.kilt.util.FileMatcher;
 import java.io.File;
+import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
+import java.util.Spliterator;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+
 /**
  * A helper class for creating a {@link ResourceBundleContent} from a set of resource
  * bundle files.
@@ -69,6 +81,12 @@ public class ResourceBundleContentHelper {
       + "\\.properties"                                                   // the file must always have the suffix .properties
     , Pattern.UNICODE_CHARACTER_CLASS);
 
+  /** The suffix of localization resource bundle files. */
+  private static final String PROPERTIES_SUFFIX= ".properties";
+
+  /** The number of files from which on {@link #toBundleNameToFilesMap(Collection)} processes the files in parallel. */
+  private static final int PARALLEL_THRESHOLD= 10_000;
+
 
   /////////////////////////////////////////////////////////////////////////////
   //
@@ -80,6 +98,9 @@ public class ResourceBundleContentHelper {
    */
   private Path ignorableBasePath= Paths.get("");
 
+  /** The absolute form of {@link #ignorableBasePath}. */
+  private Path absoluteIgnorableBasePath= this.ignorableBasePath.toAbsolutePath();
+
 
   /////////////////////////////////////////////////////////////////////////////
   //
@@ -99,6 +120,7 @@ public class ResourceBundleContentHelper {
   public ResourceBundleContentHelper(final File ignorableBasePath) {
     Require.nonNull(ignorableBasePath);
     this.ignorableBasePath= ignorableBasePath.toPath();
+    this.absoluteIgnorableBasePath= this.ignorableBasePath.toAbsolutePath();
   }
 
   /**
@@ -108,6 +130,7 @@ public class ResourceBundleContentHelper {
   public ResourceBundleContentHelper(final Path ignorableBasePath) {
     Require.nonNull(ignorableBasePath);
     this.ignorableBasePath= ignorableBasePath;
+    this.absoluteIgnorableBasePath= this.ignorableBasePath.toAbsolutePath();
   }
 
 
@@ -120,53 +143,306 @@ public class ResourceBundleContentHelper {
    * bundle basepath as the key and another map containing the translations in these
    * resource bundles as the value.
    * <p>
-   * This is done by applying a pattern to the given files. The files need to be named according
-   * to the general rules for Java localization resource bundle files.
+   * This is done by parsing the names of the given files. The files need to be named according
+   * to the general rules for Java localization resource bundle files (see
+   * {@link #PATTERN_RESOURCE_BUNDLE_FILE_NAME}).
    * <p>
    * It is valid to have resource bundle files without any language (for the fallback resource
    * bundle). The language for this file will not be null, but instead a Language object with an
    * empty string.
+   * <p>
+   * Large collections of files are processed in parallel. The result is the same in either case.
    *
    * @param propertyFiles the files to convert
    * @return the map created from the given collection of files
    */
   public Map<String, Map<Language, File>> toBundleNameToFilesMap(final Collection<File> propertyFiles) {
     Require.nonNull(propertyFiles);
+    return this.toBundleNameToFilesMap(propertyFiles, propertyFiles.size() >= PARALLEL_THRESHOLD);
+  }
+
+
+  /**
+   * Converts a collection of resource bundle files to a nested map containing the
+   * bundle basepath as the key and another map containing the translations in these
+   * resource bundles as the value.
+   * <p>
+   * If <code>parallel</code> is <code>true</code> the file names are parsed in parallel.
+   * The files are nevertheless added to the result in the iteration order of the given collection,
+   * and warnings and errors are reported in that order.
+   *
+   * @param propertyFiles the files to convert
+   * @param parallel whether to parse the file names in parallel
+   * @return the map created from the given collection of files
+   */
+  Map<String, Map<Language, File>> toBundleNameToFilesMap(final Collection<File> propertyFiles, final boolean parallel) {
+    Require.nonNull(propertyFiles);
+
+    // the bundle prefix only depends on the directory, so it is only built once per directory
+    final Map<String, String> bundlePrefixesByDirectory= new ConcurrentHashMap<>();
+
+    final List<BundleFile> bundleFiles;
+    if (parallel) {
+      bundleFiles= new ArrayList<>(propertyFiles).parallelStream()
+        .map(file -> this.toBundleFile(file, bundlePrefixesByDirectory))
+        .collect(toList());
+    } else {
+      bundleFiles= new ArrayList<>(propertyFiles.size());
+      for (final File file : propertyFiles) {
+        bundleFiles.add(this.toBundleFile(file, bundlePrefixesByDirectory));
+      }
+    }
+
     final Map<String, Map<Language, File>> result= new LinkedHashMap<>();
+    for (final BundleFile bundleFile : bundleFiles) {
+      if (bundleFile.error != null) {
+        throw bundleFile.error;
+      }
+
+      if (bundleFile.fullBundleName == null) {
+        LOGGER.log(Level.WARN, "File {} doesn't match the expected pattern. It will not be processed! Does your file name end with .properties?", bundleFile.file.getAbsolutePath());
+        continue;
+      }
 
-    for (final File file : propertyFiles) {
-      final Matcher matcher = PATTERN_RESOURCE_BUNDLE_FILE_NAME.matcher(file.getName());
-      if (matcher.matches()) {
-        final String bundleBasename= matcher.group("BUNDLE");
-        final String langCode= matcher.group("LOCALE");
-        final Language language= Language.of(langCode != null ? langCode : "");
-
-        final String bundlePrefix= getBundlePrefix(file);
-        final String fullBundleName;
-        if (bundlePrefix == null || bundlePrefix.trim().isEmpty()) {
-          fullBundleName= bundleBasename;
-        } else {
-          fullBundleName= bundlePrefix + "/" + bundleBasename;
-        }
-
-        if (!result.containsKey(fullBundleName)) {
-          result.put(fullBundleName, new LinkedHashMap<>());
-        }
-
-        final Map<Language, File> langToFileMap= result.get(fullBundleName);
-        if (langToFileMap.containsKey(language)) {
-          throw new RuntimeException("Language "+langCode+" already in map. Should never happen.");
-        }
-        langToFileMap.put(language, file);
-      } else {
-        LOGGER.log(Level.WARN, "File {} doesn't match the expected pattern. It will not be processed! Does your file name end with .properties?", file.getAbsolutePath());
+      final Map<Language, File> langToFileMap= result.computeIfAbsent(bundleFile.fullBundleName, k -> new LinkedHashMap<>());
+      if (langToFileMap.containsKey(bundleFile.language)) {
+        throw new RuntimeException("Language "+bundleFile.langCode+" already in map. Should never happen.");
       }
+      langToFileMap.put(bundleFile.language, bundleFile.file);
     }
 
     return result;
   }
 
 
+  /**
+   * Parses the name of the given resource bundle file and builds its full bundle name.
+   * <p>
+   * Errors are not thrown, but stored in the returned BundleFile.
+   *
+   * @param file the resource bundle file
+   * @param bundlePrefixesByDirectory the already known bundle prefixes by the directory of the files
+   * @return the parsed resource bundle file
+   */
+  private BundleFile toBundleFile(final File file, final Map<String, String> bundlePrefixesByDirectory) {
+    final String fileName= file.getName();
+    final int localeStart= matchFileName(fileName);
+    if (localeStart < 0) {
+      return new BundleFile(file, null, null, null);
+    }
+
+    final String bundleBasename= localeStart == fileName.length() - PROPERTIES_SUFFIX.length()
+      ? fileName.substring(0, localeStart)
+      : fileName.substring(0, localeStart - 1);
+    final String langCode= localeStart == fileName.length() - PROPERTIES_SUFFIX.length()
+      ? null
+      : fileName.substring(localeStart, fileName.length() - PROPERTIES_SUFFIX.length());
+    final Language language= Language.of(langCode != null ? langCode : "");
+
+    final String directory= file.getParent() != null ? file.getParent() : "";
+    final String bundlePrefix;
+    try {
+      bundlePrefix= bundlePrefixesByDirectory.computeIfAbsent(directory, k -> this.getBundlePrefix(file));
+    } catch (RuntimeException ex) {
+      final BundleFile bundleFile= new BundleFile(file, null, null, null);
+      bundleFile.error= ex;
+      return bundleFile;
+    }
+
+    final String fullBundleName;
+    if (bundlePrefix == null || bundlePrefix.trim().isEmpty()) {
+      fullBundleName= bundleBasename;
+    } else {
+      fullBundleName= bundlePrefix + "/" + bundleBasename;
+    }
+
+    return new BundleFile(file, fullBundleName, langCode, language);
+  }
+
+
+  /**
+   * Checks whether the given file name matches {@link #PATTERN_RESOURCE_BUNDLE_FILE_NAME} and
+   * returns the start of the locale in it.
+   * <p>
+   * This method gives exactly the same result as the pattern, but without the overhead of a
+   * regular expression.
+   *
+   * @param fileName the file name to check
+   * @return the index of the first character of the locale, the index of the suffix
+   *         <code>.properties</code> if the file name doesn't contain a locale or -1 if the file
+   *         name doesn't match
+   */
+  static int matchFileName(final String fileName) {
+    final int suffixStart= fileName.length() - PROPERTIES_SUFFIX.length();
+    if (suffixStart < 1 || !fileName.startsWith(PROPERTIES_SUFFIX, suffixStart)) {
+      return -1;
+    }
+
+    // BUNDLE: since it can neither contain '_' nor '.' it is always the longest possible run
+    int i= 0;
+    while (i < suffixStart && isBundleChar(fileName.charAt(i))) {
+      i++;
+    }
+    if (i == 0) {
+      return -1;
+    }
+    if (i == suffixStart) {
+      return i;
+    }
+    if (fileName.charAt(i) != '_') {
+      return -1;
+    }
+
+    // LANG: always the longest possible run of letters, since the next part starts with '_'
+    final int localeStart= i + 1;
+    int j= localeStart;
+    while (j < suffixStart && isAsciiLetter(fileName.charAt(j))) {
+      j++;
+    }
+    final int langLength= j - localeStart;
+    if (langLength < 2 || langLength > 8) {
+      return -1;
+    }
+
+    return matchLocaleRest(fileName, j, suffixStart, 0) ? localeStart : -1;
+  }
+
+
+  /**
+   * Checks whether the optional SCRIPT, COUNTRY and VARIANT parts of a locale match the range
+   * between <code>start</code> and <code>end</code> of the given file name.
+   * <p>
+   * Like the pattern this tries all combinations of the optional parts.
+   *
+   * @param s the file name
+   * @param start the index after the part matched so far
+   * @param end the index of the suffix <code>.properties</code>
+   * @param stage the next part to try (0 = SCRIPT, 1 = COUNTRY, 2 = VARIANT)
+   * @return whether the range matches
+   */
+  private static boolean matchLocaleRest(final String s, final int start, final int end, final int stage) {
+    if (start == end) {
+      return true;
+    }
+    if (s.charAt(start) != '_') {
+      return false;
+    }
+
+    final int p= start + 1;
+    // SCRIPT: [a-zA-Z]{4}
+    if (stage <= 0
+      && p + 4 <= end
+      && isAsciiLetter(s.charAt(p)) && isAsciiLetter(s.charAt(p + 1)) && isAsciiLetter(s.charAt(p + 2)) && isAsciiLetter(s.charAt(p + 3))
+      && matchLocaleRest(s, p + 4, end, 1)) {
+      return true;
+    }
+
+    // COUNTRY: [a-zA-Z]{2}|[0-9]{3}
+    if (stage <= 1) {
+      if (p + 2 <= end
+        && isAsciiLetter(s.charAt(p)) && isAsciiLetter(s.charAt(p + 1))
+        && matchLocaleRest(s, p + 2, end, 2)) {
+        return true;
+      }
+      if (p + 3 <= end
+        && isAsciiDigit(s.charAt(p)) && isAsciiDigit(s.charAt(p + 1)) && isAsciiDigit(s.charAt(p + 2))
+        && matchLocaleRest(s, p + 3, end, 2)) {
+        return true;
+      }
+    }
+
+    // VARIANT: [0-9a-zA-Z-]+. up to the suffix
+    // the final '.' matches a whole code point, which may be a surrogate pair
+    final int lastStart= end - 2 >= p
+      && Character.isLowSurrogate(s.charAt(end - 1))
+      && Character.isHighSurrogate(s.charAt(end - 2))
+      ? end - 2
+      : end - 1;
+    if (lastStart - p < 1 || isLineTerminator(s.charAt(lastStart))) {
+      return false;
+    }
+    for (int k= p; k < lastStart; k++) {
+      if (!isBundleChar(s.charAt(k))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+
+  private static boolean isAsciiLetter(final char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+  }
+
+
+  private static boolean isAsciiDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+
+
+  /**
+   * Returns whether the given character is valid in a bundle basename (and a variant).
+   */
+  private static boolean isBundleChar(final char c) {
+    return isAsciiLetter(c) || isAsciiDigit(c) || c == '-';
+  }
+
+
+  /**
+   * Returns whether the given character is a line terminator that is not matched by '.' in a
+   * regular expression.
+   */
+  private static boolean isLineTerminator(final char c) {
+    return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+  }
+
+
+  /**
+   * Returns a lazy stream over the resource bundles matched by the given FileMatcher.
+   * <p>
+   * The files are only looked up when a terminal operation is started on the stream. Each
+   * bundle is only parsed when it is consumed, so the caller can process and discard the bundles
+   * one at a time. The memory usage is therefore bounded by the largest bundle instead of all
+   * bundles. Each bundle gets its own {@link StringPool} for the same reason.
+   * <p>
+   * The bundles are streamed in the order of their names. The stream can be consumed in parallel.
+   * <p>
+   * The names of the bundles are built relative to the root of the given FileMatcher.
+   *
+   * @param fileMatcher the FileMatcher for the resource bundle files
+   * @param charset the charset in which the .properties files are written (UTF-8 if <code>null</code>)
+   * @return a stream of the matched resource bundles
+   */
+  public static Stream<ResourceBundleContent> streamBundles(final FileMatcher fileMatcher, final Charset charset) {
+    return streamBundles(fileMatcher, charset, null);
+  }
+
+
+  /**
+   * Returns a lazy stream over the resource bundles matched by the given FileMatcher.
+   * <p>
+   * This is the same as {@link #streamBundles(de.poiu.kilt.util.FileMatcher, java.nio.charset.Charset)},
+   * but reads the files via the given ParsedFileCache.
+   *
+   * @param fileMatcher the FileMatcher for the resource bundle files
+   * @param charset the charset in which the .properties files are written (UTF-8 if <code>null</code>)
+   * @param parsedFileCache the cache of parsed files to use or <code>null</code> to parse all files
+   * @return a stream of the matched resource bundles
+   */
+  public static Stream<ResourceBundleContent> streamBundles(final FileMatcher fileMatcher,
+                                                            final Charset charset,
+                                                            final ParsedFileCache parsedFileCache) {
+    Require.nonNull(fileMatcher);
+
+    final Charset effectiveCharset= charset != null ? charset : UTF_8;
+    return StreamSupport.stream(() -> {
+      final Map<String, Map<Language, File>> bundleNameToFilesMap= new ResourceBundleContentHelper(fileMatcher.getRoot())
+        .toBundleNameToFilesMap(fileMatcher.findMatchingFiles());
+      return new BundleSpliterator(new ArrayList<>(new TreeMap<>(bundleNameToFilesMap).entrySet()), effectiveCharset, parsedFileCache);
+    }, BundleSpliterator.CHARACTERISTICS, false);
+  }
+
+
   /**
    * Returns the bundle prefix for the given path to a resource bundle file.
    * This takes the {@link #ignorableBasePath} into account. Path separators are replaced by
@@ -189,18 +465,13 @@ public class ResourceBundleContentHelper {
     LOGGER.traceEntry("getBundlePrefix for path: {}", path);
 
     Require.nonNull(path);
-    if (!path.toAbsolutePath().startsWith(this.ignorableBasePath.toAbsolutePath())) {
-      throw new IllegalArgumentException("All files should live below the ignorable base path "+this.ignorableBasePath.toAbsolutePath().toString()+". Given path is "+path.toAbsolutePath().toString());
+    final Path absolutePath= path.toAbsolutePath();
+    if (!absolutePath.startsWith(this.absoluteIgnorableBasePath)) {
+      throw new IllegalArgumentException("All files should live below the ignorable base path "+this.absoluteIgnorableBasePath.toString()+". Given path is "+absolutePath.toString());
     }
 
-    final Path prefixPath= this.ignorableBasePath.toAbsolutePath().relativize(path.toAbsolutePath().getParent());
-    final String bundlePrefix= prefixPath.toString()
-      .replaceFirst("^/+", "")         //never start with a slash
-      .replaceFirst("$/+", "")         //never end with a slash
-      .replaceAll("\\/+", "/")       //reduce multiple slashes to only one
-      ;
-
-
+    final Path prefixPath= this.absoluteIgnorableBasePath.relativize(absolutePath.getParent());
+    final String bundlePrefix= normalizeSlashes(prefixPath.toString());
 
     return LOGGER.traceExit(bundlePrefix);
   }
@@ -228,4 +499,144 @@ public class ResourceBundleContentHelper {
     return getBundlePrefix(file.toPath());
   }
 
+
+  /**
+   * Removes leading slashes from the given string and reduces multiple slashes to only one.
+   *
+   * @param s the string to normalize
+   * @return the normalized string
+   */
+  private static String normalizeSlashes(final String s) {
+    if (s.indexOf('/') < 0) {
+      return s;
+    }
+
+    final StringBuilder sb= new StringBuilder(s.length());
+    for (int i= 0; i < s.length(); i++) {
+      final char c= s.charAt(i);
+      // never start with a slash and never write two consecutive slashes
+      if (c == '/' && (sb.length() == 0 || sb.charAt(sb.length() - 1) == '/')) {
+        continue;
+      }
+      sb.append(c);
+    }
+    return sb.toString();
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Inner classes
+
+  /**
+   * A resource bundle file with the information parsed from its name.
+   */
+  private static final class BundleFile {
+    /** The resource bundle file. */
+    private final File file;
+
+    /** The full bundle name including the bundle prefix or <code>null</code> if the file name doesn't match. */
+    private final String fullBundleName;
+
+    /** The locale part of the file name or <code>null</code> if it doesn't have one. */
+    private final String langCode;
+
+    /** The language of the file. */
+    private final Language language;
+
+    /** The error that occurred while building the full bundle name. */
+    private RuntimeException error;
+
+
+    private BundleFile(final File file, final String fullBundleName, final String langCode, final Language language) {
+      this.file= file;
+      this.fullBundleName= fullBundleName;
+      this.langCode= langCode;
+      this.language= language;
+    }
+  }
+
+
+  /**
+   * A Spliterator over resource bundles that parses each bundle only when it is consumed.
+   * <p>
+   * It splits its range of bundles in halves, so it is well suited for parallel streams.
+   */
+  private static final class BundleSpliterator implements Spliterator<ResourceBundleContent> {
+    private static final int CHARACTERISTICS= ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+
+    /** The names and files of all bundles. */
+    private final List<Map.Entry<String, Map<Language, File>>> bundles;
+
+    /** The charset in which the .properties files are written. */
+    private final Charset charset;
+
+    /** The cache of parsed files or <code>null</code> if no cache is used. */
+    private final ParsedFileCache parsedFileCache;
+
+    /** The index of the next bundle to parse. */
+    private int index;
+
+    /** The index after the last bundle of this Spliterator. */
+    private final int fence;
+
+
+    private BundleSpliterator(final List<Map.Entry<String, Map<Language, File>>> bundles,
+                              final Charset charset,
+                              final ParsedFileCache parsedFileCache) {
+      this(bundles, charset, parsedFileCache, 0, bundles.size());
+    }
+
+
+    private BundleSpliterator(final List<Map.Entry<String, Map<Language, File>>> bundles,
+                              final Charset charset,
+                              final ParsedFileCache parsedFileCache,
+                              final int index,
+                              final int fence) {
+      this.bundles= bundles;
+      this.charset= charset;
+      this.parsedFileCache= parsedFileCache;
+      this.index= index;
+      this.fence= fence;
+    }
+
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super ResourceBundleContent> action) {
+      Require.nonNull(action);
+
+      if (this.index >= this.fence) {
+        return false;
+      }
+
+      final Map.Entry<String, Map<Language, File>> bundle= this.bundles.get(this.index++);
+      action.accept(ResourceBundleContent.forName(bundle.getKey()).fromFiles(bundle.getValue(), this.charset, new StringPool(), this.parsedFileCache));
+      return true;
+    }
+
+
+    @Override
+    public Spliterator<ResourceBundleContent> trySplit() {
+      final int start= this.index;
+      final int middle= (start + this.fence) >>> 1;
+      if (start >= middle) {
+        return null;
+      }
+
+      this.index= middle;
+      return new BundleSpliterator(this.bundles, this.charset, this.parsedFileCache, start, middle);
+    }
+
+
+    @Override
+    public long estimateSize() {
+      return this.fence - this.index;
+    }
+
+
+    @Override
+    public int characteristics() {
+      return CHARACTERISTICS;
+    }
+  }
 }
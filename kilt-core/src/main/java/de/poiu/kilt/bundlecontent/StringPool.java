@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.bundlecontent;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+
+/**
+ * A pool of strings to share a single instance of equal strings.
+ * <p>
+ * The same keys appear in every locale file of a bundle and many values (like "OK") appear in
+ * several files. When parsing resource bundle files via a StringPool each of these strings is
+ * held only once.
+ * <p>
+ * In contrast to {@link String#intern()} the pooled strings are released together with the
+ * pool. A pool is therefore usually scoped to a single bundle or to a single run over all
+ * bundles.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author mherrn
+ */
+public class StringPool {
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /** The canonical instance of each pooled string. */
+  private final ConcurrentMap<String, String> pool= new ConcurrentHashMap<>();
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  /**
+   * Returns the pooled instance of the given string.
+   * <p>
+   * If the pool doesn't contain an equal string yet, the given string is added to the pool
+   * and returned.
+   *
+   * @param s the string to look up
+   * @return the pooled instance of the string or <code>null</code> if the given string is <code>null</code>
+   */
+  public String intern(final String s) {
+    if (s == null) {
+      return null;
+    }
+
+    final String pooled= this.pool.get(s);
+    if (pooled != null) {
+      return pooled;
+    }
+
+    final String existing= this.pool.putIfAbsent(s, s);
+    return existing != null ? existing : s;
+  }
+
+
+  /**
+   * Returns the number of distinct strings in this pool.
+   *
+   * @return the number of distinct strings in this pool
+   */
+  public int size() {
+    return this.pool.size();
+  }
+}
@@ -21,9 +21,13 @@ import com.palantir.javapoet.FieldSpec;
 import com.palantir.javapoet.MethodSpec;
 import com.palantir.javapoet.TypeSpec;
 import de.poiu.fez.Require;
+import de.poiu.kilt.bundlecontent.Catalogue;
+import de.poiu.kilt.bundlecontent.Language;
 import de.poiu.kilt.bundlecontent.ResourceBundleContent;
 import de.poiu.kilt.bundlecontent.Translation;
+import de.poiu.kilt.packaging.BundleManifestWriter;
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -35,7 +39,15 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import javax.lang.model.element.Modifier;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
@@ -54,6 +66,13 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 public class FacadeCreator {
   private static final Logger LOGGER= LogManager.getLogger();
 
+  /**
+   * The key suffixes of the CLDR plural categories.
+   * Keys sharing a base key and differing only in these suffixes form a plural family.
+   * This must be kept in sync with <code>de.poiu.kilt.runtime.PluralCategory</code>.
+   */
+  private static final List<String> PLURAL_CATEGORY_SUFFIXES= Arrays.asList(".zero", ".one", ".two", ".few", ".many", ".other");
+
 
   /////////////////////////////////////////////////////////////////////////////
   //
@@ -74,8 +93,71 @@ public class FacadeCreator {
    * @return the created enum class TypeSpec
    */
   public TypeSpec createFacadeEnumFor(final ResourceBundleContent resourceContent) {
-    final String enumName= this.getEnumClassNameFor(resourceContent);
-    final String bundleBaseName= BundleNormalizer.toBundleName(resourceContent.getBundleBaseName());
+    return this.createFacadeEnumFor(resourceContent, null);
+  }
+
+
+  /**
+   * Creates an enum class for the given resource bundle.
+   * <p>
+   * If a <code>singleLocale</code> is given, the enum class additionally provides a method
+   * <code>get()</code> that returns the translation for that locale directly from a static array
+   * without any resource bundle lookup. This is meant for applications that only ship a single
+   * language. The fallback to less specific languages (see {@link Language#getFallbackChain()})
+   * is resolved when creating the enum class. Keys without any translation in the fallback
+   * chain return <code>:MISSING:&lt;bundle&gt;#&lt;key&gt;:MISSING:</code>.
+   * <p>
+   * Keys that differ only in the suffix of a CLDR plural category (like <code>items.one</code> and
+   * <code>items.other</code>) are recognized as a plural family if the family contains the
+   * <code>.other</code> form. For each plural family an additional enum constant for the base key
+   * (like <code>ITEMS</code>) is created that is meant to be used with
+   * <code>I18n#getPlural(KiltEnumFacade, long)</code>. No such constant is created if it would
+   * clash with the constant of an existing key. In the single locale translations these constants
+   * resolve to the <code>.other</code> form.
+   * <p>
+   * <code>getPlural</code> is only provided by the I18n class of kilt-runtime, not by the copied
+   * facade accessor classes. Use {@link #createFacadeEnumFor(Catalogue, Language, boolean)} to
+   * omit the plural family constants when using the copied facade accessor classes.
+   *
+   * @param resourceContent the resource bundle for which to create the enum class.
+   * @param singleLocale the locale for which to provide the translations directly (may be <code>null</code>)
+   * @return the created enum class TypeSpec
+   */
+  public TypeSpec createFacadeEnumFor(final ResourceBundleContent resourceContent, final Language singleLocale) {
+    return this.createFacadeEnumFor(Catalogue.of(resourceContent), singleLocale);
+  }
+
+
+  /**
+   * Creates an enum class for the given resource bundle.
+   * <p>
+   * This is the same as {@link #createFacadeEnumFor(ResourceBundleContent, Language)}, but reads
+   * the keys and translations from a Catalogue.
+   *
+   * @param catalogue the resource bundle for which to create the enum class.
+   * @param singleLocale the locale for which to provide the translations directly (may be <code>null</code>)
+   * @return the created enum class TypeSpec
+   */
+  public TypeSpec createFacadeEnumFor(final Catalogue catalogue, final Language singleLocale) {
+    return this.createFacadeEnumFor(catalogue, singleLocale, true);
+  }
+
+
+  /**
+   * Creates an enum class for the given resource bundle.
+   * <p>
+   * This is the same as {@link #createFacadeEnumFor(Catalogue, Language)}, but allows omitting
+   * the enum constants for the plural families. These are only usable with the I18n class of
+   * kilt-runtime, since the copied facade accessor classes don't provide <code>getPlural</code>.
+   *
+   * @param catalogue the resource bundle for which to create the enum class.
+   * @param singleLocale the locale for which to provide the translations directly (may be <code>null</code>)
+   * @param createPluralConstants whether to create the enum constants for the plural families
+   * @return the created enum class TypeSpec
+   */
+  public TypeSpec createFacadeEnumFor(final Catalogue catalogue, final Language singleLocale, final boolean createPluralConstants) {
+    final String enumName= this.getEnumClassNameFor(catalogue);
+    final String bundleBaseName= BundleNormalizer.toBundleName(catalogue.getBundleBaseName());
 
     // build an enum class for the resource bundle
     final TypeSpec.Builder bundleEnumBuilder= TypeSpec.enumBuilder(enumName)
@@ -119,24 +201,102 @@ public class FacadeCreator {
                     .build());
 
     // now add the actual enum constants
-    resourceContent.getContent().asMap().forEach((key, translations) -> {
+    final List<String> singleLocaleTranslations= new ArrayList<>();
+    final Set<String> enumConstNames= new HashSet<>();
+    for (int keyIndex= 0; keyIndex < catalogue.getKeyCount(); keyIndex++) {
+      final String key= catalogue.getKey(keyIndex);
       if (key != null && !key.trim().isEmpty())  {
-      bundleEnumBuilder.addEnumConstant(toEnumConstName(key),
-                                        TypeSpec.anonymousClassBuilder("$S", key)
-                                                .addJavadoc(buildJavadoc(key, translations))
-                                                .build());
+        enumConstNames.add(toEnumConstName(key));
+        bundleEnumBuilder.addEnumConstant(toEnumConstName(key),
+                                          TypeSpec.anonymousClassBuilder("$S", key)
+                                                  .addJavadoc(buildJavadoc(key, catalogue.getTranslations(keyIndex)))
+                                                  .build());
+        if (singleLocale != null) {
+          singleLocaleTranslations.add(resolveTranslation(catalogue, key, singleLocale));
+        }
       } else {
         LOGGER.log(Level.WARN,
                    "Invalid key-value pair in bundle {}. Found translation for an empty key: {}. "
-                     + "This will _not_ be included in the facade.", bundleBaseName, translations);
+                     + "This will _not_ be included in the facade.", bundleBaseName, catalogue.getTranslations(keyIndex));
+      }
+    }
+
+    // add the base keys of plural families
+    final Map<String, List<String>> pluralFamilies= createPluralConstants
+      ? this.findPluralFamilies(catalogue)
+      : Collections.emptyMap();
+    pluralFamilies.forEach((baseKey, familyKeys) -> {
+      final String enumConstName= toEnumConstName(baseKey);
+      if (catalogue.containsKey(baseKey) || !enumConstNames.add(enumConstName)) {
+        LOGGER.log(Level.WARN,
+                   "Plural family {} in bundle {} clashes with an existing key. "
+                     + "No constant for the plural family will be included in the facade.", baseKey, bundleBaseName);
+        return;
+      }
+
+      bundleEnumBuilder.addEnumConstant(enumConstName,
+                                        TypeSpec.anonymousClassBuilder("$S", baseKey)
+                                                .addJavadoc(buildPluralJavadoc(baseKey, familyKeys))
+                                                .build());
+      if (singleLocale != null) {
+        final String otherKey= baseKey + ".other";
+        singleLocaleTranslations.add(resolveTranslation(catalogue, otherKey, singleLocale));
       }
     });
 
+    // add the translations for the single locale if requested
+    if (singleLocale != null) {
+      final CodeBlock.Builder translationsBuilder= CodeBlock.builder()
+        .add("{\n")
+        .indent();
+      singleLocaleTranslations.forEach(t -> translationsBuilder.add("$S,\n", t));
+      translationsBuilder
+        .unindent()
+        .add("}");
+
+      bundleEnumBuilder
+        .addField(FieldSpec.builder(String[].class, "TRANSLATIONS", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .addJavadoc("The translations for the locale <code>$L</code> in the order of the enum constants.\n", singleLocale)
+                .initializer(translationsBuilder.build())
+                .build())
+        .addMethod(MethodSpec.methodBuilder("get")
+                .addJavadoc("Returns the translation of this key for the locale <code>$L</code>.\n", singleLocale)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(String.class)
+                .addStatement("return $N[this.ordinal()]", "TRANSLATIONS")
+                .build());
+    }
+
     // build and return the bundleEnum typeSpec
     return bundleEnumBuilder.build();
   }
 
 
+  /**
+   * Resolves the translation of a key for the given locale by walking the fallback chain of the
+   * locale.
+   *
+   * @param catalogue the resource bundle containing the key
+   * @param key the key to resolve
+   * @param locale the locale to resolve the translation for
+   * @return the translation or <code>:MISSING:&lt;bundle&gt;#&lt;key&gt;:MISSING:</code> if no translation can be found
+   */
+  private String resolveTranslation(final Catalogue catalogue,
+                                    final String key,
+                                    final Language locale) {
+    for (final Language candidate : locale.getFallbackChain()) {
+      final String value= catalogue.getValue(key, candidate);
+      if (value != null) {
+        return value;
+      }
+    }
+
+    final String bundleBaseName= BundleNormalizer.toBundleName(catalogue.getBundleBaseName());
+    LOGGER.log(Level.WARN, "No translation for key {} in bundle {} for locale {}.", key, bundleBaseName, locale);
+    return ":MISSING:"+bundleBaseName+"#"+key+":MISSING:";
+  }
+
+
   /**
    * Creates a javadoc code block for a single enum constant.
    * It contains the values for each language as an example.
@@ -160,14 +320,67 @@ public class FacadeCreator {
   }
 
 
+  /**
+   * Finds the plural families in the given keys.
+   * <p>
+   * A plural family consists of all keys sharing a base key followed by the suffix of a CLDR
+   * plural category. Only families containing the <code>.other</code> form are returned, since
+   * that form is the fallback for all other categories.
+   *
+   * @param catalogue the resource bundle whose keys to search for plural families
+   * @return the keys of each plural family by their base key in the order of their first occurrence
+   */
+  private Map<String, List<String>> findPluralFamilies(final Catalogue catalogue) {
+    final Map<String, List<String>> families= new LinkedHashMap<>();
+    for (final String key : catalogue.getKeys()) {
+      if (key == null) {
+        continue;
+      }
+      for (final String suffix : PLURAL_CATEGORY_SUFFIXES) {
+        if (key.endsWith(suffix) && key.length() > suffix.length()) {
+          final String baseKey= key.substring(0, key.length() - suffix.length());
+          families.computeIfAbsent(baseKey, k -> new ArrayList<>()).add(key);
+          break;
+        }
+      }
+    }
+
+    families.entrySet().removeIf(e -> !catalogue.containsKey(e.getKey() + ".other") || e.getKey().trim().isEmpty());
+    return families;
+  }
+
+
+  /**
+   * Creates a javadoc code block for the enum constant of a plural family.
+   *
+   * @param baseKey the base key of the plural family
+   * @param familyKeys the keys of the plural forms
+   * @return a code block with the javadoc for the given plural family
+   */
+  protected CodeBlock buildPluralJavadoc(final String baseKey, final Collection<String> familyKeys) {
+    final CodeBlock.Builder javadocBuilder= CodeBlock.builder()
+      .add("The plural family <code>$L</code>.\n", baseKey)
+      .add("Use it with <code>I18n#getPlural(KiltEnumFacade, long)</code> to retrieve the plural form for a count.\n")
+      .add("<p>\n")
+      .add("Plural forms:\n")
+      .add("<ul>\n");
+    for (final String key : familyKeys) {
+      javadocBuilder.add("  <li>$L</li>\n", key);
+    }
+    javadocBuilder.add("</ul>\n");
+
+    return javadocBuilder.build();
+  }
+
+
   /**
    * Returns the valid class name for a given resource bundle.
    *
-   * @param resourceContent the resource bundle for which to return the class name.
+   * @param catalogue the resource bundle for which to return the class name.
    * @return the class name for this resource bundle
    */
-  private String getEnumClassNameFor(final ResourceBundleContent resourceContent) {
-    return BundleNormalizer.toClassName(resourceContent.getBundleBaseName());
+  private String getEnumClassNameFor(final Catalogue catalogue) {
+    return BundleNormalizer.toClassName(catalogue.getBundleBaseName());
   }
 
 
@@ -195,6 +408,36 @@ public class FacadeCreator {
   }
 
 
+  /**
+   * Writes the bundle manifest for the given resource bundles into the specified target
+   * resource directory.
+   * <p>
+   * The bundle manifest lists for each resource bundle the locales for which a resource bundle file
+   * actually exists. The facade accessor uses it to avoid looking up resource bundle files on the
+   * classpath that are known not to exist.
+   * <p>
+   * The manifest will be written to {@link BundleManifestWriter#BUNDLE_MANIFEST_RESOURCE} below the given
+   * <code>targetResourcePath</code>. See {@link BundleManifestWriter} for the format of the manifest.
+   * <p>
+   * This methods creates all necessary directories prior to writing the file.
+   *
+   * @param bundleNameToFilesMap the resource bundles and their files as returned by
+   *                              {@link de.poiu.kilt.bundlecontent.ResourceBundleContentHelper#toBundleNameToFilesMap(java.util.Collection)}
+   * @param targetResourcePath the path to the resources directory for the manifest
+   */
+  public void createBundleManifest(final Map<String, Map<Language, File>> bundleNameToFilesMap, final Path targetResourcePath) {
+    Require.nonNull(bundleNameToFilesMap);
+    Require.nonNull(targetResourcePath);
+
+    final Map<String, Set<Language>> availableLanguages= new LinkedHashMap<>();
+    bundleNameToFilesMap.forEach((bundleName, langToFileMap) -> {
+      availableLanguages.put(bundleName, langToFileMap.keySet());
+    });
+
+    new BundleManifestWriter().write(availableLanguages, targetResourcePath.resolve(BundleManifestWriter.BUNDLE_MANIFEST_RESOURCE));
+  }
+
+
   /**
    * Copies the facade accessor classes to the specified target source directory.
    * The accessor class will be renamed to the value given in <code>accessorClassName</code>.
@@ -46,25 +46,29 @@ public class TranslationComparator implements Comparator<Translation> {
       return o1.getValue().compareTo(o2.getValue());
     }
 
-    if (o1.getLang().equals(Language.of(""))) {
-      return -1;
-    } else if (o2.getLang().equals(Language.of(""))) {
-      return 1;
-    }
+    return compareLanguages(o1.getLang(), o2.getLang());
+  }
 
-    if (o1.getLang().equals(Language.of("_"))) {
-      return -1;
-    } else if (o2.getLang().equals(Language.of("_"))) {
-      return 1;
-    }
 
-    if (o1.getLang().getLang().startsWith("<")) {
-      return -1;
-    } else if (o2.getLang().getLang().startsWith("<")) {
-      return 1;
+  /**
+   * Compares two languages in the order in which their translations are sorted.
+   * <p>
+   * The default language (the empty language string) comes first, followed by <code>_</code>,
+   * followed by all pseudo-languages starting with <code>&lt;</code>, followed by all other
+   * languages (see {@link Language#getRank()}). Languages of the same rank are sorted by their
+   * natural order.
+   *
+   * @param l1 the first language to compare
+   * @param l2 the second language to compare
+   * @return a negative integer, zero, or a positive integer as the first language is sorted before,
+   *         equal to, or after the second language
+   */
+  public static int compareLanguages(final Language l1, final Language l2) {
+    if (l1.getRank() != l2.getRank()) {
+      return Integer.compare(l1.getRank(), l2.getRank());
     }
 
-    return o1.getLang().compareTo(o2.getLang());
+    return l1.compareTo(l2);
   }
 
 
@@ -19,10 +19,13 @@ import de.poiu.apron.ApronOptions;
 import de.poiu.apron.MissingKeyAction;
 import de.poiu.apron.PropertyFile;
 import de.poiu.fez.Require;
+import de.poiu.kilt.bundlecontent.Catalogue;
 import de.poiu.kilt.bundlecontent.Language;
+import de.poiu.kilt.bundlecontent.OffHeapCatalogue;
+import de.poiu.kilt.bundlecontent.ParsedFileCache;
 import de.poiu.kilt.bundlecontent.RememberingPropertyFile;
-import de.poiu.kilt.bundlecontent.ResourceBundleContent;
 import de.poiu.kilt.bundlecontent.ResourceBundleContentHelper;
+import de.poiu.kilt.bundlecontent.StringPool;
 import de.poiu.kilt.bundlecontent.Translation;
 import de.poiu.kilt.importexport.xls.I18nBundleKey;
 import de.poiu.kilt.importexport.xls.XlsFile;
@@ -124,6 +127,49 @@ public class XlsImExporter {
   public static void exportXls(final FileMatcher fileMatcher,
                                final Charset propertyFileEncoding,
                                final File xlsFile) {
+    exportXls(fileMatcher, propertyFileEncoding, xlsFile, false);
+  }
+
+
+  /**
+   * Exports the translations of the given resource bundle files into an XLS(X) file.
+   * <p>
+   * If <code>offHeap</code> is <code>true</code> the content of each bundle is read into an
+   * {@link OffHeapCatalogue} and the values are written directly into the cells of the XLS(X)
+   * file. No Translation objects are created and the content of the bundles doesn't occupy
+   * heap space. This is useful for very large bundles.
+   *
+   * @param fileMatcher the matcher for the resource bundle files to export
+   * @param propertyFileEncoding the encoding of the resource bundle files (UTF-8 if <code>null</code>)
+   * @param xlsFile the XLS(X) file to export to
+   * @param offHeap whether to keep the content of the bundles outside of the heap
+   */
+  public static void exportXls(final FileMatcher fileMatcher,
+                               final Charset propertyFileEncoding,
+                               final File xlsFile,
+                               final boolean offHeap) {
+    exportXls(fileMatcher, propertyFileEncoding, xlsFile, offHeap, null);
+  }
+
+
+  /**
+   * Exports the translations of the given resource bundle files into an XLS(X) file.
+   * <p>
+   * This is the same as {@link #exportXls(de.poiu.kilt.util.FileMatcher, java.nio.charset.Charset, java.io.File, boolean)},
+   * but reads the files via the given ParsedFileCache. The cache is not used if
+   * <code>offHeap</code> is <code>true</code>.
+   *
+   * @param fileMatcher the matcher for the resource bundle files to export
+   * @param propertyFileEncoding the encoding of the resource bundle files (UTF-8 if <code>null</code>)
+   * @param xlsFile the XLS(X) file to export to
+   * @param offHeap whether to keep the content of the bundles outside of the heap
+   * @param parsedFileCache the cache of parsed files to use or <code>null</code> to parse all files
+   */
+  public static void exportXls(final FileMatcher fileMatcher,
+                               final Charset propertyFileEncoding,
+                               final File xlsFile,
+                               final boolean offHeap,
+                               final ParsedFileCache parsedFileCache) {
     final Set<File> propertyFiles= fileMatcher.findMatchingFiles();
     LOGGER.log(Level.INFO, "Exporting the following files to XLS(X): {}", propertyFiles);
 
@@ -131,20 +177,41 @@ public class XlsImExporter {
     final Map<String, Map<Language, File>> bundleNameToFilesMap= fbcHelper.toBundleNameToFilesMap(propertyFiles);
 
     final XlsFile xlsFileObject= new XlsFile(xlsFile);
+    // share equal keys and values over all bundles
+    final StringPool stringPool= new StringPool();
 
     bundleNameToFilesMap.entrySet().forEach((entry) -> {
       final String bundleName= entry.getKey();
       final Map<Language, File> bundleTranslations= entry.getValue();
 
-      final ResourceBundleContent resourceBundleContent= ResourceBundleContent.forName(bundleName)
-        .fromFiles(bundleTranslations, propertyFileEncoding !=null ? propertyFileEncoding : UTF_8);
+      if (offHeap) {
+        try (final OffHeapCatalogue catalogue= OffHeapCatalogue.fromFiles(bundleName,
+                                                                          bundleTranslations,
+                                                                          propertyFileEncoding != null ? propertyFileEncoding : UTF_8)) {
+          for (int keyIndex= 0; keyIndex < catalogue.getKeyCount(); keyIndex++) {
+            final I18nBundleKey i18nBundleKey= new I18nBundleKey(bundleName, catalogue.getKey(keyIndex));
+            for (int languageIndex= 0; languageIndex < catalogue.getLanguageCount(); languageIndex++) {
+              if (catalogue.hasValue(languageIndex, keyIndex)) {
+                xlsFileObject.setValue(i18nBundleKey, catalogue.getLanguage(languageIndex), catalogue.getValue(languageIndex, keyIndex));
+              }
+            }
+          }
+        }
+        return;
+      }
+
+      final Catalogue catalogue= Catalogue.fromFiles(bundleName,
+                                                     bundleTranslations,
+                                                     propertyFileEncoding !=null ? propertyFileEncoding : UTF_8,
+                                                     stringPool,
+                                                     parsedFileCache);
 
-      resourceBundleContent.getContent().asMap().entrySet().forEach((e) -> {
-        final String propertyKey= e.getKey();
-        final Collection<Translation> translations= e.getValue();
+      for (int keyIndex= 0; keyIndex < catalogue.getKeyCount(); keyIndex++) {
+        final String propertyKey= catalogue.getKey(keyIndex);
+        final Collection<Translation> translations= catalogue.getTranslations(keyIndex);
 
         xlsFileObject.setValue(new I18nBundleKey(bundleName, propertyKey), translations);
-      });
+      }
     });
 
     xlsFileObject.save();
@@ -31,9 +31,12 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.apache.logging.log4j.Level;
@@ -71,7 +74,10 @@ public class XlsFile {
 
   private final File file;
 
-  private final BiMap<Language, Integer> languageColumnMap= HashBiMap.create();
+  /** The languages in the order of their columns. */
+  private final List<Language> languages= new ArrayList<>();
+  /** The column index of each language by the id of the language or -1 if there is no such column. */
+  private int[] languageColumns= new int[0];
   private final BiMap<I18nBundleKey, Integer> i18nKeyRowMap= HashBiMap.create();
 
 
@@ -236,10 +242,10 @@ public class XlsFile {
         } else {
           language= Language.of(cellValue);
         }
-        if (this.languageColumnMap.containsKey(language)) {
+        if (this.getLanguageColumn(language) >= 0) {
           LOGGER.log(Level.WARN, "Language '" + language.getLang() + "' is found multiple times in file. Only using the first one.");
         } else {
-          this.languageColumnMap.put(language, i);
+          this.putLanguageColumn(language, i);
         }
       }
     }
@@ -276,14 +282,14 @@ public class XlsFile {
       LOGGER.log(Level.DEBUG, "bundle key {} doesn't exist yet. Creating a new row for it at row {}.", i18nKey, row.getRowNum());
     }
 
-    if (!this.languageColumnMap.containsKey(language)) {
+    if (this.getLanguageColumn(language) < 0) {
       LOGGER.log(Level.DEBUG, "language {} doesn't exist yet. Creating a new column for it.", i18nKey);
       this.appendLanguageColumn(language);
     }
 
     // update or create the cell value
     final Cell cell;
-    final int languageColumnIdx= this.languageColumnMap.get(language);
+    final int languageColumnIdx= this.getLanguageColumn(language);
     if (row.getCell(languageColumnIdx) != null) {
       cell= row.getCell(languageColumnIdx);
     } else {
@@ -309,8 +315,8 @@ public class XlsFile {
 
   private void appendLanguageColumn(final Language language) {
     int highestLanguageColumnIdx= 1; // start a index 1, because 0 and 1 are already used for bundle basename and key
-    for (final int idx : this.languageColumnMap.values()) {
-      highestLanguageColumnIdx= Math.max(highestLanguageColumnIdx, idx);
+    for (final Language existingLanguage : this.languages) {
+      highestLanguageColumnIdx= Math.max(highestLanguageColumnIdx, this.getLanguageColumn(existingLanguage));
     }
 
     final Row headerRow= this.i18nSheet.getRow(0);
@@ -320,11 +326,41 @@ public class XlsFile {
       ? "<default>"
       : language.getLang()));
 
-    this.languageColumnMap.put(language, languageColumn.getColumnIndex());
+    this.putLanguageColumn(language, languageColumn.getColumnIndex());
     LOGGER.log(Level.DEBUG, "Added new column for language {} at {}", language.getLang(), languageColumn.getColumnIndex());
   }
 
 
+  /**
+   * Returns the index of the column for the given language.
+   *
+   * @param language the language
+   * @return the index of the column for the given language or -1 if there is no such column
+   */
+  private int getLanguageColumn(final Language language) {
+    final int id= language.getId();
+    return id < this.languageColumns.length ? this.languageColumns[id] : -1;
+  }
+
+
+  /**
+   * Stores the index of the column for the given language.
+   *
+   * @param language the language
+   * @param columnIdx the index of the column for the language
+   */
+  private void putLanguageColumn(final Language language, final int columnIdx) {
+    final int id= language.getId();
+    if (id >= this.languageColumns.length) {
+      final int oldLength= this.languageColumns.length;
+      this.languageColumns= Arrays.copyOf(this.languageColumns, Math.max(id + 1, oldLength * 2));
+      Arrays.fill(this.languageColumns, oldLength, this.languageColumns.length, -1);
+    }
+    this.languageColumns[id]= columnIdx;
+    this.languages.add(language);
+  }
+
+
   public void save() {
     try {
       final File tmpFile= File.createTempFile(this.file.getName(), "tmp");
@@ -362,9 +398,8 @@ public class XlsFile {
       final Optional<String> key= this.i18nSheet.getStringValue(i, 1);
       final I18nBundleKey i18nKey= new I18nBundleKey(baseBundleName.orElse(""), key.orElse(""));
 
-      for (final Map.Entry<Language, Integer> entry : this.languageColumnMap.entrySet()) {
-        final Language language = entry.getKey();
-        final Integer columnIdx = entry.getValue();
+      for (final Language language : this.languages) {
+        final int columnIdx = this.getLanguageColumn(language);
         final Cell cell= row.getCell(columnIdx);
         if (cell != null) {
           contentMap.put(i18nKey, new Translation(language, cell.getStringCellValue()));
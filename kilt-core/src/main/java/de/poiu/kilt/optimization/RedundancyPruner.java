@@ -0,0 +1,367 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.optimization;
+
+import de.poiu.apron.ApronOptions;
+import de.poiu.apron.PropertyFile;
+import de.poiu.fez.Require;
+import de.poiu.kilt.bundlecontent.Language;
+import de.poiu.kilt.bundlecontent.ParsedFileCache;
+import de.poiu.kilt.bundlecontent.ResourceBundleContent;
+import de.poiu.kilt.bundlecontent.ResourceBundleContentHelper;
+import de.poiu.kilt.bundlecontent.StringPool;
+import de.poiu.kilt.bundlecontent.Translation;
+import de.poiu.kilt.util.FileMatcher;
+import java.io.File;
+import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+
+/**
+ * Removes translations that are identical to the value inherited via the fallback chain.
+ * <p>
+ * For example if <code>messages_de_AT.properties</code> contains the same value for a key as
+ * <code>messages_de.properties</code>, the entry in <code>messages_de_AT.properties</code> is
+ * redundant, since the lookup of that key falls back to <code>messages_de.properties</code>
+ * anyway. Such entries only waste space in the artifact and heap at runtime.
+ * <p>
+ * Optionally values that are shared by all locales of a bundle (like brand names) can be hoisted
+ * into the base bundle (the file without any locale suffix). This is only done for keys that
+ * don't have a value in the base bundle yet and are contained with exactly the same value in all
+ * (and at least two) other files of the bundle. The then redundant entries in the other files are
+ * removed afterwards.
+ * <p>
+ * The resource bundle files are modified in place. Comments and the formatting of the remaining
+ * entries are retained. The bundles are processed in parallel.
+ *
+ * @author mherrn
+ */
+public class RedundancyPruner {
+  private static final Logger LOGGER= LogManager.getLogger();
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /** The cache of parsed files or <code>null</code> if no cache is used. */
+  private final ParsedFileCache parsedFileCache;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  /**
+   * Creates a new RedundancyPruner that parses all files.
+   */
+  public RedundancyPruner() {
+    this(null);
+  }
+
+
+  /**
+   * Creates a new RedundancyPruner that reads the files via the given ParsedFileCache.
+   *
+   * @param parsedFileCache the cache of parsed files to use or <code>null</code> to parse all files
+   */
+  public RedundancyPruner(final ParsedFileCache parsedFileCache) {
+    this.parsedFileCache= parsedFileCache;
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  /**
+   * Prunes the redundant translations of all resource bundles matched by the given FileMatcher.
+   *
+   * @param fileMatcher the FileMatcher for the resource bundle files to prune
+   * @param propertyFileEncoding the encoding of the resource bundle files
+   * @param hoistSharedValues whether to hoist values shared by all locales into the base bundle
+   * @return the summary of the pruning
+   */
+  public Result prune(final FileMatcher fileMatcher,
+                      final Charset propertyFileEncoding,
+                      final boolean hoistSharedValues) {
+    Require.nonNull(fileMatcher);
+
+    final Set<File> propertyFiles= fileMatcher.findMatchingFiles();
+    LOGGER.log(Level.INFO, "Pruning redundant translations in the following files: {}", propertyFiles);
+
+    final ResourceBundleContentHelper fbcHelper= new ResourceBundleContentHelper(fileMatcher.getRoot());
+    final Map<String, Map<Language, File>> bundleNameToFilesMap= fbcHelper.toBundleNameToFilesMap(propertyFiles);
+
+    final Charset charset= propertyFileEncoding != null ? propertyFileEncoding : UTF_8;
+    final Result result= bundleNameToFilesMap.entrySet().parallelStream()
+      .map(e -> this.prune(e.getKey(), e.getValue(), charset, hoistSharedValues))
+      .reduce(Result.EMPTY, Result::add);
+
+    LOGGER.log(Level.INFO, "Pruned {} redundant translations and hoisted {} shared values. Saved {} bytes.",
+               result.getPrunedCount(), result.getHoistedCount(), result.getSavedBytes());
+    return result;
+  }
+
+
+  /**
+   * Prunes the redundant translations of a single resource bundle.
+   *
+   * @param bundleName the name of the resource bundle
+   * @param bundleFiles the files of the resource bundle
+   * @param charset the encoding of the resource bundle files
+   * @param hoistSharedValues whether to hoist values shared by all locales into the base bundle
+   * @return the summary of the pruning
+   */
+  private Result prune(final String bundleName,
+                       final Map<Language, File> bundleFiles,
+                       final Charset charset,
+                       final boolean hoistSharedValues) {
+    final ResourceBundleContent resourceBundleContent= ResourceBundleContent.forName(bundleName)
+      .fromFiles(bundleFiles, charset, new StringPool(), this.parsedFileCache);
+
+    // the values of each language
+    final Map<Language, Map<String, String>> values= new HashMap<>();
+    resourceBundleContent.getContent().asMap().forEach((propertyKey, translations) -> {
+      for (final Translation translation : translations) {
+        if (translation.getValue() != null) {
+          values.computeIfAbsent(translation.getLang(), k -> new HashMap<>())
+            .put(propertyKey, translation.getValue());
+        }
+      }
+    });
+
+    final Map<String, String> hoistedValues= hoistSharedValues
+                                             ? findSharedValues(bundleFiles.keySet(), values)
+                                             : new LinkedHashMap<>();
+    if (!hoistedValues.isEmpty()) {
+      values.computeIfAbsent(Language.of(""), k -> new HashMap<>()).putAll(hoistedValues);
+    }
+
+    final Map<Language, Set<String>> redundantKeys= findRedundantKeys(values);
+
+    // now actually modify the files
+    final long sizeBefore= getSize(bundleFiles.values());
+    final ApronOptions apronOptions= ApronOptions.create().with(charset);
+    int prunedCount= 0;
+    for (final Map.Entry<Language, File> entry : bundleFiles.entrySet()) {
+      final Set<String> keysToRemove= redundantKeys.getOrDefault(entry.getKey(), new LinkedHashSet<>());
+      final boolean isBaseBundle= entry.getKey().getLang().isEmpty();
+      if (keysToRemove.isEmpty() && (!isBaseBundle || hoistedValues.isEmpty())) {
+        continue;
+      }
+
+      final PropertyFile propertyFile= PropertyFile.from(entry.getValue(), charset);
+      if (isBaseBundle) {
+        hoistedValues.forEach(propertyFile::set);
+      }
+      keysToRemove.forEach(propertyFile::remove);
+      propertyFile.overwrite(entry.getValue(), apronOptions);
+
+      LOGGER.log(Level.DEBUG, "Removed {} redundant translations from {}", keysToRemove.size(), entry.getValue());
+      prunedCount+= keysToRemove.size();
+    }
+    final long sizeAfter= getSize(bundleFiles.values());
+
+    return new Result(prunedCount, hoistedValues.size(), sizeBefore - sizeAfter);
+  }
+
+
+  /**
+   * Finds the values that can be hoisted into the base bundle.
+   * <p>
+   * These are the values of keys that don't have a value in the base bundle, but the same
+   * value in all other languages. This is only done if the base bundle and at least two other
+   * languages exist.
+   *
+   * @param languages the languages of the existing bundle files
+   * @param values the values of each language
+   * @return the values to hoist into the base bundle
+   */
+  static Map<String, String> findSharedValues(final Set<Language> languages,
+                                              final Map<Language, Map<String, String>> values) {
+    final Map<String, String> sharedValues= new LinkedHashMap<>();
+
+    final Language baseLanguage= Language.of("");
+    if (!languages.contains(baseLanguage) || languages.size() < 3) {
+      return sharedValues;
+    }
+
+    final Map<String, String> baseValues= values.getOrDefault(baseLanguage, new HashMap<>());
+    final Language firstLanguage= languages.stream()
+      .filter(l -> !l.equals(baseLanguage))
+      .sorted()
+      .findFirst()
+      .get();
+
+    values.getOrDefault(firstLanguage, new HashMap<>()).forEach((key, value) -> {
+      if (baseValues.containsKey(key)) {
+        return;
+      }
+
+      final boolean sharedByAll= languages.stream()
+        .filter(l -> !l.equals(baseLanguage))
+        .allMatch(l -> value.equals(values.getOrDefault(l, new HashMap<>()).get(key)));
+      if (sharedByAll) {
+        sharedValues.put(key, value);
+      }
+    });
+
+    return sharedValues;
+  }
+
+
+  /**
+   * Finds the keys whose value is identical to the value inherited via the fallback chain.
+   * <p>
+   * All redundant keys can be removed at once. If a key is redundant in a language and in its
+   * parent, both values are equal to the value of the grandparent, so the lookup still results
+   * in the same value.
+   *
+   * @param values the values of each language
+   * @return the redundant keys of each language
+   */
+  static Map<Language, Set<String>> findRedundantKeys(final Map<Language, Map<String, String>> values) {
+    final Map<Language, Set<String>> redundantKeys= new HashMap<>();
+
+    values.forEach((language, languageValues) -> {
+      final List<Language> fallbackChain= language.getFallbackChain();
+      languageValues.forEach((key, value) -> {
+        final String inheritedValue= getInheritedValue(key, fallbackChain.subList(1, fallbackChain.size()), values);
+        if (Objects.equals(value, inheritedValue)) {
+          redundantKeys.computeIfAbsent(language, k -> new LinkedHashSet<>()).add(key);
+        }
+      });
+    });
+
+    return redundantKeys;
+  }
+
+
+  /**
+   * Returns the value of the given key in the first language of the given chain that contains
+   * the key.
+   *
+   * @param key the key
+   * @param parents the chain of parent languages
+   * @param values the values of each language
+   * @return the inherited value or <code>null</code> if no parent contains the key
+   */
+  private static String getInheritedValue(final String key,
+                                          final List<Language> parents,
+                                          final Map<Language, Map<String, String>> values) {
+    for (final Language parent : parents) {
+      final Map<String, String> parentValues= values.get(parent);
+      if (parentValues != null && parentValues.containsKey(key)) {
+        return parentValues.get(key);
+      }
+    }
+    return null;
+  }
+
+
+  private static long getSize(final Collection<File> files) {
+    long size= 0;
+    for (final File file : files) {
+      size+= file.length();
+    }
+    return size;
+  }
+
+
+  /**
+   * The summary of pruning redundant translations.
+   * <p>
+   * This is an immutable class.
+   */
+  public static final class Result {
+    private static final Result EMPTY= new Result(0, 0, 0);
+
+    /** The number of removed translations. */
+    private final int prunedCount;
+
+    /** The number of values hoisted into a base bundle. */
+    private final int hoistedCount;
+
+    /** The number of bytes saved in the resource bundle files. */
+    private final long savedBytes;
+
+
+    private Result(final int prunedCount, final int hoistedCount, final long savedBytes) {
+      this.prunedCount= prunedCount;
+      this.hoistedCount= hoistedCount;
+      this.savedBytes= savedBytes;
+    }
+
+
+    /**
+     * Returns the number of removed translations.
+     *
+     * @return the number of removed translations
+     */
+    public int getPrunedCount() {
+      return this.prunedCount;
+    }
+
+
+    /**
+     * Returns the number of values hoisted into a base bundle.
+     *
+     * @return the number of hoisted values
+     */
+    public int getHoistedCount() {
+      return this.hoistedCount;
+    }
+
+
+    /**
+     * Returns the number of bytes saved in the resource bundle files.
+     *
+     * @return the number of saved bytes
+     */
+    public long getSavedBytes() {
+      return this.savedBytes;
+    }
+
+
+    private Result add(final Result other) {
+      return new Result(this.prunedCount + other.prunedCount,
+                        this.hoistedCount + other.hoistedCount,
+                        this.savedBytes + other.savedBytes);
+    }
+
+
+    @Override
+    public String toString() {
+      return "Result{"
+        + "prunedCount=" + prunedCount
+        + ", hoistedCount=" + hoistedCount
+        + ", savedBytes=" + savedBytes + '}';
+    }
+  }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.packaging;
+
+import de.poiu.apron.ApronOptions;
+import de.poiu.apron.PropertyFile;
+import de.poiu.fez.Require;
+import de.poiu.kilt.bundlecontent.Language;
+import de.poiu.kilt.bundlecontent.ParsedFileCache;
+import de.poiu.kilt.bundlecontent.ResourceBundleContent;
+import de.poiu.kilt.bundlecontent.ResourceBundleContentHelper;
+import de.poiu.kilt.bundlecontent.StringPool;
+import de.poiu.kilt.bundlecontent.Translation;
+import de.poiu.kilt.facade.creation.BundleNormalizer;
+import de.poiu.kilt.util.FileMatcher;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+
+/**
+ * Consolidates all resource bundles of a locale into a single resource.
+ * <p>
+ * Applications with many small bundles pay for a separate classpath lookup for each bundle and
+ * locale. The consolidator packs the translations of all bundles for one locale into a single
+ * UTF-8 encoded .properties file below {@link #CONSOLIDATED_RESOURCE_DIR}. The keys in these packs
+ * are namespaced with the (normalized) basename of their bundle, separated by {@link #KEY_SEPARATOR}.
+ * For example the key <code>okButton</code> of the bundle <code>i18n/messages_de.properties</code>
+ * is written as
+ * <pre>
+ * i18n.messages#okButton = OK
+ * </pre>
+ * into <code>META-INF/kilt/consolidated/bundles_de.properties</code>.
+ * <p>
+ * Additionally an index of the consolidated bundles and their languages is written to
+ * {@link #CONSOLIDATED_INDEX_RESOURCE} in the format described in {@link BundleManifestWriter}.
+ * The I18n accessor class uses this index to serve the consolidated bundles from the packs.
+ *
+ * @author mherrn
+ */
+public class BundleConsolidator {
+  private static final Logger LOGGER= LogManager.getLogger();
+
+  /** The directory (relative to the resource root) into which the consolidated packs are written. */
+  public static final String CONSOLIDATED_RESOURCE_DIR= "META-INF/kilt/consolidated/";
+
+  /** The basename of the consolidated packs. */
+  public static final String CONSOLIDATED_BASENAME= "bundles";
+
+  /** The index of the bundles contained in the consolidated packs. */
+  public static final String CONSOLIDATED_INDEX_RESOURCE= CONSOLIDATED_RESOURCE_DIR + "index.properties";
+
+  /** The separator between the bundle name and the actual key in the consolidated packs. */
+  public static final char KEY_SEPARATOR= '#';
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /** The cache of parsed files or <code>null</code> if no cache is used. */
+  private final ParsedFileCache parsedFileCache;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  /**
+   * Creates a new BundleConsolidator that parses all files.
+   */
+  public BundleConsolidator() {
+    this(null);
+  }
+
+
+  /**
+   * Creates a new BundleConsolidator that reads the files via the given ParsedFileCache.
+   *
+   * @param parsedFileCache the cache of parsed files to use or <code>null</code> to parse all files
+   */
+  public BundleConsolidator(final ParsedFileCache parsedFileCache) {
+    this.parsedFileCache= parsedFileCache;
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  /**
+   * Consolidates all resource bundles matched by the given FileMatcher into one pack per locale.
+   * <p>
+   * The packs and their index are written to {@link #CONSOLIDATED_RESOURCE_DIR} below the given
+   * <code>targetResourcePath</code>. This methods creates all necessary directories prior to
+   * writing the files.
+   * <p>
+   * Empty values are written to the packs as well, since an empty value in a locale specific
+   * bundle deliberately overrides the value of its parent bundle.
+   *
+   * @param fileMatcher the FileMatcher for the resource bundle files to consolidate
+   * @param propertyFileEncoding the encoding of the resource bundle files
+   * @param targetResourcePath the resource root directory to write the packs to
+   */
+  public void consolidate(final FileMatcher fileMatcher,
+                          final Charset propertyFileEncoding,
+                          final Path targetResourcePath) {
+    Require.nonNull(fileMatcher);
+    Require.nonNull(targetResourcePath);
+
+    final Set<File> propertyFiles= fileMatcher.findMatchingFiles();
+    LOGGER.log(Level.INFO, "Consolidating the following files: {}", propertyFiles);
+
+    final ResourceBundleContentHelper fbcHelper= new ResourceBundleContentHelper(fileMatcher.getRoot());
+    final Map<String, Map<Language, File>> bundleNameToFilesMap= fbcHelper.toBundleNameToFilesMap(propertyFiles);
+
+    // sort the bundles and languages to always write the same packs for the same input
+    final Map<String, PropertyFile> packs= new TreeMap<>();
+    final Map<String, Set<Language>> consolidatedLanguages= new TreeMap<>();
+    new TreeMap<>(bundleNameToFilesMap).forEach((bundleName, bundleTranslations) -> {
+      final String normalizedBundleName= BundleNormalizer.toBundleName(bundleName);
+
+      final ResourceBundleContent resourceBundleContent= ResourceBundleContent.forName(bundleName)
+        .fromFiles(bundleTranslations, propertyFileEncoding != null ? propertyFileEncoding : UTF_8, new StringPool(), this.parsedFileCache);
+
+      resourceBundleContent.getContent().asMap().forEach((propertyKey, translations) -> {
+        for (final Translation translation : translations) {
+          if (translation.getValue() == null) {
+            continue;
+          }
+
+          packs.computeIfAbsent(translation.getLang().getLang(), k -> new PropertyFile())
+            .set(normalizedBundleName + KEY_SEPARATOR + propertyKey, translation.getValue());
+          consolidatedLanguages.computeIfAbsent(normalizedBundleName, k -> new TreeSet<>(this::compareLanguages))
+            .add(translation.getLang());
+        }
+      });
+    });
+
+    final Path targetDir= targetResourcePath.resolve(CONSOLIDATED_RESOURCE_DIR);
+    try {
+      Files.createDirectories(targetDir);
+    } catch (IOException ex) {
+      throw new RuntimeException("Error creating target directory "+targetDir.toAbsolutePath().toString(), ex);
+    }
+
+    final ApronOptions apronOptions= ApronOptions.create().with(UTF_8);
+    packs.forEach((lang, pack) -> {
+      final Path packFile= targetDir.resolve(getPackFileName(lang));
+      LOGGER.log(Level.INFO, "Writing {} translations to {}", pack.propertiesSize(), packFile);
+      pack.overwrite(packFile.toFile(), apronOptions);
+    });
+
+    new BundleManifestWriter().write(consolidatedLanguages, targetResourcePath.resolve(CONSOLIDATED_INDEX_RESOURCE));
+  }
+
+
+  /**
+   * Returns the file name of the pack for the given language.
+   *
+   * @param lang the language (an empty string for the default language)
+   * @return the file name of the pack for the given language
+   */
+  static String getPackFileName(final String lang) {
+    if (lang.isEmpty()) {
+      return CONSOLIDATED_BASENAME + ".properties";
+    } else {
+      return CONSOLIDATED_BASENAME + "_" + lang + ".properties";
+    }
+  }
+
+
+  private int compareLanguages(final Language l1, final Language l2) {
+    return l1.getLang().compareTo(l2.getLang());
+  }
+}
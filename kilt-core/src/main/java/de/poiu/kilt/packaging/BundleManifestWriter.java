@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.packaging;
+
+import de.poiu.apron.ApronOptions;
+import de.poiu.apron.PropertyFile;
+import de.poiu.fez.Require;
+import de.poiu.kilt.bundlecontent.Language;
+import de.poiu.kilt.facade.creation.BundleNormalizer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+
+/**
+ * Writes manifests listing the available languages of a set of resource bundles.
+ * <p>
+ * A manifest is a UTF-8 encoded .properties file with the (normalized) bundle basename as key and
+ * a comma separated list of the available languages as value. The default language is written as
+ * {@link #DEFAULT_LANGUAGE}. For example:
+ * <pre>
+ * i18n.messages = &lt;default&gt;,de,en_US
+ * </pre>
+ * The bundles and languages are written in sorted order to always produce the same manifest for
+ * the same input.
+ *
+ * @author mherrn
+ */
+public class BundleManifestWriter {
+  private static final Logger LOGGER= LogManager.getLogger();
+
+  /**
+   * The classpath location of the bundle manifest.
+   * This location is also hardcoded in the I18n accessor template and in kilt-runtime.
+   */
+  public static final String BUNDLE_MANIFEST_RESOURCE= "META-INF/kilt/bundle-manifest.properties";
+
+  /** The name under which the default language (without any locale suffix) is written to a manifest. */
+  public static final String DEFAULT_LANGUAGE= "<default>";
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  /**
+   * Writes a manifest of the given bundles and their available languages to the given file.
+   * <p>
+   * This methods creates all necessary directories prior to writing the file.
+   *
+   * @param bundleLanguages the available languages for each bundle
+   * @param manifestFile the file to write the manifest to
+   */
+  public void write(final Map<String, ? extends Collection<Language>> bundleLanguages, final Path manifestFile) {
+    Require.nonNull(bundleLanguages);
+    Require.nonNull(manifestFile);
+
+    try {
+      Files.createDirectories(manifestFile.toAbsolutePath().getParent());
+    } catch (IOException ex) {
+      throw new RuntimeException("Error creating target directory "+manifestFile.toAbsolutePath().getParent().toString(), ex);
+    }
+
+    final Map<String, Set<String>> sortedLanguages= new TreeMap<>();
+    bundleLanguages.forEach((bundleName, languages) -> {
+      final Set<String> langs= sortedLanguages.computeIfAbsent(BundleNormalizer.toBundleName(bundleName), k -> new TreeSet<>());
+      languages.forEach(lang -> {
+        langs.add(lang.getLang().isEmpty() ? DEFAULT_LANGUAGE : lang.getLang());
+      });
+    });
+
+    final PropertyFile manifest= new PropertyFile();
+    sortedLanguages.forEach((bundleName, languages) -> {
+      final StringJoiner sj= new StringJoiner(",");
+      languages.forEach(sj::add);
+      manifest.set(bundleName, sj.toString());
+    });
+
+    LOGGER.log(Level.INFO, "Writing manifest for {} bundles to {}", sortedLanguages.size(), manifestFile);
+    manifest.overwrite(manifestFile.toFile(), ApronOptions.create().with(UTF_8));
+  }
+}
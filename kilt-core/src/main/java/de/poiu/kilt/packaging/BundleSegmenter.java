@@ -0,0 +1,342 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.packaging;
+
+import de.poiu.apron.ApronOptions;
+import de.poiu.apron.PropertyFile;
+import de.poiu.fez.Require;
+import de.poiu.kilt.bundlecontent.Language;
+import de.poiu.kilt.bundlecontent.ParsedFileCache;
+import de.poiu.kilt.bundlecontent.ResourceBundleContent;
+import de.poiu.kilt.bundlecontent.ResourceBundleContentHelper;
+import de.poiu.kilt.bundlecontent.Translation;
+import de.poiu.kilt.facade.creation.BundleNormalizer;
+import de.poiu.kilt.util.FileMatcher;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+
+/**
+ * Splits large resource bundles into segments that can be loaded independently of each other.
+ * <p>
+ * Loading a resource bundle reads and retains all its translations, even if only a few of them
+ * are actually used. For very large bundles the segmenter partitions the keys into segments
+ * according to a {@link Strategy} and writes each segment of each locale into its own UTF-8
+ * encoded .properties file below {@link #SEGMENTS_RESOURCE_DIR}. For example the segment 3 of the
+ * bundle <code>i18n/messages_de.properties</code> is written to
+ * <code>META-INF/kilt/segments/i18n.messages/3_de.properties</code>. Empty segments are not
+ * written at all.
+ * <p>
+ * Next to the segments a descriptor ({@link #SEGMENTS_DESCRIPTOR_NAME}) is written for each
+ * bundle. It contains the strategy, the number of segments and, for {@link Strategy#PREFIX}, the
+ * segment of each key prefix:
+ * <pre>
+ * strategy = prefix
+ * segmentCount = 2
+ * prefix.dialog = 0
+ * prefix.menu = 1
+ * </pre>
+ * <p>
+ * Additionally an index of the segmented bundles and their languages is written to
+ * {@link #SEGMENTS_INDEX_RESOURCE} in the format described in {@link BundleManifestWriter}.
+ * The I18n accessor class uses it to serve the segmented bundles by loading only the segment
+ * containing the requested key.
+ *
+ * @author mherrn
+ */
+public class BundleSegmenter {
+  private static final Logger LOGGER= LogManager.getLogger();
+
+  /** The directory (relative to the resource root) into which the segments are written. */
+  public static final String SEGMENTS_RESOURCE_DIR= "META-INF/kilt/segments/";
+
+  /** The index of the segmented bundles. */
+  public static final String SEGMENTS_INDEX_RESOURCE= SEGMENTS_RESOURCE_DIR + "index.properties";
+
+  /** The file name of the descriptor of each segmented bundle. */
+  public static final String SEGMENTS_DESCRIPTOR_NAME= "segments.properties";
+
+  /** The default number of segments for {@link Strategy#HASH}. */
+  public static final int DEFAULT_SEGMENT_COUNT= 16;
+
+  /** The default minimum number of keys of a bundle to be segmented. */
+  public static final int DEFAULT_MINIMUM_KEY_COUNT= 1000;
+
+
+  /**
+   * The strategies for assigning keys to segments.
+   */
+  public static enum Strategy {
+    /**
+     * Assigns all keys with the same prefix (the part of the key up to the first dot) to the same
+     * segment. Keys without a dot have an empty prefix.
+     * <p>
+     * This keeps related keys (like all keys of a dialog) together, but results in as many
+     * segments as there are prefixes.
+     */
+    PREFIX,
+    /**
+     * Distributes the keys evenly over a fixed number of segments by their
+     * {@link String#hashCode()}.
+     */
+    HASH,
+    ;
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /** The strategy for assigning keys to segments. */
+  private final Strategy strategy;
+
+  /** The number of segments for {@link Strategy#HASH}. */
+  private final int segmentCount;
+
+  /** The minimum number of keys of a bundle to be segmented. */
+  private final int minimumKeyCount;
+
+  /** The cache of parsed files or <code>null</code> if no cache is used. */
+  private final ParsedFileCache parsedFileCache;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  /**
+   * Creates a new BundleSegmenter with {@link Strategy#HASH}, {@value #DEFAULT_SEGMENT_COUNT}
+   * segments and a minimum key count of {@value #DEFAULT_MINIMUM_KEY_COUNT}.
+   */
+  public BundleSegmenter() {
+    this(Strategy.HASH, DEFAULT_SEGMENT_COUNT, DEFAULT_MINIMUM_KEY_COUNT);
+  }
+
+
+  /**
+   * Creates a new BundleSegmenter.
+   *
+   * @param strategy the strategy for assigning keys to segments
+   * @param segmentCount the number of segments for {@link Strategy#HASH} (ignored for {@link Strategy#PREFIX})
+   * @param minimumKeyCount the minimum number of keys of a bundle to be segmented. Smaller bundles
+   *                         are not worth the overhead of segmentation.
+   */
+  public BundleSegmenter(final Strategy strategy, final int segmentCount, final int minimumKeyCount) {
+    this(strategy, segmentCount, minimumKeyCount, null);
+  }
+
+
+  /**
+   * Creates a new BundleSegmenter that reads the files via the given ParsedFileCache.
+   *
+   * @param strategy the strategy for assigning keys to segments
+   * @param segmentCount the number of segments for {@link Strategy#HASH} (ignored for {@link Strategy#PREFIX})
+   * @param minimumKeyCount the minimum number of keys of a bundle to be segmented. Smaller bundles
+   *                         are not worth the overhead of segmentation.
+   * @param parsedFileCache the cache of parsed files to use or <code>null</code> to parse all files
+   */
+  public BundleSegmenter(final Strategy strategy,
+                         final int segmentCount,
+                         final int minimumKeyCount,
+                         final ParsedFileCache parsedFileCache) {
+    Require.nonNull(strategy);
+    if (segmentCount <= 0) {
+      throw new IllegalArgumentException("segmentCount must be positive: " + segmentCount);
+    }
+    this.strategy= strategy;
+    this.segmentCount= segmentCount;
+    this.minimumKeyCount= minimumKeyCount;
+    this.parsedFileCache= parsedFileCache;
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  /**
+   * Segments all resource bundles matched by the given FileMatcher that contain at least the
+   * minimum number of keys.
+   * <p>
+   * The segments and their index are written to {@link #SEGMENTS_RESOURCE_DIR} below the given
+   * <code>targetResourcePath</code>. This methods creates all necessary directories prior to
+   * writing the files.
+   *
+   * @param fileMatcher the FileMatcher for the resource bundle files to segment
+   * @param propertyFileEncoding the encoding of the resource bundle files
+   * @param targetResourcePath the resource root directory to write the segments to
+   */
+  public void segment(final FileMatcher fileMatcher,
+                      final Charset propertyFileEncoding,
+                      final Path targetResourcePath) {
+    Require.nonNull(fileMatcher);
+    Require.nonNull(targetResourcePath);
+
+    LOGGER.log(Level.INFO, "Segmenting the resource bundles in {}", fileMatcher.getRoot());
+
+    // only one bundle at a time needs to be held in memory
+    final Map<String, Set<Language>> segmentedLanguages= new TreeMap<>();
+    ResourceBundleContentHelper.streamBundles(fileMatcher, propertyFileEncoding, this.parsedFileCache).forEach(resourceBundleContent -> {
+      final String bundleName= resourceBundleContent.getBundleBaseName();
+      final int keyCount= resourceBundleContent.getContent().keySet().size();
+      if (keyCount < this.minimumKeyCount) {
+        LOGGER.log(Level.DEBUG, "Not segmenting bundle {} with only {} keys", bundleName, keyCount);
+        return;
+      }
+
+      final Set<Language> languages= this.segment(resourceBundleContent, targetResourcePath);
+      if (!languages.isEmpty()) {
+        segmentedLanguages.put(bundleName, languages);
+      }
+    });
+
+    new BundleManifestWriter().write(segmentedLanguages, targetResourcePath.resolve(SEGMENTS_INDEX_RESOURCE));
+  }
+
+
+  /**
+   * Splits the given resource bundle into segments.
+   * <p>
+   * The segments and the descriptor of the bundle are written to a directory named after the
+   * (normalized) basename of the bundle below {@link #SEGMENTS_RESOURCE_DIR} in the given
+   * <code>targetResourcePath</code>. This method doesn't write the index of segmented bundles.
+   *
+   * @param resourceBundleContent the resource bundle to segment
+   * @param targetResourcePath the resource root directory to write the segments to
+   * @return the languages for which segments have been written
+   */
+  public Set<Language> segment(final ResourceBundleContent resourceBundleContent,
+                               final Path targetResourcePath) {
+    Require.nonNull(resourceBundleContent);
+    Require.nonNull(targetResourcePath);
+
+    final String normalizedBundleName= BundleNormalizer.toBundleName(resourceBundleContent.getBundleBaseName());
+
+    // determine the segments of the prefixes in sorted order to always write the same segments for the same input
+    final Map<String, Integer> prefixSegments= new HashMap<>();
+    if (this.strategy == Strategy.PREFIX) {
+      final Set<String> prefixes= new TreeSet<>();
+      resourceBundleContent.getContent().keySet().forEach(key -> prefixes.add(getPrefix(key)));
+      prefixes.forEach(prefix -> prefixSegments.put(prefix, prefixSegments.size()));
+    }
+
+    // the segments by language and segment number
+    final Map<String, Map<Integer, PropertyFile>> segments= new TreeMap<>();
+    final Set<Language> languages= new TreeSet<>(this::compareLanguages);
+    resourceBundleContent.getContent().asMap().forEach((propertyKey, translations) -> {
+      final int segment= this.strategy == Strategy.PREFIX
+                         ? prefixSegments.get(getPrefix(propertyKey))
+                         : getHashSegment(propertyKey, this.segmentCount);
+
+      for (final Translation translation : translations) {
+        if (translation.getValue() == null) {
+          continue;
+        }
+
+        segments.computeIfAbsent(translation.getLang().getLang(), k -> new TreeMap<>())
+          .computeIfAbsent(segment, k -> new PropertyFile())
+          .set(propertyKey, translation.getValue());
+        languages.add(translation.getLang());
+      }
+    });
+
+    final Path targetDir= targetResourcePath.resolve(SEGMENTS_RESOURCE_DIR).resolve(normalizedBundleName);
+    try {
+      Files.createDirectories(targetDir);
+    } catch (IOException ex) {
+      throw new RuntimeException("Error creating target directory "+targetDir.toAbsolutePath().toString(), ex);
+    }
+
+    final ApronOptions apronOptions= ApronOptions.create().with(UTF_8);
+    final int writtenSegmentCount= this.strategy == Strategy.PREFIX ? prefixSegments.size() : this.segmentCount;
+    LOGGER.log(Level.INFO, "Writing {} segments of bundle {} to {}", writtenSegmentCount, normalizedBundleName, targetDir);
+    segments.forEach((lang, langSegments) -> {
+      langSegments.forEach((segment, segmentFile) -> {
+        segmentFile.overwrite(targetDir.resolve(getSegmentFileName(segment, lang)).toFile(), apronOptions);
+      });
+    });
+
+    final PropertyFile descriptor= new PropertyFile();
+    descriptor.set("strategy", this.strategy.name().toLowerCase(Locale.ROOT));
+    descriptor.set("segmentCount", String.valueOf(writtenSegmentCount));
+    new TreeMap<>(prefixSegments).forEach((prefix, segment) -> {
+      descriptor.set("prefix." + prefix, String.valueOf(segment));
+    });
+    descriptor.overwrite(targetDir.resolve(SEGMENTS_DESCRIPTOR_NAME).toFile(), apronOptions);
+
+    return languages;
+  }
+
+
+  /**
+   * Returns the prefix of the given key. That is the part of the key up to the first dot or
+   * an empty string if the key doesn't contain a dot.
+   *
+   * @param key the key
+   * @return the prefix of the key
+   */
+  static String getPrefix(final String key) {
+    final int idx= key.indexOf('.');
+    return idx < 0 ? "" : key.substring(0, idx);
+  }
+
+
+  /**
+   * Returns the segment of the given key for {@link Strategy#HASH}.
+   *
+   * @param key the key
+   * @param segmentCount the number of segments
+   * @return the segment of the key
+   */
+  static int getHashSegment(final String key, final int segmentCount) {
+    return Math.floorMod(key.hashCode(), segmentCount);
+  }
+
+
+  /**
+   * Returns the file name of the given segment for the given language.
+   *
+   * @param segment the number of the segment
+   * @param lang the language (an empty string for the default language)
+   * @return the file name of the segment
+   */
+  static String getSegmentFileName(final int segment, final String lang) {
+    if (lang.isEmpty()) {
+      return segment + ".properties";
+    } else {
+      return segment + "_" + lang + ".properties";
+    }
+  }
+
+
+  private int compareLanguages(final Language l1, final Language l2) {
+    return l1.getLang().compareTo(l2.getLang());
+  }
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.packaging;
+
+import de.poiu.fez.Require;
+import de.poiu.kilt.bundlecontent.Catalogue;
+import de.poiu.kilt.bundlecontent.ResourceBundleContent;
+import de.poiu.kilt.facade.creation.BundleNormalizer;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Writes a minimal perfect hash index of all (bundle, key) pairs of a set of resource bundles.
+ * <p>
+ * The index allows the I18n accessor class and the I18n class of kilt-runtime to resolve a bundle
+ * name and key with a single hash calculation and a single array access to a dense index. It is
+ * constructed via the “hash, displace and compress” (CHD) algorithm: Each (bundle, key) pair is
+ * hashed into a single 64 bit value. These hashes are distributed to buckets and for each bucket a
+ * displacement is searched that maps all its pairs to distinct free slots. Buckets with a single
+ * pair are directly assigned to one of the remaining free slots.
+ * <p>
+ * The index is written as binary resource to {@link #KEY_INDEX_RESOURCE} in the following format
+ * (written via {@link DataOutputStream}):
+ * <pre>
+ * int    magic number ({@link #MAGIC})
+ * int    format version ({@link #VERSION})
+ * int    number of pairs (n)
+ * int    number of buckets (r)
+ * int[r] the displacement for each bucket (negative values denote the slot -(displacement+1))
+ * n times (in slot order):
+ *   UTF  the bundle name
+ *   UTF  the key
+ * </pre>
+ * The hash functions are implemented identically in the I18n accessor class and in the KeyIndex
+ * of kilt-runtime. Changing them here requires changing them there as well (and increasing the
+ * {@link #VERSION}).
+ *
+ * @author mherrn
+ */
+public class KeyIndexWriter {
+  private static final Logger LOGGER= LogManager.getLogger();
+
+  /** The location of the key index (relative to the resource root). */
+  public static final String KEY_INDEX_RESOURCE= "META-INF/kilt/key-index.bin";
+
+  /** The magic number at the start of a key index ("KILT"). */
+  static final int MAGIC= 0x4B494C54;
+
+  /** The version of the key index format. */
+  static final int VERSION= 1;
+
+  /** The average number of pairs per bucket. */
+  private static final int AVERAGE_BUCKET_SIZE= 4;
+
+  /** The maximum displacement to try before giving up. */
+  private static final int MAX_DISPLACEMENT= 1 << 24;
+
+  private static final long FNV_OFFSET_BASIS= 0xcbf29ce484222325L;
+  private static final long FNV_PRIME=        0x100000001b3L;
+  private static final long GOLDEN_GAMMA=     0x9e3779b97f4a7c15L;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /** The keys of each bundle to write to the index. */
+  private final Map<String, Set<String>> bundleKeys= new TreeMap<>();
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  /**
+   * Adds all keys of the given resource bundle to the index.
+   *
+   * @param resourceBundleContent the content of the resource bundle to add
+   */
+  public void add(final ResourceBundleContent resourceBundleContent) {
+    Require.nonNull(resourceBundleContent);
+
+    this.bundleKeys.computeIfAbsent(BundleNormalizer.toBundleName(resourceBundleContent.getBundleBaseName()), k -> new LinkedHashSet<>())
+      .addAll(resourceBundleContent.getContent().keySet());
+  }
+
+
+  /**
+   * Adds all keys of the given resource bundle to the index.
+   *
+   * @param catalogue the content of the resource bundle to add
+   */
+  public void add(final Catalogue catalogue) {
+    Require.nonNull(catalogue);
+
+    this.bundleKeys.computeIfAbsent(BundleNormalizer.toBundleName(catalogue.getBundleBaseName()), k -> new LinkedHashSet<>())
+      .addAll(catalogue.getKeys());
+  }
+
+
+  /**
+   * Writes the index of all added keys to {@link #KEY_INDEX_RESOURCE} below the given
+   * <code>targetResourcePath</code>.
+   * <p>
+   * This methods creates all necessary directories prior to writing the file.
+   *
+   * @param targetResourcePath the resource root directory to write the index to
+   */
+  public void write(final Path targetResourcePath) {
+    Require.nonNull(targetResourcePath);
+
+    final Path indexFile= targetResourcePath.resolve(KEY_INDEX_RESOURCE);
+    try {
+      Files.createDirectories(indexFile.getParent());
+    } catch (IOException ex) {
+      throw new RuntimeException("Error creating target directory "+indexFile.getParent().toAbsolutePath().toString(), ex);
+    }
+
+    LOGGER.log(Level.INFO, "Writing key index to {}", indexFile);
+    try (final OutputStream out= Files.newOutputStream(indexFile)) {
+      this.writeTo(out);
+    } catch (IOException ex) {
+      throw new RuntimeException("Error writing key index to "+indexFile.toAbsolutePath().toString(), ex);
+    }
+  }
+
+
+  /**
+   * Writes the index of all added keys to the given OutputStream.
+   *
+   * @param out the OutputStream to write to
+   * @throws IOException if writing fails
+   */
+  void writeTo(final OutputStream out) throws IOException {
+    final List<String> bundleNames= new ArrayList<>();
+    final List<String> keys= new ArrayList<>();
+    this.bundleKeys.forEach((bundleName, bundleKeySet) -> {
+      for (final String key : bundleKeySet) {
+        bundleNames.add(bundleName);
+        keys.add(key);
+      }
+    });
+
+    final int n= keys.size();
+    final long[] hashes= new long[n];
+    for (int i= 0; i < n; i++) {
+      hashes[i]= hash(bundleNames.get(i), keys.get(i));
+    }
+
+    final int r= Math.max(1, (n + AVERAGE_BUCKET_SIZE - 1) / AVERAGE_BUCKET_SIZE);
+    final int[] displacements= new int[r];
+    final int[] slots= this.assignSlots(hashes, displacements);
+
+    final DataOutputStream dos= new DataOutputStream(new BufferedOutputStream(out));
+    dos.writeInt(MAGIC);
+    dos.writeInt(VERSION);
+    dos.writeInt(n);
+    dos.writeInt(r);
+    for (final int displacement : displacements) {
+      dos.writeInt(displacement);
+    }
+    for (final int entry : slots) {
+      dos.writeUTF(bundleNames.get(entry));
+      dos.writeUTF(keys.get(entry));
+    }
+    dos.flush();
+  }
+
+
+  /**
+   * Distributes the given hashes to the slots of the index.
+   *
+   * @param hashes the hashes of all pairs
+   * @param displacements the array to fill with the displacement for each bucket
+   * @return the index of the pair (in <code>hashes</code>) stored in each slot
+   */
+  private int[] assignSlots(final long[] hashes, final int[] displacements) {
+    final int n= hashes.length;
+    final int r= displacements.length;
+
+    // distribute the pairs to the buckets
+    final List<List<Integer>> buckets= new ArrayList<>(r);
+    for (int b= 0; b < r; b++) {
+      buckets.add(new ArrayList<>());
+    }
+    for (int i= 0; i < n; i++) {
+      buckets.get(bucket(hashes[i], r)).add(i);
+    }
+
+    // place the largest buckets first, since they are the hardest to place
+    final Integer[] bucketOrder= new Integer[r];
+    for (int b= 0; b < r; b++) {
+      bucketOrder[b]= b;
+    }
+    Arrays.sort(bucketOrder, Comparator.comparingInt((Integer b) -> buckets.get(b).size()).reversed());
+
+    final int[] slots= new int[n];
+    Arrays.fill(slots, -1);
+
+    int nextFreeSlot= 0;
+    for (final int b : bucketOrder) {
+      final List<Integer> bucket= buckets.get(b);
+      if (bucket.isEmpty()) {
+        break;
+      }
+
+      if (bucket.size() == 1) {
+        // buckets with a single pair are directly assigned to a free slot
+        while (slots[nextFreeSlot] != -1) {
+          nextFreeSlot++;
+        }
+        slots[nextFreeSlot]= bucket.get(0);
+        displacements[b]= -nextFreeSlot - 1;
+        continue;
+      }
+
+      displacements[b]= this.findDisplacement(bucket, hashes, slots);
+      for (final int entry : bucket) {
+        slots[slot(hashes[entry], displacements[b], n)]= entry;
+      }
+    }
+
+    return slots;
+  }
+
+
+  /**
+   * Searches a displacement that maps all pairs of the given bucket to distinct free slots.
+   *
+   * @param bucket the pairs in the bucket
+   * @param hashes the hashes of all pairs
+   * @param slots the already assigned slots
+   * @return the found displacement
+   * @throws IllegalStateException if no displacement can be found
+   */
+  private int findDisplacement(final List<Integer> bucket, final long[] hashes, final int[] slots) {
+    final int n= hashes.length;
+    final int[] candidateSlots= new int[bucket.size()];
+
+    for (int displacement= 0; displacement < MAX_DISPLACEMENT; displacement++) {
+      boolean fits= true;
+      for (int i= 0; i < bucket.size() && fits; i++) {
+        final int slot= slot(hashes[bucket.get(i)], displacement, n);
+        if (slots[slot] != -1) {
+          fits= false;
+        }
+        for (int j= 0; j < i && fits; j++) {
+          if (candidateSlots[j] == slot) {
+            fits= false;
+          }
+        }
+        candidateSlots[i]= slot;
+      }
+
+      if (fits) {
+        return displacement;
+      }
+    }
+
+    throw new IllegalStateException("Could not create key index. No displacement found for bucket of size "+bucket.size());
+  }
+
+
+  /**
+   * Calculates the hash of a pair of bundle name and key.
+   *
+   * @param bundleName the (normalized) bundle name
+   * @param key the key
+   * @return the hash of the pair
+   */
+  static long hash(final String bundleName, final String key) {
+    long h= FNV_OFFSET_BASIS;
+    for (int i= 0; i < bundleName.length(); i++) {
+      h^= bundleName.charAt(i);
+      h*= FNV_PRIME;
+    }
+    // separate the bundle name from the key
+    h*= FNV_PRIME;
+    for (int i= 0; i < key.length(); i++) {
+      h^= key.charAt(i);
+      h*= FNV_PRIME;
+    }
+    return mix(h);
+  }
+
+
+  /**
+   * Returns the bucket of the given hash.
+   *
+   * @param hash the hash of a pair
+   * @param buckets the number of buckets
+   * @return the bucket of the hash
+   */
+  static int bucket(final long hash, final int buckets) {
+    return (int) Long.remainderUnsigned(hash, buckets);
+  }
+
+
+  /**
+   * Returns the slot of the given hash for the given displacement.
+   *
+   * @param hash the hash of a pair
+   * @param displacement the displacement of the bucket of the pair
+   * @param size the number of slots
+   * @return the slot of the hash
+   */
+  static int slot(final long hash, final int displacement, final int size) {
+    return (int) Long.remainderUnsigned(mix(hash + displacement * GOLDEN_GAMMA), size);
+  }
+
+
+  /**
+   * Scrambles the bits of the given value (the finalizer of MurmurHash3).
+   *
+   * @param value the value to scramble
+   * @return the scrambled value
+   */
+  private static long mix(long value) {
+    value^= value >>> 33;
+    value*= 0xff51afd7ed558ccdL;
+    value^= value >>> 33;
+    value*= 0xc4ceb9fe1a85ec53L;
+    value^= value >>> 33;
+    return value;
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.packaging;
+
+import de.poiu.fez.Require;
+import de.poiu.kilt.bundlecontent.Language;
+import de.poiu.kilt.bundlecontent.ResourceBundleContentHelper;
+import de.poiu.kilt.util.FileMatcher;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * Copies only the resource bundle files of a subset of locales into the build output.
+ * <p>
+ * Applications deployed for only some of the supported locales don't need to ship (and probe
+ * for) the bundles of all other locales. The subsetter copies the resource bundle files of the
+ * configured locales and of all their fallback parents (see {@link Language#getFallbackChain()})
+ * unchanged to a target directory, keeping their path relative to the root of the resource
+ * bundles. For example for the locale <code>de_AT</code> the files for <code>de_AT</code>,
+ * <code>de</code> and the default language are copied.
+ * <p>
+ * Additionally a bundle manifest (see {@link BundleManifestWriter#BUNDLE_MANIFEST_RESOURCE}) listing
+ * only the copied languages is written to the target directory. The I18n accessor uses it to
+ * never look up the bundles of the excluded locales. Bundles without any copied file are listed
+ * without any language.
+ * <p>
+ * To actually reduce the size of the artifact the original resource bundle files must not be
+ * included in the build output themselves.
+ *
+ * @author mherrn
+ */
+public class LocaleSubsetter {
+  private static final Logger LOGGER= LogManager.getLogger();
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  /**
+   * Copies the resource bundle files matched by the given FileMatcher for the given locales and
+   * their fallback parents to the given target directory.
+   * <p>
+   * This methods creates all necessary directories prior to writing the files.
+   *
+   * @param fileMatcher the FileMatcher for the resource bundle files to subset
+   * @param locales the locales to copy the resource bundle files for
+   * @param targetResourcePath the resource root directory to copy the files to
+   * @return the copied languages of each resource bundle
+   */
+  public Map<String, Set<Language>> subset(final FileMatcher fileMatcher,
+                                           final Collection<Language> locales,
+                                           final Path targetResourcePath) {
+    Require.nonNull(fileMatcher);
+    Require.nonNull(locales);
+    Require.nonNull(targetResourcePath);
+
+    final Set<Language> includedLanguages= getIncludedLanguages(locales);
+    LOGGER.log(Level.INFO, "Subsetting resource bundles to the languages {}", includedLanguages);
+
+    final Set<File> propertyFiles= fileMatcher.findMatchingFiles();
+    final ResourceBundleContentHelper fbcHelper= new ResourceBundleContentHelper(fileMatcher.getRoot());
+    final Map<String, Map<Language, File>> bundleNameToFilesMap= fbcHelper.toBundleNameToFilesMap(propertyFiles);
+
+    final Path root= fileMatcher.getRoot().toAbsolutePath();
+    final Map<String, Set<Language>> copiedLanguages= new TreeMap<>();
+    new TreeMap<>(bundleNameToFilesMap).forEach((bundleName, bundleFiles) -> {
+      final Set<Language> bundleLanguages= copiedLanguages.computeIfAbsent(bundleName, k -> new TreeSet<>());
+
+      bundleFiles.forEach((language, file) -> {
+        if (!includedLanguages.contains(language)) {
+          LOGGER.log(Level.DEBUG, "Excluding {}", file);
+          return;
+        }
+
+        final Path targetFile= targetResourcePath.resolve(root.relativize(file.toPath().toAbsolutePath()).toString());
+        try {
+          Files.createDirectories(targetFile.toAbsolutePath().getParent());
+          Files.copy(file.toPath(), targetFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ex) {
+          throw new RuntimeException("Error copying "+file+" to "+targetFile.toAbsolutePath().toString(), ex);
+        }
+        bundleLanguages.add(language);
+      });
+    });
+
+    new BundleManifestWriter().write(copiedLanguages, targetResourcePath.resolve(BundleManifestWriter.BUNDLE_MANIFEST_RESOURCE));
+    return copiedLanguages;
+  }
+
+
+  /**
+   * Returns the given locales together with all their fallback parents.
+   *
+   * @param locales the locales
+   * @return the locales and their fallback parents
+   */
+  static Set<Language> getIncludedLanguages(final Collection<Language> locales) {
+    final Set<Language> includedLanguages= new HashSet<>();
+    locales.forEach(locale -> includedLanguages.addAll(locale.getFallbackChain()));
+    return includedLanguages;
+  }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.reformatting;
+
+import de.poiu.apron.ApronOptions;
+import de.poiu.apron.MissingKeyAction;
+import de.poiu.apron.PropertyFile;
+import de.poiu.apron.UnicodeHandling;
+import de.poiu.apron.reformatting.ReformatOptions;
+import de.poiu.apron.reformatting.Reformatter;
+import de.poiu.fez.Require;
+import de.poiu.kilt.bundlecontent.ParsedFileCache;
+import de.poiu.kilt.bundlecontent.StringPool;
+import de.poiu.kilt.util.FileMatcher;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+
+/**
+ * Writes minified copies of .properties files.
+ * <p>
+ * The minified files contain only the key-value pairs of the original files, sorted by their keys.
+ * Comments and empty lines are dropped and each key-value pair is written on a single line in the
+ * format
+ * <pre>
+ * &lt;key&gt;=&lt;value&gt;\n
+ * </pre>
+ * By default non-ASCII characters are written as <code>&#92;uXXXX</code> escape sequences. The
+ * minified files then only contain ASCII characters and can be read in any Java version, no matter
+ * whether the reader expects ISO-8859-1 (like <code>PropertyResourceBundle</code> and therefore
+ * the copied I18n facade accessor on Java 8) or UTF-8.
+ * <p>
+ * Optionally the non-ASCII characters can be written as is, encoded in UTF-8. This makes files with
+ * many non-ASCII characters considerably smaller, but they can only be read by readers expecting
+ * UTF-8 (like the I18n class of kilt-runtime or <code>PropertyResourceBundle</code> on Java 9
+ * or higher).
+ * <p>
+ * The minified files are written to a separate directory (usually the build output) at the
+ * same path relative to that directory as the original files relative to the root of the
+ * FileMatcher. The original files are never modified. The files are processed in parallel.
+ *
+ * @author mherrn
+ */
+public class BundleMinifier {
+  private static final Logger LOGGER= LogManager.getLogger();
+
+  /** The format of the minified key-value pairs. */
+  private static final String MINIFIED_FORMAT= "<key>=<value>\\n";
+
+  /** The options for writing minified files with non-ASCII characters as escape sequences. */
+  private static final ApronOptions APRON_OPTIONS_ESCAPED= ApronOptions.create()
+        .with(UTF_8)
+        .with(MissingKeyAction.NOTHING)
+        .with(UnicodeHandling.ESCAPE);
+
+  /** The options for writing minified files with non-ASCII characters encoded in UTF-8. */
+  private static final ApronOptions APRON_OPTIONS_UNESCAPED= ApronOptions.create()
+        .with(UTF_8)
+        .with(MissingKeyAction.NOTHING)
+        .with(UnicodeHandling.UNICODE);
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /** The cache of parsed files or <code>null</code> if no cache is used. */
+  private final ParsedFileCache parsedFileCache;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  /**
+   * Creates a new BundleMinifier that parses all files.
+   */
+  public BundleMinifier() {
+    this(null);
+  }
+
+
+  /**
+   * Creates a new BundleMinifier that reads the files via the given ParsedFileCache.
+   *
+   * @param parsedFileCache the cache of parsed files to use or <code>null</code> to parse all files
+   */
+  public BundleMinifier(final ParsedFileCache parsedFileCache) {
+    this.parsedFileCache= parsedFileCache;
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  /**
+   * Writes minified copies of the .properties files matched by the given FileMatcher to the given
+   * target directory. Non-ASCII characters are written as <code>&#92;uXXXX</code> escape sequences.
+   * <p>
+   * This methods creates all necessary directories prior to writing the files.
+   *
+   * @param fileMatcher the FileMatcher for the files to minify
+   * @param propertyFileEncoding the encoding of the original files
+   * @param targetResourcePath the resource root directory to write the minified files to
+   * @return the number of bytes the minified files are smaller than the original files
+   * @throws IllegalArgumentException if a minified file would overwrite its original file
+   */
+  public long minify(final FileMatcher fileMatcher,
+                     final Charset propertyFileEncoding,
+                     final Path targetResourcePath) {
+    return this.minify(fileMatcher, propertyFileEncoding, targetResourcePath, false);
+  }
+
+
+  /**
+   * Writes minified copies of the .properties files matched by the given FileMatcher to the given
+   * target directory.
+   * <p>
+   * This methods creates all necessary directories prior to writing the files.
+   *
+   * @param fileMatcher the FileMatcher for the files to minify
+   * @param propertyFileEncoding the encoding of the original files
+   * @param targetResourcePath the resource root directory to write the minified files to
+   * @param unescapedUnicode whether to write non-ASCII characters as is (encoded in UTF-8) instead
+   *                          of as <code>&#92;uXXXX</code> escape sequences
+   * @return the number of bytes the minified files are smaller than the original files
+   * @throws IllegalArgumentException if a minified file would overwrite its original file
+   */
+  public long minify(final FileMatcher fileMatcher,
+                     final Charset propertyFileEncoding,
+                     final Path targetResourcePath,
+                     final boolean unescapedUnicode) {
+    Require.nonNull(fileMatcher);
+    Require.nonNull(targetResourcePath);
+
+    final Charset charset= propertyFileEncoding != null ? propertyFileEncoding : UTF_8;
+    final Set<File> propertyFiles= fileMatcher.findMatchingFiles();
+    LOGGER.log(Level.INFO, "Minifying the following files into {}: {}", targetResourcePath, propertyFiles);
+
+    final Path root= fileMatcher.getRoot().toAbsolutePath();
+    final StringPool stringPool= new StringPool();
+    final ApronOptions apronOptions= unescapedUnicode ? APRON_OPTIONS_UNESCAPED : APRON_OPTIONS_ESCAPED;
+    final long savedBytes= propertyFiles.parallelStream()
+      .mapToLong(sourceFile -> {
+        final Path targetFile= targetResourcePath.resolve(root.relativize(sourceFile.toPath().toAbsolutePath()).toString());
+        return this.minify(sourceFile, charset, stringPool, targetFile, apronOptions);
+      })
+      .sum();
+
+    LOGGER.log(Level.INFO, "Minified {} files. Saved {} bytes.", propertyFiles.size(), savedBytes);
+    return savedBytes;
+  }
+
+
+  /**
+   * Writes a minified copy of the given .properties file.
+   *
+   * @param sourceFile the file to minify
+   * @param charset the encoding of the file to minify
+   * @param stringPool the pool to intern the keys and values in
+   * @param targetFile the file to write the minified copy to
+   * @param apronOptions the options for writing the minified copy
+   * @return the number of bytes the minified file is smaller than the original file
+   */
+  private long minify(final File sourceFile,
+                      final Charset charset,
+                      final StringPool stringPool,
+                      final Path targetFile,
+                      final ApronOptions apronOptions) {
+    if (targetFile.toAbsolutePath().normalize().equals(sourceFile.toPath().toAbsolutePath().normalize())) {
+      throw new IllegalArgumentException("Minifying " + sourceFile + " would overwrite the original file.");
+    }
+
+    // only take the key-value pairs over, sorted by key
+    final Map<String, String> entries= new TreeMap<>(ParsedFileCache.read(sourceFile, charset, stringPool, this.parsedFileCache));
+    final PropertyFile minified= new PropertyFile();
+    entries.forEach(minified::set);
+    new Reformatter(ReformatOptions.create()
+                      .with(UTF_8)
+                      .withFormat(MINIFIED_FORMAT)
+                      .withReformatKeyAndValue(true))
+      .reformat(minified);
+
+    try {
+      Files.createDirectories(targetFile.toAbsolutePath().getParent());
+    } catch (IOException ex) {
+      throw new RuntimeException("Error creating target directory "+targetFile.toAbsolutePath().getParent().toString(), ex);
+    }
+    minified.overwrite(targetFile.toFile(), apronOptions);
+
+    LOGGER.log(Level.DEBUG, "Minified {} to {}", sourceFile, targetFile);
+    return sourceFile.length() - targetFile.toFile().length();
+  }
+}
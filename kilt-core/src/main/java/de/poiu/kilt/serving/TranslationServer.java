@@ -0,0 +1,303 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.serving;
+
+import com.google.common.hash.Hashing;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import de.poiu.fez.Require;
+import de.poiu.kilt.bundlecontent.Language;
+import de.poiu.kilt.bundlecontent.ResourceBundleContent;
+import de.poiu.kilt.bundlecontent.ResourceBundleContentHelper;
+import de.poiu.kilt.facade.creation.BundleNormalizer;
+import de.poiu.kilt.util.FileMatcher;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+
+/**
+ * A minimal HTTP server providing resource bundles for the <code>PollingTranslationSource</code>
+ * of kilt-runtime.
+ * <p>
+ * This server is meant as a local stand-in for an actual translation service in tests and
+ * during development. It serves each published bundle and language as a separate UTF-8 encoded
+ * .properties file. For example the german translations of the bundle
+ * <code>i18n/messages</code> are served as <code>/i18n.messages_de.properties</code>.
+ * <p>
+ * Each response carries an ETag derived from its content. Conditional requests with a matching
+ * <code>If-None-Match</code> header are answered with <code>304 Not Modified</code>.
+ * <p>
+ * The served bundles can be replaced at any time via {@link #publish(ResourceBundleContent)}.
+ * <p>
+ * This is a thread-safe class.
+ *
+ * @author mherrn
+ */
+public class TranslationServer implements Closeable {
+  private static final Logger LOGGER= LogManager.getLogger();
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /** The actual HTTP server. */
+  private final HttpServer httpServer;
+
+  /** The served resources by their name. */
+  private final Map<String, Resource> resources= new ConcurrentHashMap<>();
+
+  /** The names of the served resources for each published bundle. */
+  private final Map<String, Set<String>> resourceNamesByBundle= new HashMap<>();
+
+  /** The number of responses with status 200. */
+  private final AtomicInteger servedCount= new AtomicInteger();
+
+  /** The number of responses with status 304. */
+  private final AtomicInteger notModifiedCount= new AtomicInteger();
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  /**
+   * Creates a new TranslationServer listening on a free port of the loopback address.
+   * The server is not started until {@link #start()} is called.
+   *
+   * @throws IOException if the server cannot be created
+   */
+  public TranslationServer() throws IOException {
+    this(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+  }
+
+
+  /**
+   * Creates a new TranslationServer listening on the given address.
+   * The server is not started until {@link #start()} is called.
+   *
+   * @param address the address to listen on
+   * @throws IOException if the server cannot be created
+   */
+  public TranslationServer(final InetSocketAddress address) throws IOException {
+    Require.nonNull(address);
+    this.httpServer= HttpServer.create(address, 0);
+    this.httpServer.createContext("/", this::handle);
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  /**
+   * Starts this server.
+   */
+  public void start() {
+    this.httpServer.start();
+    LOGGER.log(Level.INFO, "Serving translations at {}", this.getBaseUri());
+  }
+
+
+  /**
+   * Stops this server immediately.
+   */
+  @Override
+  public void close() {
+    this.httpServer.stop(0);
+  }
+
+
+  /**
+   * Returns the base URI of the served bundles.
+   *
+   * @return the base URI of the served bundles
+   */
+  public URI getBaseUri() {
+    final InetSocketAddress address= this.httpServer.getAddress();
+    return URI.create("http://" + address.getHostString() + ":" + address.getPort() + "/");
+  }
+
+
+  /**
+   * Publishes all resource bundles matched by the given FileMatcher.
+   *
+   * @param fileMatcher the FileMatcher for the resource bundle files to publish
+   * @param propertyFileEncoding the encoding of the resource bundle files
+   */
+  public void publish(final FileMatcher fileMatcher, final Charset propertyFileEncoding) {
+    Require.nonNull(fileMatcher);
+
+    ResourceBundleContentHelper.streamBundles(fileMatcher, propertyFileEncoding)
+      .forEach(this::publish);
+  }
+
+
+  /**
+   * Publishes the given resource bundle.
+   * <p>
+   * All previously published languages of this bundle are replaced. Languages not contained in
+   * the given bundle are not served anymore.
+   *
+   * @param resourceBundleContent the resource bundle to publish
+   */
+  public void publish(final ResourceBundleContent resourceBundleContent) {
+    Require.nonNull(resourceBundleContent);
+
+    final String bundleName= BundleNormalizer.toBundleName(resourceBundleContent.getBundleBaseName());
+
+    final Map<Language, Properties> languages= new HashMap<>();
+    resourceBundleContent.getContent().forEach((propertyKey, translation) -> {
+      if (translation.getValue() != null) {
+        languages.computeIfAbsent(translation.getLang(), k -> new Properties())
+          .setProperty(propertyKey, translation.getValue());
+      }
+    });
+
+    final Map<String, Resource> newResources= new HashMap<>();
+    languages.forEach((lang, properties) -> {
+      final String resourceName= bundleName
+        + (lang.getLang().isEmpty() ? "" : "_" + lang.getLang())
+        + ".properties";
+      newResources.put(resourceName, Resource.of(properties));
+    });
+
+    synchronized (this.resourceNamesByBundle) {
+      final Set<String> oldResourceNames= this.resourceNamesByBundle.put(bundleName, new HashSet<>(newResources.keySet()));
+      this.resources.putAll(newResources);
+      if (oldResourceNames != null) {
+        oldResourceNames.removeAll(newResources.keySet());
+        oldResourceNames.forEach(this.resources::remove);
+      }
+    }
+  }
+
+
+  /**
+   * Returns the number of requests answered with the content of a bundle.
+   *
+   * @return the number of requests answered with status 200
+   */
+  public int getServedCount() {
+    return this.servedCount.get();
+  }
+
+
+  /**
+   * Returns the number of conditional requests answered without content since the bundle didn't change.
+   *
+   * @return the number of requests answered with status 304
+   */
+  public int getNotModifiedCount() {
+    return this.notModifiedCount.get();
+  }
+
+
+  /**
+   * Handles a single request.
+   *
+   * @param exchange the request and response
+   * @throws IOException if sending the response fails
+   */
+  private void handle(final HttpExchange exchange) throws IOException {
+    try {
+      final String method= exchange.getRequestMethod();
+      if (!method.equals("GET") && !method.equals("HEAD")) {
+        exchange.sendResponseHeaders(405, -1);
+        return;
+      }
+
+      final String resourceName= exchange.getRequestURI().getPath().substring(1);
+      final Resource resource= this.resources.get(resourceName);
+      if (resource == null) {
+        exchange.sendResponseHeaders(404, -1);
+        return;
+      }
+
+      exchange.getResponseHeaders().set("ETag", resource.etag);
+      if (resource.etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+        this.notModifiedCount.incrementAndGet();
+        exchange.sendResponseHeaders(304, -1);
+        return;
+      }
+
+      this.servedCount.incrementAndGet();
+      exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=UTF-8");
+      if (method.equals("HEAD")) {
+        exchange.sendResponseHeaders(200, -1);
+        return;
+      }
+
+      exchange.sendResponseHeaders(200, resource.body.length);
+      try (final OutputStream out= exchange.getResponseBody()) {
+        out.write(resource.body);
+      }
+    } finally {
+      exchange.close();
+    }
+  }
+
+
+  /**
+   * A single served .properties file.
+   */
+  private static final class Resource {
+    /** The ETag of this resource. */
+    private final String etag;
+    /** The UTF-8 encoded content of this resource. */
+    private final byte[] body;
+
+
+    private Resource(final String etag, final byte[] body) {
+      this.etag= etag;
+      this.body= body;
+    }
+
+
+    private static Resource of(final Properties properties) {
+      final StringWriter writer= new StringWriter();
+      try {
+        properties.store(writer, null);
+      } catch (IOException ex) {
+        throw new UncheckedIOException("Error serializing translations", ex);
+      }
+
+      // strip the timestamp comment to derive the same ETag for the same content
+      final String content= writer.toString();
+      final byte[] body= content.substring(content.indexOf('\n') + 1).getBytes(UTF_8);
+      return new Resource('"' + Hashing.sha256().hashBytes(body).toString() + '"', body);
+    }
+  }
+}
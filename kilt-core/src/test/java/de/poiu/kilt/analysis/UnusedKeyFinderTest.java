@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.analysis;
+
+import de.poiu.kilt.analysis.fixture.FacadeUser;
+import de.poiu.kilt.analysis.fixture.Lookup;
+import de.poiu.kilt.analysis.fixture.Messages;
+import de.poiu.kilt.util.FileMatcher;
+import de.poiu.kilt.util.TestFolder;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ *
+ * @author mherrn
+ */
+public class UnusedKeyFinderTest {
+
+  private static final String FIXTURE_PACKAGE= "de.poiu.kilt.analysis.fixture";
+
+  @Rule
+  public TestFolder tmpFolder= new TestFolder();
+
+
+  @Test
+  public void testReadClassFile() throws IOException {
+    // preparation
+    final ClassFileConstants classFile;
+
+    // execution
+    try (final InputStream in= FacadeUser.class.getResourceAsStream("FacadeUser.class")) {
+      classFile= ClassFileConstants.read(in);
+    }
+
+    // verification
+    assertThat(classFile.getClassName()).isEqualTo("de/poiu/kilt/analysis/fixture/FacadeUser");
+    assertThat(classFile.getStringLiterals()).contains("messages", "legacy.title");
+    assertThat(classFile.getFieldRefs()).contains(
+      new ClassFileConstants.MemberRef("de/poiu/kilt/analysis/fixture/Messages", "OK", "Lde/poiu/kilt/analysis/fixture/Messages;"),
+      new ClassFileConstants.MemberRef("de/poiu/kilt/analysis/fixture/Messages", "ITEMS", "Lde/poiu/kilt/analysis/fixture/Messages;"));
+    assertThat(classFile.getMethodRefs()).contains(
+      new ClassFileConstants.MemberRef("de/poiu/kilt/analysis/fixture/Lookup", "get", "(Ljava/lang/String;Ljava/lang/String;)Ljava/lang/String;"));
+  }
+
+
+  @Test
+  public void testFindUnusedKeys() throws IOException {
+    // preparation
+    final Path propertiesRootDirectory= this.tmpFolder.newFolder("i18n").toPath();
+    this.tmpFolder.write(propertiesRootDirectory.resolve("messages.properties"),
+               "ok = OK\n",
+               "cancel = Cancel\n",
+               "items.one = one item\n",
+               "items.other = many items\n",
+               "legacy.title = Title\n",
+               "unused = Unused\n");
+    this.tmpFolder.write(propertiesRootDirectory.resolve("messages_de.properties"),
+               "ok = OK\n",
+               "cancel = Abbrechen\n",
+               "unused = Unbenutzt\n");
+    final Path classesDirectory= this.copyFixtureClasses();
+
+    final FileMatcher fileMatcher= new FileMatcher(propertiesRootDirectory, Arrays.asList("**/*.properties"));
+
+    // execution
+    final Map<String, Set<String>> unusedKeys= new UnusedKeyFinder(FIXTURE_PACKAGE)
+      .findUnusedKeys(fileMatcher, UTF_8, Arrays.asList(classesDirectory));
+
+    // verification
+    assertThat(unusedKeys).hasSize(1);
+    assertThat(unusedKeys.get("messages")).containsExactly("cancel", "unused");
+  }
+
+
+  @Test
+  public void testStripUnusedKeys() throws IOException {
+    // preparation
+    final Path propertiesRootDirectory= this.tmpFolder.newFolder("i18n").toPath();
+    final Path packagedDirectory= this.tmpFolder.newFolder("classes").toPath();
+    this.tmpFolder.write(propertiesRootDirectory.resolve("messages.properties"),
+               "ok = OK\n",
+               "cancel = Cancel\n",
+               "unused = Unused\n");
+    this.tmpFolder.write(propertiesRootDirectory.resolve("messages_de.properties"),
+               "ok = OK\n",
+               "unused = Unbenutzt\n");
+    Files.copy(propertiesRootDirectory.resolve("messages.properties"), packagedDirectory.resolve("messages.properties"));
+    Files.copy(propertiesRootDirectory.resolve("messages_de.properties"), packagedDirectory.resolve("messages_de.properties"));
+    final Path classesDirectory= this.copyFixtureClasses();
+
+    final FileMatcher fileMatcher= new FileMatcher(propertiesRootDirectory, Arrays.asList("**/*.properties"));
+    final UnusedKeyFinder finder= new UnusedKeyFinder(FIXTURE_PACKAGE);
+    final Map<String, Set<String>> unusedKeys= finder.findUnusedKeys(fileMatcher, UTF_8, Arrays.asList(classesDirectory));
+
+    // execution
+    final int removedCount= finder.stripUnusedKeys(unusedKeys, fileMatcher, UTF_8, packagedDirectory);
+
+    // verification
+    assertThat(removedCount).isEqualTo(3);
+    assertThat(this.tmpFolder.read(packagedDirectory.resolve("messages.properties")))
+      .hasSize(1)
+      .containsEntry("ok", "OK");
+    assertThat(this.tmpFolder.read(packagedDirectory.resolve("messages_de.properties")))
+      .hasSize(1)
+      .containsEntry("ok", "OK");
+    // the original files remain untouched
+    assertThat(this.tmpFolder.read(propertiesRootDirectory.resolve("messages.properties"))).hasSize(3);
+  }
+
+
+  /**
+   * Copies the class files of the fixture classes into a new temporary directory.
+   *
+   * @return the temporary directory
+   */
+  private Path copyFixtureClasses() throws IOException {
+    final Path classesDirectory= this.tmpFolder.newFolder("bin").toPath();
+    final Path packageDirectory= classesDirectory.resolve(FIXTURE_PACKAGE.replace('.', '/'));
+    Files.createDirectories(packageDirectory);
+
+    for (final Class<?> clazz : Arrays.asList(FacadeUser.class, Lookup.class, Messages.class)) {
+      final String fileName= clazz.getSimpleName() + ".class";
+      try (final InputStream in= clazz.getResourceAsStream(fileName)) {
+        Files.copy(in, packageDirectory.resolve(fileName));
+      }
+    }
+
+    return classesDirectory;
+  }
+}
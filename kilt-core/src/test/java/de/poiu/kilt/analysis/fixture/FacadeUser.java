@@ -0,0 +1,30 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.analysis.fixture;
+
+
+/**
+ * A class using some of the keys of the bundle <code>messages</code>.
+ *
+ * @author mherrn
+ */
+public class FacadeUser {
+  public void use(final Lookup lookup) {
+    lookup.get(Messages.OK);
+    lookup.get(Messages.ITEMS);
+    lookup.get("messages", "legacy.title");
+  }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.analysis.fixture;
+
+
+/**
+ * A minimal stand-in for the I18n accessor.
+ *
+ * @author mherrn
+ */
+public class Lookup {
+  public String get(final Messages key) {
+    return key.getKey();
+  }
+
+  public String get(final String bundleName, final String key) {
+    return bundleName + "#" + key;
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.bundlecontent;
+
+import de.poiu.kilt.util.TestFolder;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ *
+ * @author mherrn
+ */
+public class CatalogueTest {
+
+  @Rule
+  public TestFolder tmpFolder= new TestFolder();
+
+
+  @Test
+  public void testFromFiles() throws IOException {
+    // preparation
+    final Path propertiesRootDirectory= this.tmpFolder.newFolder("i18n").toPath();
+    final Map<Language, File> bundleFiles= new LinkedHashMap<>();
+    bundleFiles.put(Language.of("de"), this.tmpFolder.write(propertiesRootDirectory.resolve("messages_de.properties"),
+                                                  "ok = Jawohl\n",
+                                                  "help = Hilfe\n"));
+    bundleFiles.put(Language.of(""),   this.tmpFolder.write(propertiesRootDirectory.resolve("messages.properties"),
+                                                  "ok = OK\n",
+                                                  "cancel = Cancel\n"));
+
+    // execution
+    final Catalogue catalogue= Catalogue.fromFiles("messages", bundleFiles, UTF_8);
+
+    // verification
+    assertThat(catalogue.getBundleBaseName()).isEqualTo("messages");
+    assertThat(catalogue.getKeys()).containsExactly("ok", "help", "cancel");
+    assertThat(catalogue.getLanguages()).containsExactly(Language.of(""), Language.of("de"));
+
+    assertThat(catalogue.getValue(catalogue.indexOfLanguage(Language.of("de")), catalogue.indexOfKey("help"))).isEqualTo("Hilfe");
+    assertThat(catalogue.getValue("ok", Language.of(""))).isEqualTo("OK");
+    assertThat(catalogue.getValue("cancel", Language.of("de"))).isNull();
+    assertThat(catalogue.getValue("unknown", Language.of("de"))).isNull();
+    assertThat(catalogue.indexOfKey("unknown")).isEqualTo(-1);
+    assertThat(catalogue.indexOfLanguage(Language.of("fr"))).isEqualTo(-1);
+
+    assertThat(catalogue.getTranslations("ok")).containsExactly(
+      new Translation(Language.of(""),   "OK"),
+      new Translation(Language.of("de"), "Jawohl"));
+    assertThat(catalogue.getTranslations("unknown")).isEmpty();
+  }
+
+
+  @Test
+  public void testRoundTrip_ResourceBundleContent() {
+    // preparation
+    final ResourceBundleContent content= ResourceBundleContent.forName("messages");
+    content.addTranslation("ok",     new Translation(Language.of("de"),    "Jawohl"));
+    content.addTranslation("ok",     new Translation(Language.of(""),      "OK"));
+    content.addTranslation("cancel", new Translation(Language.of("de_AT"), "Abbrechen"));
+    content.addTranslation("help",   new Translation(Language.of("<"),     "Help"));
+
+    // execution
+    final Catalogue catalogue= Catalogue.of(content);
+    final ResourceBundleContent roundTripped= catalogue.toResourceBundleContent();
+
+    // verification
+    assertThat(catalogue.getKeys()).containsExactly("ok", "cancel", "help");
+    assertThat(catalogue.getLanguages()).containsExactly(Language.of(""), Language.of("<"), Language.of("de"), Language.of("de_AT"));
+
+    assertThat(roundTripped.getBundleBaseName()).isEqualTo("messages");
+    assertThat(new ArrayList<>(roundTripped.getContent().keySet())).containsExactly("ok", "cancel", "help");
+    assertThat(new ArrayList<>(roundTripped.getContent().get("ok"))).containsExactly(
+      new Translation(Language.of(""),   "OK"),
+      new Translation(Language.of("de"), "Jawohl"));
+    assertThat(new ArrayList<>(roundTripped.getContent().get("cancel"))).containsExactly(
+      new Translation(Language.of("de_AT"), "Abbrechen"));
+  }
+}
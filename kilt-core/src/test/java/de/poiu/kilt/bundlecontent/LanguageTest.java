@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.bundlecontent;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ *
+ * @author mherrn
+ */
+public class LanguageTest {
+
+  @Test
+  public void testOf_Canonical() {
+    // execution
+    final Language de1= Language.of("de");
+    final Language de2= Language.of("de");
+    final Language en= Language.of("en");
+
+    // verification
+    assertThat(de1).isSameAs(de2);
+    assertThat(de1.getId()).isEqualTo(de2.getId());
+    assertThat(de1.getId()).isNotEqualTo(en.getId());
+    assertThat(Language.byId(de1.getId())).isSameAs(de1);
+  }
+
+
+  @Test
+  @SuppressWarnings("deprecation")
+  public void testConstructor_EqualToCanonical() {
+    // execution
+    final Language constructed= new Language("fr_CA");
+
+    // verification
+    assertThat(constructed).isNotSameAs(Language.of("fr_CA"));
+    assertThat(constructed).isEqualTo(Language.of("fr_CA"));
+    assertThat(constructed.hashCode()).isEqualTo(Language.of("fr_CA").hashCode());
+    assertThat(constructed.getId()).isEqualTo(Language.of("fr_CA").getId());
+  }
+
+
+  @Test
+  public void testOf_Concurrent() {
+    // execution
+    final Set<Language> languages= ConcurrentHashMap.newKeySet();
+    IntStream.range(0, 10_000).parallel()
+      .forEach(i -> languages.add(Language.of("x" + (i % 100))));
+
+    // verification
+    assertThat(languages).hasSize(100);
+    final List<Integer> ids= languages.stream().map(Language::getId).distinct().collect(Collectors.toList());
+    assertThat(ids).hasSize(100);
+    languages.forEach(l -> assertThat(Language.byId(l.getId())).isSameAs(l));
+  }
+
+
+  @Test
+  public void testGetRank() {
+    assertThat(Language.of("").getRank()).isLessThan(Language.of("_").getRank());
+    assertThat(Language.of("_").getRank()).isLessThan(Language.of("<default>").getRank());
+    assertThat(Language.of("<default>").getRank()).isLessThan(Language.of("de").getRank());
+    assertThat(Language.of("de").getRank()).isEqualTo(Language.of("en_US").getRank());
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.bundlecontent;
+
+import de.poiu.kilt.util.TestFolder;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+
+/**
+ *
+ * @author mherrn
+ */
+public class OffHeapCatalogueTest {
+
+  @Rule
+  public TestFolder tmpFolder= new TestFolder();
+
+
+  @Test
+  public void testFromFiles_SameContentAsCatalogue() throws IOException {
+    // preparation
+    final Path propertiesRootDirectory= this.tmpFolder.newFolder("i18n").toPath();
+    final StringBuilder sbDefault= new StringBuilder();
+    final StringBuilder sbDe= new StringBuilder();
+    for (int i= 0; i < 1000; i++) {
+      sbDefault.append("key").append(i).append(" = Value ").append(i).append('\n');
+      if (i % 3 == 0) {
+        sbDe.append("key").append(i).append(" = Wert \\u00e4").append(i).append('\n');
+      }
+    }
+    sbDe.append("onlyDe = Nur \u65e5\u672c\n");
+    sbDe.append("key0 = Ersetzt\n");
+    sbDefault.append("long = ").append(repeat("x", 2_000_000)).append('\n');
+
+    final Map<Language, File> bundleFiles= new LinkedHashMap<>();
+    bundleFiles.put(Language.of("de"), this.tmpFolder.write(propertiesRootDirectory.resolve("messages_de.properties"), sbDe.toString()));
+    bundleFiles.put(Language.of(""),   this.tmpFolder.write(propertiesRootDirectory.resolve("messages.properties"),    sbDefault.toString()));
+
+    // execution
+    final Catalogue expected= Catalogue.fromFiles("messages", bundleFiles, UTF_8, new StringPool());
+    try (final OffHeapCatalogue actual= OffHeapCatalogue.fromFiles("messages", bundleFiles, UTF_8)) {
+
+      // verification
+      assertThat(actual.getBundleBaseName()).isEqualTo("messages");
+      assertThat(actual.getKeyCount()).isEqualTo(expected.getKeyCount());
+      assertThat(actual.getLanguages()).containsExactly(Language.of(""), Language.of("de"));
+      for (int keyIndex= 0; keyIndex < expected.getKeyCount(); keyIndex++) {
+        assertThat(actual.getKey(keyIndex)).isEqualTo(expected.getKey(keyIndex));
+        assertThat(actual.indexOfKey(expected.getKey(keyIndex))).isEqualTo(keyIndex);
+        for (int languageIndex= 0; languageIndex < actual.getLanguageCount(); languageIndex++) {
+          final Language language= actual.getLanguage(languageIndex);
+          assertThat(actual.getValue(languageIndex, keyIndex)).isEqualTo(expected.getValue(expected.getKey(keyIndex), language));
+          assertThat(actual.hasValue(languageIndex, keyIndex)).isEqualTo(expected.getValue(expected.getKey(keyIndex), language) != null);
+        }
+      }
+
+      assertThat(actual.getValue("key0", Language.of("de"))).isEqualTo("Ersetzt");
+      assertThat(actual.getValue("onlyDe", Language.of("de"))).isEqualTo("Nur \u65e5\u672c");
+      assertThat(actual.getValue("onlyDe", Language.of(""))).isNull();
+      assertThat(actual.getValue("long", Language.of(""))).hasSize(2_000_000);
+      assertThat(actual.containsKey("missing")).isFalse();
+      assertThat(actual.getValue("key1", Language.of("fr"))).isNull();
+      assertThat(actual.getOffHeapSize()).isGreaterThan(2_000_000L);
+    }
+  }
+
+
+  @Test
+  public void testFromFiles_SmallBundle() throws IOException {
+    // preparation
+    final Map<Language, File> bundleFiles= new LinkedHashMap<>();
+    bundleFiles.put(Language.of(""),   this.tmpFolder.write(this.tmpFolder.getRoot().toPath().resolve("messages.properties"),    "a = Alpha\nb = Beta\n"));
+    bundleFiles.put(Language.of("de"), this.tmpFolder.write(this.tmpFolder.getRoot().toPath().resolve("messages_de.properties"), "a = Alpha (de)\n"));
+
+    // execution
+    try (final OffHeapCatalogue catalogue= OffHeapCatalogue.fromFiles("messages", bundleFiles, UTF_8)) {
+
+      // verification
+      assertThat(catalogue.getValue("a", Language.of("de"))).isEqualTo("Alpha (de)");
+      assertThat(catalogue.getValue("b", Language.of(""))).isEqualTo("Beta");
+      // the arena is sized by the files instead of a full arena buffer
+      assertThat(catalogue.getOffHeapSize()).isLessThan(64 * 1024L);
+    }
+  }
+
+
+  @Test
+  public void testClose() throws IOException {
+    // preparation
+    final Map<Language, File> bundleFiles= new LinkedHashMap<>();
+    bundleFiles.put(Language.of(""), this.tmpFolder.write(this.tmpFolder.getRoot().toPath().resolve("messages.properties"), "a = Alpha\n"));
+    final OffHeapCatalogue catalogue= OffHeapCatalogue.fromFiles("messages", bundleFiles, UTF_8);
+    assertThat(catalogue.getValue("a", Language.of(""))).isEqualTo("Alpha");
+
+    // execution
+    catalogue.close();
+
+    // verification
+    assertThat(catalogue.getLanguages()).containsExactly(Language.of(""));
+    assertThatIllegalStateException().isThrownBy(() -> {
+      catalogue.getValue("a", Language.of(""));
+    });
+  }
+
+
+  private static String repeat(final String s, final int count) {
+    final StringBuilder sb= new StringBuilder(s.length() * count);
+    for (int i= 0; i < count; i++) {
+      sb.append(s);
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.bundlecontent;
+
+import de.poiu.kilt.util.TestFolder;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ *
+ * @author mherrn
+ */
+public class ParsedFileCacheTest {
+
+  @Rule
+  public TestFolder tmpFolder= new TestFolder();
+
+
+  @Test
+  public void testGet_WarmRunOnlyParsesChangedFiles() throws IOException {
+    // preparation
+    final Path cacheDirectory= this.tmpFolder.getRoot().toPath().resolve("cache");
+    final File unchanged= this.tmpFolder.write("messages.properties",    "b = Bravo\na = Alpha\nlong = " + repeat("x", 70_000) + "\n");
+    final File changed=   this.tmpFolder.write("messages_de.properties", "b = Bravo\na = Alpha\n");
+    final File touched=   this.tmpFolder.write("messages_fr.properties", "b = Bravo\na = Alpha\n");
+
+    final ParsedFileCache coldCache= new ParsedFileCache(cacheDirectory);
+    coldCache.get(unchanged, UTF_8, new StringPool());
+    coldCache.get(changed,   UTF_8, new StringPool());
+    coldCache.get(touched,   UTF_8, new StringPool());
+
+    this.tmpFolder.write("messages_de.properties", "b = Bravo\na = Anton\n");
+    Files.setLastModifiedTime(touched.toPath(), FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+
+    // execution
+    final ParsedFileCache warmCache= new ParsedFileCache(cacheDirectory);
+    final Map<String, String> unchangedEntries= warmCache.get(unchanged, UTF_8, new StringPool());
+    final Map<String, String> changedEntries=   warmCache.get(changed,   UTF_8, new StringPool());
+    final Map<String, String> touchedEntries=   warmCache.get(touched,   UTF_8, new StringPool());
+
+    // verification
+    assertThat(coldCache.getMissCount()).isEqualTo(3);
+    assertThat(coldCache.getHitCount()).isEqualTo(0);
+    assertThat(warmCache.getMissCount()).isEqualTo(1);
+    assertThat(warmCache.getHitCount()).isEqualTo(2);
+
+    assertThat(new ArrayList<>(unchangedEntries.keySet())).containsExactly("b", "a", "long");
+    assertThat(unchangedEntries.get("long")).hasSize(70_000);
+    assertThat(changedEntries.get("a")).isEqualTo("Anton");
+    assertThat(touchedEntries.get("a")).isEqualTo("Alpha");
+  }
+
+
+  @Test
+  public void testGet_ModificationWithSameSizeAndTimestamp() throws IOException {
+    // preparation
+    final Path cacheDirectory= this.tmpFolder.getRoot().toPath().resolve("cache");
+    final File file= this.tmpFolder.write("messages.properties", "a = Alpha\n");
+    final FileTime lastModified= Files.getLastModifiedTime(file.toPath());
+    new ParsedFileCache(cacheDirectory).get(file, UTF_8, new StringPool());
+
+    this.tmpFolder.write("messages.properties", "a = Omega\n");
+    Files.setLastModifiedTime(file.toPath(), lastModified);
+
+    // execution
+    final Map<String, String> entries= new ParsedFileCache(cacheDirectory).get(file, UTF_8, new StringPool());
+
+    // verification
+    assertThat(entries.get("a")).isEqualTo("Omega");
+  }
+
+
+  @Test
+  public void testGet_CharsetAndCorruptEntries() throws IOException {
+    // preparation
+    final Path cacheDirectory= this.tmpFolder.getRoot().toPath().resolve("cache");
+    final File file= this.tmpFolder.newFile("messages.properties");
+    Files.write(file.toPath(), "a = Gr\u00f6\u00dfe\n".getBytes(ISO_8859_1));
+
+    final ParsedFileCache cache= new ParsedFileCache(cacheDirectory);
+    cache.get(file, ISO_8859_1, new StringPool());
+    try (final Stream<Path> entries= Files.list(cacheDirectory)) {
+      for (final Path entry : entries.collect(toList())) {
+        Files.write(entry, new byte[]{ 1, 2, 3 });
+      }
+    }
+
+    // execution
+    final ParsedFileCache warmCache= new ParsedFileCache(cacheDirectory);
+    final Map<String, String> isoEntries= warmCache.get(file, ISO_8859_1, new StringPool());
+    final Map<String, String> utf8Entries= warmCache.get(file, UTF_8, new StringPool());
+
+    // verification
+    assertThat(warmCache.getMissCount()).isEqualTo(2);
+    assertThat(isoEntries.get("a")).isEqualTo("Gr\u00f6\u00dfe");
+    assertThat(utf8Entries.get("a")).isEqualTo("Gr\ufffd\ufffde");
+  }
+
+
+  @Test
+  public void testGet_UnpairedSurrogateSurvivesWarmRun() throws IOException {
+    // preparation
+    final Path cacheDirectory= this.tmpFolder.getRoot().toPath().resolve("cache");
+    final File file= this.tmpFolder.write("messages.properties", "a = x\\uD800y\nb = \\uDC00\\uD83D\\uDE00\n");
+    Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+
+    final ParsedFileCache coldCache= new ParsedFileCache(cacheDirectory);
+    final Map<String, String> coldEntries= coldCache.get(file, UTF_8, new StringPool());
+
+    // execution
+    final ParsedFileCache warmCache= new ParsedFileCache(cacheDirectory);
+    final Map<String, String> warmEntries= warmCache.get(file, UTF_8, new StringPool());
+
+    // verification
+    assertThat(coldCache.getMissCount()).isEqualTo(1);
+    assertThat(warmCache.getHitCount()).isEqualTo(1);
+    assertThat(coldEntries.get("a")).isEqualTo("x\uD800y");
+    assertThat(coldEntries.get("b")).isEqualTo("\uDC00\uD83D\uDE00");
+    assertThat(warmEntries).isEqualTo(coldEntries);
+  }
+
+
+  @Test
+  public void testGet_EntryWithInvalidLength() throws IOException {
+    // preparation
+    final Path cacheDirectory= this.tmpFolder.getRoot().toPath().resolve("cache");
+    final File file= this.tmpFolder.write("messages.properties", "a = Alpha\n");
+    Files.setLastModifiedTime(file.toPath(), FileTime.fromMillis(System.currentTimeMillis() - 60_000));
+    new ParsedFileCache(cacheDirectory).get(file, UTF_8, new StringPool());
+
+    // replace the single key-value pair (count, "a", "Alpha") by a key of length Integer.MAX_VALUE
+    try (final Stream<Path> entries= Files.list(cacheDirectory)) {
+      for (final Path entry : entries.collect(toList())) {
+        final byte[] bytes= Files.readAllBytes(entry);
+        final byte[] corrupt= Arrays.copyOf(bytes, bytes.length - 15 + 6);
+        System.arraycopy(new byte[]{ 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07 }, 0, corrupt, bytes.length - 15, 6);
+        Files.write(entry, corrupt);
+      }
+    }
+
+    // execution
+    final ParsedFileCache warmCache= new ParsedFileCache(cacheDirectory);
+    final Map<String, String> entries= warmCache.get(file, UTF_8, new StringPool());
+
+    // verification
+    assertThat(warmCache.getMissCount()).isEqualTo(1);
+    assertThat(warmCache.getHitCount()).isEqualTo(0);
+    assertThat(entries.get("a")).isEqualTo("Alpha");
+  }
+
+
+  @Test
+  public void testRead_WithAndWithoutCache() throws IOException {
+    // preparation
+    final File file= this.tmpFolder.write("messages.properties", "a = Alpha\n");
+    final ParsedFileCache cache= new ParsedFileCache(this.tmpFolder.getRoot().toPath().resolve("cache"));
+
+    // execution
+    final Map<String, String> uncachedEntries= ParsedFileCache.read(file, UTF_8, new StringPool(), null);
+    ParsedFileCache.read(file, UTF_8, new StringPool(), cache);
+    final Map<String, String> cachedEntries= ParsedFileCache.read(file, UTF_8, new StringPool(), cache);
+
+    // verification
+    final Map<String, String> expected= new LinkedHashMap<>();
+    expected.put("a", "Alpha");
+    assertThat(uncachedEntries).isEqualTo(expected);
+    assertThat(cachedEntries).isEqualTo(expected);
+    assertThat(cache.getMissCount()).isEqualTo(1);
+    assertThat(cache.getHitCount()).isEqualTo(1);
+  }
+
+
+  private static String repeat(final String s, final int count) {
+    final StringBuilder sb= new StringBuilder(s.length() * count);
+    for (int i= 0; i < count; i++) {
+      sb.append(s);
+    }
+    return sb.toString();
+  }
+}
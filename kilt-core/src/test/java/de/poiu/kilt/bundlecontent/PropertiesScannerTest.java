@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.bundlecontent;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+
+/**
+ *
+ * @author mherrn
+ */
+public class PropertiesScannerTest {
+
+  /** The contents to compare with java.util.Properties. */
+  private static final String[] CONTENTS= {
+    "",
+    "key=value",
+    "key = value\n",
+    "key:value\r\n",
+    "key value\r",
+    "key\tvalue\f\n",
+    "  key  =  value with trailing spaces   \n",
+    "key==value\n",
+    "key=:value\n",
+    "key :=value\n",
+    "key\n",
+    "key=\n",
+    "=value\n",
+    ":value\n",
+    "# comment\n! other comment\n  # indented comment\nkey=value\n",
+    "#comment with continuation \\\nkey=value\n",
+    "key=first \\\n    second \\\n\tthird\n",
+    "key=first \\\r\n    second\r\n",
+    "key=first \\\r    second\r",
+    "key=ends with backslash \\",
+    "key=ends with backslash and newline \\\n",
+    "key=ends with two backslashes \\\\\n",
+    "key=continued into empty line \\\n\nnext=line\n",
+    "key\\ with\\ spaces = value\n",
+    "key\\=with\\:separators = value\n",
+    "key\\\\ = value with escaped backslash\n",
+    "key = \\u00e4\\u00F6\\u00fc \\t\\n\\r\\f \\a\\b \\\\ \\\" \\'\n",
+    "k\\u0065y = value\n",
+    "key = äöü € 日本語\n",
+    "\n\n   \n\t\nkey=value\n\n\n",
+    "key=first\nkey=second\n",
+    "a=1\nb=2\r\nc=3\rd=4",
+    "key=value \\\n# not a comment\n",
+    "\\ leading = escaped space\n",
+    "\\#notacomment = value\n",
+    "   \\\n   continued = key\n",
+    "\\\n",
+    "\\\r",
+    "key=value\n\\",
+  };
+
+
+  @Rule
+  public TemporaryFolder tmpFolder= new TemporaryFolder();
+
+
+  @Test
+  public void testScan_ParityWithProperties() throws IOException {
+    for (final String content : CONTENTS) {
+      // preparation
+      final Properties expected= new Properties();
+      expected.load(new StringReader(content));
+
+      // execution
+      final Map<String, String> actual= new HashMap<>();
+      PropertiesScanner.scan(content, actual::put);
+
+      // verification
+      final Map<String, String> expectedMap= new HashMap<>();
+      expected.stringPropertyNames().forEach(key -> expectedMap.put(key, expected.getProperty(key)));
+      assertThat(actual).as("Parsing %s", content).isEqualTo(expectedMap);
+    }
+  }
+
+
+  @Test
+  public void testScan_Order() {
+    // preparation
+    final List<String> keys= new ArrayList<>();
+
+    // execution
+    PropertiesScanner.scan("c=1\na=2\nb=3\na=4\n", (key, value) -> keys.add(key));
+
+    // verification
+    assertThat(keys).containsExactly("c", "a", "b", "a");
+  }
+
+
+  @Test
+  public void testToMap_File() throws IOException {
+    // preparation
+    final File isoFile= this.tmpFolder.newFile("iso.properties");
+    Files.write(isoFile.toPath(), "b = Gr\u00f6\u00dfe\na = \\u00e4\n".getBytes(ISO_8859_1));
+    final File utf8File= this.tmpFolder.newFile("utf8.properties");
+    Files.write(utf8File.toPath(), "b = Gr\u00f6\u00dfe\na = \u65e5\u672c\n".getBytes(UTF_8));
+    final File emptyFile= this.tmpFolder.newFile("empty.properties");
+
+    // execution
+    final Map<String, String> isoMap= PropertiesScanner.toMap(isoFile, ISO_8859_1);
+    final Map<String, String> utf8Map= PropertiesScanner.toMap(utf8File, null);
+    final Map<String, String> emptyMap= PropertiesScanner.toMap(emptyFile, UTF_8);
+
+    // verification
+    final Map<String, String> expectedIso= new LinkedHashMap<>();
+    expectedIso.put("b", "Gr\u00f6\u00dfe");
+    expectedIso.put("a", "\u00e4");
+    assertThat(isoMap).isEqualTo(expectedIso);
+    assertThat(new ArrayList<>(isoMap.keySet())).containsExactly("b", "a");
+
+    final Map<String, String> expectedUtf8= new LinkedHashMap<>();
+    expectedUtf8.put("b", "Gr\u00f6\u00dfe");
+    expectedUtf8.put("a", "\u65e5\u672c");
+    assertThat(utf8Map).isEqualTo(expectedUtf8);
+
+    assertThat(emptyMap).isEmpty();
+  }
+
+
+  @Test
+  public void testScan_MalformedUnicodeEscape() {
+    assertThatIllegalArgumentException().isThrownBy(() -> {
+      PropertiesScanner.scan("key = \\u00g4\n", (key, value) -> {});
+    });
+    assertThatIllegalArgumentException().isThrownBy(() -> {
+      PropertiesScanner.scan("key = \\u00", (key, value) -> {});
+    });
+  }
+}
@@ -18,14 +18,23 @@ package de.poiu.kilt.bundlecontent;
 import de.poiu.kilt.bundlecontent.ResourceBundleContentHelper;
 import de.poiu.kilt.bundlecontent.Language;
 import com.google.common.collect.ImmutableList;
+import de.poiu.kilt.util.FileMatcher;
+import de.poiu.kilt.util.TestFolder;
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.regex.Matcher;
+import java.util.stream.Stream;
+import org.junit.Rule;
 import org.junit.Test;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
@@ -36,6 +45,10 @@ import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException
  */
 public class ResourceBundleContentHelperTest {
 
+  @Rule
+  public TestFolder tmpFolder= new TestFolder();
+
+
   @Test
   public void test_ResourceBundleRegex_onlyBasename() {
     // preparation
@@ -269,4 +282,139 @@ public class ResourceBundleContentHelperTest {
     assertThat(bundleNameToFilesMap.get("options").get(Language.of("en_US"))).hasName("options_en_US.properties");
     assertThat(bundleNameToFilesMap.get("options").get(Language.of("en_GB"))).hasName("options_en_GB.properties");
   }
+
+
+  @Test
+  public void testMatchFileName_SameResultAsPattern() {
+    // preparation
+    final String[] parts= {
+      "", "messages", "my-bundle", "_", "de", "en", "_US", "_419", "_Latn", "_WINDOWS", "_x", "_VISTA-2",
+      "-", "1", "\u00e4", "\n", ".", "..", ".properties", "_de.properties", "abcdefghi",
+      "\uD83D\uDE00", "x\uD83D\uDE00", "\uD83D", "\uDE00", "\uDE00\uD83D",
+    };
+    final Random random= new Random(4711);
+
+    for (int i= 0; i < 50_000; i++) {
+      final StringBuilder sb= new StringBuilder();
+      final int partCount= random.nextInt(6);
+      for (int j= 0; j < partCount; j++) {
+        sb.append(parts[random.nextInt(parts.length)]);
+      }
+      if (random.nextInt(4) > 0) {
+        sb.append(".properties");
+      }
+      final String fileName= sb.toString();
+
+      // execution
+      final int localeStart= ResourceBundleContentHelper.matchFileName(fileName);
+
+      // verification
+      final Matcher matcher= ResourceBundleContentHelper.PATTERN_RESOURCE_BUNDLE_FILE_NAME.matcher(fileName);
+      if (matcher.matches()) {
+        final int expectedLocaleStart= matcher.group("LOCALE") != null ? matcher.start("LOCALE") : fileName.length() - ".properties".length();
+        assertThat(localeStart).as("Locale start in %s", fileName).isEqualTo(expectedLocaleStart);
+      } else {
+        assertThat(localeStart).as("Locale start in %s", fileName).isEqualTo(-1);
+      }
+    }
+  }
+
+
+  @Test
+  public void testToBundleNameToFilesMap_Parallel() {
+    // preparation
+    final Path ignorableBasePath= Paths.get("/some/path/src/main/resources");
+
+    final List<File> resourceFiles= new ArrayList<>();
+    for (int i= 0; i < 2_000; i++) {
+      resourceFiles.add(ignorableBasePath.resolve("i18n/dir" + (i % 7) + "/bundle" + i + ".properties").toFile());
+      resourceFiles.add(ignorableBasePath.resolve("i18n/dir" + (i % 7) + "/bundle" + i + "_de_DE.properties").toFile());
+      resourceFiles.add(ignorableBasePath.resolve("i18n/dir" + (i % 7) + "/bundle" + i + "_invalid!.properties").toFile());
+    }
+
+    // execution
+    final ResourceBundleContentHelper helper= new ResourceBundleContentHelper(ignorableBasePath);
+    final Map<String, Map<Language, File>> sequential= helper.toBundleNameToFilesMap(resourceFiles, false);
+    final Map<String, Map<Language, File>> parallel= helper.toBundleNameToFilesMap(resourceFiles, true);
+
+    // verification
+    assertThat(new ArrayList<>(parallel.keySet())).isEqualTo(new ArrayList<>(sequential.keySet()));
+    assertThat(parallel).isEqualTo(sequential);
+    assertThat(parallel).hasSize(2_000);
+    assertThat(new ArrayList<>(parallel.keySet())).startsWith("i18n/dir0/bundle0", "i18n/dir1/bundle1");
+    assertThat(parallel.get("i18n/dir3/bundle10").get(Language.of("de_DE"))).hasName("bundle10_de_DE.properties");
+  }
+
+
+  @Test
+  public void testToBundleNameToFilesMap_Parallel_NotBelowIgnorableBasePath() {
+    // preparation
+    final Path ignorableBasePath= Paths.get("/some/path/src/main/resources");
+    final List<File> resourceFiles= ImmutableList.of(
+            ignorableBasePath.resolve("i18n/messages_de.properties").toFile(),
+            Paths.get("/some/other/path/i18n/messages_en.properties").toFile()
+    );
+    final ResourceBundleContentHelper helper= new ResourceBundleContentHelper(ignorableBasePath);
+
+    // execution / verification
+    assertThatIllegalArgumentException().isThrownBy(() -> {
+      helper.toBundleNameToFilesMap(resourceFiles, true);
+    }).withMessageContaining("messages_en.properties");
+  }
+
+
+  @Test
+  public void testStreamBundles() throws IOException {
+    // preparation
+    final Path root= this.tmpFolder.newFolder("i18n").toPath();
+    final FileMatcher fileMatcher= new FileMatcher(root, new String[]{"**/*.properties"});
+
+    // execution
+    final Stream<ResourceBundleContent> stream= ResourceBundleContentHelper.streamBundles(fileMatcher, UTF_8);
+
+    // the files are only looked up when the stream is consumed
+    this.tmpFolder.write(root.resolve("options.properties"), "size = Size\n");
+    this.tmpFolder.write(root.resolve("sub/messages_de.properties"), "ok = Jawohl\n");
+    this.tmpFolder.write(root.resolve("messages_de.properties"), "ok = Jawohl\n");
+    this.tmpFolder.write(root.resolve("messages.properties"), "ok = OK\ncancel = Cancel\n");
+
+    final List<ResourceBundleContent> bundles= stream.collect(toList());
+
+    // verification
+    assertThat(bundles.stream().map(ResourceBundleContent::getBundleBaseName).collect(toList()))
+      .containsExactly("messages", "options", "sub/messages");
+    assertThat(new ArrayList<>(bundles.get(0).getContent().keySet())).containsExactly("ok", "cancel");
+    assertThat(new ArrayList<>(bundles.get(0).getContent().get("ok"))).containsExactly(
+      new Translation(Language.of(""),   "OK"),
+      new Translation(Language.of("de"), "Jawohl"));
+  }
+
+
+  @Test
+  public void testStreamBundles_Parallel() throws IOException {
+    // preparation
+    final Path root= this.tmpFolder.newFolder("i18n").toPath();
+    final List<String> expectedBundleNames= new ArrayList<>();
+    for (int i= 0; i < 50; i++) {
+      final String bundleName= String.format("bundle%02d", i);
+      expectedBundleNames.add(bundleName);
+      this.tmpFolder.write(root.resolve(bundleName + ".properties"),    "key = " + bundleName + "\n");
+      this.tmpFolder.write(root.resolve(bundleName + "_de.properties"), "key = " + bundleName + " (de)\n");
+    }
+    final FileMatcher fileMatcher= new FileMatcher(root, new String[]{"**/*.properties"});
+
+    // execution
+    final List<String> bundleNames= ResourceBundleContentHelper.streamBundles(fileMatcher, UTF_8)
+      .parallel()
+      .map(ResourceBundleContent::getBundleBaseName)
+      .collect(toList());
+    final long translationCount= ResourceBundleContentHelper.streamBundles(fileMatcher, UTF_8)
+      .parallel()
+      .mapToLong(bundle -> bundle.getContent().size())
+      .sum();
+
+    // verification
+    assertThat(bundleNames).isEqualTo(expectedBundleNames);
+    assertThat(translationCount).isEqualTo(100);
+  }
 }
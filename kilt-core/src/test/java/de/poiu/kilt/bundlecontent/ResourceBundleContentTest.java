@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.bundlecontent;
+
+import de.poiu.kilt.util.TestFolder;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+
+/**
+ *
+ * @author mherrn
+ */
+public class ResourceBundleContentTest {
+
+  @Rule
+  public TestFolder tmpFolder= new TestFolder();
+
+
+  @Test
+  public void testFromFiles_Concurrent() throws IOException {
+    // preparation
+    final Path propertiesRootDirectory= this.tmpFolder.newFolder("i18n").toPath();
+    final Map<Language, File> bundleFiles= new LinkedHashMap<>();
+    for (int i= 0; i < 20; i++) {
+      final StringBuilder sb= new StringBuilder();
+      for (int j= 0; j < 200; j++) {
+        sb.append("key").append((i + j) % 250).append(" = value ").append(i).append('\n');
+      }
+      bundleFiles.put(Language.of("l" + i), this.tmpFolder.write(propertiesRootDirectory.resolve("messages_l" + i + ".properties"), sb.toString()));
+    }
+
+    final ExecutorService executor= Executors.newFixedThreadPool(4);
+
+    // execution
+    final ResourceBundleContent sequential;
+    final ResourceBundleContent concurrent;
+    try {
+      sequential= ResourceBundleContent.forName("messages").fromFiles(bundleFiles, UTF_8, new StringPool(), null, Runnable::run);
+      concurrent= ResourceBundleContent.forName("messages").fromFiles(bundleFiles, UTF_8, new StringPool(), null, executor);
+    } finally {
+      executor.shutdown();
+    }
+
+    // verification
+    assertThat(new ArrayList<>(concurrent.getContent().keySet())).isEqualTo(new ArrayList<>(sequential.getContent().keySet()));
+    for (final String key : sequential.getContent().keySet()) {
+      assertThat(new ArrayList<>(concurrent.getContent().get(key))).isEqualTo(new ArrayList<>(sequential.getContent().get(key)));
+    }
+    assertThat(new ArrayList<>(concurrent.getContent().keySet())).startsWith("key0", "key1", "key2");
+    assertThat(concurrent.getContent().get("key199")).hasSize(bundleFiles.size());
+  }
+
+
+  @Test
+  public void testFromFiles_ParseErrorIsRethrown() throws IOException {
+    // preparation
+    final Path propertiesRootDirectory= this.tmpFolder.newFolder("i18n").toPath();
+    final Map<Language, File> bundleFiles= new LinkedHashMap<>();
+    bundleFiles.put(Language.of(""),   this.tmpFolder.write(propertiesRootDirectory.resolve("messages.properties"),    "ok = OK\n"));
+    bundleFiles.put(Language.of("de"), this.tmpFolder.write(propertiesRootDirectory.resolve("messages_de.properties"), "ok = \\u00g4\n"));
+
+    // execution / verification
+    assertThatIllegalArgumentException().isThrownBy(() -> {
+      ResourceBundleContent.forName("messages").fromFiles(bundleFiles, UTF_8);
+    }).withMessageContaining("messages_de.properties");
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.bundlecontent;
+
+import de.poiu.kilt.util.TestFolder;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ *
+ * @author mherrn
+ */
+public class StringPoolTest {
+
+  @Rule
+  public TestFolder tmpFolder= new TestFolder();
+
+
+  @Test
+  public void testIntern() {
+    // preparation
+    final StringPool stringPool= new StringPool();
+    final String first= new String("key");
+    final String second= new String("key");
+
+    // execution
+    final String pooledFirst= stringPool.intern(first);
+    final String pooledSecond= stringPool.intern(second);
+
+    // verification
+    assertThat(pooledFirst).isSameAs(first);
+    assertThat(pooledSecond).isSameAs(first);
+    assertThat(stringPool.intern(null)).isNull();
+    assertThat(stringPool.size()).isEqualTo(1);
+  }
+
+
+  @Test
+  public void testFromFiles_SharedStrings() throws IOException {
+    // preparation
+    final Path propertiesRootDirectory= this.tmpFolder.newFolder("i18n").toPath();
+    final Map<Language, File> bundleFiles= new LinkedHashMap<>();
+    bundleFiles.put(Language.of(""),   this.tmpFolder.write(propertiesRootDirectory.resolve("messages.properties"),    "ok = OK\n"));
+    bundleFiles.put(Language.of("de"), this.tmpFolder.write(propertiesRootDirectory.resolve("messages_de.properties"), "ok = OK\n"));
+    final StringPool stringPool= new StringPool();
+
+    // execution
+    final ResourceBundleContent content= ResourceBundleContent.forName("messages").fromFiles(bundleFiles, UTF_8, stringPool);
+    final Catalogue catalogue= Catalogue.fromFiles("messages", bundleFiles, UTF_8, stringPool);
+
+    // verification
+    assertThat(stringPool.size()).isEqualTo(2);
+    final String value= catalogue.getValue("ok", Language.of(""));
+    assertThat(catalogue.getValue("ok", Language.of("de"))).isSameAs(value);
+    assertThat(catalogue.getKey(0)).isSameAs(stringPool.intern("ok"));
+    content.getContent().get("ok").forEach(translation -> assertThat(translation.getValue()).isSameAs(value));
+  }
+}
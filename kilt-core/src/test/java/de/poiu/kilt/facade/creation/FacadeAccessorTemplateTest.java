@@ -0,0 +1,315 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.facade.creation;
+
+import com.google.common.collect.ImmutableMap;
+import de.poiu.kilt.bundlecontent.Language;
+import de.poiu.kilt.bundlecontent.ResourceBundleContent;
+import de.poiu.kilt.bundlecontent.Translation;
+import de.poiu.kilt.packaging.BundleConsolidator;
+import de.poiu.kilt.packaging.KeyIndexWriter;
+import de.poiu.kilt.util.FileMatcher;
+import de.poiu.kilt.util.TestFolder;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ * Tests the I18n accessor class that is copied from the facade template by compiling the copy and
+ * reading the resources written by Kilt with it.
+ * <p>
+ * The template duplicates the manifest, consolidation, deduplication and key index handling of
+ * kilt-runtime (since the copied class must not depend on it). These tests ensure that the copy
+ * stays compatible with the resources written by kilt-core.
+ *
+ * @author mherrn
+ */
+public class FacadeAccessorTemplateTest {
+
+  private static final String PACKAGE_NAME= "com.example.i18n";
+  private static final String ACCESSOR_CLASS_NAME= "Translations";
+
+  @Rule
+  public TestFolder tmpFolder= new TestFolder();
+
+  private Locale defaultLocale;
+
+
+  @Before
+  public void setUp() {
+    this.defaultLocale= Locale.getDefault();
+    Locale.setDefault(Locale.ENGLISH);
+  }
+
+
+  @After
+  public void tearDown() {
+    Locale.setDefault(this.defaultLocale);
+  }
+
+
+  @Test
+  public void testGet_WithoutKiltResources() throws Exception {
+    // preparation
+    final Path resourceDir= this.tmpFolder.newFolder("resources").toPath();
+    this.tmpFolder.write(resourceDir.resolve("i18n/messages.properties"),    "ok = OK\n", "cancel = Cancel\n");
+    this.tmpFolder.write(resourceDir.resolve("i18n/messages_fr.properties"), "ok = D'accord\n");
+
+    // execution
+    final CompiledAccessor french= this.compileAccessor(resourceDir).forLocale(Locale.FRENCH);
+
+    // verification
+    assertThat(french.get("i18n.messages", "ok")).isEqualTo("D'accord");
+    assertThat(french.get("i18n.messages", "cancel")).isEqualTo("Cancel");
+    assertThat(french.get("i18n.messages", "help")).isEqualTo(":MISSING:i18n.messages#help:MISSING:");
+    assertThat(french.contains("i18n.messages", "help")).isFalse();
+  }
+
+
+  @Test
+  public void testGet_BundleManifest() throws Exception {
+    // preparation
+    final Path resourceDir= this.tmpFolder.newFolder("resources").toPath();
+    final File root= this.tmpFolder.write(resourceDir.resolve("i18n/messages.properties"),    "ok = OK\n", "cancel = Cancel\n");
+    final File de=   this.tmpFolder.write(resourceDir.resolve("i18n/messages_de.properties"), "ok = Jawohl\n");
+    // not listed in the manifest and therefore never looked up
+    this.tmpFolder.write(resourceDir.resolve("i18n/messages_fr.properties"), "ok = D'accord\n");
+
+    new FacadeCreator().createBundleManifest(ImmutableMap.of("i18n/messages", ImmutableMap.of(Language.of(""),   root,
+                                                                                              Language.of("de"), de)),
+                                             resourceDir);
+
+    // execution
+    final CompiledAccessor accessor= this.compileAccessor(resourceDir);
+    final CompiledAccessor german= accessor.forLocale(Locale.GERMAN);
+    final CompiledAccessor french= accessor.forLocale(Locale.FRENCH);
+
+    // verification
+    assertThat(german.get("i18n.messages", "ok")).isEqualTo("Jawohl");
+    assertThat(german.get("i18n.messages", "cancel")).isEqualTo("Cancel");
+    assertThat(french.get("i18n.messages", "ok")).isEqualTo("OK");
+  }
+
+
+  @Test
+  public void testGet_ConsolidatedBundles() throws Exception {
+    // preparation
+    final Path sourceDir= this.tmpFolder.newFolder("i18n").toPath();
+    final Path resourceDir= this.tmpFolder.newFolder("resources").toPath();
+    this.tmpFolder.write(sourceDir.resolve("messages.properties"),        "ok = OK\n", "cancel = Cancel\n");
+    this.tmpFolder.write(sourceDir.resolve("messages_de.properties"),     "ok = Jawohl\n", "size = Größe\n");
+    this.tmpFolder.write(sourceDir.resolve("sub/options_de.properties"),  "size = Größe\n");
+
+    new BundleConsolidator().consolidate(new FileMatcher(sourceDir, Arrays.asList("**/*.properties")), UTF_8, resourceDir);
+
+    // execution
+    final CompiledAccessor german= this.compileAccessor(resourceDir).forLocale(Locale.GERMAN);
+
+    // verification
+    // the bundles are only available via the consolidated packs
+    assertThat(german.get("messages", "ok")).isEqualTo("Jawohl");
+    assertThat(german.get("messages", "cancel")).isEqualTo("Cancel");
+    assertThat(german.get("messages", "size")).isEqualTo("Größe");
+    assertThat(german.get("sub.options", "size")).isEqualTo("Größe");
+    assertThat(german.contains("messages", "help")).isFalse();
+  }
+
+
+  @Test
+  public void testGet_Deduplication() throws Exception {
+    // preparation
+    final Path resourceDir= this.tmpFolder.newFolder("resources").toPath();
+    this.tmpFolder.write(resourceDir.resolve("i18n/messages.properties"),    "ok = OK\n", "cancel = Cancel\n");
+    this.tmpFolder.write(resourceDir.resolve("i18n/messages_de.properties"), "ok = Jawohl\n", "cancel = Cancel\n");
+    final CompiledAccessor accessor= this.compileAccessor(resourceDir);
+
+    // execution
+    final String previousValue= System.setProperty("kilt.deduplicateStrings", "true");
+    try {
+      assertThat(accessor.forLocale(Locale.ROOT).get("i18n.messages", "cancel")).isEqualTo("Cancel");
+      assertThat(accessor.forLocale(Locale.GERMAN).get("i18n.messages", "ok")).isEqualTo("Jawohl");
+    } finally {
+      if (previousValue != null) {
+        System.setProperty("kilt.deduplicateStrings", previousValue);
+      } else {
+        System.clearProperty("kilt.deduplicateStrings");
+      }
+    }
+
+    // verification
+    // the keys "ok" and "cancel" and the value "Cancel" of the German bundle are deduplicated
+    assertThat(accessor.getDeduplicatedBytes()).isGreaterThan(0);
+  }
+
+
+  @Test
+  public void testGet_KeyIndex() throws Exception {
+    // preparation
+    final Path resourceDir= this.tmpFolder.newFolder("resources").toPath();
+    this.tmpFolder.write(resourceDir.resolve("i18n/messages.properties"),    "ok = OK\n", "cancel = Cancel\n");
+    this.tmpFolder.write(resourceDir.resolve("i18n/messages_de.properties"), "ok = Jawohl\n");
+
+    final ResourceBundleContent messages= ResourceBundleContent.forName("i18n/messages");
+    messages.addTranslation("ok",     new Translation(Language.of(""),   "OK"));
+    messages.addTranslation("ok",     new Translation(Language.of("de"), "Jawohl"));
+    messages.addTranslation("cancel", new Translation(Language.of(""),   "Cancel"));
+    for (int i= 0; i < 100; i++) {
+      messages.addTranslation("key" + i, new Translation(Language.of(""), "value" + i));
+    }
+    final KeyIndexWriter keyIndexWriter= new KeyIndexWriter();
+    keyIndexWriter.add(messages);
+    keyIndexWriter.write(resourceDir);
+
+    // execution
+    final CompiledAccessor accessor= this.compileAccessor(resourceDir);
+    final CompiledAccessor german= accessor.forLocale(Locale.GERMAN);
+
+    // verification
+    // the accessor must find each pair written by the KeyIndexWriter
+    assertThat(accessor.indexOf("i18n.messages", "ok")).isGreaterThanOrEqualTo(0);
+    assertThat(accessor.indexOf("i18n.messages", "cancel")).isGreaterThanOrEqualTo(0);
+    for (int i= 0; i < 100; i++) {
+      assertThat(accessor.indexOf("i18n.messages", "key" + i)).isGreaterThanOrEqualTo(0);
+    }
+    assertThat(accessor.indexOf("i18n.messages", "help")).isEqualTo(-1);
+
+    for (int i= 0; i < 2; i++) {
+      assertThat(german.get("i18n.messages", "ok")).isEqualTo("Jawohl");
+      assertThat(german.get("i18n.messages", "cancel")).isEqualTo("Cancel");
+      assertThat(german.get("i18n.messages", "key42")).isEqualTo(":MISSING:i18n.messages#key42:MISSING:");
+      assertThat(german.get("i18n.messages", "help")).isEqualTo(":MISSING:i18n.messages#help:MISSING:");
+      assertThat(german.contains("i18n.messages", "cancel")).isTrue();
+      assertThat(german.contains("i18n.messages", "key42")).isFalse();
+    }
+  }
+
+
+  /**
+   * Copies the accessor classes from the facade templates, compiles them and loads them via
+   * a classloader that only sees the compiled classes and the given resources.
+   *
+   * @param resourceDir the resource directory to make available to the accessor
+   * @return the compiled accessor
+   */
+  private CompiledAccessor compileAccessor(final Path resourceDir) throws IOException, ReflectiveOperationException {
+    final JavaCompiler compiler= ToolProvider.getSystemJavaCompiler();
+    Assume.assumeNotNull(compiler);
+
+    final Path sourceDir= this.tmpFolder.newFolder("src").toPath();
+    final Path classesDir= this.tmpFolder.newFolder("classes").toPath();
+    new FacadeCreator().copyFacadeAccessorTemplates(ACCESSOR_CLASS_NAME, PACKAGE_NAME, sourceDir);
+
+    final List<String> args;
+    try (final Stream<Path> sources= Files.walk(sourceDir)) {
+      args= sources
+        .filter(p -> p.toString().endsWith(".java"))
+        .map(Path::toString)
+        .collect(Collectors.toList());
+    }
+    args.addAll(0, Arrays.asList("-nowarn", "-d", classesDir.toString()));
+    assertThat(compiler.run(null, null, null, args.toArray(new String[args.size()]))).isEqualTo(0);
+
+    // no parent classloader to hide the resources of this test from the accessor
+    final ClassLoader classLoader= new URLClassLoader(new URL[]{ classesDir.toUri().toURL(), resourceDir.toUri().toURL() }, null);
+    return new CompiledAccessor(classLoader.loadClass(PACKAGE_NAME + "." + ACCESSOR_CLASS_NAME), null);
+  }
+
+
+  /**
+   * Reflective access to an instance of the compiled accessor class.
+   */
+  private static class CompiledAccessor {
+    private final Class<?> accessorClass;
+    private final Object accessor;
+
+
+    private CompiledAccessor(final Class<?> accessorClass, final Object accessor) {
+      this.accessorClass= accessorClass;
+      this.accessor= accessor;
+    }
+
+
+    CompiledAccessor forLocale(final Locale locale) throws ReflectiveOperationException {
+      return new CompiledAccessor(this.accessorClass,
+                                  this.accessorClass.getConstructor(Locale.class, boolean.class).newInstance(locale, true));
+    }
+
+
+    String get(final String bundleName, final String key) throws ReflectiveOperationException {
+      return (String) this.invoke(this.accessorClass.getMethod("get", String.class, String.class), bundleName, key);
+    }
+
+
+    boolean contains(final String bundleName, final String key) throws ReflectiveOperationException {
+      return (Boolean) this.invoke(this.accessorClass.getMethod("contains", String.class, String.class), bundleName, key);
+    }
+
+
+    long getDeduplicatedBytes() throws ReflectiveOperationException {
+      return (Long) this.invoke(this.accessorClass.getMethod("getDeduplicatedBytes"));
+    }
+
+
+    /**
+     * Returns the slot of the given pair in the key index read by the accessor class.
+     */
+    int indexOf(final String bundleName, final String key) throws ReflectiveOperationException {
+      final ClassLoader classLoader= this.accessorClass.getClassLoader();
+      final Field keyIndexField= Class.forName(this.accessorClass.getName() + "$KeyIndexHolder", true, classLoader).getDeclaredField("KEY_INDEX");
+      keyIndexField.setAccessible(true);
+      final Object keyIndex= keyIndexField.get(null);
+      assertThat(keyIndex).isNotNull();
+
+      final Method indexOf= keyIndex.getClass().getDeclaredMethod("indexOf", String.class, String.class);
+      indexOf.setAccessible(true);
+      return (Integer) indexOf.invoke(keyIndex, bundleName, key);
+    }
+
+
+    private Object invoke(final Method method, final Object... args) throws ReflectiveOperationException {
+      try {
+        return method.invoke(this.accessor, args);
+      } catch (InvocationTargetException ex) {
+        if (ex.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) ex.getCause();
+        }
+        throw ex;
+      }
+    }
+  }
+}
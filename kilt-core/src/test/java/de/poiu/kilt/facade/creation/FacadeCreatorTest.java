@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.facade.creation;
+
+import com.google.common.collect.ImmutableMap;
+import com.palantir.javapoet.TypeSpec;
+import de.poiu.kilt.bundlecontent.Catalogue;
+import de.poiu.kilt.bundlecontent.Language;
+import de.poiu.kilt.bundlecontent.ResourceBundleContent;
+import de.poiu.kilt.bundlecontent.Translation;
+import de.poiu.kilt.packaging.BundleManifestWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ *
+ * @author mherrn
+ */
+public class FacadeCreatorTest {
+
+  @Rule
+  public TemporaryFolder tmpFolder= new TemporaryFolder();
+
+
+  @Test
+  public void testCreateBundleManifest() throws IOException {
+    // preparation
+    final Path targetDir= this.tmpFolder.getRoot().toPath();
+    final Map<String, Map<Language, File>> bundleNameToFilesMap= ImmutableMap.of(
+      "i18n/messages", ImmutableMap.of(
+        Language.of("de"),    new File("i18n/messages_de.properties"),
+        Language.of(""),      new File("i18n/messages.properties"),
+        Language.of("en_US"), new File("i18n/messages_en_US.properties")),
+      "options", ImmutableMap.of(
+        Language.of("fr"),    new File("options_fr.properties"))
+    );
+
+    // execution
+    new FacadeCreator().createBundleManifest(bundleNameToFilesMap, targetDir);
+
+    // verification
+    final Path manifestFile= targetDir.resolve(BundleManifestWriter.BUNDLE_MANIFEST_RESOURCE);
+    assertThat(manifestFile).exists();
+
+    final Properties manifest= new Properties();
+    try (final Reader reader= Files.newBufferedReader(manifestFile, UTF_8)) {
+      manifest.load(reader);
+    }
+    assertThat(manifest).hasSize(2);
+    assertThat(manifest.getProperty("i18n.messages")).isEqualTo("<default>,de,en_US");
+    assertThat(manifest.getProperty("options")).isEqualTo("fr");
+  }
+
+
+  @Test
+  public void testCreateFacadeEnumFor_SingleLocale() {
+    // preparation
+    final ResourceBundleContent content= ResourceBundleContent.forName("i18n/messages");
+    content.addTranslation("ok",     new Translation(Language.of(""),      "OK"));
+    content.addTranslation("ok",     new Translation(Language.of("de"),    "Jawohl"));
+    content.addTranslation("cancel", new Translation(Language.of(""),      "Cancel"));
+    content.addTranslation("cancel", new Translation(Language.of("de_AT"), "Abbrechen"));
+    content.addTranslation("help",   new Translation(Language.of("fr"),    "Aide"));
+
+    // execution
+    final TypeSpec typeSpec= new FacadeCreator().createFacadeEnumFor(content, Language.of("de_DE"));
+
+    // verification
+    final String source= typeSpec.toString();
+    assertThat(source).contains("public java.lang.String get()");
+    assertThat(source).containsSubsequence(
+      "TRANSLATIONS = {",
+      "\"Jawohl\",",
+      "\"Cancel\",",
+      "\":MISSING:i18n.messages#help:MISSING:\",",
+      "}");
+  }
+
+
+  @Test
+  public void testCreateFacadeEnumFor_PluralFamily() {
+    // preparation
+    final ResourceBundleContent content= ResourceBundleContent.forName("i18n/messages");
+    content.addTranslation("items.one",   new Translation(Language.of(""),   "{0} item"));
+    content.addTranslation("items.other", new Translation(Language.of(""),   "{0} items"));
+    content.addTranslation("items.other", new Translation(Language.of("de"), "{0} Dinge"));
+    content.addTranslation("ok",          new Translation(Language.of(""),   "OK"));
+    // no plural family without the 'other' form
+    content.addTranslation("files.one",   new Translation(Language.of(""),   "{0} file"));
+
+    // execution
+    final TypeSpec typeSpec= new FacadeCreator().createFacadeEnumFor(content, Language.of("de"));
+
+    // verification
+    final String source= typeSpec.toString();
+    assertThat(source).contains("ITEMS_ONE(\"items.one\")");
+    assertThat(source).contains("ITEMS_OTHER(\"items.other\")");
+    assertThat(source).contains("ITEMS(\"items\")");
+    assertThat(source).doesNotContain("FILES(\"files\")");
+    assertThat(source).containsSubsequence(
+      "TRANSLATIONS = {",
+      "\"{0} item\",",
+      "\"{0} Dinge\",",
+      "\"OK\",",
+      "\"{0} file\",",
+      "\"{0} Dinge\",",
+      "}");
+  }
+
+
+  @Test
+  public void testCreateFacadeEnumFor_PluralFamily_WithoutPluralConstants() {
+    // preparation
+    final ResourceBundleContent content= ResourceBundleContent.forName("i18n/messages");
+    content.addTranslation("items.one",   new Translation(Language.of(""),   "{0} item"));
+    content.addTranslation("items.other", new Translation(Language.of(""),   "{0} items"));
+
+    // execution
+    final TypeSpec typeSpec= new FacadeCreator().createFacadeEnumFor(Catalogue.of(content), null, false);
+
+    // verification
+    final String source= typeSpec.toString();
+    assertThat(source).contains("ITEMS_ONE(\"items.one\")");
+    assertThat(source).contains("ITEMS_OTHER(\"items.other\")");
+    assertThat(source).doesNotContain("ITEMS(\"items\")");
+  }
+}
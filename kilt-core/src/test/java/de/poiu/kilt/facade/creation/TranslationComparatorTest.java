@@ -128,6 +128,20 @@ public class TranslationComparatorTest {
   }
 
 
+  @Test
+  public void testCompare_DEFAULT_OTHERPSEUDO() {
+    assertThat(TRANSLATION_COMPARATOR.compare(
+      new Translation(Language.of("<default>"), "default"),
+      new Translation(Language.of("<other>"), "other")
+    )).isLessThan(0);
+
+    assertThat(TRANSLATION_COMPARATOR.compare(
+      new Translation(Language.of("<other>"), "other"),
+      new Translation(Language.of("<default>"), "default")
+    )).isGreaterThan(0);
+  }
+
+
   @Test
   public void testCompare_DE_DE() {
     assertThat(TRANSLATION_COMPARATOR.compare(
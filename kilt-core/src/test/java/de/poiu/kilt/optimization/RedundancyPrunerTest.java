@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.optimization;
+
+import de.poiu.kilt.util.FileMatcher;
+import de.poiu.kilt.util.TestFolder;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ *
+ * @author mherrn
+ */
+public class RedundancyPrunerTest {
+
+  @Rule
+  public TestFolder tmpFolder= new TestFolder();
+
+
+  @Test
+  public void testPrune() throws IOException {
+    // preparation
+    final Path propertiesRootDirectory= this.tmpFolder.newFolder("i18n").toPath();
+    this.tmpFolder.write(propertiesRootDirectory.resolve("messages.properties"),
+               "ok = OK\n",
+               "cancel = Cancel\n");
+    this.tmpFolder.write(propertiesRootDirectory.resolve("messages_de.properties"),
+               "ok = OK\n",
+               "cancel = Abbrechen\n");
+    this.tmpFolder.write(propertiesRootDirectory.resolve("messages_de_AT.properties"),
+               "ok = Passt\n",
+               "cancel = Abbrechen\n");
+    this.tmpFolder.write(propertiesRootDirectory.resolve("messages_fr.properties"),
+               "ok = D'accord\n",
+               "cancel = Annuler\n");
+
+    final FileMatcher fileMatcher= new FileMatcher(propertiesRootDirectory, Arrays.asList("**/*.properties"));
+
+    // execution
+    final RedundancyPruner.Result result= new RedundancyPruner().prune(fileMatcher, UTF_8, false);
+
+    // verification
+    assertThat(result.getPrunedCount()).isEqualTo(2);
+    assertThat(result.getHoistedCount()).isEqualTo(0);
+    assertThat(result.getSavedBytes()).isEqualTo("ok = OK\n".length() + "cancel = Abbrechen\n".length());
+
+    assertThat(this.tmpFolder.read(propertiesRootDirectory.resolve("messages.properties"))).hasSize(2);
+    assertThat(this.tmpFolder.read(propertiesRootDirectory.resolve("messages_de.properties")))
+      .hasSize(1)
+      .containsEntry("cancel", "Abbrechen");
+    assertThat(this.tmpFolder.read(propertiesRootDirectory.resolve("messages_de_AT.properties")))
+      .hasSize(1)
+      .containsEntry("ok", "Passt");
+    assertThat(this.tmpFolder.read(propertiesRootDirectory.resolve("messages_fr.properties"))).hasSize(2);
+  }
+
+
+  @Test
+  public void testPrune_HoistSharedValues() throws IOException {
+    // preparation
+    final Path propertiesRootDirectory= this.tmpFolder.newFolder("i18n").toPath();
+    this.tmpFolder.write(propertiesRootDirectory.resolve("messages.properties"),
+               "ok = OK\n");
+    this.tmpFolder.write(propertiesRootDirectory.resolve("messages_de.properties"),
+               "ok = Jawohl\n",
+               "brand = Kilt\n",
+               "hello = Hallo\n");
+    this.tmpFolder.write(propertiesRootDirectory.resolve("messages_fr.properties"),
+               "ok = D'accord\n",
+               "brand = Kilt\n",
+               "hello = Bonjour\n");
+
+    final FileMatcher fileMatcher= new FileMatcher(propertiesRootDirectory, Arrays.asList("**/*.properties"));
+
+    // execution
+    final RedundancyPruner.Result result= new RedundancyPruner().prune(fileMatcher, UTF_8, true);
+
+    // verification
+    assertThat(result.getPrunedCount()).isEqualTo(2);
+    assertThat(result.getHoistedCount()).isEqualTo(1);
+    assertThat(result.getSavedBytes()).isGreaterThan(0);
+
+    assertThat(this.tmpFolder.read(propertiesRootDirectory.resolve("messages.properties")))
+      .hasSize(2)
+      .containsEntry("ok", "OK")
+      .containsEntry("brand", "Kilt");
+    assertThat(this.tmpFolder.read(propertiesRootDirectory.resolve("messages_de.properties")))
+      .hasSize(2)
+      .doesNotContainKey("brand");
+    assertThat(this.tmpFolder.read(propertiesRootDirectory.resolve("messages_fr.properties")))
+      .hasSize(2)
+      .doesNotContainKey("brand");
+  }
+
+
+  @Test
+  public void testPrune_NoHoistingWithoutBaseBundle() throws IOException {
+    // preparation
+    final Path propertiesRootDirectory= this.tmpFolder.newFolder("i18n").toPath();
+    this.tmpFolder.write(propertiesRootDirectory.resolve("messages_de.properties"),
+               "brand = Kilt\n");
+    this.tmpFolder.write(propertiesRootDirectory.resolve("messages_fr.properties"),
+               "brand = Kilt\n");
+
+    final FileMatcher fileMatcher= new FileMatcher(propertiesRootDirectory, Arrays.asList("**/*.properties"));
+
+    // execution
+    final RedundancyPruner.Result result= new RedundancyPruner().prune(fileMatcher, UTF_8, true);
+
+    // verification
+    assertThat(result.getPrunedCount()).isEqualTo(0);
+    assertThat(result.getHoistedCount()).isEqualTo(0);
+    assertThat(result.getSavedBytes()).isEqualTo(0);
+    assertThat(this.tmpFolder.read(propertiesRootDirectory.resolve("messages_de.properties"))).containsEntry("brand", "Kilt");
+    assertThat(this.tmpFolder.read(propertiesRootDirectory.resolve("messages_fr.properties"))).containsEntry("brand", "Kilt");
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.packaging;
+
+import de.poiu.kilt.util.FileMatcher;
+import de.poiu.kilt.util.TestFolder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ *
+ * @author mherrn
+ */
+public class BundleConsolidatorTest {
+
+  @Rule
+  public TestFolder tmpFolder= new TestFolder();
+
+
+  @Test
+  public void testConsolidate() throws IOException {
+    // preparation
+    final Path propertiesRootDirectory= this.tmpFolder.newFolder("i18n").toPath();
+    final Path targetDir= this.tmpFolder.newFolder("target").toPath();
+    Files.createDirectories(propertiesRootDirectory.resolve("sub"));
+    this.tmpFolder.write(propertiesRootDirectory.resolve("messages.properties"),       "ok = OK\n", "cancel = Cancel\n");
+    this.tmpFolder.write(propertiesRootDirectory.resolve("messages_de.properties"),    "ok = Jawohl\n", "cancel =\n");
+    this.tmpFolder.write(propertiesRootDirectory.resolve("sub/options_de.properties"), "size = Größe\n");
+
+    final FileMatcher fileMatcher= new FileMatcher(propertiesRootDirectory, Arrays.asList("**/*.properties"));
+
+    // execution
+    new BundleConsolidator().consolidate(fileMatcher, UTF_8, targetDir);
+
+    // verification
+    final Properties rootPack= this.tmpFolder.read(targetDir.resolve(BundleConsolidator.CONSOLIDATED_RESOURCE_DIR + "bundles.properties"));
+    assertThat(rootPack).hasSize(2);
+    assertThat(rootPack.getProperty("messages#ok")).isEqualTo("OK");
+    assertThat(rootPack.getProperty("messages#cancel")).isEqualTo("Cancel");
+
+    final Properties dePack= this.tmpFolder.read(targetDir.resolve(BundleConsolidator.CONSOLIDATED_RESOURCE_DIR + "bundles_de.properties"));
+    assertThat(dePack).hasSize(3);
+    assertThat(dePack.getProperty("messages#ok")).isEqualTo("Jawohl");
+    assertThat(dePack.getProperty("messages#cancel")).isEqualTo("");
+    assertThat(dePack.getProperty("sub.options#size")).isEqualTo("Größe");
+
+    final Properties index= this.tmpFolder.read(targetDir.resolve(BundleConsolidator.CONSOLIDATED_INDEX_RESOURCE));
+    assertThat(index).hasSize(2);
+    assertThat(index.getProperty("messages")).isEqualTo("<default>,de");
+    assertThat(index.getProperty("sub.options")).isEqualTo("de");
+  }
+
+
+  @Test
+  public void testConsolidate_EmptyOverrideInChildLocale() throws IOException {
+    // preparation
+    final Path propertiesRootDirectory= this.tmpFolder.newFolder("i18n").toPath();
+    final Path targetDir= this.tmpFolder.newFolder("target").toPath();
+    this.tmpFolder.write(propertiesRootDirectory.resolve("messages.properties"),       "hint = Some hint\n");
+    this.tmpFolder.write(propertiesRootDirectory.resolve("messages_de.properties"),    "hint =\n");
+    this.tmpFolder.write(propertiesRootDirectory.resolve("messages_de_AT.properties"), "hint = Ein Hinweis\n");
+
+    final FileMatcher fileMatcher= new FileMatcher(propertiesRootDirectory, Arrays.asList("**/*.properties"));
+
+    // execution
+    new BundleConsolidator().consolidate(fileMatcher, UTF_8, targetDir);
+
+    // verification
+    final Properties dePack= this.tmpFolder.read(targetDir.resolve(BundleConsolidator.CONSOLIDATED_RESOURCE_DIR + "bundles_de.properties"));
+    assertThat(dePack.getProperty("messages#hint")).isEqualTo("");
+
+    final Properties deAtPack= this.tmpFolder.read(targetDir.resolve(BundleConsolidator.CONSOLIDATED_RESOURCE_DIR + "bundles_de_AT.properties"));
+    assertThat(deAtPack.getProperty("messages#hint")).isEqualTo("Ein Hinweis");
+
+    final Properties index= this.tmpFolder.read(targetDir.resolve(BundleConsolidator.CONSOLIDATED_INDEX_RESOURCE));
+    assertThat(index.getProperty("messages")).isEqualTo("<default>,de,de_AT");
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.packaging;
+
+import de.poiu.kilt.util.FileMatcher;
+import de.poiu.kilt.util.TestFolder;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ *
+ * @author mherrn
+ */
+public class BundleSegmenterTest {
+
+  @Rule
+  public TestFolder tmpFolder= new TestFolder();
+
+
+  @Test
+  public void testSegment_Prefix() throws IOException {
+    // preparation
+    final Path propertiesRootDirectory= this.tmpFolder.newFolder("i18n").toPath();
+    final Path targetDir= this.tmpFolder.newFolder("target").toPath();
+    this.tmpFolder.write(propertiesRootDirectory.resolve("messages.properties"),    "dialog.ok = OK\n", "dialog.cancel = Cancel\n", "menu.file = File\n", "title = Title\n");
+    this.tmpFolder.write(propertiesRootDirectory.resolve("messages_de.properties"), "dialog.ok = Jawohl\n", "menu.file = Datei\n");
+    this.tmpFolder.write(propertiesRootDirectory.resolve("small.properties"),       "ok = OK\n");
+
+    final FileMatcher fileMatcher= new FileMatcher(propertiesRootDirectory, Arrays.asList("**/*.properties"));
+
+    // execution
+    new BundleSegmenter(BundleSegmenter.Strategy.PREFIX, 1, 2).segment(fileMatcher, UTF_8, targetDir);
+
+    // verification
+    final Path bundleDir= targetDir.resolve(BundleSegmenter.SEGMENTS_RESOURCE_DIR + "messages");
+    final Properties descriptor= this.tmpFolder.read(bundleDir.resolve(BundleSegmenter.SEGMENTS_DESCRIPTOR_NAME));
+    assertThat(descriptor.getProperty("strategy")).isEqualTo("prefix");
+    assertThat(descriptor.getProperty("segmentCount")).isEqualTo("3");
+    assertThat(descriptor.getProperty("prefix.")).isEqualTo("0");
+    assertThat(descriptor.getProperty("prefix.dialog")).isEqualTo("1");
+    assertThat(descriptor.getProperty("prefix.menu")).isEqualTo("2");
+
+    final Properties dialogSegment= this.tmpFolder.read(bundleDir.resolve("1.properties"));
+    assertThat(dialogSegment).hasSize(2);
+    assertThat(dialogSegment.getProperty("dialog.ok")).isEqualTo("OK");
+    assertThat(dialogSegment.getProperty("dialog.cancel")).isEqualTo("Cancel");
+    assertThat(this.tmpFolder.read(bundleDir.resolve("2_de.properties")).getProperty("menu.file")).isEqualTo("Datei");
+    // empty segments are not written
+    assertThat(bundleDir.resolve("0_de.properties")).doesNotExist();
+
+    final Properties index= this.tmpFolder.read(targetDir.resolve(BundleSegmenter.SEGMENTS_INDEX_RESOURCE));
+    assertThat(index).hasSize(1);
+    assertThat(index.getProperty("messages")).isEqualTo("<default>,de");
+  }
+
+
+  @Test
+  public void testSegment_Hash() throws IOException {
+    // preparation
+    final Path propertiesRootDirectory= this.tmpFolder.newFolder("i18n").toPath();
+    final Path targetDir= this.tmpFolder.newFolder("target").toPath();
+    this.tmpFolder.write(propertiesRootDirectory.resolve("messages.properties"), "a = A\n", "b = B\n", "c = C\n", "d = D\n");
+
+    final FileMatcher fileMatcher= new FileMatcher(propertiesRootDirectory, Arrays.asList("**/*.properties"));
+
+    // execution
+    new BundleSegmenter(BundleSegmenter.Strategy.HASH, 2, 0).segment(fileMatcher, UTF_8, targetDir);
+
+    // verification
+    final Path bundleDir= targetDir.resolve(BundleSegmenter.SEGMENTS_RESOURCE_DIR + "messages");
+    final Properties descriptor= this.tmpFolder.read(bundleDir.resolve(BundleSegmenter.SEGMENTS_DESCRIPTOR_NAME));
+    assertThat(descriptor.getProperty("strategy")).isEqualTo("hash");
+    assertThat(descriptor.getProperty("segmentCount")).isEqualTo("2");
+
+    // "a" and "c" have odd hash codes, "b" and "d" even ones
+    final Properties evenSegment= this.tmpFolder.read(bundleDir.resolve("0.properties"));
+    assertThat(evenSegment.stringPropertyNames()).containsExactlyInAnyOrder("b", "d");
+    final Properties oddSegment= this.tmpFolder.read(bundleDir.resolve("1.properties"));
+    assertThat(oddSegment.stringPropertyNames()).containsExactlyInAnyOrder("a", "c");
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.packaging;
+
+import de.poiu.kilt.bundlecontent.Language;
+import de.poiu.kilt.bundlecontent.ResourceBundleContent;
+import de.poiu.kilt.bundlecontent.Translation;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ *
+ * @author mherrn
+ */
+public class KeyIndexWriterTest {
+
+  @Test
+  public void testWriteTo() throws IOException {
+    // preparation
+    final ResourceBundleContent messages= ResourceBundleContent.forName("i18n/messages");
+    for (int i= 0; i < 1000; i++) {
+      messages.addTranslation("key"+i, new Translation(Language.of(""), "value"+i));
+    }
+    final ResourceBundleContent options= ResourceBundleContent.forName("options");
+    options.addTranslation("key0", new Translation(Language.of("de"), "Wert"));
+
+    final KeyIndexWriter keyIndexWriter= new KeyIndexWriter();
+    keyIndexWriter.add(messages);
+    keyIndexWriter.add(options);
+
+    // execution
+    final ByteArrayOutputStream out= new ByteArrayOutputStream();
+    keyIndexWriter.writeTo(out);
+
+    // verification
+    final DataInputStream in= new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+    assertThat(in.readInt()).isEqualTo(KeyIndexWriter.MAGIC);
+    assertThat(in.readInt()).isEqualTo(KeyIndexWriter.VERSION);
+    final int n= in.readInt();
+    final int r= in.readInt();
+    assertThat(n).isEqualTo(1001);
+
+    final int[] displacements= new int[r];
+    for (int b= 0; b < r; b++) {
+      displacements[b]= in.readInt();
+    }
+
+    final Set<String> pairs= new HashSet<>();
+    for (int slot= 0; slot < n; slot++) {
+      final String bundleName= in.readUTF();
+      final String key= in.readUTF();
+      pairs.add(bundleName + "#" + key);
+
+      // each pair must be found in the slot it is written to
+      final long hash= KeyIndexWriter.hash(bundleName, key);
+      final int displacement= displacements[KeyIndexWriter.bucket(hash, r)];
+      final int expectedSlot= displacement < 0 ? -displacement - 1 : KeyIndexWriter.slot(hash, displacement, n);
+      assertThat(expectedSlot).as("slot of %s#%s", bundleName, key).isEqualTo(slot);
+    }
+    assertThat(pairs).hasSize(1001);
+    assertThat(pairs).contains("i18n.messages#key0", "i18n.messages#key999", "options#key0");
+    assertThat(in.available()).isEqualTo(0);
+  }
+}
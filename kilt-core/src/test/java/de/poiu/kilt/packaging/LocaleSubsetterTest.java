@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.packaging;
+
+import de.poiu.kilt.bundlecontent.Language;
+import de.poiu.kilt.util.FileMatcher;
+import de.poiu.kilt.util.TestFolder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ *
+ * @author mherrn
+ */
+public class LocaleSubsetterTest {
+
+  @Rule
+  public TestFolder tmpFolder= new TestFolder();
+
+
+  @Test
+  public void testSubset() throws IOException {
+    // preparation
+    final Path propertiesRootDirectory= this.tmpFolder.newFolder("i18n").toPath();
+    final Path targetDir= this.tmpFolder.newFolder("target").toPath();
+    Files.createDirectories(propertiesRootDirectory.resolve("sub"));
+    this.tmpFolder.write(propertiesRootDirectory.resolve("messages.properties"),       "ok = OK\n");
+    this.tmpFolder.write(propertiesRootDirectory.resolve("messages_de.properties"),    "ok = Jawohl\n");
+    this.tmpFolder.write(propertiesRootDirectory.resolve("messages_de_AT.properties"), "ok = Passt\n");
+    this.tmpFolder.write(propertiesRootDirectory.resolve("messages_de_CH.properties"), "ok = Guet\n");
+    this.tmpFolder.write(propertiesRootDirectory.resolve("messages_fr.properties"),    "ok = D'accord\n");
+    this.tmpFolder.write(propertiesRootDirectory.resolve("sub/options_fr.properties"), "size = Taille\n");
+
+    final FileMatcher fileMatcher= new FileMatcher(propertiesRootDirectory, Arrays.asList("**/*.properties"));
+
+    // execution
+    new LocaleSubsetter().subset(fileMatcher, Arrays.asList(Language.of("de_AT")), targetDir);
+
+    // verification
+    assertThat(targetDir.resolve("messages.properties")).exists();
+    assertThat(targetDir.resolve("messages_de.properties")).exists();
+    assertThat(targetDir.resolve("messages_de_AT.properties")).hasContent("ok = Passt");
+    assertThat(targetDir.resolve("messages_de_CH.properties")).doesNotExist();
+    assertThat(targetDir.resolve("messages_fr.properties")).doesNotExist();
+    assertThat(targetDir.resolve("sub/options_fr.properties")).doesNotExist();
+
+    final Properties manifest= this.tmpFolder.read(targetDir.resolve(BundleManifestWriter.BUNDLE_MANIFEST_RESOURCE));
+    assertThat(manifest).hasSize(2);
+    assertThat(manifest.getProperty("messages")).isEqualTo("<default>,de,de_AT");
+    assertThat(manifest.getProperty("sub.options")).isEqualTo("");
+  }
+}
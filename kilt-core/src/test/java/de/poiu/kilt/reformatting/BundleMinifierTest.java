@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.reformatting;
+
+import de.poiu.kilt.util.FileMatcher;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.contentOf;
+
+
+/**
+ *
+ * @author mherrn
+ */
+public class BundleMinifierTest {
+
+  @Rule
+  public TemporaryFolder tmpFolder= new TemporaryFolder();
+
+
+  @Test
+  public void testMinify() throws IOException {
+    // preparation
+    final Path propertiesRootDirectory= this.tmpFolder.newFolder("i18n").toPath();
+    final Path targetDir= this.tmpFolder.newFolder("target").toPath();
+    Files.createDirectories(propertiesRootDirectory.resolve("sub"));
+    final String original= ""
+      + "# The size\n"
+      + "size = Gr\\u00f6\\u00dfe\n"
+      + "\n"
+      + "! the greeting\n"
+      + "greeting   :   Hello \\\n"
+      + "             World\n";
+    this.write(propertiesRootDirectory.resolve("messages_de.properties"), original, ISO_8859_1);
+    this.write(propertiesRootDirectory.resolve("sub/options.properties"), "b = B\na = A\n", ISO_8859_1);
+
+    final FileMatcher fileMatcher= new FileMatcher(propertiesRootDirectory, Arrays.asList("**/*.properties"));
+
+    // execution
+    final long savedBytes= new BundleMinifier().minify(fileMatcher, ISO_8859_1, targetDir);
+
+    // verification
+    assertThat(contentOf(targetDir.resolve("messages_de.properties").toFile(), UTF_8)).isEqualToIgnoringCase(""
+      + "greeting=Hello World\n"
+      + "size=Gr\\u00f6\\u00dfe\n");
+    assertThat(contentOf(targetDir.resolve("sub/options.properties").toFile(), UTF_8)).isEqualTo(""
+      + "a=A\n"
+      + "b=B\n");
+    assertThat(savedBytes).isEqualTo(original.length() + "b = B\na = A\n".length()
+                                        - "greeting=Hello World\nsize=Gr\\u00f6\\u00dfe\n".length()
+                                        - "a=A\nb=B\n".length());
+
+    // the original files remain untouched
+    assertThat(new String(Files.readAllBytes(propertiesRootDirectory.resolve("messages_de.properties")), ISO_8859_1)).isEqualTo(original);
+  }
+
+
+  @Test
+  public void testMinify_UnescapedUnicode() throws IOException {
+    // preparation
+    final Path propertiesRootDirectory= this.tmpFolder.newFolder("i18n").toPath();
+    final Path targetDir= this.tmpFolder.newFolder("target").toPath();
+    this.write(propertiesRootDirectory.resolve("messages_de.properties"), "size = Gr\\u00f6\\u00dfe\n", ISO_8859_1);
+
+    final FileMatcher fileMatcher= new FileMatcher(propertiesRootDirectory, Arrays.asList("**/*.properties"));
+
+    // execution
+    new BundleMinifier().minify(fileMatcher, ISO_8859_1, targetDir, true);
+
+    // verification
+    assertThat(contentOf(targetDir.resolve("messages_de.properties").toFile(), UTF_8)).isEqualTo("size=Größe\n");
+  }
+
+
+  @Test
+  public void testMinify_IntoSourceDirectory() throws IOException {
+    // preparation
+    final Path propertiesRootDirectory= this.tmpFolder.newFolder("i18n").toPath();
+    this.write(propertiesRootDirectory.resolve("messages.properties"), "key = value\n", UTF_8);
+
+    final FileMatcher fileMatcher= new FileMatcher(propertiesRootDirectory, Arrays.asList("**/*.properties"));
+
+    // execution
+    // verification
+    assertThatIllegalArgumentException().isThrownBy(() -> {
+      new BundleMinifier().minify(fileMatcher, UTF_8, propertiesRootDirectory);
+    });
+  }
+
+
+  private void write(final Path file, final String content, final Charset charset) throws IOException {
+    Files.write(file, content.getBytes(charset));
+  }
+}
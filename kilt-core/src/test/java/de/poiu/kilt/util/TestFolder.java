@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import org.junit.rules.TemporaryFolder;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+
+/**
+ * A TemporaryFolder with helper methods for writing and reading the (UTF-8 encoded) files of
+ * a test.
+ *
+ * @author mherrn
+ */
+public class TestFolder extends TemporaryFolder {
+
+  /**
+   * Writes the given lines to the given file. The lines are written as they are, so they must
+   * contain their own line terminators.
+   * <p>
+   * This methods creates all necessary directories prior to writing the file.
+   *
+   * @param file the file to write
+   * @param lines the lines to write
+   * @return the written file
+   * @throws IOException if writing the file fails
+   */
+  public File write(final Path file, final String... lines) throws IOException {
+    Files.createDirectories(file.toAbsolutePath().getParent());
+    Files.write(file, String.join("", lines).getBytes(UTF_8));
+    return file.toFile();
+  }
+
+
+  /**
+   * Writes the given lines to the file with the given name in the root of this folder.
+   *
+   * @param fileName the name of the file to write
+   * @param lines the lines to write
+   * @return the written file
+   * @throws IOException if writing the file fails
+   * @see #write(java.nio.file.Path, java.lang.String...)
+   */
+  public File write(final String fileName, final String... lines) throws IOException {
+    return this.write(this.getRoot().toPath().resolve(fileName), lines);
+  }
+
+
+  /**
+   * Reads the given .properties file.
+   *
+   * @param file the file to read
+   * @return the properties read from the file
+   * @throws IOException if reading the file fails
+   */
+  public Properties read(final Path file) throws IOException {
+    final Properties properties= new Properties();
+    try (final Reader reader= Files.newBufferedReader(file, UTF_8)) {
+      properties.load(reader);
+    }
+    return properties;
+  }
+}
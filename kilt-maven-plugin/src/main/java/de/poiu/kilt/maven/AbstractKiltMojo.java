@@ -15,6 +15,7 @@
  */
 package de.poiu.kilt.maven;
 
+import de.poiu.kilt.bundlecontent.ParsedFileCache;
 import java.io.File;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugins.annotations.Parameter;
@@ -99,6 +100,30 @@ public abstract class AbstractKiltMojo extends AbstractMojo {
   String propertyFileEncoding;
 
 
+  /**
+   * The directory to cache the parsed resource bundle files in.
+   * <p>
+   * If given, the key-value pairs of each parsed resource bundle file are stored in this
+   * directory and reused by all following goals as long as the file doesn't change.
+   */
+  @Parameter(property = "cacheDirectory")
+  File cacheDirectory;
+
+
   @Parameter(defaultValue = "${project}", required = true, readonly = true)
   MavenProject project;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  /**
+   * Creates the ParsedFileCache for the configured {@link #cacheDirectory}.
+   *
+   * @return the ParsedFileCache to use or <code>null</code> if no cache directory is configured
+   */
+  ParsedFileCache createParsedFileCache() {
+    return this.cacheDirectory != null ? new ParsedFileCache(this.cacheDirectory.toPath()) : null;
+  }
 }
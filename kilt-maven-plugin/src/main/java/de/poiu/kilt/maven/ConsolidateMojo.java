@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.maven;
+
+import de.poiu.kilt.packaging.BundleConsolidator;
+import de.poiu.kilt.util.FileMatcher;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.apache.maven.model.Resource;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+
+/**
+ * Consolidates all resource bundles of a locale into a single resource.
+ * <p>
+ * The consolidated bundles are served by the I18n facade accessor class instead of looking up
+ * each resource bundle file separately.
+ */
+@Mojo(name="consolidate",
+      defaultPhase=LifecyclePhase.GENERATE_RESOURCES)
+public class ConsolidateMojo extends AbstractKiltMojo {
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /**
+   * The directory to which the consolidated bundles are written.
+   * This directory is added as a resource directory to the project.
+   */
+  @Parameter(property = "consolidatedResourceDirectory", defaultValue = "${project.build.directory}/generated-resources/kilt")
+  private File consolidatedResourceDirectory;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  @Override
+  public void execute() throws MojoExecutionException {
+    if (this.verbose) {
+      Configurator.setLevel(LogManager.getLogger("de.poiu.kilt").getName(), Level.DEBUG);
+    }
+
+    this.getLog().info("Consolidating resource bundles.");
+
+    final FileMatcher fileMatcher= new FileMatcher(this.propertiesRootDirectory.toPath(), this.i18nIncludes, this.i18nExcludes);
+
+    new BundleConsolidator(this.createParsedFileCache()).consolidate(fileMatcher,
+                                         this.propertyFileEncoding != null ? Charset.forName(this.propertyFileEncoding) : null,
+                                         this.consolidatedResourceDirectory.toPath());
+
+    try {
+      final Resource resource= new Resource();
+      resource.setDirectory(this.consolidatedResourceDirectory.getCanonicalPath());
+      this.project.addResource(resource);
+    } catch (IOException ex) {
+      throw new MojoExecutionException("Error adding consolidated resource directory to project.", ex);
+    }
+
+    this.getLog().info("...done");
+  }
+}
@@ -18,9 +18,12 @@ package de.poiu.kilt.maven;
 import com.palantir.javapoet.JavaFile;
 import com.palantir.javapoet.TypeSpec;
 import de.poiu.kilt.facade.creation.FacadeCreator;
+import de.poiu.kilt.packaging.KeyIndexWriter;
+import de.poiu.kilt.bundlecontent.Catalogue;
 import de.poiu.kilt.bundlecontent.Language;
-import de.poiu.kilt.bundlecontent.ResourceBundleContent;
+import de.poiu.kilt.bundlecontent.ParsedFileCache;
 import de.poiu.kilt.bundlecontent.ResourceBundleContentHelper;
+import de.poiu.kilt.bundlecontent.StringPool;
 import de.poiu.kilt.util.FileMatcher;
 import java.io.File;
 import java.io.IOException;
@@ -29,6 +32,7 @@ import java.util.Set;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.core.config.Configurator;
+import org.apache.maven.model.Resource;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Execute;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
@@ -36,6 +40,8 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 
 /**
  * Generates the I18n enum facades to allow type safe access to localized messages.
@@ -87,6 +93,41 @@ public class CreateFacadeMojo extends AbstractKiltMojo {
   @Parameter(property="facadeAccessorClassName", defaultValue= "I18n")
   private String facadeAccessorClassName;
 
+  /**
+   * The locale for which the generated enum facades should provide the translations directly.
+   * <p>
+   * If given, each enum facade gets a method <code>get()</code> that returns the translation for
+   * this locale from a static array without any resource bundle lookup. This is meant for
+   * applications that only ship a single language.
+   */
+  @Parameter(property="singleLocale")
+  private String singleLocale;
+
+  /**
+   * Whether to write a bundle manifest listing the available locales of each resource bundle.
+   * <p>
+   * The I18n facade accessor uses this manifest to avoid looking up resource bundle files
+   * that don't exist.
+   */
+  @Parameter(property="createBundleManifest", defaultValue= "false")
+  private boolean createBundleManifest;
+
+  /**
+   * Whether to write an index of all bundle keys.
+   * The I18n facade accessor uses this index to speed up the lookup of translations via
+   * bundle name and key.
+   */
+  @Parameter(property="createKeyIndex", defaultValue= "false")
+  private boolean createKeyIndex;
+
+  /**
+   * The location to which the bundle manifest and the key index are written.
+   * This directory will be added as resource directory to the project.
+   * This is only meaningful in combination with {@link #createBundleManifest} or {@link #createKeyIndex}.
+   */
+  @Parameter(property="bundleManifestDirectory", defaultValue = "${project.build.directory}/generated-resources/kilt", required = true)
+  private File bundleManifestDirectory;
+
   /**
    * Whether to execute the generation of the I18n enum facades.
    * <p>
@@ -125,14 +166,25 @@ public class CreateFacadeMojo extends AbstractKiltMojo {
         final Map<String, Map<Language, File>> bundleNameToFilesMap = fbcHelper.toBundleNameToFilesMap(propertyFiles);
 
         final FacadeCreator facadeCreator = new FacadeCreator();
+        final KeyIndexWriter keyIndexWriter= new KeyIndexWriter();
+        // share equal keys and values over all bundles
+        final StringPool stringPool= new StringPool();
+        final ParsedFileCache parsedFileCache= this.createParsedFileCache();
         for (final Map.Entry<String, Map<Language, File>> entry : bundleNameToFilesMap.entrySet()) {
           final String bundleName = entry.getKey();
           final Map<Language, File> bundleTranslations = entry.getValue();
 
-          final ResourceBundleContent resourceBundleContent = ResourceBundleContent.forName(bundleName).fromFiles(bundleTranslations);
-          final TypeSpec resourceBundleEnumTypeSpec = facadeCreator.createFacadeEnumFor(resourceBundleContent);
+          final Catalogue catalogue = Catalogue.fromFiles(bundleName, bundleTranslations, UTF_8, stringPool, parsedFileCache);
+          final TypeSpec resourceBundleEnumTypeSpec = facadeCreator.createFacadeEnumFor(catalogue,
+                                                                                        singleLocale != null && !singleLocale.trim().isEmpty() ? Language.of(singleLocale.trim()) : null,
+                                                                                        // getPlural is only provided by the I18n class of kilt-runtime
+                                                                                        !copyFacadeAccessorClasses);
           final JavaFile javaFile = JavaFile.builder(generatedPackage, resourceBundleEnumTypeSpec).build();
           javaFile.writeTo(facadeGenerationDirectory);
+
+          if (createKeyIndex) {
+            keyIndexWriter.add(catalogue);
+          }
           // TODO: To allow for custom charsets, we need to call javaFile.toString.getBytes(Charset), but this involves
           //       creating the directoy structure and identifying the correct file name.
         }
@@ -142,6 +194,22 @@ public class CreateFacadeMojo extends AbstractKiltMojo {
           facadeCreator.copyFacadeAccessorTemplates(facadeAccessorClassName, generatedPackage, facadeGenerationDirectory.toPath());
         }
 
+        // write the bundle manifest if requested
+        if (createBundleManifest) {
+          facadeCreator.createBundleManifest(bundleNameToFilesMap, bundleManifestDirectory.toPath());
+        }
+
+        // write the key index if requested
+        if (createKeyIndex) {
+          keyIndexWriter.write(bundleManifestDirectory.toPath());
+        }
+
+        if (createBundleManifest || createKeyIndex) {
+          final Resource manifestResource= new Resource();
+          manifestResource.setDirectory(this.bundleManifestDirectory.getCanonicalPath());
+          this.project.addResource(manifestResource);
+        }
+
         this.project.addCompileSourceRoot(this.facadeGenerationDirectory.getCanonicalPath());
       } catch (IOException e) {
         this.getLog().error("Could not write Java facade to file", e);
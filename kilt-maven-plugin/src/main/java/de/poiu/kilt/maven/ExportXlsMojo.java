@@ -46,6 +46,12 @@ public class ExportXlsMojo extends AbstractKiltMojo {
   @Parameter(property = "xlsFile", required= true, defaultValue = "${project.build.directory}/i18n.xlsx")
   private File xlsFile;
 
+  /**
+   * Whether to keep the content of the resource bundles outside of the heap while exporting.
+   */
+  @Parameter(property="offHeap", defaultValue= "false")
+  private boolean offHeap= false;
+
 
   /////////////////////////////////////////////////////////////////////////////
   //
@@ -71,7 +77,9 @@ public class ExportXlsMojo extends AbstractKiltMojo {
 
       XlsImExporter.exportXls(fileMatcher,
                               this.propertyFileEncoding != null ? Charset.forName(this.propertyFileEncoding) : null,
-                              this.xlsFile);
+                              this.xlsFile,
+                              this.offHeap,
+                              this.createParsedFileCache());
     } catch (IOException e) {
       throw new RuntimeException("Error exporting property files to XLS.", e);
     }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.maven;
+
+import de.poiu.kilt.reformatting.BundleMinifier;
+import de.poiu.kilt.util.FileMatcher;
+import java.io.File;
+import java.nio.charset.Charset;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+
+/**
+ * Writes minified copies of the resource bundle files to the build output.
+ * <p>
+ * The minified files contain only the key-value pairs sorted by key, each on a single line.
+ * Non-ASCII characters are written as <code>&#92;uXXXX</code> escape sequences unless
+ * <code>unescapedUnicode</code> is set. The original resource bundle files are never modified.
+ */
+@Mojo(name="minify",
+      defaultPhase=LifecyclePhase.PROCESS_RESOURCES)
+public class MinifyMojo extends AbstractKiltMojo {
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /**
+   * The directory to write the minified resource bundle files to.
+   */
+  @Parameter(property="minifiedResourceDirectory", defaultValue="${project.build.outputDirectory}", required=true)
+  private File minifiedResourceDirectory;
+
+  /**
+   * Whether to write non-ASCII characters as is (encoded in UTF-8) instead of as
+   * <code>&#92;uXXXX</code> escape sequences.
+   * <p>
+   * Such files can only be read by the I18n class of kilt-runtime or on Java 9 or higher, but
+   * not by the copied facade accessor classes on Java 8.
+   */
+  @Parameter(property="unescapedUnicode", defaultValue= "false")
+  private boolean unescapedUnicode= false;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  @Override
+  public void execute() throws MojoExecutionException {
+    if (this.verbose) {
+      Configurator.setLevel(LogManager.getLogger("de.poiu.kilt").getName(), Level.DEBUG);
+    }
+
+    this.getLog().info("Minifying resource bundles into " + this.minifiedResourceDirectory);
+
+    final FileMatcher fileMatcher= new FileMatcher(this.propertiesRootDirectory.toPath(), this.i18nIncludes, this.i18nExcludes);
+    final Charset charset= this.propertyFileEncoding != null ? Charset.forName(this.propertyFileEncoding) : null;
+
+    final long savedBytes= new BundleMinifier(this.createParsedFileCache()).minify(fileMatcher,
+                                                                                  charset,
+                                                                                  this.minifiedResourceDirectory.toPath(),
+                                                                                  this.unescapedUnicode);
+
+    this.getLog().info("Saved " + savedBytes + " bytes");
+    this.getLog().info("...done");
+  }
+}
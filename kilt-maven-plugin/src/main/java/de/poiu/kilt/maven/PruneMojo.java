@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.maven;
+
+import de.poiu.kilt.optimization.RedundancyPruner;
+import de.poiu.kilt.util.FileMatcher;
+import java.nio.charset.Charset;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Execute;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+
+/**
+ * Removes translations from a set of java i18n .properties files that are identical to the value
+ * inherited via the fallback chain.
+ */
+@Mojo(name="prune")
+@Execute(phase=LifecyclePhase.GENERATE_SOURCES)
+public class PruneMojo extends AbstractKiltMojo {
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /**
+   * Whether to move values shared by all locales of a bundle into the base bundle.
+   */
+  @Parameter(property="hoistSharedValues", defaultValue= "false")
+  private boolean hoistSharedValues= false;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  @Override
+  public void execute() throws MojoExecutionException {
+
+    if (this.verbose) {
+      Configurator.setLevel(LogManager.getLogger("de.poiu.kilt").getName(), Level.DEBUG);
+    }
+
+    final FileMatcher fileMatcher = new FileMatcher(this.propertiesRootDirectory.toPath(), this.i18nIncludes, this.i18nExcludes);
+
+    final RedundancyPruner pruner= new RedundancyPruner(this.createParsedFileCache());
+    final RedundancyPruner.Result result= pruner.prune(fileMatcher,
+                                                       this.propertyFileEncoding != null ? Charset.forName(this.propertyFileEncoding) : UTF_8,
+                                                       hoistSharedValues);
+
+    this.getLog().info("Pruned " + result.getPrunedCount() + " translations, saved " + result.getSavedBytes() + " bytes");
+    this.getLog().info("...done");
+  }
+}
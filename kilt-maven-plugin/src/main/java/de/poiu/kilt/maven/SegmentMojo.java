@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.maven;
+
+import de.poiu.kilt.packaging.BundleSegmenter;
+import de.poiu.kilt.util.FileMatcher;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.apache.maven.model.Resource;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+
+/**
+ * Splits large resource bundles into segments.
+ * <p>
+ * The I18n facade accessor class serves segmented bundles by loading only the segment containing
+ * the requested key instead of the whole resource bundle file.
+ */
+@Mojo(name="segment",
+      defaultPhase=LifecyclePhase.GENERATE_RESOURCES)
+public class SegmentMojo extends AbstractKiltMojo {
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /**
+   * The directory to which the segmented bundles are written.
+   * This directory is added as a resource directory to the project.
+   */
+  @Parameter(property = "segmentedResourceDirectory", defaultValue = "${project.build.directory}/generated-resources/kilt")
+  private File segmentedResourceDirectory;
+
+
+  /**
+   * How to assign the keys to segments.
+   * <ul>
+   *   <li>PREFIX: one segment per key prefix (the part of the key up to the first dot)</li>
+   *   <li>HASH: a fixed number of segments by the hash of the key</li>
+   * </ul>
+   */
+  @Parameter(property = "segmentationStrategy", defaultValue = "HASH")
+  private BundleSegmenter.Strategy segmentationStrategy;
+
+
+  /**
+   * The number of segments when assigning the keys by their hash.
+   */
+  @Parameter(property = "segmentCount", defaultValue = "16")
+  private int segmentCount;
+
+
+  /**
+   * The minimum number of keys of a bundle to be segmented.
+   * Smaller bundles are not worth the overhead of segmentation.
+   */
+  @Parameter(property = "segmentMinimumKeyCount", defaultValue = "1000")
+  private int segmentMinimumKeyCount;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  @Override
+  public void execute() throws MojoExecutionException {
+    if (this.verbose) {
+      Configurator.setLevel(LogManager.getLogger("de.poiu.kilt").getName(), Level.DEBUG);
+    }
+
+    this.getLog().info("Segmenting resource bundles.");
+
+    final FileMatcher fileMatcher= new FileMatcher(this.propertiesRootDirectory.toPath(), this.i18nIncludes, this.i18nExcludes);
+
+    new BundleSegmenter(this.segmentationStrategy, this.segmentCount, this.segmentMinimumKeyCount, this.createParsedFileCache())
+      .segment(fileMatcher,
+               this.propertyFileEncoding != null ? Charset.forName(this.propertyFileEncoding) : null,
+               this.segmentedResourceDirectory.toPath());
+
+    try {
+      final Resource resource= new Resource();
+      resource.setDirectory(this.segmentedResourceDirectory.getCanonicalPath());
+      this.project.addResource(resource);
+    } catch (IOException ex) {
+      throw new MojoExecutionException("Error adding segmented resource directory to project.", ex);
+    }
+
+    this.getLog().info("...done");
+  }
+}
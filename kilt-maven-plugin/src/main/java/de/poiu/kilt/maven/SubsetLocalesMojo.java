@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.maven;
+
+import de.poiu.kilt.bundlecontent.Language;
+import de.poiu.kilt.packaging.LocaleSubsetter;
+import de.poiu.kilt.util.FileMatcher;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.apache.maven.model.Resource;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+
+/**
+ * Copies only the resource bundle files of a subset of locales and their fallback parents to the
+ * build output.
+ * <p>
+ * Additionally a bundle manifest listing only these locales is written, so that the I18n facade
+ * accessor class never looks up the bundles of the excluded locales.
+ * <p>
+ * The original resource bundle files must be excluded from the regular resources of the project
+ * to actually reduce the size of the artifact.
+ */
+@Mojo(name="subset-locales",
+      defaultPhase=LifecyclePhase.GENERATE_RESOURCES)
+public class SubsetLocalesMojo extends AbstractKiltMojo {
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /**
+   * The locales to copy the resource bundle files for.
+   * The files of their fallback parents (for example <code>de</code> and the default language
+   * for <code>de_AT</code>) are copied as well.
+   */
+  @Parameter(property = "subsetLocales", required = true)
+  private String[] subsetLocales;
+
+
+  /**
+   * The directory to which the resource bundle files are copied.
+   * This directory is added as a resource directory to the project.
+   */
+  @Parameter(property = "subsetResourceDirectory", defaultValue = "${project.build.directory}/generated-resources/kilt")
+  private File subsetResourceDirectory;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  @Override
+  public void execute() throws MojoExecutionException {
+    if (this.verbose) {
+      Configurator.setLevel(LogManager.getLogger("de.poiu.kilt").getName(), Level.DEBUG);
+    }
+
+    final List<Language> locales= new ArrayList<>();
+    for (final String locale : this.subsetLocales) {
+      if (!locale.trim().isEmpty()) {
+        locales.add(Language.of(locale.trim()));
+      }
+    }
+    if (locales.isEmpty()) {
+      throw new MojoExecutionException("At least one locale must be given.");
+    }
+
+    this.getLog().info("Subsetting resource bundles to the locales " + locales);
+
+    final FileMatcher fileMatcher= new FileMatcher(this.propertiesRootDirectory.toPath(), this.i18nIncludes, this.i18nExcludes);
+
+    new LocaleSubsetter().subset(fileMatcher,
+                                 locales,
+                                 this.subsetResourceDirectory.toPath());
+
+    try {
+      final Resource resource= new Resource();
+      resource.setDirectory(this.subsetResourceDirectory.getCanonicalPath());
+      this.project.addResource(resource);
+    } catch (IOException ex) {
+      throw new MojoExecutionException("Error adding subset resource directory to project.", ex);
+    }
+
+    this.getLog().info("...done");
+  }
+}
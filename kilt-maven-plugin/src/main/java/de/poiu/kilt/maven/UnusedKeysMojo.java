@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.maven;
+
+import de.poiu.kilt.analysis.UnusedKeyFinder;
+import de.poiu.kilt.util.FileMatcher;
+import java.io.File;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+
+/**
+ * Reports the keys of the resource bundles that are not referenced by any compiled class.
+ * <p>
+ * The compiled classes are scanned for references to the constants of the generated facades and
+ * for string literals passed to the lookup methods of the I18n facade accessor that take the
+ * bundle name and key as strings. Optionally the unused keys are stripped from the copies of the
+ * resource bundle files in the build output. The original resource bundle files are never
+ * modified.
+ */
+@Mojo(name="unused-keys",
+      defaultPhase=LifecyclePhase.PROCESS_CLASSES)
+public class UnusedKeysMojo extends AbstractKiltMojo {
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /**
+   * The package name under which the facade(s) were generated.
+   */
+  @Parameter(property="generatedPackage", defaultValue="i18n.generated")
+  private String generatedPackage;
+
+
+  /**
+   * The directory containing the compiled classes to scan.
+   */
+  @Parameter(property="classesDirectory", defaultValue="${project.build.outputDirectory}", required=true)
+  private File classesDirectory;
+
+
+  /**
+   * Whether to remove the unused keys from the copies of the resource bundle files in
+   * {@link #packagedResourceDirectory}.
+   */
+  @Parameter(property="stripUnusedKeys", defaultValue="false")
+  private boolean stripUnusedKeys;
+
+
+  /**
+   * The directory containing the copies of the resource bundle files that are packaged.
+   * This is only meaningful in combination with {@link #stripUnusedKeys}.
+   */
+  @Parameter(property="packagedResourceDirectory", defaultValue="${project.build.outputDirectory}")
+  private File packagedResourceDirectory;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  @Override
+  public void execute() throws MojoExecutionException {
+    if (this.verbose) {
+      Configurator.setLevel(LogManager.getLogger("de.poiu.kilt").getName(), Level.DEBUG);
+    }
+
+    this.getLog().info("Searching for unused keys.");
+
+    final FileMatcher fileMatcher= new FileMatcher(this.propertiesRootDirectory.toPath(), this.i18nIncludes, this.i18nExcludes);
+    final Charset charset= this.propertyFileEncoding != null ? Charset.forName(this.propertyFileEncoding) : null;
+
+    final UnusedKeyFinder finder= new UnusedKeyFinder(this.generatedPackage, this.createParsedFileCache());
+    final Map<String, Set<String>> unusedKeys= finder.findUnusedKeys(fileMatcher, charset, Arrays.asList(this.classesDirectory.toPath()));
+    unusedKeys.forEach((bundleName, keys) -> {
+      this.getLog().info("Unused keys in bundle " + bundleName + ": " + keys);
+    });
+
+    if (this.stripUnusedKeys) {
+      finder.stripUnusedKeys(unusedKeys, fileMatcher, charset, this.packagedResourceDirectory.toPath());
+    }
+
+    this.getLog().info("...done");
+  }
+}
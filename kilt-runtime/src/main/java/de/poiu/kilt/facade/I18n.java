@@ -0,0 +1,805 @@
+/*
+ * Copyright (C) 2018 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.facade;
+
+import de.poiu.kilt.runtime.ByteBufferPool;
+import de.poiu.kilt.runtime.CacheStatistics;
+import de.poiu.kilt.runtime.Escaping;
+import de.poiu.kilt.runtime.KeyIndex;
+import de.poiu.kilt.runtime.PluralCategory;
+import de.poiu.kilt.runtime.PluralRule;
+import de.poiu.kilt.runtime.PropertiesTranslationSource;
+import de.poiu.kilt.runtime.TranslationBundle;
+import de.poiu.kilt.runtime.TranslationCache;
+import de.poiu.kilt.runtime.TranslationSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+
+/**
+ * Helper class to access locale bundles in a type safe way.
+ * <p>
+ * It also allows to mark missing keys by returning the given for which translations are missing
+ * surrounded by <code>:MISSING:</code> instead of throwing an exception (turned on by default).
+ * This allows missing translations without breaking the client code at runtime and easily spotting
+ * the missing translations.
+ * <p>
+ * In addition this class allow to retrieve localized values by giving a bundle name and key
+ * as strings. This way this class can be used without any generated Enum facade.
+ * <p>
+ * For writing translations directly to byte oriented outputs (like HTTP responses) the
+ * translations can also be retrieved UTF-8 encoded via {@link #getBytes(KiltEnumFacade)},
+ * {@link #writeTo(KiltEnumFacade, java.io.OutputStream)} and
+ * {@link #writeTo(KiltEnumFacade, java.nio.ByteBuffer)}. The encoded translations are cached
+ * together with their bundles, so each translation is encoded only once per locale.
+ * <p>
+ * Likewise translations can be retrieved already escaped for embedding them into HTML via
+ * {@link #getHtml(KiltEnumFacade)} or into JSON strings via {@link #getJson(KiltEnumFacade)}.
+ * The escaped translations are cached the same way as the encoded ones.
+ * <p>
+ * Plural forms are stored as a family of keys with the CLDR plural category as suffix, for example
+ * <code>items.one</code> and <code>items.other</code>. The form for a specific count is retrieved
+ * via {@link #getPlural(KiltEnumFacade, long)}, which selects the category via the precompiled
+ * {@link PluralRule} of the locale.
+ * <p>
+ * All translations are retrieved via a {@link TranslationSource} and cached in a
+ * {@link TranslationCache}. By default the first TranslationSource registered via the
+ * {@link ServiceLoader} mechanism is used. If none is registered, the
+ * {@link PropertiesTranslationSource} is used that reads the usual .properties files from the
+ * classpath. All instances created with the default TranslationSource share the same cache.
+ * Instances created with a specific TranslationSource have their own cache that is shared with
+ * all instances derived from it via {@link #forLocale(java.util.Locale)}.
+ * <p>
+ * The cache of the default TranslationSource is bounded to {@value #DEFAULT_CACHE_SIZE} bundles.
+ * This can be changed via the system property {@value #CACHE_SIZE_PROPERTY}.
+ * <p>
+ * If kilt-runtime is shared between multiple applications with separate classloaders (for example
+ * by placing it in the common library directory of a servlet container), each application should
+ * use an I18n bound to its own classloader via {@link #forClassLoader(java.lang.ClassLoader)}.
+ * The bundles are then read and cached separately for each classloader. The cache only weakly
+ * references the classloaders, but it is recommended to explicitly remove the bundles of an
+ * application on undeployment via {@link #clearCache(java.lang.ClassLoader)}.
+ * <p>
+ * If a {@link KeyIndex} (<code>META-INF/kilt/key-index.bin</code>) is found on the classpath,
+ * {@link #get(java.lang.String, java.lang.String)} and {@link #contains(java.lang.String, java.lang.String)}
+ * resolve the known (bundle, key) pairs with one hash and one array access after their first
+ * lookup per locale. Unknown pairs are resolved the normal way. For the default TranslationSource
+ * the key index is read from the classloader of kilt-runtime, for I18n instances bound to a
+ * classloader from that classloader. Instances created with a specific TranslationSource only
+ * use the key index if they are bound to a classloader.
+ * <p>
+ * This is a thread-safe class.
+ *
+ * @author mherrn
+ */
+public class I18n {
+
+  /** The system property to specify the maximum number of bundles in the default cache. */
+  public static final String CACHE_SIZE_PROPERTY= "kilt.cacheSize";
+
+  /** The default maximum number of bundles in the default cache. */
+  public static final int DEFAULT_CACHE_SIZE= 1024;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /** Whether to mark missing translations by surrounding them with <code>:MISSING:</code>. */
+  private final boolean markMissingTranslations;
+
+  /** The locale to use when retrieving localizations. If not given the current locale will be used. */
+  private final Optional<Locale> locale;
+
+  /** The cache to retrieve the translations from. */
+  private final TranslationCache cache;
+
+  /** The classloader to retrieve the translations for. If not given, the TranslationSource decides. */
+  private final Optional<ClassLoader> classLoader;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  /**
+   * Creates a new I18n for the default locale and marking missing translations.
+   * When retrieving localizations that are not existing and no fallback can be found , instead
+   * of throwing a MissingResourceException the bundle name and requested key will be returned
+   * surrounded by <code>:MISSING:</code>.
+   */
+  public I18n() {
+    this(true);
+  }
+
+
+  /**
+   * Creates a new I18n for the given locale and marking missing translations.
+   * When retrieving localizations that are not existing and no fallback can be found , instead
+   * of throwing a MissingResourceException the bundle name and requested key will be returned
+   * surrounded by <code>:MISSING:</code>.
+   *
+   * @param locale the locale to use when retrieving localized strings from this class.
+   */
+  public I18n(final Locale locale) {
+    this(locale, true);
+  }
+
+
+  /**
+   * Creates a new I18n for the default locale.
+   * Whether missing translations are marked is specified by <code>markMissingTranslations</code>
+   * When retrieving localizations that are not existing and no fallback can be found, instead
+   * of throwing a MissingResourceException the bundle name and requested key will be returned
+   * surrounded by <code>:MISSING:</code>.
+   * Otherwise a MissingResourceException will be thrown.
+   *
+   * @param markMissingTranslations whether to mark missing translations
+   */
+  public I18n(final boolean markMissingTranslations) {
+    this(Optional.empty(), markMissingTranslations, DefaultCacheHolder.CACHE);
+  }
+
+
+  /**
+   * Creates a new I18n for the given locale.
+   * Whether missing translations are marked is specified by <code>markMissingTranslations</code>
+   * When retrieving localizations that are not existing and no fallback can be found, instead
+   * of throwing a MissingResourceException the bundle name and requested key will be returned
+   * surrounded by <code>:MISSING:</code>.
+   * Otherwise a MissingResourceException will be thrown.
+   *
+   * @param locale the locale to use when retrieving localized strings from this class.
+   * @param markMissingTranslations whether to mark missing translations
+   */
+  public I18n(final Locale locale, final boolean markMissingTranslations) {
+    this(Optional.of(Objects.requireNonNull(locale)), markMissingTranslations, DefaultCacheHolder.CACHE);
+  }
+
+
+  /**
+   * Creates a new I18n for the default locale and marking missing translations that retrieves
+   * the translations from the given TranslationSource.
+   * <p>
+   * The created I18n has its own cache. Therefore it should be reused instead of creating new
+   * instances for each lookup.
+   *
+   * @param source the TranslationSource to retrieve the translations from
+   */
+  public I18n(final TranslationSource source) {
+    this(Optional.empty(), true, new TranslationCache(source));
+  }
+
+
+  /**
+   * Creates a new I18n for the given locale that retrieves the translations from the given
+   * TranslationSource.
+   * <p>
+   * The created I18n has its own cache. Therefore it should be reused instead of creating new
+   * instances for each lookup.
+   *
+   * @param locale the locale to use when retrieving localized strings from this class.
+   * @param markMissingTranslations whether to mark missing translations
+   * @param source the TranslationSource to retrieve the translations from
+   */
+  public I18n(final Locale locale, final boolean markMissingTranslations, final TranslationSource source) {
+    this(Optional.of(Objects.requireNonNull(locale)), markMissingTranslations, new TranslationCache(source));
+  }
+
+
+  private I18n(final Optional<Locale> locale, final boolean markMissingTranslations, final TranslationCache cache) {
+    this(locale, markMissingTranslations, cache, Optional.empty());
+  }
+
+
+  private I18n(final Optional<Locale> locale,
+               final boolean markMissingTranslations,
+               final TranslationCache cache,
+               final Optional<ClassLoader> classLoader) {
+    this.locale= locale;
+    this.markMissingTranslations= markMissingTranslations;
+    this.cache= cache;
+    this.classLoader= classLoader;
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  /**
+   * Creates a new I18n for the given locale based on this I18n.
+   * This basically means that the current value of <code>markMissingTranslations</code> and the
+   * cache of this I18n will be used and the locale will be set to the given one.
+   *
+   * @param locale the locale to use when retrieving localized strings from this class.
+   * @return a new I18n derived from this one for the given locale
+   */
+  public I18n forLocale(final Locale locale) {
+    Objects.requireNonNull(locale);
+    return new I18n(Optional.of(locale), this.markMissingTranslations, this.cache, this.classLoader);
+  }
+
+
+  /**
+   * Creates a new I18n for the given classloader based on this I18n.
+   * This basically means that the current locale, value of <code>markMissingTranslations</code>
+   * and the cache of this I18n will be used, but the translations will be retrieved for the
+   * given classloader.
+   *
+   * @param classLoader the classloader to retrieve the translations for
+   * @return a new I18n derived from this one for the given classloader
+   * @see TranslationSource#getBundle(java.lang.String, java.util.Locale, java.lang.ClassLoader)
+   */
+  public I18n forClassLoader(final ClassLoader classLoader) {
+    Objects.requireNonNull(classLoader);
+    return new I18n(this.locale, this.markMissingTranslations, this.cache, Optional.of(classLoader));
+  }
+
+
+  /**
+   * Removes all cached translations of this I18n.
+   * The translations are requested again from the TranslationSource on their next lookup.
+   */
+  public void clearCache() {
+    this.cache.clear();
+  }
+
+
+  /**
+   * Removes all cached translations of the given classloader from the cache of this I18n.
+   * <p>
+   * This should be called when an application is undeployed that accessed a shared cache via
+   * {@link #forClassLoader(java.lang.ClassLoader)}.
+   *
+   * @param classLoader the classloader whose translations to remove
+   */
+  public void clearCache(final ClassLoader classLoader) {
+    this.cache.clear(classLoader);
+  }
+
+
+  /**
+   * Returns the current statistics of the cache of this I18n.
+   *
+   * @return the current statistics of the cache of this I18n
+   */
+  public CacheStatistics getCacheStatistics() {
+    return this.cache.getStatistics();
+  }
+
+
+  /**
+   * Returns the bundle with the given name for the locale of this I18n.
+   *
+   * @param bundleName the basename of the bundle to return
+   * @return the bundle
+   * @throws MissingResourceException if no bundle can be found for the given name
+   */
+  private TranslationBundle getBundle(final String bundleName) {
+    final Locale bundleLocale= this.locale.orElseGet(Locale::getDefault);
+    return this.classLoader.isPresent()
+           ? this.cache.getBundle(bundleName, bundleLocale, this.classLoader.get())
+           : this.cache.getBundle(bundleName, bundleLocale);
+  }
+
+
+  /**
+   * Returns the translation for a key or <code>null</code> if the bundle doesn't contain the key.
+   *
+   * @param bundleName the bundle in which to search for the translated key
+   * @param key the key for which to return the translation
+   * @return the translation for the key or <code>null</code> if the bundle doesn't contain the key
+   * @throws MissingResourceException if no bundle can be found for the given name
+   */
+  private String getTranslationOrNull(final String bundleName, final String key) {
+    final Locale bundleLocale= this.locale.orElseGet(Locale::getDefault);
+    return this.classLoader.isPresent()
+           ? this.cache.getTranslation(bundleName, key, bundleLocale, this.classLoader.get())
+           : this.cache.getTranslation(bundleName, key, bundleLocale);
+  }
+
+
+  /**
+   * Returns the translation for a key.
+   * If no translation can be found the behaviour is defined by whether {@link #markMissingTranslations}
+   * is set. If false, a MissingResourceException will be thrown.
+   * Otherwise the key itself will be returned surrounded by <code>:MISSING:</code>.
+   *
+   * @param bundleName the bundle in which to search for the translated key
+   * @param key the key for which to return the translation
+   * @return the translation for the key or <code>:MISSING:&lt;bundle&gt;#&lt;key&gt;:MISSING:</code>
+   *          if no translation can be found and {@link #markMissingTranslations} is set
+   * @throws MissingResourceException if no translation can be found and {@link #markMissingTranslations} is not set
+   */
+  private String getTranslation(final String bundleName, final String key) {
+    final String value= this.getTranslationOrNull(bundleName, key);
+    if (value != null) {
+      return value;
+    } else {
+      return this.handleMissingTranslation(bundleName, key);
+    }
+  }
+
+
+  /**
+   * Returns the UTF-8 encoded translation for a key.
+   * If no translation can be found the behaviour is the same as for {@link #getTranslation(java.lang.String, java.lang.String)}.
+   *
+   * @param bundleName the bundle in which to search for the translated key
+   * @param key the key for which to return the translation
+   * @return the UTF-8 encoded translation for the key or <code>:MISSING:&lt;bundle&gt;#&lt;key&gt;:MISSING:</code>
+   *          if no translation can be found and {@link #markMissingTranslations} is set
+   * @throws MissingResourceException if no translation can be found and {@link #markMissingTranslations} is not set
+   */
+  private byte[] getTranslationBytes(final String bundleName, final String key) {
+    final byte[] value= this.getBundle(bundleName).getUtf8(key);
+    if (value != null) {
+      return value;
+    } else {
+      return this.handleMissingTranslation(bundleName, key).getBytes(StandardCharsets.UTF_8);
+    }
+  }
+
+
+  /**
+   * Returns the escaped translation for a key.
+   * If no translation can be found the behaviour is the same as for {@link #getTranslation(java.lang.String, java.lang.String)},
+   * but the marker of the missing translation is escaped as well.
+   *
+   * @param bundleName the bundle in which to search for the translated key
+   * @param key the key for which to return the translation
+   * @param escaping the escaping to apply
+   * @return the escaped translation for the key or <code>:MISSING:&lt;bundle&gt;#&lt;key&gt;:MISSING:</code>
+   *          if no translation can be found and {@link #markMissingTranslations} is set
+   * @throws MissingResourceException if no translation can be found and {@link #markMissingTranslations} is not set
+   */
+  private String getEscapedTranslation(final String bundleName, final String key, final Escaping escaping) {
+    final String value= this.getBundle(bundleName).getEscaped(key, escaping);
+    if (value != null) {
+      return value;
+    } else {
+      return escaping.escape(this.handleMissingTranslation(bundleName, key));
+    }
+  }
+
+
+  /**
+   * Returns the plural form of a key for the given count.
+   * If no translation can be found the behaviour is the same as for {@link #getTranslation(java.lang.String, java.lang.String)}.
+   *
+   * @param bundleName the bundle in which to search for the translated key
+   * @param key the base key of the plural family or one of its plural forms
+   * @param count the count to return the plural form for
+   * @return the plural form for the count or <code>:MISSING:&lt;bundle&gt;#&lt;key&gt;.other:MISSING:</code>
+   *          if no translation can be found and {@link #markMissingTranslations} is set
+   * @throws MissingResourceException if no translation can be found and {@link #markMissingTranslations} is not set
+   */
+  private String getPluralTranslation(final String bundleName, final String key, final long count) {
+    final String baseKey= PluralCategory.toBaseKey(key);
+    final PluralCategory category= PluralRule.forLocale(this.locale.orElseGet(Locale::getDefault)).select(count);
+    final TranslationBundle bundle= this.getBundle(bundleName);
+
+    String value= bundle.get(category.toKey(baseKey));
+    if (value == null && category != PluralCategory.OTHER) {
+      value= bundle.get(PluralCategory.OTHER.toKey(baseKey));
+    }
+
+    if (value != null) {
+      return value;
+    } else {
+      return this.handleMissingTranslation(bundleName, PluralCategory.OTHER.toKey(baseKey));
+    }
+  }
+
+
+  /**
+   * Handles a missing translation depending on {@link #markMissingTranslations}.
+   *
+   * @param bundleName the bundle in which the key was searched
+   * @param key the key for which no translation was found
+   * @return <code>:MISSING:&lt;bundle&gt;#&lt;key&gt;:MISSING:</code> if {@link #markMissingTranslations} is set
+   * @throws MissingResourceException if {@link #markMissingTranslations} is not set
+   */
+  private String handleMissingTranslation(final String bundleName, final String key) {
+    if (this.markMissingTranslations) {
+      return ":MISSING:"+bundleName+"#"+key+":MISSING:";
+    } else {
+      throw new MissingResourceException("Can't find resource for bundle " + bundleName + ", key " + key,
+                                         bundleName,
+                                         key);
+    }
+  }
+
+
+  /**
+   * Returns the translation for a resource bundle key.
+   * If no translation can be found the behaviour is defined by whether {@link #markMissingTranslations}
+   * is set. If false (the default), a MissingResourceException will be thrown.
+   * Otherwise the key itself will be returned surrounded by <code>:MISSING:</code>.
+   *
+   * @param bundleKey the bundle key for which to return the translation
+   * @return the translation for the bundle key or <code>:MISSING:&lt;bundle&gt;#&lt;key&gt;:MISSING:</code>
+   *          if no translation can be found and {@link #markMissingTranslations} is set
+   * @throws MissingResourceException if no translation can be found and {@link #markMissingTranslations} is not set
+   */
+  public String get(final KiltEnumFacade bundleKey){
+    Objects.requireNonNull(bundleKey);
+    return this.getTranslation(bundleKey.getBasename(), bundleKey.getKey());
+  }
+
+
+  /**
+   * Returns the translation for a key.
+   * If no translation can be found the behaviour is defined by whether {@link #markMissingTranslations}
+   * is set. If false (the default), a MissingResourceException will be thrown.
+   * Otherwise the key itself will be returned surrounded by <code>:MISSING:</code>.
+   *
+   * @param bundleName the bundle in which to search for the translated key
+   * @param key the key for which to return the translation
+   * @return the translation for the bundle key or <code>:MISSING:&lt;bundle&gt;#&lt;key&gt;:MISSING:</code>
+   *          if no translation can be found and {@link #markMissingTranslations} is set
+   * @throws MissingResourceException if no translation can be found and {@link #markMissingTranslations} is not set
+   */
+  public String get(final String bundleName, final String key) {
+    Objects.requireNonNull(bundleName);
+    Objects.requireNonNull(key);
+    return this.getTranslation(bundleName, key);
+  }
+
+
+  /**
+   * Returns the plural form of a resource bundle key for the given count.
+   * <p>
+   * The given bundle key denotes a plural family, that means the key itself is the base key (like
+   * <code>items</code>) or one of its plural forms (like <code>items.one</code>). The plural
+   * category for the count is selected via the {@link PluralRule} for the locale of this I18n.
+   * If the family has no translation for that category, the form for {@link PluralCategory#OTHER}
+   * is returned.
+   * <p>
+   * The count is not inserted into the returned translation. This is up to the caller, for
+   * example via {@link java.text.MessageFormat}.
+   * <p>
+   * If neither of these forms can be found the behaviour is the same as for {@link #get(KiltEnumFacade)}.
+   *
+   * @param bundleKey the bundle key of the plural family
+   * @param count the count to return the plural form for
+   * @return the plural form for the count or <code>:MISSING:&lt;bundle&gt;#&lt;key&gt;.other:MISSING:</code>
+   *          if no translation can be found and {@link #markMissingTranslations} is set
+   * @throws MissingResourceException if no translation can be found and {@link #markMissingTranslations} is not set
+   */
+  public String getPlural(final KiltEnumFacade bundleKey, final long count) {
+    Objects.requireNonNull(bundleKey);
+    return this.getPluralTranslation(bundleKey.getBasename(), bundleKey.getKey(), count);
+  }
+
+
+  /**
+   * Returns the plural form of a key for the given count.
+   * <p>
+   * The behaviour is the same as for {@link #getPlural(KiltEnumFacade, long)}.
+   *
+   * @param bundleName the bundle in which to search for the translated key
+   * @param key the base key of the plural family or one of its plural forms
+   * @param count the count to return the plural form for
+   * @return the plural form for the count or <code>:MISSING:&lt;bundle&gt;#&lt;key&gt;.other:MISSING:</code>
+   *          if no translation can be found and {@link #markMissingTranslations} is set
+   * @throws MissingResourceException if no translation can be found and {@link #markMissingTranslations} is not set
+   */
+  public String getPlural(final String bundleName, final String key, final long count) {
+    Objects.requireNonNull(bundleName);
+    Objects.requireNonNull(key);
+    return this.getPluralTranslation(bundleName, key, count);
+  }
+
+
+  /**
+   * Returns the translation for a resource bundle key escaped for embedding it into HTML.
+   * <p>
+   * If no translation can be found the behaviour is the same as for {@link #get(KiltEnumFacade)}.
+   *
+   * @param bundleKey the bundle key for which to return the translation
+   * @return the HTML escaped translation for the bundle key or <code>:MISSING:&lt;bundle&gt;#&lt;key&gt;:MISSING:</code>
+   *          if no translation can be found and {@link #markMissingTranslations} is set
+   * @throws MissingResourceException if no translation can be found and {@link #markMissingTranslations} is not set
+   * @see Escaping#HTML
+   */
+  public String getHtml(final KiltEnumFacade bundleKey) {
+    Objects.requireNonNull(bundleKey);
+    return this.getEscapedTranslation(bundleKey.getBasename(), bundleKey.getKey(), Escaping.HTML);
+  }
+
+
+  /**
+   * Returns the translation for a key escaped for embedding it into HTML.
+   * <p>
+   * If no translation can be found the behaviour is the same as for {@link #get(java.lang.String, java.lang.String)}.
+   *
+   * @param bundleName the bundle in which to search for the translated key
+   * @param key the key for which to return the translation
+   * @return the HTML escaped translation for the key or <code>:MISSING:&lt;bundle&gt;#&lt;key&gt;:MISSING:</code>
+   *          if no translation can be found and {@link #markMissingTranslations} is set
+   * @throws MissingResourceException if no translation can be found and {@link #markMissingTranslations} is not set
+   * @see Escaping#HTML
+   */
+  public String getHtml(final String bundleName, final String key) {
+    Objects.requireNonNull(bundleName);
+    Objects.requireNonNull(key);
+    return this.getEscapedTranslation(bundleName, key, Escaping.HTML);
+  }
+
+
+  /**
+   * Returns the translation for a resource bundle key escaped for embedding it into a JSON string.
+   * The surrounding quotes are not included.
+   * <p>
+   * If no translation can be found the behaviour is the same as for {@link #get(KiltEnumFacade)}.
+   *
+   * @param bundleKey the bundle key for which to return the translation
+   * @return the JSON escaped translation for the bundle key or <code>:MISSING:&lt;bundle&gt;#&lt;key&gt;:MISSING:</code>
+   *          if no translation can be found and {@link #markMissingTranslations} is set
+   * @throws MissingResourceException if no translation can be found and {@link #markMissingTranslations} is not set
+   * @see Escaping#JSON
+   */
+  public String getJson(final KiltEnumFacade bundleKey) {
+    Objects.requireNonNull(bundleKey);
+    return this.getEscapedTranslation(bundleKey.getBasename(), bundleKey.getKey(), Escaping.JSON);
+  }
+
+
+  /**
+   * Returns the translation for a key escaped for embedding it into a JSON string.
+   * The surrounding quotes are not included.
+   * <p>
+   * If no translation can be found the behaviour is the same as for {@link #get(java.lang.String, java.lang.String)}.
+   *
+   * @param bundleName the bundle in which to search for the translated key
+   * @param key the key for which to return the translation
+   * @return the JSON escaped translation for the key or <code>:MISSING:&lt;bundle&gt;#&lt;key&gt;:MISSING:</code>
+   *          if no translation can be found and {@link #markMissingTranslations} is set
+   * @throws MissingResourceException if no translation can be found and {@link #markMissingTranslations} is not set
+   * @see Escaping#JSON
+   */
+  public String getJson(final String bundleName, final String key) {
+    Objects.requireNonNull(bundleName);
+    Objects.requireNonNull(key);
+    return this.getEscapedTranslation(bundleName, key, Escaping.JSON);
+  }
+
+
+  /**
+   * Returns the UTF-8 encoded translation for a resource bundle key.
+   * <p>
+   * The returned array is cached and shared between all callers. It must therefore not be modified.
+   * <p>
+   * If no translation can be found the behaviour is the same as for {@link #get(KiltEnumFacade)}.
+   *
+   * @param bundleKey the bundle key for which to return the translation
+   * @return the UTF-8 encoded translation for the bundle key or <code>:MISSING:&lt;bundle&gt;#&lt;key&gt;:MISSING:</code>
+   *          if no translation can be found and {@link #markMissingTranslations} is set
+   * @throws MissingResourceException if no translation can be found and {@link #markMissingTranslations} is not set
+   */
+  public byte[] getBytes(final KiltEnumFacade bundleKey) {
+    Objects.requireNonNull(bundleKey);
+    return this.getTranslationBytes(bundleKey.getBasename(), bundleKey.getKey());
+  }
+
+
+  /**
+   * Returns the UTF-8 encoded translation for a key.
+   * <p>
+   * The returned array is cached and shared between all callers. It must therefore not be modified.
+   * <p>
+   * If no translation can be found the behaviour is the same as for {@link #get(java.lang.String, java.lang.String)}.
+   *
+   * @param bundleName the bundle in which to search for the translated key
+   * @param key the key for which to return the translation
+   * @return the UTF-8 encoded translation for the key or <code>:MISSING:&lt;bundle&gt;#&lt;key&gt;:MISSING:</code>
+   *          if no translation can be found and {@link #markMissingTranslations} is set
+   * @throws MissingResourceException if no translation can be found and {@link #markMissingTranslations} is not set
+   */
+  public byte[] getBytes(final String bundleName, final String key) {
+    Objects.requireNonNull(bundleName);
+    Objects.requireNonNull(key);
+    return this.getTranslationBytes(bundleName, key);
+  }
+
+
+  /**
+   * Writes the UTF-8 encoded translation for a resource bundle key to the given OutputStream.
+   * <p>
+   * If no translation can be found the behaviour is the same as for {@link #get(KiltEnumFacade)}.
+   *
+   * @param bundleKey the bundle key for which to write the translation
+   * @param out the OutputStream to write to
+   * @return the number of written bytes
+   * @throws IOException if writing to the OutputStream fails
+   * @throws MissingResourceException if no translation can be found and {@link #markMissingTranslations} is not set
+   */
+  public int writeTo(final KiltEnumFacade bundleKey, final OutputStream out) throws IOException {
+    Objects.requireNonNull(out);
+    final byte[] bytes= this.getBytes(bundleKey);
+    out.write(bytes);
+    return bytes.length;
+  }
+
+
+  /**
+   * Writes the UTF-8 encoded translation for a resource bundle key to the given ByteBuffer.
+   * The translation is written at the current position of the buffer.
+   * <p>
+   * If no translation can be found the behaviour is the same as for {@link #get(KiltEnumFacade)}.
+   *
+   * @param bundleKey the bundle key for which to write the translation
+   * @param buffer the ByteBuffer to write to
+   * @return the number of written bytes
+   * @throws java.nio.BufferOverflowException if the buffer has not enough space remaining
+   * @throws MissingResourceException if no translation can be found and {@link #markMissingTranslations} is not set
+   */
+  public int writeTo(final KiltEnumFacade bundleKey, final ByteBuffer buffer) {
+    Objects.requireNonNull(buffer);
+    final byte[] bytes= this.getBytes(bundleKey);
+    buffer.put(bytes);
+    return bytes.length;
+  }
+
+
+  /**
+   * Returns the UTF-8 encoded translation for a resource bundle key in a direct ByteBuffer from
+   * the given pool.
+   * <p>
+   * The returned buffer is ready for reading (its position is 0 and its limit the length of the
+   * translation). It should be handed back to the pool after use via
+   * {@link ByteBufferPool#release(java.nio.ByteBuffer)}. If the translation doesn't fit into the
+   * buffers of the pool, a read-only heap buffer wrapping the cached translation is returned instead.
+   * <p>
+   * If no translation can be found the behaviour is the same as for {@link #get(KiltEnumFacade)}.
+   *
+   * @param bundleKey the bundle key for which to return the translation
+   * @param pool the pool to acquire the buffer from
+   * @return a buffer containing the UTF-8 encoded translation
+   * @throws MissingResourceException if no translation can be found and {@link #markMissingTranslations} is not set
+   */
+  public ByteBuffer getByteBuffer(final KiltEnumFacade bundleKey, final ByteBufferPool pool) {
+    Objects.requireNonNull(pool);
+    final byte[] bytes= this.getBytes(bundleKey);
+    if (bytes.length > pool.getBufferSize()) {
+      return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+
+    final ByteBuffer buffer= pool.acquire();
+    buffer.put(bytes);
+    buffer.flip();
+    return buffer;
+  }
+
+
+  /**
+   * Returns the translation for a resource bundle key or the default if the key does not contain a
+   * value for the current locale.
+   *
+   * @param bundleKey the bundle key for which to return the translation
+   * @param defaultValue the value to return when no translation can be found for the given bundle key
+   * @return the translation for the bundle key or the given default value
+   *          if no translation can be found
+   */
+  public String getOrDefault(final KiltEnumFacade bundleKey, final String defaultValue){
+    Objects.requireNonNull(bundleKey);
+    return this.getOrDefault(bundleKey.getBasename(), bundleKey.getKey(), defaultValue);
+  }
+
+
+  /**
+   * Returns the translation for a resource bundle key or the default if the key does not contain a
+   * value for the current locale.
+   *
+   * @param bundleName the bundle in which to search for the translated key
+   * @param key the key for which to return the translation
+   * @param defaultValue the value to return when no translation can be found for the given bundle key
+   * @return the translation for the bundle key or the given default value
+   *          if no translation can be found
+   */
+  public String getOrDefault(final String bundleName, final String key, final String defaultValue){
+    Objects.requireNonNull(bundleName);
+    Objects.requireNonNull(key);
+    final String value= this.getBundle(bundleName).get(key);
+    return value != null ? value : defaultValue;
+  }
+
+
+  /**
+   * Checks whether the given resource bundle key contains a value in the given resource bundle.
+   *
+   * @param bundleKey the bundle key for which to return the translation
+   * @return whether the key contains a value
+   */
+  public boolean contains(final KiltEnumFacade bundleKey){
+    Objects.requireNonNull(bundleKey);
+    return this.contains(bundleKey.getBasename(), bundleKey.getKey());
+  }
+
+
+  /**
+   * Checks whether the given key contains a value in the given resource bundle.
+   *
+   * @param bundleName the basename of the bundle in which to search for the key
+   * @param key the key to check
+   * @return whether the key contains a value
+   */
+  public boolean contains(final String bundleName, final String key){
+    Objects.requireNonNull(bundleName);
+    Objects.requireNonNull(key);
+    return this.getTranslationOrNull(bundleName, key) != null;
+  }
+
+
+  /**
+   * Lazily initialized holder of the cache for the default TranslationSource.
+   */
+  private static class DefaultCacheHolder {
+    static final TranslationCache CACHE= createDefaultCache();
+
+    /**
+     * Creates the cache for the default TranslationSource. It uses the key index of the
+     * default classloader if one is available.
+     *
+     * @return the cache for the default TranslationSource
+     */
+    private static TranslationCache createDefaultCache() {
+      final TranslationSource source= loadDefaultSource();
+      final int maximumSize= Integer.getInteger(CACHE_SIZE_PROPERTY, DEFAULT_CACHE_SIZE);
+      final KeyIndex keyIndex= KeyIndex.load(getClassLoader());
+      return keyIndex != null
+             ? new TranslationCache(source, maximumSize, keyIndex)
+             : new TranslationCache(source, maximumSize);
+    }
+
+    /**
+     * Returns the first TranslationSource registered via the ServiceLoader mechanism or a
+     * PropertiesTranslationSource if none is registered.
+     *
+     * @return the default TranslationSource
+     */
+    private static TranslationSource loadDefaultSource() {
+      final ClassLoader classLoader= getClassLoader();
+      final Iterator<TranslationSource> sources= ServiceLoader.load(TranslationSource.class, classLoader).iterator();
+      if (sources.hasNext()) {
+        return sources.next();
+      }
+      return new PropertiesTranslationSource(classLoader);
+    }
+
+
+    /**
+     * Returns the classloader to read the default translations from.
+     *
+     * @return the classloader of I18n or the system classloader
+     */
+    private static ClassLoader getClassLoader() {
+      return I18n.class.getClassLoader() != null
+             ? I18n.class.getClassLoader()
+             : ClassLoader.getSystemClassLoader();
+    }
+  }
+}
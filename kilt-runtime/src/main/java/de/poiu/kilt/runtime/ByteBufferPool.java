@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.runtime;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * A pool of direct ByteBuffers of a fixed capacity.
+ * <p>
+ * Allocating direct ByteBuffers is expensive. This pool allows reusing them for writing the
+ * encoded translations to channels. Buffers are acquired via {@link #acquire()} and must be
+ * handed back via {@link #release(java.nio.ByteBuffer)} after use. If the pool is empty a new
+ * buffer is allocated. At most <code>maximumPooled</code> released buffers are retained, all
+ * others are left to the garbage collector.
+ * <p>
+ * This is a thread-safe class.
+ *
+ * @author mherrn
+ */
+public class ByteBufferPool {
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /** The capacity of the buffers in this pool. */
+  private final int bufferSize;
+
+  /** The maximum number of buffers retained in this pool. */
+  private final int maximumPooled;
+
+  /** The currently pooled buffers. */
+  private final Queue<ByteBuffer> buffers= new ConcurrentLinkedQueue<>();
+
+  /** The number of currently pooled buffers. */
+  private final AtomicInteger pooledCount= new AtomicInteger();
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  /**
+   * Creates a new ByteBufferPool.
+   *
+   * @param bufferSize the capacity of the buffers in this pool
+   * @param maximumPooled the maximum number of buffers retained in this pool
+   */
+  public ByteBufferPool(final int bufferSize, final int maximumPooled) {
+    if (bufferSize <= 0) {
+      throw new IllegalArgumentException("bufferSize must be positive: " + bufferSize);
+    }
+    if (maximumPooled < 0) {
+      throw new IllegalArgumentException("maximumPooled must not be negative: " + maximumPooled);
+    }
+    this.bufferSize= bufferSize;
+    this.maximumPooled= maximumPooled;
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  /**
+   * Returns the capacity of the buffers in this pool.
+   *
+   * @return the capacity of the buffers in this pool
+   */
+  public int getBufferSize() {
+    return this.bufferSize;
+  }
+
+
+  /**
+   * Acquires a cleared direct buffer from this pool. If no buffer is available, a new one is
+   * allocated.
+   *
+   * @return a cleared direct buffer with a capacity of {@link #getBufferSize()}
+   */
+  public ByteBuffer acquire() {
+    final ByteBuffer buffer= this.buffers.poll();
+    if (buffer == null) {
+      return ByteBuffer.allocateDirect(this.bufferSize);
+    }
+
+    this.pooledCount.decrementAndGet();
+    buffer.clear();
+    return buffer;
+  }
+
+
+  /**
+   * Hands the given buffer back to this pool.
+   * <p>
+   * Buffers not acquired from this pool (that means buffers that are not direct, are read-only or
+   * have a different capacity) are silently ignored. The buffer must not be used anymore after
+   * releasing it.
+   *
+   * @param buffer the buffer to release
+   */
+  public void release(final ByteBuffer buffer) {
+    Objects.requireNonNull(buffer);
+    if (!buffer.isDirect() || buffer.isReadOnly() || buffer.capacity() != this.bufferSize) {
+      return;
+    }
+
+    if (this.pooledCount.incrementAndGet() <= this.maximumPooled) {
+      this.buffers.offer(buffer);
+    } else {
+      this.pooledCount.decrementAndGet();
+    }
+  }
+}
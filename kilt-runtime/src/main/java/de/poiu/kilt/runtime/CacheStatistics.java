@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.runtime;
+
+
+/**
+ * A snapshot of the statistics of a {@link TranslationCache}.
+ * <p>
+ * This is an immutable class.
+ *
+ * @author mherrn
+ */
+public class CacheStatistics {
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /** The number of lookups served from the cache. */
+  private final long hitCount;
+
+  /** The number of lookups that had to resolve the bundle via the TranslationSource. */
+  private final long missCount;
+
+  /** The number of bundles evicted due to the size bound of the cache. */
+  private final long evictionCount;
+
+  /** The number of bundles evicted since their classloader was garbage collected or explicitly cleared. */
+  private final long classLoaderEvictionCount;
+
+  /** The current number of resolved bundles in the cache. */
+  private final int size;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  CacheStatistics(final long hitCount,
+                  final long missCount,
+                  final long evictionCount,
+                  final long classLoaderEvictionCount,
+                  final int size) {
+    this.hitCount= hitCount;
+    this.missCount= missCount;
+    this.evictionCount= evictionCount;
+    this.classLoaderEvictionCount= classLoaderEvictionCount;
+    this.size= size;
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  /**
+   * Returns the number of lookups served from the cache.
+   *
+   * @return the number of lookups served from the cache
+   */
+  public long getHitCount() {
+    return this.hitCount;
+  }
+
+
+  /**
+   * Returns the number of lookups that had to resolve the bundle via the TranslationSource.
+   *
+   * @return the number of lookups not served from the cache
+   */
+  public long getMissCount() {
+    return this.missCount;
+  }
+
+
+  /**
+   * Returns the ratio of lookups served from the cache.
+   *
+   * @return the ratio of lookups served from the cache or 1.0 if no lookup was done yet
+   */
+  public double getHitRate() {
+    final long requestCount= this.hitCount + this.missCount;
+    return requestCount == 0 ? 1.0 : (double) this.hitCount / requestCount;
+  }
+
+
+  /**
+   * Returns the number of bundles evicted due to the size bound of the cache.
+   *
+   * @return the number of bundles evicted due to the size bound of the cache
+   */
+  public long getEvictionCount() {
+    return this.evictionCount;
+  }
+
+
+  /**
+   * Returns the number of bundles evicted since their classloader was garbage collected or
+   * explicitly cleared via {@link TranslationCache#clear(java.lang.ClassLoader)}.
+   *
+   * @return the number of bundles evicted with their classloader
+   */
+  public long getClassLoaderEvictionCount() {
+    return this.classLoaderEvictionCount;
+  }
+
+
+  /**
+   * Returns the current number of resolved bundles in the cache.
+   *
+   * @return the current number of resolved bundles in the cache
+   */
+  public int getSize() {
+    return this.size;
+  }
+
+
+  @Override
+  public String toString() {
+    return "CacheStatistics{"
+      + "hitCount=" + hitCount
+      + ", missCount=" + missCount
+      + ", evictionCount=" + evictionCount
+      + ", classLoaderEvictionCount=" + classLoaderEvictionCount
+      + ", size=" + size + '}';
+  }
+}
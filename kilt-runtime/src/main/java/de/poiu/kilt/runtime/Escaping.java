@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.runtime;
+
+import java.util.Objects;
+
+
+/**
+ * The supported escapings of translations for embedding them into other formats.
+ *
+ * @author mherrn
+ */
+public enum Escaping {
+
+  /**
+   * Escaping for HTML and XML text and attribute values.
+   * The characters <code>&amp;</code>, <code>&lt;</code>, <code>&gt;</code>, <code>"</code> and
+   * <code>'</code> are replaced by their character references.
+   */
+  HTML {
+    @Override
+    protected String escape(final char c) {
+      switch (c) {
+        case '&':  return "&amp;";
+        case '<':  return "&lt;";
+        case '>':  return "&gt;";
+        case '"':  return "&quot;";
+        case '\'': return "&#39;";
+        default:   return null;
+      }
+    }
+  },
+
+  /**
+   * Escaping for the content of JSON strings (without the surrounding quotes).
+   * Quotes, backslashes and control characters are escaped as required by RFC 8259. Additionally
+   * the line and paragraph separators U+2028 and U+2029 are escaped to allow embedding the
+   * strings in JavaScript.
+   */
+  JSON {
+    @Override
+    protected String escape(final char c) {
+      switch (c) {
+        case '"':      return "\\\"";
+        case '\\':     return "\\\\";
+        case '\b':     return "\\b";
+        case '\f':     return "\\f";
+        case '\n':     return "\\n";
+        case '\r':     return "\\r";
+        case '\t':     return "\\t";
+        case '\u2028': return "\\u2028";
+        case '\u2029': return "\\u2029";
+        default:
+          if (c < 0x20) {
+            return String.format("\\u%04x", (int) c);
+          }
+          return null;
+      }
+    }
+  },
+  ;
+
+
+  /**
+   * Escapes the given string.
+   * <p>
+   * If the string doesn't contain any character that needs to be escaped, the string itself is
+   * returned.
+   *
+   * @param s the string to escape
+   * @return the escaped string
+   */
+  public String escape(final String s) {
+    Objects.requireNonNull(s);
+
+    StringBuilder sb= null;
+    for (int i= 0; i < s.length(); i++) {
+      final String replacement= this.escape(s.charAt(i));
+      if (replacement != null) {
+        if (sb == null) {
+          sb= new StringBuilder(s.length() + 16);
+          sb.append(s, 0, i);
+        }
+        sb.append(replacement);
+      } else if (sb != null) {
+        sb.append(s.charAt(i));
+      }
+    }
+
+    return sb != null ? sb.toString() : s;
+  }
+
+
+  /**
+   * Returns the replacement for the given character.
+   *
+   * @param c the character to escape
+   * @return the replacement or <code>null</code> if the character doesn't need to be escaped
+   */
+  protected abstract String escape(char c);
+}
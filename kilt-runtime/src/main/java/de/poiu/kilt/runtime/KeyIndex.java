@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.runtime;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+
+/**
+ * A minimal perfect hash index of all known (bundle, key) pairs.
+ * <p>
+ * Each known pair is mapped to a dense slot with a single hash of bundle name and key. The
+ * {@link TranslationCache} uses these slots to cache the resolved translations of each locale
+ * in an array.
+ * <p>
+ * The index is written by Kilts KeyIndexWriter to {@value #KEY_INDEX_RESOURCE}. The hash
+ * functions must be identical to the ones implemented there (and in the I18n accessor template).
+ * <p>
+ * This is an immutable class.
+ *
+ * @author mherrn
+ */
+public class KeyIndex {
+  /** The classpath location of the key index. */
+  public static final String KEY_INDEX_RESOURCE= "META-INF/kilt/key-index.bin";
+
+  private static final int  MAGIC=            0x4B494C54;
+  private static final int  VERSION=          1;
+  private static final long FNV_OFFSET_BASIS= 0xcbf29ce484222325L;
+  private static final long FNV_PRIME=        0x100000001b3L;
+  private static final long GOLDEN_GAMMA=     0x9e3779b97f4a7c15L;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /** The displacement for each bucket. Negative values denote the slot -(displacement+1). */
+  private final int[] displacements;
+
+  /** The bundle name of each slot. */
+  private final String[] bundleNames;
+
+  /** The key of each slot. */
+  private final String[] keys;
+
+  /** The hash of each slot. */
+  private final long[] hashes;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  private KeyIndex(final int[] displacements, final String[] bundleNames, final String[] keys) {
+    this.displacements= displacements;
+    this.bundleNames= bundleNames;
+    this.keys= keys;
+    this.hashes= new long[keys.length];
+    for (int i= 0; i < keys.length; i++) {
+      this.hashes[i]= hash(bundleNames[i], keys[i]);
+    }
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  /**
+   * Reads the key index available via the given classloader.
+   * <p>
+   * Only the first key index (in classpath order) is read.
+   *
+   * @param classLoader the classloader to read the key index from
+   * @return the KeyIndex or <code>null</code> if no (valid) key index can be found
+   */
+  public static KeyIndex load(final ClassLoader classLoader) {
+    Objects.requireNonNull(classLoader);
+
+    final InputStream in= classLoader.getResourceAsStream(KEY_INDEX_RESOURCE);
+    if (in == null) {
+      return null;
+    }
+
+    try (final DataInputStream dis= new DataInputStream(new BufferedInputStream(in))) {
+      return read(dis);
+    } catch (IOException | RuntimeException ex) {
+      // without a valid key index we just fall back to the default lookup
+      return null;
+    }
+  }
+
+
+  /**
+   * Reads a key index from the given stream.
+   *
+   * @param in the stream to read from
+   * @return the KeyIndex or <code>null</code> if the stream doesn't contain a (non-empty) key index
+   * @throws IOException if reading from the stream fails
+   */
+  static KeyIndex read(final DataInputStream in) throws IOException {
+    if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+      return null;
+    }
+
+    final int n= in.readInt();
+    final int r= in.readInt();
+    if (n <= 0 || r <= 0) {
+      return null;
+    }
+
+    final int[] displacements= new int[r];
+    for (int b= 0; b < r; b++) {
+      displacements[b]= in.readInt();
+      if (displacements[b] < -n) {
+        return null;
+      }
+    }
+    final String[] bundleNames= new String[n];
+    final String[] keys= new String[n];
+    for (int i= 0; i < n; i++) {
+      bundleNames[i]= in.readUTF();
+      keys[i]= in.readUTF();
+    }
+
+    return new KeyIndex(displacements, bundleNames, keys);
+  }
+
+
+  /**
+   * Returns the number of slots of this index.
+   *
+   * @return the number of slots of this index
+   */
+  public int size() {
+    return this.keys.length;
+  }
+
+
+  /**
+   * Returns the slot of the given pair of bundle name and key.
+   *
+   * @param bundleName the bundle name
+   * @param key the key
+   * @return the slot of the pair or -1 if the pair is unknown
+   */
+  public int indexOf(final String bundleName, final String key) {
+    final long hash= hash(bundleName, key);
+    final int displacement= this.displacements[(int) Long.remainderUnsigned(hash, this.displacements.length)];
+    final int slot= displacement < 0
+                    ? -displacement - 1
+                    : (int) Long.remainderUnsigned(mix(hash + displacement * GOLDEN_GAMMA), this.keys.length);
+
+    if (this.hashes[slot] == hash
+      && this.keys[slot].equals(key)
+      && this.bundleNames[slot].equals(bundleName)) {
+      return slot;
+    } else {
+      return -1;
+    }
+  }
+
+
+  private static long hash(final String bundleName, final String key) {
+    long h= FNV_OFFSET_BASIS;
+    for (int i= 0; i < bundleName.length(); i++) {
+      h^= bundleName.charAt(i);
+      h*= FNV_PRIME;
+    }
+    h*= FNV_PRIME;
+    for (int i= 0; i < key.length(); i++) {
+      h^= key.charAt(i);
+      h*= FNV_PRIME;
+    }
+    return mix(h);
+  }
+
+
+  private static long mix(long value) {
+    value^= value >>> 33;
+    value*= 0xff51afd7ed558ccdL;
+    value^= value >>> 33;
+    value*= 0xc4ceb9fe1a85ec53L;
+    value^= value >>> 33;
+    return value;
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.runtime;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+
+/**
+ * A TranslationBundle backed by a map of translations.
+ * <p>
+ * The map is not copied. It must not be modified after creating a MapTranslationBundle from it.
+ *
+ * @author mherrn
+ */
+public class MapTranslationBundle implements TranslationBundle {
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /** The translations of this bundle. */
+  private final Map<String, String> translations;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  /**
+   * Creates a new MapTranslationBundle with the given translations.
+   *
+   * @param translations the translations of this bundle
+   */
+  public MapTranslationBundle(final Map<String, String> translations) {
+    Objects.requireNonNull(translations);
+    this.translations= translations;
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  @Override
+  public String get(final String key) {
+    Objects.requireNonNull(key);
+    return this.translations.get(key);
+  }
+
+
+  @Override
+  public Set<String> keySet() {
+    return Collections.unmodifiableSet(this.translations.keySet());
+  }
+
+
+  @Override
+  public String toString() {
+    return "MapTranslationBundle{" + "translations=" + translations.size() + '}';
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.runtime;
+
+import java.util.Locale;
+import java.util.Objects;
+
+
+/**
+ * The CLDR plural categories.
+ * <p>
+ * The plural forms of a key are stored as separate keys with the category as suffix, for example
+ * <code>items.one</code> and <code>items.other</code>. Such a set of keys is called a plural family.
+ * The category {@link #OTHER} must always be present, since it is the fallback for all other
+ * categories.
+ *
+ * @author mherrn
+ */
+public enum PluralCategory {
+  ZERO,
+  ONE,
+  TWO,
+  FEW,
+  MANY,
+  OTHER,
+  ;
+
+
+  /** The suffix of keys for this category (including the separating dot). */
+  private final String keySuffix= "." + this.name().toLowerCase(Locale.ROOT);
+
+
+  /**
+   * Returns the suffix of keys for this category including the separating dot, for example
+   * <code>.one</code>.
+   *
+   * @return the suffix of keys for this category
+   */
+  public String getKeySuffix() {
+    return this.keySuffix;
+  }
+
+
+  /**
+   * Returns the key for this category in the plural family with the given base key.
+   *
+   * @param baseKey the base key of the plural family
+   * @return the key of the plural form for this category
+   */
+  public String toKey(final String baseKey) {
+    return baseKey + this.keySuffix;
+  }
+
+
+  /**
+   * Returns the base key of the plural family the given key belongs to.
+   * <p>
+   * If the given key ends with a category suffix, the key without that suffix is returned.
+   * Otherwise the key itself is returned.
+   *
+   * @param key the key to return the base key for
+   * @return the base key
+   */
+  public static String toBaseKey(final String key) {
+    Objects.requireNonNull(key);
+
+    for (final PluralCategory category : values()) {
+      if (key.endsWith(category.keySuffix) && key.length() > category.keySuffix.length()) {
+        return key.substring(0, key.length() - category.keySuffix.length());
+      }
+    }
+
+    return key;
+  }
+}
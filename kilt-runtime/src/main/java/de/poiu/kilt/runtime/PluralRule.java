@@ -0,0 +1,499 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.runtime;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static de.poiu.kilt.runtime.PluralCategory.FEW;
+import static de.poiu.kilt.runtime.PluralCategory.MANY;
+import static de.poiu.kilt.runtime.PluralCategory.ONE;
+import static de.poiu.kilt.runtime.PluralCategory.OTHER;
+import static de.poiu.kilt.runtime.PluralCategory.TWO;
+import static de.poiu.kilt.runtime.PluralCategory.ZERO;
+
+
+/**
+ * Precompiled CLDR plural rules for integer counts.
+ * <p>
+ * Many languages share the same plural rule. Each constant of this enum implements one of these
+ * rules for integer counts (the CLDR operands <code>v</code> and <code>f</code> are always 0)
+ * and lists the languages using it. The selection therefore only needs a few integer comparisons
+ * and doesn't depend on ICU4J. Negative counts are treated like their absolute value.
+ * <p>
+ * All languages with integer plural rules in CLDR 46 are supported. Languages without an explicit
+ * rule (including the root locale) use {@link #OTHER_ONLY}. For languages other than the root
+ * language a warning is logged the first time such a language is requested.
+ *
+ * @author mherrn
+ */
+public enum PluralRule {
+
+  /** Languages without any plural distinction. */
+  OTHER_ONLY("bm bo dz hnj id ig ii in ja jbo jv jw kde kea km ko lkt lo ms my nqo osa sah ses sg su th to tpi vi wo yo yue zh") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      return OTHER;
+    }
+  },
+
+  /** one: 1 */
+  ONE_ONLY("af an asa ast az bal bem bez bg brx ce cgg chr ckb da de dv ee el en eo et eu fi fo fur fy gl gsw ha haw hu ia io ji jgo jmc ka kaj kcg kk kkj kl ks ksb ku ky lb lg mas mgo ml mn mr nah nb nd ne nl nn nnh no nr ny nyn om or os pap ps rm rof rwk saq sc scn sd sdh seh sn so sq ss ssy st sv sw syr ta te teo tig tk tn tr ts ug ur uz ve vo vun wae xh xog yi") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      return i == 1 ? ONE : OTHER;
+    }
+  },
+
+  /** one: 0, 1 */
+  ZERO_AND_ONE("ak am as bho bn doi fa ff gu guw hi hy kab kn ln mg nso pa pcm si ti wa zu") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      return i <= 1 ? ONE : OTHER;
+    }
+  },
+
+  /** one: 1; many: multiples of a million */
+  ONE_AND_MILLION("ca es it lld pt_PT vec") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      if (i == 1) {
+        return ONE;
+      }
+      return isMillion(i) ? MANY : OTHER;
+    }
+  },
+
+  /** one: 0, 1; many: multiples of a million */
+  ZERO_AND_ONE_AND_MILLION("fr pt") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      if (i <= 1) {
+        return ONE;
+      }
+      return isMillion(i) ? MANY : OTHER;
+    }
+  },
+
+  /** zero: 0; one: 1 */
+  ZERO_AND_ONE_SEPARATE("blo ksh lag") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      if (i == 0) {
+        return ZERO;
+      }
+      return i == 1 ? ONE : OTHER;
+    }
+  },
+
+  /** one: 0, 1, 11…99 */
+  CENTRAL_ATLAS_TAMAZIGHT("tzm") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      return i <= 1 || (i >= 11 && i <= 99) ? ONE : OTHER;
+    }
+  },
+
+  /** one: 0, 1; few: 2…10 */
+  TACHELHIT("shi") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      if (i <= 1) {
+        return ONE;
+      }
+      return i <= 10 ? FEW : OTHER;
+    }
+  },
+
+  /** one: 1, 21, 31, …; other: 11, 111, … */
+  ICELANDIC("is mk") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      return i % 10 == 1 && i % 100 != 11 ? ONE : OTHER;
+    }
+  },
+
+  /** one: 1, 2, 3 and all numbers not ending in 4, 6 or 9 */
+  FILIPINO("ceb fil tl") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      final long i10= i % 10;
+      return i10 != 4 && i10 != 6 && i10 != 9 ? ONE : OTHER;
+    }
+  },
+
+  /** zero: 0, 10…20, 30, …; one: 1, 21, 31, … */
+  LATVIAN("lv prg") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      final long i10= i % 10;
+      final long i100= i % 100;
+      if (i10 == 0 || (i100 >= 11 && i100 <= 19)) {
+        return ZERO;
+      }
+      return i10 == 1 && i100 != 11 ? ONE : OTHER;
+    }
+  },
+
+  /** one: 1, 21, 31, …; few: 2…9, 22…29, …; other: 0, 10…20, 30, … */
+  LITHUANIAN("lt") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      final long i10= i % 10;
+      final long i100= i % 100;
+      if (i100 >= 11 && i100 <= 19) {
+        return OTHER;
+      }
+      if (i10 == 1) {
+        return ONE;
+      }
+      return i10 >= 2 ? FEW : OTHER;
+    }
+  },
+
+  /** one: 1, 21, 31, …; few: 2…4, 22…24, …; many: all others */
+  EAST_SLAVIC("be ru uk") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      final long i10= i % 10;
+      final long i100= i % 100;
+      if (i10 == 1 && i100 != 11) {
+        return ONE;
+      }
+      return isFewSlavic(i10, i100) ? FEW : MANY;
+    }
+  },
+
+  /** one: 1, 21, 31, …; few: 2…4, 22…24, …; other: all others */
+  SOUTH_SLAVIC("bs hr sh sr") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      final long i10= i % 10;
+      final long i100= i % 100;
+      if (i10 == 1 && i100 != 11) {
+        return ONE;
+      }
+      return isFewSlavic(i10, i100) ? FEW : OTHER;
+    }
+  },
+
+  /** one: 1; few: 2…4, 22…24, …; many: all others */
+  POLISH("pl") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      if (i == 1) {
+        return ONE;
+      }
+      return isFewSlavic(i % 10, i % 100) ? FEW : MANY;
+    }
+  },
+
+  /** one: 1; few: 2…4 */
+  CZECH("cs sk") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      if (i == 1) {
+        return ONE;
+      }
+      return i >= 2 && i <= 4 ? FEW : OTHER;
+    }
+  },
+
+  /** one: 1, 101, …; two: 2, 102, …; few: 3, 4, 103, 104, … */
+  SLOVENIAN("dsb hsb sl") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      final long i100= i % 100;
+      if (i100 == 1) {
+        return ONE;
+      }
+      if (i100 == 2) {
+        return TWO;
+      }
+      return i100 == 3 || i100 == 4 ? FEW : OTHER;
+    }
+  },
+
+  /** one: 1; few: 0, 2…19, 101…119, … */
+  ROMANIAN("mo ro") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      if (i == 1) {
+        return ONE;
+      }
+      final long i100= i % 100;
+      return i == 0 || (i100 >= 1 && i100 <= 19) ? FEW : OTHER;
+    }
+  },
+
+  /** one: 1; two: 2 */
+  HEBREW("he iu iw naq sat se sma smi smj smn sms") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      if (i == 1) {
+        return ONE;
+      }
+      return i == 2 ? TWO : OTHER;
+    }
+  },
+
+  /** zero: 0; one: 1; two: 2; few: 3…10, 103…110, …; many: 11…99, 111…199, … */
+  ARABIC("ar ars") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      if (i <= 2) {
+        return i == 0 ? ZERO : (i == 1 ? ONE : TWO);
+      }
+      final long i100= i % 100;
+      if (i100 >= 3 && i100 <= 10) {
+        return FEW;
+      }
+      return i100 >= 11 ? MANY : OTHER;
+    }
+  },
+
+  /** one: 1; two: 2; few: 0, 3…10, 103…110, …; many: 11…19, 111…119, … */
+  MALTESE("mt") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      if (i == 1) {
+        return ONE;
+      }
+      if (i == 2) {
+        return TWO;
+      }
+      final long i100= i % 100;
+      if (i == 0 || (i100 >= 3 && i100 <= 10)) {
+        return FEW;
+      }
+      return i100 >= 11 && i100 <= 19 ? MANY : OTHER;
+    }
+  },
+
+  /** one: 1; two: 2; few: 3…6; many: 7…10 */
+  IRISH("ga") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      if (i == 1) {
+        return ONE;
+      }
+      if (i == 2) {
+        return TWO;
+      }
+      if (i >= 3 && i <= 6) {
+        return FEW;
+      }
+      return i >= 7 && i <= 10 ? MANY : OTHER;
+    }
+  },
+
+  /** one: 1, 11; two: 2, 12; few: 3…10, 13…19 */
+  SCOTTISH_GAELIC("gd") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      if (i == 1 || i == 11) {
+        return ONE;
+      }
+      if (i == 2 || i == 12) {
+        return TWO;
+      }
+      return i >= 3 && i <= 19 ? FEW : OTHER;
+    }
+  },
+
+  /** one: 1, 11, 21, …; two: 2, 12, 22, …; few: 0, 20, 40, 60, 80, 100, … */
+  MANX("gv") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      final long i10= i % 10;
+      if (i10 == 1) {
+        return ONE;
+      }
+      if (i10 == 2) {
+        return TWO;
+      }
+      return i % 20 == 0 ? FEW : OTHER;
+    }
+  },
+
+  /** one: 1, 21, 31, …; two: 2, 22, 32, …; few: 3, 4, 9, 23, 24, 29, …; many: multiples of a million */
+  BRETON("br") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      final long i10= i % 10;
+      final long i100= i % 100;
+      if (i10 == 1 && i100 != 11 && i100 != 71 && i100 != 91) {
+        return ONE;
+      }
+      if (i10 == 2 && i100 != 12 && i100 != 72 && i100 != 92) {
+        return TWO;
+      }
+      if ((i10 == 3 || i10 == 4 || i10 == 9)
+        && (i100 < 10 || i100 > 19) && (i100 < 70 || i100 > 79) && i100 < 90) {
+        return FEW;
+      }
+      return isMillion(i) ? MANY : OTHER;
+    }
+  },
+
+  /** zero: 0; one: 1; two: 2, 22, 42, …, 1000, 2000, …; few: 3, 23, 43, …; many: 21, 41, 61, … */
+  CORNISH("kw") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      if (i <= 1) {
+        return i == 0 ? ZERO : ONE;
+      }
+      final long i100= i % 100;
+      final long i100000= i % 100_000;
+      if (i100 % 20 == 2
+        || (i % 1000 == 0 && ((i100000 >= 1000 && i100000 <= 20_000) || i100000 == 40_000 || i100000 == 60_000 || i100000 == 80_000))
+        || i % 1_000_000 == 100_000) {
+        return TWO;
+      }
+      if (i100 % 20 == 3) {
+        return FEW;
+      }
+      return i100 % 20 == 1 ? MANY : OTHER;
+    }
+  },
+
+  /** zero: 0; one: 1; two: 2; few: 3; many: 6 */
+  WELSH("cy") {
+    @Override
+    protected PluralCategory select0(final long i) {
+      switch ((int) Math.min(i, 7)) {
+        case 0:  return ZERO;
+        case 1:  return ONE;
+        case 2:  return TWO;
+        case 3:  return FEW;
+        case 6:  return MANY;
+        default: return OTHER;
+      }
+    }
+  },
+  ;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  private static final Logger LOGGER= Logger.getLogger(PluralRule.class.getName());
+
+  /** The plural rules by language (and <code>language_COUNTRY</code> for regional deviations). */
+  private static final Map<String, PluralRule> RULES_BY_LANGUAGE= new HashMap<>();
+  static {
+    for (final PluralRule rule : values()) {
+      for (final String language : rule.languages) {
+        RULES_BY_LANGUAGE.put(language, rule);
+      }
+    }
+  }
+
+  /** The languages for which no plural rule is known and that were already logged. */
+  private static final Set<String> UNKNOWN_LANGUAGES= Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+  /** The languages using this rule. */
+  private final String[] languages;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  private PluralRule(final String languages) {
+    this.languages= languages.split(" ");
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  /**
+   * Returns the plural rule for the given locale.
+   * <p>
+   * A rule for the language and country of the locale takes precedence over the rule for the
+   * language only. If no rule is known for the language, {@link #OTHER_ONLY} is returned and a
+   * warning is logged (once per language).
+   *
+   * @param locale the locale to return the plural rule for
+   * @return the plural rule for the locale
+   */
+  public static PluralRule forLocale(final Locale locale) {
+    Objects.requireNonNull(locale);
+
+    final String language= locale.getLanguage();
+    if (language.isEmpty()) {
+      return OTHER_ONLY;
+    }
+
+    if (!locale.getCountry().isEmpty()) {
+      final PluralRule regionalRule= RULES_BY_LANGUAGE.get(language + "_" + locale.getCountry());
+      if (regionalRule != null) {
+        return regionalRule;
+      }
+    }
+
+    final PluralRule rule= RULES_BY_LANGUAGE.get(language);
+    if (rule == null) {
+      if (UNKNOWN_LANGUAGES.add(language)) {
+        LOGGER.log(Level.WARNING, "No plural rule known for language \"{0}\". Using only the plural category OTHER.", language);
+      }
+      return OTHER_ONLY;
+    }
+
+    return rule;
+  }
+
+
+  /**
+   * Selects the plural category for the given count.
+   *
+   * @param count the count to select the plural category for
+   * @return the plural category for the count
+   */
+  public PluralCategory select(final long count) {
+    // Long.MIN_VALUE has no positive counterpart and is treated like Long.MAX_VALUE
+    return this.select0(count >= 0 ? count : (count == Long.MIN_VALUE ? Long.MAX_VALUE : -count));
+  }
+
+
+  /**
+   * Selects the plural category for the given non-negative count.
+   *
+   * @param i the non-negative count
+   * @return the plural category for the count
+   */
+  protected abstract PluralCategory select0(long i);
+
+
+  private static boolean isMillion(final long i) {
+    return i != 0 && i % 1_000_000 == 0;
+  }
+
+
+  private static boolean isFewSlavic(final long i10, final long i100) {
+    return i10 >= 2 && i10 <= 4 && (i100 < 12 || i100 > 14);
+  }
+}
@@ -0,0 +1,385 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.runtime;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+
+/**
+ * A TranslationSource polling the translations from an HTTP endpoint.
+ * <p>
+ * This allows changing the translations of a running application without rebuilding and
+ * redeploying it. Each bundle and locale is fetched as a separate .properties file relative to
+ * the base URI of this source. For example the bundle <code>i18n.messages</code> for the locale
+ * <code>de_DE</code> is fetched from <code>&lt;baseUri&gt;/i18n.messages_de_DE.properties</code>.
+ * The files are read as UTF-8 and only if that fails, as ISO-8859-1.
+ * <p>
+ * The polling is done by a single background daemon thread. Bundles are polled only after they
+ * have been requested at least once. The first request of a bundle therefore returns the bundle of
+ * the fallback source and only triggers the fetching of the bundle. Afterwards all requested
+ * bundles are polled periodically with a conditional request (<code>If-None-Match</code>) with
+ * the ETag of their last response, so unchanged bundles are not transferred again.
+ * <p>
+ * The fetched bundles are kept in an immutable snapshot that is replaced atomically after each
+ * poll. Lookups only read the current snapshot and therefore never block. Bundles that don't
+ * exist on the server or that could not be fetched yet are served by the fallback source.
+ * Failed requests are logged and retried in the next poll, retaining the last fetched bundles.
+ * <p>
+ * Whenever a poll changes the content of any bundle, the registered change listeners are notified.
+ * This causes the {@link TranslationCache} to discard its cached bundles. Fetched bundles are
+ * compared with the previously fetched content, so servers not supporting ETags don't cause a
+ * notification on every poll.
+ * <p>
+ * The background thread is stopped by calling {@link #close()}.
+ * <p>
+ * This is a thread-safe class.
+ *
+ * @author mherrn
+ */
+public class PollingTranslationSource implements TranslationSource, Closeable {
+  private static final Logger LOGGER= Logger.getLogger(PollingTranslationSource.class.getName());
+
+  /** The timeout for connecting to the server and reading a response in milliseconds. */
+  private static final int TIMEOUT_MILLIS= 10_000;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /** The base URI of the bundles to fetch. */
+  private final URI baseUri;
+
+  /** The source of the bundles not (yet) provided by the server. */
+  private final TranslationSource fallback;
+
+  /** The executor running the background polling. */
+  private final ScheduledExecutorService executor;
+
+  /** The resource names of the bundles that have been requested at least once. */
+  private final Set<String> requestedResources= Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+  /** The current snapshot of the fetched bundles. Only replaced by the polling thread. */
+  private final AtomicReference<Map<String, Snapshot>> snapshots= new AtomicReference<>(Collections.emptyMap());
+
+  /** The listeners to notify about changed bundles. */
+  private final List<Runnable> changeListeners= new CopyOnWriteArrayList<>();
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  /**
+   * Creates a new PollingTranslationSource fetching the bundles relative to the given base URI.
+   * Bundles not provided by the server are read from the classpath via a
+   * {@link PropertiesTranslationSource}.
+   *
+   * @param baseUri the base URI of the bundles to fetch
+   * @param pollInterval the interval between two polls
+   * @param unit the time unit of the poll interval
+   */
+  public PollingTranslationSource(final URI baseUri, final long pollInterval, final TimeUnit unit) {
+    this(baseUri, new PropertiesTranslationSource(), pollInterval, unit);
+  }
+
+
+  /**
+   * Creates a new PollingTranslationSource fetching the bundles relative to the given base URI.
+   *
+   * @param baseUri the base URI of the bundles to fetch
+   * @param fallback the source of the bundles not provided by the server
+   * @param pollInterval the interval between two polls
+   * @param unit the time unit of the poll interval
+   */
+  public PollingTranslationSource(final URI baseUri, final TranslationSource fallback, final long pollInterval, final TimeUnit unit) {
+    Objects.requireNonNull(baseUri);
+    Objects.requireNonNull(fallback);
+    Objects.requireNonNull(unit);
+    if (pollInterval <= 0) {
+      throw new IllegalArgumentException("pollInterval must be positive: " + pollInterval);
+    }
+
+    this.baseUri= baseUri.toString().endsWith("/") ? baseUri : URI.create(baseUri.toString() + "/");
+    this.fallback= fallback;
+    this.executor= Executors.newSingleThreadScheduledExecutor(r -> {
+      final Thread thread= new Thread(r, "kilt-translation-poller");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.executor.scheduleWithFixedDelay(() -> this.poll(new ArrayList<>(this.requestedResources)),
+                                         pollInterval, pollInterval, unit);
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  @Override
+  public TranslationBundle getBundle(final String bundleName, final Locale locale) {
+    Objects.requireNonNull(bundleName);
+    Objects.requireNonNull(locale);
+
+    final TranslationBundle bundle= this.getPolledBundle(bundleName, locale);
+    return bundle != null ? bundle : this.fallback.getBundle(bundleName, locale);
+  }
+
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The fetched bundles are the same for all classloaders. Only the lookup in the fallback
+   * source is done for the given classloader.
+   */
+  @Override
+  public TranslationBundle getBundle(final String bundleName, final Locale locale, final ClassLoader classLoader) {
+    Objects.requireNonNull(bundleName);
+    Objects.requireNonNull(locale);
+
+    final TranslationBundle bundle= this.getPolledBundle(bundleName, locale);
+    return bundle != null ? bundle : this.fallback.getBundle(bundleName, locale, classLoader);
+  }
+
+
+  /**
+   * Returns the fetched bundle for the given bundle name and locale.
+   * If the bundle is requested for the first time, its fetching is triggered.
+   *
+   * @param bundleName the basename of the bundle
+   * @param locale the locale of the bundle
+   * @return the fetched bundle or <code>null</code> if it doesn't exist on the server or was not fetched yet
+   */
+  private TranslationBundle getPolledBundle(final String bundleName, final Locale locale) {
+    final String resourceName= toResourceName(bundleName, locale);
+    final Snapshot snapshot= this.snapshots.get().get(resourceName);
+    if (snapshot != null && snapshot.bundle != null) {
+      return snapshot.bundle;
+    }
+
+    if (snapshot == null && this.requestedResources.add(resourceName)) {
+      // fetch newly requested bundles immediately instead of waiting for the next poll
+      this.executor.execute(() -> this.poll(Collections.singleton(resourceName)));
+    }
+
+    return null;
+  }
+
+
+  @Override
+  public void addChangeListener(final Runnable listener) {
+    Objects.requireNonNull(listener);
+    this.changeListeners.add(listener);
+    this.fallback.addChangeListener(listener);
+  }
+
+
+  /**
+   * Polls all requested bundles immediately and waits until the poll is finished.
+   * <p>
+   * This is not necessary for normal operation, but allows triggering a refresh without waiting
+   * for the next scheduled poll.
+   *
+   * @throws InterruptedException if the current thread was interrupted while waiting
+   */
+  public void refresh() throws InterruptedException {
+    try {
+      this.executor.submit(() -> this.poll(new ArrayList<>(this.requestedResources))).get();
+    } catch (ExecutionException ex) {
+      throw new RuntimeException("Error polling translations from " + this.baseUri, ex.getCause());
+    }
+  }
+
+
+  /**
+   * Stops the background polling.
+   * The already fetched bundles are still served afterwards.
+   */
+  @Override
+  public void close() {
+    this.executor.shutdownNow();
+  }
+
+
+  /**
+   * Fetches the given bundles and replaces the current snapshot if any of them changed.
+   * <p>
+   * This method is only called by the polling thread.
+   *
+   * @param resourceNames the resource names of the bundles to fetch
+   */
+  private void poll(final Collection<String> resourceNames) {
+    final Map<String, Snapshot> current= this.snapshots.get();
+    final Map<String, Snapshot> updated= new HashMap<>(current);
+    boolean updatedAny= false;
+    boolean changed= false;
+
+    for (final String resourceName : resourceNames) {
+      final Snapshot oldSnapshot= current.get(resourceName);
+      try {
+        final Snapshot newSnapshot= this.fetch(resourceName, oldSnapshot);
+        if (newSnapshot != oldSnapshot) {
+          updated.put(resourceName, newSnapshot);
+          updatedAny= true;
+          changed |= newSnapshot.bundle != (oldSnapshot != null ? oldSnapshot.bundle : null);
+        }
+      } catch (IOException | RuntimeException ex) {
+        LOGGER.log(Level.WARNING, "Error polling translations from " + this.baseUri.resolve(resourceName), ex);
+      }
+    }
+
+    if (updatedAny) {
+      this.snapshots.set(Collections.unmodifiableMap(updated));
+    }
+
+    if (changed) {
+      for (final Runnable listener : this.changeListeners) {
+        listener.run();
+      }
+    }
+  }
+
+
+  /**
+   * Fetches a single bundle from the server.
+   *
+   * @param resourceName the resource name of the bundle to fetch
+   * @param oldSnapshot the last fetched snapshot of this bundle (may be <code>null</code>)
+   * @return the new snapshot of this bundle or <code>oldSnapshot</code> if it is unchanged
+   * @throws IOException if fetching the bundle fails
+   */
+  private Snapshot fetch(final String resourceName, final Snapshot oldSnapshot) throws IOException {
+    final URL url= this.baseUri.resolve(resourceName).toURL();
+    final HttpURLConnection connection= (HttpURLConnection) url.openConnection();
+    connection.setConnectTimeout(TIMEOUT_MILLIS);
+    connection.setReadTimeout(TIMEOUT_MILLIS);
+    connection.setUseCaches(false);
+    if (oldSnapshot != null && oldSnapshot.etag != null) {
+      connection.setRequestProperty("If-None-Match", oldSnapshot.etag);
+    }
+
+    final int status= connection.getResponseCode();
+    switch (status) {
+      case HttpURLConnection.HTTP_OK:
+        final Properties properties;
+        try (final InputStream in= connection.getInputStream()) {
+          properties= PropertiesTranslationSource.readProperties(in);
+        }
+        final Map<String, String> translations= new HashMap<>();
+        for (final String key : properties.stringPropertyNames()) {
+          translations.put(key, properties.getProperty(key));
+        }
+        final String etag= connection.getHeaderField("ETag");
+        if (oldSnapshot != null && translations.equals(oldSnapshot.translations)) {
+          // the content is unchanged, so keep the old bundle to not notify the listeners
+          return Objects.equals(etag, oldSnapshot.etag)
+            ? oldSnapshot
+            : new Snapshot(etag, oldSnapshot.translations, oldSnapshot.bundle);
+        }
+        return new Snapshot(etag, translations, new MapTranslationBundle(translations));
+      case HttpURLConnection.HTTP_NOT_MODIFIED:
+        return oldSnapshot;
+      case HttpURLConnection.HTTP_NOT_FOUND:
+        closeErrorStream(connection);
+        return oldSnapshot != null && oldSnapshot.bundle == null ? oldSnapshot : Snapshot.ABSENT;
+      default:
+        closeErrorStream(connection);
+        throw new IOException("Unexpected HTTP status " + status + " for " + url);
+    }
+  }
+
+
+  /**
+   * Returns the resource name of the given bundle and locale relative to the base URI.
+   *
+   * @param bundleName the basename of the bundle
+   * @param locale the locale of the bundle
+   * @return the resource name of the bundle
+   */
+  private static String toResourceName(final String bundleName, final Locale locale) {
+    final String baseName= bundleName.replace('/', '.');
+    final String localeSuffix= PropertiesTranslationSource.toLocaleSuffix(baseName, locale);
+    return baseName
+      + (localeSuffix.isEmpty() ? "" : "_" + localeSuffix)
+      + ".properties";
+  }
+
+
+  /**
+   * Closes the error stream of the given connection (if any) to allow reusing the connection.
+   *
+   * @param connection the connection whose error stream to close
+   */
+  private static void closeErrorStream(final HttpURLConnection connection) {
+    final InputStream err= connection.getErrorStream();
+    if (err == null) {
+      return;
+    }
+
+    try {
+      err.close();
+    } catch (IOException ex) {
+      // nothing to do. The connection will not be reused.
+    }
+  }
+
+
+  /**
+   * The state of a single bundle as last fetched from the server.
+   */
+  private static final class Snapshot {
+    /** The snapshot of a bundle that doesn't exist on the server. */
+    private static final Snapshot ABSENT= new Snapshot(null, null, null);
+
+    /** The ETag of the last response. May be <code>null</code>. */
+    private final String etag;
+    /** The fetched translations. <code>null</code> if the bundle doesn't exist on the server. */
+    private final Map<String, String> translations;
+    /** The fetched bundle. <code>null</code> if the bundle doesn't exist on the server. */
+    private final TranslationBundle bundle;
+
+
+    private Snapshot(final String etag, final Map<String, String> translations, final TranslationBundle bundle) {
+      this.etag= etag;
+      this.translations= translations;
+      this.bundle= bundle;
+    }
+  }
+}
@@ -0,0 +1,562 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.runtime;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+
+/**
+ * A TranslationSource reading .properties files from the classpath.
+ * <p>
+ * The files are looked up the same way as {@link ResourceBundle} does it. For example the bundle
+ * <code>i18n.messages</code> for the locale <code>de_DE</code> is read from
+ * <code>i18n/messages_de_DE.properties</code>. Like {@link java.util.PropertyResourceBundle} in
+ * Java 9 and later the files are read as UTF-8 and only if that fails, as ISO-8859-1.
+ * <p>
+ * If a bundle manifest (<code>META-INF/kilt/bundle-manifest.properties</code>) is found on the
+ * classpath, it is used to avoid looking up files that are known not to exist.
+ * <p>
+ * If consolidated bundles (<code>META-INF/kilt/consolidated/</code>) are found on the classpath,
+ * the bundles contained in them are served from a single resource per locale instead of looking
+ * up each bundle file separately.
+ * <p>
+ * If segmented bundles (<code>META-INF/kilt/segments/</code>) are found on the classpath, only
+ * the segment containing a requested key is read instead of the whole bundle file.
+ * <p>
+ * Bundles can also be read via another classloader than the one given on construction by calling
+ * {@link #getBundle(java.lang.String, java.util.Locale, java.lang.ClassLoader)}. The manifests of
+ * such classloaders are held only as long as the classloaders themselves are reachable.
+ * <p>
+ * If string deduplication is enabled, the keys and translations of all read bundles are
+ * deduplicated via a shared, weakly held {@link StringPool}. By default this is enabled by
+ * setting the system property {@value #DEDUPLICATE_STRINGS_PROPERTY} to <code>true</code>.
+ * <p>
+ * This is a thread-safe class.
+ *
+ * @author mherrn
+ */
+public class PropertiesTranslationSource implements TranslationSource {
+
+  /** The classpath location of the bundle manifest. */
+  private static final String BUNDLE_MANIFEST_RESOURCE= "META-INF/kilt/bundle-manifest.properties";
+
+  /** The name under which the default language is written to the bundle manifest. */
+  private static final String BUNDLE_MANIFEST_DEFAULT_LANGUAGE= "<default>";
+
+  /** The classpath directory of the consolidated bundles. */
+  private static final String CONSOLIDATED_RESOURCE_DIR= "META-INF/kilt/consolidated/";
+
+  /** The basename of the consolidated packs. */
+  private static final String CONSOLIDATED_BASENAME= "bundles";
+
+  /** The classpath location of the index of consolidated bundles. */
+  private static final String CONSOLIDATED_INDEX_RESOURCE= CONSOLIDATED_RESOURCE_DIR + "index.properties";
+
+  /** The separator between the bundle name and the actual key in the consolidated packs. */
+  private static final char CONSOLIDATED_KEY_SEPARATOR= '#';
+
+  /** The classpath directory of the segmented bundles. */
+  private static final String SEGMENTS_RESOURCE_DIR= "META-INF/kilt/segments/";
+
+  /** The classpath location of the index of segmented bundles. */
+  private static final String SEGMENTS_INDEX_RESOURCE= SEGMENTS_RESOURCE_DIR + "index.properties";
+
+  /** The file name of the descriptor of each segmented bundle. */
+  private static final String SEGMENTS_DESCRIPTOR_NAME= "segments.properties";
+
+  /** The system property to enable the deduplication of keys and translations by default. */
+  public static final String DEDUPLICATE_STRINGS_PROPERTY= "kilt.deduplicateStrings";
+
+  /** The control to derive the file names of the bundles. */
+  private static final ResourceBundle.Control CONTROL= ResourceBundle.Control.getControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /** The classloader to read the .properties files from. */
+  private final ClassLoader classLoader;
+
+  /** The manifests and consolidated packs of {@link #classLoader}. */
+  private final ClassLoaderResources resources;
+
+  /**
+   * The manifests and consolidated packs of other classloaders.
+   * Weakly keyed to not prevent the unloading of these classloaders.
+   */
+  private final Map<ClassLoader, ClassLoaderResources> otherResources= new WeakHashMap<>();
+
+  /** The pool for deduplicating keys and translations. <code>null</code> if deduplication is disabled. */
+  private final StringPool stringPool;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  /**
+   * Creates a new PropertiesTranslationSource reading the .properties files via the classloader
+   * of this class.
+   * String deduplication is enabled if the system property {@value #DEDUPLICATE_STRINGS_PROPERTY}
+   * is set to <code>true</code>.
+   */
+  public PropertiesTranslationSource() {
+    this(getDefaultClassLoader());
+  }
+
+
+  /**
+   * Creates a new PropertiesTranslationSource reading the .properties files via the given
+   * classloader.
+   * String deduplication is enabled if the system property {@value #DEDUPLICATE_STRINGS_PROPERTY}
+   * is set to <code>true</code>.
+   *
+   * @param classLoader the classloader to read the .properties files from
+   */
+  public PropertiesTranslationSource(final ClassLoader classLoader) {
+    this(classLoader, Boolean.getBoolean(DEDUPLICATE_STRINGS_PROPERTY));
+  }
+
+
+  /**
+   * Creates a new PropertiesTranslationSource reading the .properties files via the given
+   * classloader.
+   *
+   * @param classLoader the classloader to read the .properties files from
+   * @param deduplicateStrings whether to deduplicate the keys and translations of the read bundles
+   */
+  public PropertiesTranslationSource(final ClassLoader classLoader, final boolean deduplicateStrings) {
+    Objects.requireNonNull(classLoader);
+    this.classLoader= classLoader;
+    this.resources= new ClassLoaderResources(classLoader);
+    this.stringPool= deduplicateStrings ? new StringPool() : null;
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  @Override
+  public TranslationBundle getBundle(final String bundleName, final Locale locale) {
+    return this.getBundle(bundleName, locale, this.classLoader);
+  }
+
+
+  /**
+   * Returns the translations of the given bundle for exactly the given locale read via the given
+   * classloader.
+   *
+   * @param bundleName the basename of the bundle (for example <code>i18n.messages</code>)
+   * @param locale the locale of the bundle ({@link Locale#ROOT} for the base bundle)
+   * @param classLoader the classloader to read the bundle from
+   * @return the translations of the bundle or <code>null</code> if no file exists for exactly this
+   *         bundle and locale
+   */
+  @Override
+  public TranslationBundle getBundle(final String bundleName, final Locale locale, final ClassLoader classLoader) {
+    Objects.requireNonNull(bundleName);
+    Objects.requireNonNull(locale);
+    Objects.requireNonNull(classLoader);
+
+    final ClassLoaderResources resources= this.getResources(classLoader);
+    final String baseName= bundleName.replace('/', '.');
+    final String localeSuffix= toLocaleSuffix(baseName, locale);
+
+    final Set<String> consolidated= resources.consolidatedLocales.get(baseName);
+    if (consolidated != null && consolidated.contains(localeSuffix)) {
+      final Map<String, String> translations= this.getPack(resources, classLoader, localeSuffix).get(baseName);
+      if (translations != null) {
+        return new MapTranslationBundle(translations);
+      }
+    }
+
+    final Set<String> segmented= resources.segmentedLocales.get(baseName);
+    if (segmented != null && segmented.contains(localeSuffix)) {
+      final Optional<SegmentedTranslationBundle.Descriptor> descriptor= this.getDescriptor(resources, classLoader, baseName);
+      if (descriptor.isPresent()) {
+        return new SegmentedTranslationBundle(descriptor.get(), this.createSegmentLoader(classLoader, baseName, localeSuffix));
+      }
+    }
+
+    final Set<String> locales= resources.availableLocales.get(baseName);
+    if (locales != null && !locales.contains(localeSuffix)) {
+      // no need to look it up. We know it doesn't exist.
+      return null;
+    }
+
+    final String resourceName= baseName.replace('.', '/')
+      + (localeSuffix.isEmpty() ? "" : "_" + localeSuffix)
+      + ".properties";
+
+    final Properties properties;
+    try (final InputStream in= classLoader.getResourceAsStream(resourceName)) {
+      if (in == null) {
+        return null;
+      }
+      properties= readProperties(in);
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Error reading resource bundle file "+resourceName, ex);
+    }
+
+    final Map<String, String> translations= new HashMap<>();
+    for (final String key : properties.stringPropertyNames()) {
+      translations.put(this.deduplicate(key), this.deduplicate(properties.getProperty(key)));
+    }
+    return new MapTranslationBundle(translations);
+  }
+
+
+  /**
+   * Returns the estimated number of bytes saved by deduplicating the keys and translations of the
+   * read bundles.
+   *
+   * @return the estimated number of saved bytes or 0 if deduplication is not enabled
+   * @see StringPool#getSavedBytes()
+   */
+  public long getDeduplicatedBytes() {
+    return this.stringPool != null ? this.stringPool.getSavedBytes() : 0;
+  }
+
+
+  /**
+   * Returns the manifests and consolidated packs of the given classloader.
+   * They are read on first access.
+   *
+   * @param classLoader the classloader
+   * @return the manifests and consolidated packs of the classloader
+   */
+  private ClassLoaderResources getResources(final ClassLoader classLoader) {
+    if (classLoader == this.classLoader) {
+      return this.resources;
+    }
+
+    synchronized (this.otherResources) {
+      final ClassLoaderResources existingResources= this.otherResources.get(classLoader);
+      if (existingResources != null) {
+        return existingResources;
+      }
+    }
+
+    final ClassLoaderResources readResources= new ClassLoaderResources(classLoader);
+    synchronized (this.otherResources) {
+      final ClassLoaderResources existingResources= this.otherResources.putIfAbsent(classLoader, readResources);
+      return existingResources != null ? existingResources : readResources;
+    }
+  }
+
+
+  /**
+   * Returns the consolidated pack for the given locale suffix. The pack is read on first access.
+   *
+   * @param resources the manifests and consolidated packs of the classloader
+   * @param classLoader the classloader to read the pack from
+   * @param localeSuffix the locale suffix of the pack
+   * @return the translations of each bundle in the pack (may be empty, but never null)
+   */
+  private Map<String, Map<String, String>> getPack(final ClassLoaderResources resources,
+                                                   final ClassLoader classLoader,
+                                                   final String localeSuffix) {
+    final Map<String, Map<String, String>> pack= resources.packs.get(localeSuffix);
+    if (pack != null) {
+      return pack;
+    }
+
+    final Map<String, Map<String, String>> readPack= this.readPack(classLoader, localeSuffix);
+    final Map<String, Map<String, String>> existingPack= resources.packs.putIfAbsent(localeSuffix, readPack);
+    return existingPack != null ? existingPack : readPack;
+  }
+
+
+  /**
+   * Reads the consolidated pack for the given locale suffix and splits it into the translations
+   * of the single bundles.
+   *
+   * @param classLoader the classloader to read the pack from
+   * @param localeSuffix the locale suffix of the pack
+   * @return the translations of each bundle in the pack (may be empty, but never null)
+   */
+  private Map<String, Map<String, String>> readPack(final ClassLoader classLoader, final String localeSuffix) {
+    final String packName= CONSOLIDATED_RESOURCE_DIR + CONSOLIDATED_BASENAME
+      + (localeSuffix.isEmpty() ? "" : "_" + localeSuffix)
+      + ".properties";
+
+    final Map<String, Map<String, String>> pack= new HashMap<>();
+    final Properties properties= new Properties();
+    try (final InputStream in= classLoader.getResourceAsStream(packName)) {
+      if (in == null) {
+        return pack;
+      }
+      try (final Reader reader= new InputStreamReader(in, StandardCharsets.UTF_8)) {
+        properties.load(reader);
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Error reading consolidated bundles "+packName, ex);
+    }
+
+    for (final String namespacedKey : properties.stringPropertyNames()) {
+      final int idx= namespacedKey.indexOf(CONSOLIDATED_KEY_SEPARATOR);
+      if (idx < 0) {
+        continue;
+      }
+      pack.computeIfAbsent(namespacedKey.substring(0, idx), k -> new HashMap<>())
+        .put(this.deduplicate(namespacedKey.substring(idx + 1)),
+             this.deduplicate(properties.getProperty(namespacedKey)));
+    }
+
+    return pack;
+  }
+
+
+  /**
+   * Returns the segment descriptor of the given bundle. The descriptor is read on first access.
+   *
+   * @param resources the manifests and consolidated packs of the classloader
+   * @param classLoader the classloader to read the descriptor from
+   * @param baseName the basename of the segmented bundle
+   * @return the descriptor or an empty Optional if the bundle has no valid descriptor
+   */
+  private Optional<SegmentedTranslationBundle.Descriptor> getDescriptor(final ClassLoaderResources resources,
+                                                                        final ClassLoader classLoader,
+                                                                        final String baseName) {
+    return resources.segmentDescriptors.computeIfAbsent(baseName, k -> {
+      final String descriptorName= SEGMENTS_RESOURCE_DIR + baseName + "/" + SEGMENTS_DESCRIPTOR_NAME;
+      final Properties properties= new Properties();
+      try (final InputStream in= classLoader.getResourceAsStream(descriptorName)) {
+        if (in == null) {
+          return Optional.empty();
+        }
+        try (final Reader reader= new InputStreamReader(in, StandardCharsets.UTF_8)) {
+          properties.load(reader);
+        }
+        return Optional.of(SegmentedTranslationBundle.Descriptor.of(properties));
+      } catch (IOException | IllegalArgumentException ex) {
+        // without a valid descriptor we just fall back to the bundle file
+        return Optional.empty();
+      }
+    });
+  }
+
+
+  /**
+   * Creates the function to load the segments of the given bundle and locale.
+   * <p>
+   * The function only weakly references the classloader to not prevent its unloading.
+   *
+   * @param classLoader the classloader to read the segments from
+   * @param baseName the basename of the segmented bundle
+   * @param localeSuffix the locale suffix of the segments
+   * @return the function to load the translations of a segment
+   */
+  private IntFunction<Map<String, String>> createSegmentLoader(final ClassLoader classLoader,
+                                                               final String baseName,
+                                                               final String localeSuffix) {
+    final WeakReference<ClassLoader> classLoaderRef= new WeakReference<>(classLoader);
+    return segment -> {
+      final ClassLoader segmentClassLoader= classLoaderRef.get();
+      if (segmentClassLoader == null) {
+        return Collections.emptyMap();
+      }
+
+      final String segmentName= SEGMENTS_RESOURCE_DIR + baseName + "/" + segment
+        + (localeSuffix.isEmpty() ? "" : "_" + localeSuffix)
+        + ".properties";
+
+      final Properties properties= new Properties();
+      try (final InputStream in= segmentClassLoader.getResourceAsStream(segmentName)) {
+        if (in == null) {
+          // empty segments are not written at all
+          return Collections.emptyMap();
+        }
+        try (final Reader reader= new InputStreamReader(in, StandardCharsets.UTF_8)) {
+          properties.load(reader);
+        }
+      } catch (IOException ex) {
+        throw new UncheckedIOException("Error reading bundle segment "+segmentName, ex);
+      }
+
+      final Map<String, String> translations= new HashMap<>();
+      for (final String key : properties.stringPropertyNames()) {
+        translations.put(this.deduplicate(key), this.deduplicate(properties.getProperty(key)));
+      }
+      return translations;
+    };
+  }
+
+
+  /**
+   * Deduplicates the given string if deduplication is enabled.
+   *
+   * @param s the string to deduplicate
+   * @return the deduplicated string
+   */
+  private String deduplicate(final String s) {
+    return this.stringPool != null ? this.stringPool.deduplicate(s) : s;
+  }
+
+
+  /**
+   * Reads all manifests of the given name available via the given classloader.
+   * <p>
+   * Manifests that cannot be read are ignored.
+   *
+   * @param classLoader the classloader to read the manifests from
+   * @param resourceName the name of the manifest resource
+   * @return the locale suffixes for each bundle basename listed in the manifests
+   */
+  private static Map<String, Set<String>> readManifests(final ClassLoader classLoader, final String resourceName) {
+    final Map<String, Set<String>> locales= new HashMap<>();
+    try {
+      final Enumeration<URL> manifests= classLoader.getResources(resourceName);
+      while (manifests.hasMoreElements()) {
+        final Properties manifest= new Properties();
+        try (final InputStream in= manifests.nextElement().openStream();
+             final Reader reader= new InputStreamReader(in, StandardCharsets.UTF_8)) {
+          manifest.load(reader);
+        }
+
+        for (final String bundleName : manifest.stringPropertyNames()) {
+          final Set<String> bundleLocales= locales.computeIfAbsent(bundleName, k -> new HashSet<>());
+          for (final String lang : manifest.getProperty(bundleName).split(",")) {
+            final String trimmedLang= lang.trim();
+            if (trimmedLang.isEmpty()) {
+              // bundles without any available language are listed with an empty value
+              continue;
+            }
+            bundleLocales.add(trimmedLang.equals(BUNDLE_MANIFEST_DEFAULT_LANGUAGE) ? "" : trimmedLang);
+          }
+        }
+      }
+    } catch (IOException ex) {
+      // without a valid manifest we just fall back to the default lookup
+      locales.clear();
+    }
+    return locales;
+  }
+
+
+  /**
+   * Reads the given .properties file. The file is read as UTF-8 and only if that fails,
+   * as ISO-8859-1.
+   *
+   * @param in the InputStream to read
+   * @return the read properties
+   * @throws IOException if reading fails
+   */
+  static Properties readProperties(final InputStream in) throws IOException {
+    final ByteArrayOutputStream baos= new ByteArrayOutputStream();
+    final byte[] buffer= new byte[8192];
+    int read;
+    while ((read= in.read(buffer)) != -1) {
+      baos.write(buffer, 0, read);
+    }
+    final byte[] bytes= baos.toByteArray();
+
+    final Properties properties= new Properties();
+    try {
+      final String content= StandardCharsets.UTF_8.newDecoder()
+        .onMalformedInput(CodingErrorAction.REPORT)
+        .onUnmappableCharacter(CodingErrorAction.REPORT)
+        .decode(ByteBuffer.wrap(bytes))
+        .toString();
+      properties.load(new StringReader(content));
+    } catch (CharacterCodingException ex) {
+      properties.clear();
+      properties.load(new ByteArrayInputStream(bytes));
+    }
+    return properties;
+  }
+
+
+  /**
+   * Returns the locale suffix of the file for the given bundle and locale as it is written
+   * to the bundle manifest.
+   *
+   * @param baseName the basename of the bundle
+   * @param locale the locale
+   * @return the locale suffix (without the leading underscore) or an empty string for the root locale
+   */
+  static String toLocaleSuffix(final String baseName, final Locale locale) {
+    final String bundleName= CONTROL.toBundleName(baseName, locale);
+    return bundleName.length() > baseName.length()
+           ? bundleName.substring(baseName.length() + 1)
+           : "";
+  }
+
+
+  private static ClassLoader getDefaultClassLoader() {
+    final ClassLoader classLoader= PropertiesTranslationSource.class.getClassLoader();
+    return classLoader != null ? classLoader : ClassLoader.getSystemClassLoader();
+  }
+
+
+  /**
+   * The manifests, consolidated packs and segment descriptors of a single classloader.
+   * <p>
+   * This class must not hold a reference to the classloader itself to not prevent its unloading.
+   */
+  private static final class ClassLoaderResources {
+    /** The locale suffixes of the existing resource bundle files for each bundle basename. */
+    private final Map<String, Set<String>> availableLocales;
+
+    /** The locale suffixes of the consolidated bundles for each bundle basename. */
+    private final Map<String, Set<String>> consolidatedLocales;
+
+    /** The already read consolidated packs. Maps the locale suffix to the translations of each bundle. */
+    private final Map<String, Map<String, Map<String, String>>> packs= new ConcurrentHashMap<>();
+
+    /** The locale suffixes of the segmented bundles for each bundle basename. */
+    private final Map<String, Set<String>> segmentedLocales;
+
+    /** The already read segment descriptors for each bundle basename. */
+    private final Map<String, Optional<SegmentedTranslationBundle.Descriptor>> segmentDescriptors= new ConcurrentHashMap<>();
+
+
+    private ClassLoaderResources(final ClassLoader classLoader) {
+      this.availableLocales= readManifests(classLoader, BUNDLE_MANIFEST_RESOURCE);
+      this.consolidatedLocales= readManifests(classLoader, CONSOLIDATED_INDEX_RESOURCE);
+      this.segmentedLocales= readManifests(classLoader, SEGMENTS_INDEX_RESOURCE);
+    }
+  }
+}
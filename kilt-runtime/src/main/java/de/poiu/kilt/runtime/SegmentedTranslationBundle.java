@@ -0,0 +1,226 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.runtime;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+
+/**
+ * A TranslationBundle whose translations are split into segments that are only loaded when a key
+ * of that segment is requested.
+ * <p>
+ * The assignment of keys to segments is defined by a {@link Descriptor} as written by the
+ * <code>BundleSegmenter</code> of kilt-core. Loaded segments are retained for the lifetime of this
+ * bundle.
+ * <p>
+ * {@link #keySet()} needs to load all segments and should therefore be avoided.
+ * <p>
+ * This is a thread-safe class.
+ *
+ * @author mherrn
+ */
+final class SegmentedTranslationBundle implements TranslationBundle {
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /** The assignment of keys to segments. */
+  private final Descriptor descriptor;
+
+  /** Loads the translations of a segment. Returns an empty map for empty segments. */
+  private final IntFunction<Map<String, String>> segmentLoader;
+
+  /** The already loaded segments. */
+  private final AtomicReferenceArray<Map<String, String>> segments;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  /**
+   * Creates a new SegmentedTranslationBundle.
+   *
+   * @param descriptor the assignment of keys to segments
+   * @param segmentLoader the function to load the translations of a segment. It must return an
+   *                       empty map for empty segments.
+   */
+  SegmentedTranslationBundle(final Descriptor descriptor, final IntFunction<Map<String, String>> segmentLoader) {
+    Objects.requireNonNull(descriptor);
+    Objects.requireNonNull(segmentLoader);
+    this.descriptor= descriptor;
+    this.segmentLoader= segmentLoader;
+    this.segments= new AtomicReferenceArray<>(descriptor.segmentCount);
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  @Override
+  public String get(final String key) {
+    Objects.requireNonNull(key);
+
+    final int segment= this.descriptor.getSegment(key);
+    if (segment < 0) {
+      return null;
+    }
+
+    return this.getSegment(segment).get(key);
+  }
+
+
+  @Override
+  public Set<String> keySet() {
+    final Set<String> keys= new HashSet<>();
+    for (int i= 0; i < this.segments.length(); i++) {
+      keys.addAll(this.getSegment(i).keySet());
+    }
+    return Collections.unmodifiableSet(keys);
+  }
+
+
+  /**
+   * Returns the number of currently loaded segments.
+   *
+   * @return the number of currently loaded segments
+   */
+  int getLoadedSegmentCount() {
+    int count= 0;
+    for (int i= 0; i < this.segments.length(); i++) {
+      if (this.segments.get(i) != null) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+
+  /**
+   * Returns the translations of the given segment. The segment is loaded on first access.
+   *
+   * @param segment the number of the segment
+   * @return the translations of the segment
+   */
+  private Map<String, String> getSegment(final int segment) {
+    final Map<String, String> translations= this.segments.get(segment);
+    if (translations != null) {
+      return translations;
+    }
+
+    final Map<String, String> loadedTranslations= this.segmentLoader.apply(segment);
+    if (this.segments.compareAndSet(segment, null, loadedTranslations)) {
+      return loadedTranslations;
+    } else {
+      return this.segments.get(segment);
+    }
+  }
+
+
+  /**
+   * The assignment of keys to segments as read from the descriptor of a segmented bundle.
+   * <p>
+   * This is an immutable class.
+   */
+  static final class Descriptor {
+    /** The strategy assigning the keys by their prefix. */
+    private static final String STRATEGY_PREFIX= "prefix";
+
+    /** The strategy assigning the keys by their hash code. */
+    private static final String STRATEGY_HASH= "hash";
+
+    /** The prefix of the descriptor keys specifying the segment of a key prefix. */
+    private static final String PREFIX_KEY_PREFIX= "prefix.";
+
+    /** The number of segments. */
+    private final int segmentCount;
+
+    /** The segment of each key prefix. <code>null</code> if the keys are assigned by their hash code. */
+    private final Map<String, Integer> prefixSegments;
+
+
+    private Descriptor(final int segmentCount, final Map<String, Integer> prefixSegments) {
+      this.segmentCount= segmentCount;
+      this.prefixSegments= prefixSegments;
+    }
+
+
+    /**
+     * Creates a Descriptor from the given descriptor file content.
+     *
+     * @param properties the content of the descriptor file
+     * @return the Descriptor
+     * @throws IllegalArgumentException if the descriptor is invalid
+     */
+    static Descriptor of(final Properties properties) {
+      final String strategy= properties.getProperty("strategy");
+      final int segmentCount;
+      try {
+        segmentCount= Integer.parseInt(properties.getProperty("segmentCount", "").trim());
+      } catch (NumberFormatException ex) {
+        throw new IllegalArgumentException("Invalid segment count in segment descriptor: " + properties.getProperty("segmentCount"), ex);
+      }
+      if (segmentCount <= 0) {
+        throw new IllegalArgumentException("Invalid segment count in segment descriptor: " + segmentCount);
+      }
+
+      if (STRATEGY_HASH.equals(strategy)) {
+        return new Descriptor(segmentCount, null);
+      } else if (STRATEGY_PREFIX.equals(strategy)) {
+        final Map<String, Integer> prefixSegments= new HashMap<>();
+        for (final String key : properties.stringPropertyNames()) {
+          if (key.startsWith(PREFIX_KEY_PREFIX)) {
+            final int segment= Integer.parseInt(properties.getProperty(key).trim());
+            if (segment < 0 || segment >= segmentCount) {
+              throw new IllegalArgumentException("Invalid segment for prefix " + key + " in segment descriptor: " + segment);
+            }
+            prefixSegments.put(key.substring(PREFIX_KEY_PREFIX.length()), segment);
+          }
+        }
+        return new Descriptor(segmentCount, prefixSegments);
+      } else {
+        throw new IllegalArgumentException("Unknown strategy in segment descriptor: " + strategy);
+      }
+    }
+
+
+    /**
+     * Returns the segment containing the given key.
+     *
+     * @param key the key
+     * @return the segment containing the key or -1 if no segment can contain the key
+     */
+    int getSegment(final String key) {
+      if (this.prefixSegments == null) {
+        return Math.floorMod(key.hashCode(), this.segmentCount);
+      }
+
+      final int idx= key.indexOf('.');
+      final Integer segment= this.prefixSegments.get(idx < 0 ? "" : key.substring(0, idx));
+      return segment != null ? segment : -1;
+    }
+  }
+}
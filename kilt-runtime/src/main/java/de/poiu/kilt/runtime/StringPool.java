@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.runtime;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * A pool of weakly held strings to deduplicate equal strings.
+ * <p>
+ * Strings are only held as long as they are referenced from somewhere else. The pool
+ * therefore doesn't prevent bundles (and their strings) from being garbage collected.
+ * <p>
+ * This is a thread-safe class.
+ *
+ * @author mherrn
+ */
+public class StringPool {
+  /** The estimated memory overhead of a string object (object header, fields and array header). */
+  private static final int STRING_OVERHEAD_BYTES= 40;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /** The pooled strings. The values are weak references to the keys themselves. */
+  private final Map<String, WeakReference<String>> pool= new WeakHashMap<>();
+
+  /** The estimated number of saved bytes. */
+  private final AtomicLong savedBytes= new AtomicLong();
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  /**
+   * Returns the pooled instance of the given string. If the string is not yet pooled, it is
+   * added to the pool and returned itself.
+   *
+   * @param s the string to deduplicate
+   * @return the pooled instance of the string
+   */
+  public String deduplicate(final String s) {
+    Objects.requireNonNull(s);
+
+    synchronized (this.pool) {
+      final WeakReference<String> ref= this.pool.get(s);
+      final String pooled= ref != null ? ref.get() : null;
+      if (pooled != null) {
+        if (pooled != s) {
+          this.savedBytes.addAndGet(STRING_OVERHEAD_BYTES + 2L * s.length());
+        }
+        return pooled;
+      }
+
+      this.pool.put(s, new WeakReference<>(s));
+      return s;
+    }
+  }
+
+
+  /**
+   * Returns the estimated number of bytes saved by deduplicating strings via this pool.
+   * <p>
+   * The estimation assumes a fixed overhead per string object plus two bytes per character.
+   * The actual savings depend on the JVM. Strings that have been garbage collected in the
+   * meantime are still included in this number.
+   *
+   * @return the estimated number of saved bytes
+   */
+  public long getSavedBytes() {
+    return this.savedBytes.get();
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.runtime;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+
+/**
+ * The translations of a single resource bundle.
+ * <p>
+ * Implementations must be thread-safe.
+ *
+ * @author mherrn
+ */
+public interface TranslationBundle {
+
+  /**
+   * Returns the translation for the given key.
+   *
+   * @param key the key for which to return the translation
+   * @return the translation or <code>null</code> if this bundle doesn't contain the key
+   */
+  public String get(String key);
+
+
+  /**
+   * Checks whether this bundle contains a translation for the given key.
+   *
+   * @param key the key to check
+   * @return whether this bundle contains a translation for the key
+   */
+  public default boolean contains(final String key) {
+    return this.get(key) != null;
+  }
+
+
+  /**
+   * Returns the UTF-8 encoded translation for the given key.
+   * <p>
+   * Implementations may return the same (cached) array on each invocation. Therefore the returned
+   * array must not be modified.
+   * <p>
+   * The default implementation encodes the translation on each invocation.
+   *
+   * @param key the key for which to return the translation
+   * @return the UTF-8 encoded translation or <code>null</code> if this bundle doesn't contain the key
+   */
+  public default byte[] getUtf8(final String key) {
+    final String value= this.get(key);
+    return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+  }
+
+
+  /**
+   * Returns the translation for the given key escaped with the given escaping.
+   * <p>
+   * The default implementation escapes the translation on each invocation.
+   *
+   * @param key the key for which to return the translation
+   * @param escaping the escaping to apply
+   * @return the escaped translation or <code>null</code> if this bundle doesn't contain the key
+   */
+  public default String getEscaped(final String key, final Escaping escaping) {
+    final String value= this.get(key);
+    return value != null ? escaping.escape(value) : null;
+  }
+
+
+  /**
+   * Returns all keys of this bundle.
+   *
+   * @return all keys of this bundle
+   */
+  public Set<String> keySet();
+}
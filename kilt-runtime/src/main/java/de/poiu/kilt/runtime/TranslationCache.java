@@ -0,0 +1,993 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.runtime;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * A cache of the bundles provided by a {@link TranslationSource}.
+ * <p>
+ * This cache resolves the fallback to less specific locales in the same way as
+ * {@link ResourceBundle#getBundle(java.lang.String, java.util.Locale)}:
+ * The translations for a locale are searched in the bundles of its candidate locales
+ * (for example <code>de_DE</code>, <code>de</code> and the base bundle). If no bundle other
+ * than the base bundle exists for these, the candidate locales of the default locale are
+ * used instead.
+ * <p>
+ * Each bundle is requested only once from the TranslationSource, even if it is part of the
+ * fallback chain of multiple locales. Missing bundles are cached as well.
+ * <p>
+ * The bundles are cached per classloader, basename and locale. This allows sharing one cache
+ * between multiple applications with separate classloaders (for example the web applications
+ * in a servlet container) via
+ * {@link #getBundle(java.lang.String, java.util.Locale, java.lang.ClassLoader)}.
+ * The classloaders are only weakly referenced. When a classloader is garbage collected, all of
+ * its bundles are removed from the cache. They can also be removed explicitly via
+ * {@link #clear(java.lang.ClassLoader)}, for example when undeploying a web application.
+ * <p>
+ * The number of cached bundles can be bounded. If the bound is exceeded, the least recently used
+ * bundles are evicted. The recency is only tracked approximately to keep lookups cheap: each lookup
+ * marks its bundle with the number of bundles inserted so far, and the eviction removes the bundle
+ * with the oldest mark among a sample of the cached bundles. The hits, misses and evictions of this
+ * cache are available via {@link #getStatistics()}.
+ * <p>
+ * The resolved bundles additionally cache the UTF-8 encoded form
+ * ({@link TranslationBundle#getUtf8(java.lang.String)}) and the escaped forms
+ * ({@link TranslationBundle#getEscaped(java.lang.String, de.poiu.kilt.runtime.Escaping)}) of their
+ * translations on first access. These are therefore evicted together with their bundle.
+ * <p>
+ * If a {@link KeyIndex} is available, the translations of the (bundle, key) pairs known to the index
+ * can be retrieved via {@link #getTranslation(java.lang.String, java.lang.String, java.util.Locale)}
+ * with a single hash and array access. The translations are then looked up in their bundle only
+ * on the first access per locale and afterwards cached in an array per locale. The key index for
+ * lookups with a specific classloader is read from that classloader. The key index for lookups
+ * without a classloader can be given on construction. These cached translations are only
+ * discarded on the clearing of the cache, not on the eviction of their bundles, and are not
+ * included in the statistics of this cache.
+ * <p>
+ * The cache registers itself as change listener on the TranslationSource and is cleared whenever
+ * the TranslationSource reports a change of its bundles.
+ * <p>
+ * This is a thread-safe class. Lookups of cached bundles don't acquire any lock. A lock is only
+ * held for inserting newly resolved bundles, evicting bundles and removing the bundles of garbage
+ * collected classloaders. The TranslationSource is never called while holding this lock.
+ * Concurrent first lookups of the same bundle may request it multiple times from the
+ * TranslationSource, but only one result is retained.
+ *
+ * @author mherrn
+ */
+public class TranslationCache {
+
+  /** The control to derive the candidate locales. */
+  private static final ResourceBundle.Control CONTROL= ResourceBundle.Control.getControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+
+  /** The key for bundles requested without a specific classloader. */
+  private static final ClassLoaderKey NO_CLASSLOADER= new ClassLoaderKey(null, null);
+
+  /** The number of cached bundles to sample when looking for the bundle to evict. */
+  private static final int EVICTION_SAMPLE_SIZE= 16;
+
+  /** Marker for a classloader without a key index. Compared by identity. */
+  private static final IndexedTranslations NO_KEY_INDEX= new IndexedTranslations(null);
+
+  /** Marker for a translation that is known to be missing in the indexed translations. Compared by identity. */
+  private static final String NOT_FOUND= new String("<not found>");
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Attributes
+
+  /** The source to retrieve the bundles from. */
+  private final TranslationSource source;
+
+  /** The maximum number of resolved bundles and of source bundles in this cache. */
+  private final int maximumSize;
+
+  /** The indexed translations for lookups without a specific classloader. */
+  private final IndexedTranslations indexedTranslations;
+
+  /**
+   * The lock guarding all modifications of the following attributes. They can be read without
+   * holding the lock.
+   */
+  private final Object lock= new Object();
+
+  /** The resolved bundles (including their fallback chain) for each bundle name and locale. */
+  private final BundleMap<ChainedTranslationBundle> resolvedBundles= new BundleMap<>();
+
+  /** The bundles as provided by the source for each bundle name and exact locale. */
+  private final BundleMap<Optional<TranslationBundle>> sourceBundles= new BundleMap<>();
+
+  /**
+   * The canonical key of each classloader. The keys only weakly reference their classloaders to
+   * not prevent their unloading. Lookups are done via a {@link ClassLoaderLookup}.
+   */
+  private final ConcurrentMap<Object, ClassLoaderKey> classLoaderKeys= new ConcurrentHashMap<>();
+
+  /** The queue of the keys whose classloaders have been garbage collected. */
+  private final ReferenceQueue<ClassLoader> collectedClassLoaders= new ReferenceQueue<>();
+
+  /** Incremented on each clearing of this cache to avoid caching bundles resolved before the clearing. */
+  private volatile long generation= 0;
+
+  /** Incremented on each insertion of a bundle. Used as the recency mark of the cached bundles. */
+  private volatile long insertionCount= 0;
+
+  private final LongAdder hitCount= new LongAdder();
+  private final LongAdder missCount= new LongAdder();
+  private long evictionCount= 0;
+  private long classLoaderEvictionCount= 0;
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Constructors
+
+  /**
+   * Creates a new unbounded TranslationCache for the given TranslationSource.
+   *
+   * @param source the source to retrieve the bundles from
+   */
+  public TranslationCache(final TranslationSource source) {
+    this(source, Integer.MAX_VALUE);
+  }
+
+
+  /**
+   * Creates a new TranslationCache for the given TranslationSource.
+   * <p>
+   * The number of resolved bundles as well as the number of bundles retrieved from the
+   * TranslationSource are each bounded by the given <code>maximumSize</code>.
+   *
+   * @param source the source to retrieve the bundles from
+   * @param maximumSize the maximum number of bundles to cache
+   */
+  public TranslationCache(final TranslationSource source, final int maximumSize) {
+    this(source, maximumSize, NO_KEY_INDEX);
+  }
+
+
+  /**
+   * Creates a new TranslationCache for the given TranslationSource that uses the given
+   * KeyIndex for lookups without a specific classloader.
+   * <p>
+   * The number of resolved bundles as well as the number of bundles retrieved from the
+   * TranslationSource are each bounded by the given <code>maximumSize</code>.
+   *
+   * @param source the source to retrieve the bundles from
+   * @param maximumSize the maximum number of bundles to cache
+   * @param keyIndex the index of the known (bundle, key) pairs
+   * @see #getTranslation(java.lang.String, java.lang.String, java.util.Locale)
+   */
+  public TranslationCache(final TranslationSource source, final int maximumSize, final KeyIndex keyIndex) {
+    this(source, maximumSize, new IndexedTranslations(Objects.requireNonNull(keyIndex)));
+  }
+
+
+  private TranslationCache(final TranslationSource source, final int maximumSize, final IndexedTranslations indexedTranslations) {
+    Objects.requireNonNull(source);
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+    }
+    this.source= source;
+    this.maximumSize= maximumSize;
+    this.indexedTranslations= indexedTranslations;
+    this.source.addChangeListener(this::clear);
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Methods
+
+  /**
+   * Returns the TranslationSource of this cache.
+   *
+   * @return the TranslationSource of this cache
+   */
+  public TranslationSource getSource() {
+    return this.source;
+  }
+
+
+  /**
+   * Returns the bundle with the given name for the given locale.
+   * <p>
+   * The returned bundle includes the translations of the whole fallback chain of the locale.
+   *
+   * @param bundleName the basename of the bundle
+   * @param locale the locale of the bundle
+   * @return the bundle
+   * @throws MissingResourceException if no bundle can be found for the given name
+   */
+  public TranslationBundle getBundle(final String bundleName, final Locale locale) {
+    Objects.requireNonNull(bundleName);
+    Objects.requireNonNull(locale);
+    return this.getBundle(bundleName, locale, NO_CLASSLOADER, null);
+  }
+
+
+  /**
+   * Returns the bundle with the given name for the given locale as seen by the given classloader.
+   * <p>
+   * The returned bundle includes the translations of the whole fallback chain of the locale.
+   *
+   * @param bundleName the basename of the bundle
+   * @param locale the locale of the bundle
+   * @param classLoader the classloader to retrieve the bundle for
+   * @return the bundle
+   * @throws MissingResourceException if no bundle can be found for the given name
+   * @see TranslationSource#getBundle(java.lang.String, java.util.Locale, java.lang.ClassLoader)
+   */
+  public TranslationBundle getBundle(final String bundleName, final Locale locale, final ClassLoader classLoader) {
+    Objects.requireNonNull(bundleName);
+    Objects.requireNonNull(locale);
+    Objects.requireNonNull(classLoader);
+    return this.getBundle(bundleName, locale, this.getClassLoaderKey(classLoader), classLoader);
+  }
+
+
+  /**
+   * Returns the translation of the given key in the bundle with the given name for the given locale.
+   * <p>
+   * This is the same as <code>getBundle(bundleName, locale).get(key)</code>, but resolves the
+   * pairs known to the {@link KeyIndex} given on construction via their cached translations.
+   *
+   * @param bundleName the basename of the bundle
+   * @param key the key of the translation
+   * @param locale the locale of the bundle
+   * @return the translation or <code>null</code> if the bundle doesn't contain the key
+   * @throws MissingResourceException if no bundle can be found for the given name
+   */
+  public String getTranslation(final String bundleName, final String key, final Locale locale) {
+    Objects.requireNonNull(bundleName);
+    Objects.requireNonNull(key);
+    Objects.requireNonNull(locale);
+    return this.getTranslation(bundleName, key, locale, NO_CLASSLOADER, null, this.indexedTranslations);
+  }
+
+
+  /**
+   * Returns the translation of the given key in the bundle with the given name for the given locale
+   * as seen by the given classloader.
+   * <p>
+   * This is the same as <code>getBundle(bundleName, locale, classLoader).get(key)</code>, but
+   * resolves the pairs known to the {@link KeyIndex} of the given classloader via their cached
+   * translations.
+   *
+   * @param bundleName the basename of the bundle
+   * @param key the key of the translation
+   * @param locale the locale of the bundle
+   * @param classLoader the classloader to retrieve the bundle for
+   * @return the translation or <code>null</code> if the bundle doesn't contain the key
+   * @throws MissingResourceException if no bundle can be found for the given name
+   */
+  public String getTranslation(final String bundleName, final String key, final Locale locale, final ClassLoader classLoader) {
+    Objects.requireNonNull(bundleName);
+    Objects.requireNonNull(key);
+    Objects.requireNonNull(locale);
+    Objects.requireNonNull(classLoader);
+
+    final ClassLoaderKey classLoaderKey= this.getClassLoaderKey(classLoader);
+    IndexedTranslations indexed= classLoaderKey.indexedTranslations;
+    if (indexed == null) {
+      final KeyIndex keyIndex= KeyIndex.load(classLoader);
+      indexed= keyIndex != null ? new IndexedTranslations(keyIndex) : NO_KEY_INDEX;
+      classLoaderKey.indexedTranslations= indexed;
+    }
+    return this.getTranslation(bundleName, key, locale, classLoaderKey, classLoader, indexed);
+  }
+
+
+  /**
+   * Removes all bundles from this cache.
+   * The bundles are requested again from the TranslationSource on their next lookup.
+   */
+  public void clear() {
+    synchronized (this.lock) {
+      this.resolvedBundles.clear();
+      this.sourceBundles.clear();
+      this.generation++;
+      this.indexedTranslations.clear();
+      for (final ClassLoaderKey classLoaderKey : this.classLoaderKeys.values()) {
+        final IndexedTranslations indexed= classLoaderKey.indexedTranslations;
+        if (indexed != null) {
+          indexed.clear();
+        }
+      }
+    }
+  }
+
+
+  /**
+   * Removes all bundles of the given classloader from this cache.
+   * <p>
+   * This should be called when an application sharing this cache with other applications is
+   * undeployed. While the bundles of a classloader are removed automatically when the classloader
+   * is garbage collected, this immediately releases their memory.
+   *
+   * @param classLoader the classloader whose bundles to remove
+   */
+  public void clear(final ClassLoader classLoader) {
+    Objects.requireNonNull(classLoader);
+    synchronized (this.lock) {
+      final ClassLoaderKey classLoaderKey= this.classLoaderKeys.remove(new ClassLoaderLookup(classLoader));
+      if (classLoaderKey != null) {
+        this.removeBundlesOf(classLoaderKey);
+        this.generation++;
+      }
+    }
+  }
+
+
+  /**
+   * Returns the current statistics of this cache.
+   *
+   * @return the current statistics of this cache
+   */
+  public CacheStatistics getStatistics() {
+    synchronized (this.lock) {
+      this.expungeCollectedClassLoaders();
+      return new CacheStatistics(this.hitCount.sum(),
+                                 this.missCount.sum(),
+                                 this.evictionCount,
+                                 this.classLoaderEvictionCount,
+                                 this.resolvedBundles.size());
+    }
+  }
+
+
+  /**
+   * Returns the canonical key of the given classloader.
+   *
+   * @param classLoader the classloader
+   * @return the key of the classloader
+   */
+  private ClassLoaderKey getClassLoaderKey(final ClassLoader classLoader) {
+    ClassLoaderKey classLoaderKey= this.classLoaderKeys.get(new ClassLoaderLookup(classLoader));
+    if (classLoaderKey == null) {
+      synchronized (this.lock) {
+        classLoaderKey= this.classLoaderKeys.get(new ClassLoaderLookup(classLoader));
+        if (classLoaderKey == null) {
+          classLoaderKey= new ClassLoaderKey(classLoader, this.collectedClassLoaders);
+          this.classLoaderKeys.put(classLoaderKey, classLoaderKey);
+        }
+      }
+    }
+    return classLoaderKey;
+  }
+
+
+  /**
+   * Returns the translation of the given key via the given indexed translations.
+   * <p>
+   * The cached translations are fetched before the bundle. If the cache is cleared in between,
+   * the translation is therefore only written to the discarded array.
+   *
+   * @param bundleName the basename of the bundle
+   * @param key the key of the translation
+   * @param locale the locale of the bundle
+   * @param classLoaderKey the key of the classloader
+   * @param classLoader the classloader or <code>null</code> to request the bundle without a specific classloader
+   * @param indexed the indexed translations to use
+   * @return the translation or <code>null</code> if the bundle doesn't contain the key
+   * @throws MissingResourceException if no bundle can be found for the given name
+   */
+  private String getTranslation(final String bundleName,
+                                final String key,
+                                final Locale locale,
+                                final ClassLoaderKey classLoaderKey,
+                                final ClassLoader classLoader,
+                                final IndexedTranslations indexed) {
+    final int index= indexed.keyIndex != null ? indexed.keyIndex.indexOf(bundleName, key) : -1;
+    if (index < 0) {
+      return this.getBundle(bundleName, locale, classLoaderKey, classLoader).get(key);
+    }
+
+    final String[] values= indexed.getValues(locale);
+    final String cachedValue= values[index];
+    if (cachedValue != null) {
+      return cachedValue != NOT_FOUND ? cachedValue : null;
+    }
+
+    final String value= this.getBundle(bundleName, locale, classLoaderKey, classLoader).get(key);
+    values[index]= value != null ? value : NOT_FOUND;
+    return value;
+  }
+
+
+  /**
+   * Returns the bundle with the given name for the given locale and classloader.
+   *
+   * @param bundleName the basename of the bundle
+   * @param locale the locale of the bundle
+   * @param classLoaderKey the key of the classloader
+   * @param classLoader the classloader or <code>null</code> to request the bundle without a specific classloader
+   * @return the bundle
+   * @throws MissingResourceException if no bundle can be found for the given name
+   */
+  private TranslationBundle getBundle(final String bundleName,
+                                      final Locale locale,
+                                      final ClassLoaderKey classLoaderKey,
+                                      final ClassLoader classLoader) {
+    if (this.collectedClassLoaders.poll() instanceof ClassLoaderKey) {
+      // this only happens after a classloader was garbage collected, so it doesn't need to be cheap
+      synchronized (this.lock) {
+        this.expungeCollectedClassLoaders();
+      }
+    }
+
+    final BundleKey bundleKey= new BundleKey(classLoaderKey, bundleName, locale);
+    ChainedTranslationBundle bundle= this.resolvedBundles.get(bundleKey);
+    if (bundle != null) {
+      this.hitCount.increment();
+    } else {
+      this.missCount.increment();
+      final long expectedGeneration= this.generation;
+      final ChainedTranslationBundle resolvedBundle= this.resolve(bundleName, locale, classLoaderKey, classLoader);
+      synchronized (this.lock) {
+        if (this.generation == expectedGeneration) {
+          bundle= this.resolvedBundles.putIfAbsent(bundleKey, resolvedBundle);
+        }
+      }
+      if (bundle == null) {
+        bundle= resolvedBundle;
+      }
+    }
+
+    if (bundle.isEmpty()) {
+      throw new MissingResourceException("Can't find bundle for base name " + bundleName + ", locale " + locale,
+                                         bundleName + "_" + locale,
+                                         "");
+    }
+
+    return bundle;
+  }
+
+
+  /**
+   * Resolves the fallback chain of the given bundle and locale.
+   *
+   * @param bundleName the basename of the bundle
+   * @param locale the locale of the bundle
+   * @param classLoaderKey the key of the classloader
+   * @param classLoader the classloader or <code>null</code> to request the bundle without a specific classloader
+   * @return the resolved bundle (empty if no bundle can be found at all)
+   */
+  private ChainedTranslationBundle resolve(final String bundleName,
+                                           final Locale locale,
+                                           final ClassLoaderKey classLoaderKey,
+                                           final ClassLoader classLoader) {
+    List<TranslationBundle> chain= this.loadChain(bundleName, locale, classLoaderKey, classLoader);
+
+    final Locale defaultLocale= Locale.getDefault();
+    if (!this.containsNonBaseBundle(bundleName, chain, classLoaderKey, classLoader) && !locale.equals(defaultLocale)) {
+      final List<TranslationBundle> defaultChain= this.loadChain(bundleName, defaultLocale, classLoaderKey, classLoader);
+      if (!defaultChain.isEmpty()) {
+        chain= defaultChain;
+      }
+    }
+
+    return new ChainedTranslationBundle(bundleName, chain);
+  }
+
+
+  /**
+   * Loads the bundles of all candidate locales of the given locale.
+   *
+   * @param bundleName the basename of the bundle
+   * @param locale the locale of the bundle
+   * @param classLoaderKey the key of the classloader
+   * @param classLoader the classloader or <code>null</code> to request the bundle without a specific classloader
+   * @return the existing bundles of the candidate locales, from the most specific to the base bundle
+   */
+  private List<TranslationBundle> loadChain(final String bundleName,
+                                            final Locale locale,
+                                            final ClassLoaderKey classLoaderKey,
+                                            final ClassLoader classLoader) {
+    final List<TranslationBundle> chain= new ArrayList<>();
+    for (final Locale candidate : CONTROL.getCandidateLocales(bundleName, locale)) {
+      final TranslationBundle bundle= this.getSourceBundle(bundleName, candidate, classLoaderKey, classLoader);
+      if (bundle != null) {
+        chain.add(bundle);
+      }
+    }
+    return chain;
+  }
+
+
+  /**
+   * Checks whether the given chain contains any other bundle than the base bundle.
+   *
+   * @param bundleName the basename of the bundle
+   * @param chain the chain to check
+   * @param classLoaderKey the key of the classloader
+   * @param classLoader the classloader or <code>null</code> to request the bundle without a specific classloader
+   * @return whether the chain contains any other bundle than the base bundle
+   */
+  private boolean containsNonBaseBundle(final String bundleName,
+                                        final List<TranslationBundle> chain,
+                                        final ClassLoaderKey classLoaderKey,
+                                        final ClassLoader classLoader) {
+    if (chain.isEmpty()) {
+      return false;
+    }
+
+    if (chain.size() > 1) {
+      return true;
+    }
+
+    return chain.get(0) != this.getSourceBundle(bundleName, Locale.ROOT, classLoaderKey, classLoader);
+  }
+
+
+  /**
+   * Returns the bundle of exactly the given locale as provided by the TranslationSource.
+   *
+   * @param bundleName the basename of the bundle
+   * @param locale the exact locale of the bundle
+   * @param classLoaderKey the key of the classloader
+   * @param classLoader the classloader or <code>null</code> to request the bundle without a specific classloader
+   * @return the bundle or <code>null</code> if the TranslationSource doesn't provide it
+   */
+  private TranslationBundle getSourceBundle(final String bundleName,
+                                            final Locale locale,
+                                            final ClassLoaderKey classLoaderKey,
+                                            final ClassLoader classLoader) {
+    final BundleKey bundleKey= new BundleKey(classLoaderKey, bundleName, locale);
+    Optional<TranslationBundle> bundle= this.sourceBundles.get(bundleKey);
+
+    if (bundle == null) {
+      final long expectedGeneration= this.generation;
+      final Optional<TranslationBundle> loadedBundle= Optional.ofNullable(classLoader != null
+                                                                          ? this.source.getBundle(bundleName, locale, classLoader)
+                                                                          : this.source.getBundle(bundleName, locale));
+      synchronized (this.lock) {
+        if (this.generation == expectedGeneration) {
+          bundle= this.sourceBundles.putIfAbsent(bundleKey, loadedBundle);
+        }
+      }
+      if (bundle == null) {
+        bundle= loadedBundle;
+      }
+    }
+    return bundle.orElse(null);
+  }
+
+
+  /**
+   * Removes the bundles of all garbage collected classloaders.
+   * <p>
+   * Must only be called while holding {@link #lock}. Since the caller may have already polled
+   * one of the collected classloaders, the bundles of all classloaders whose keys have been
+   * cleared are removed.
+   */
+  private void expungeCollectedClassLoaders() {
+    while (this.collectedClassLoaders.poll() != null) {
+      // just drain the queue
+    }
+
+    for (final ClassLoaderKey classLoaderKey : this.classLoaderKeys.values()) {
+      if (classLoaderKey.get() == null) {
+        this.classLoaderKeys.remove(classLoaderKey, classLoaderKey);
+        this.removeBundlesOf(classLoaderKey);
+      }
+    }
+  }
+
+
+  /**
+   * Removes all bundles of the given classloader.
+   * <p>
+   * Must only be called while holding {@link #lock}.
+   *
+   * @param classLoaderKey the key of the classloader
+   */
+  private void removeBundlesOf(final ClassLoaderKey classLoaderKey) {
+    this.classLoaderEvictionCount+= this.resolvedBundles.removeBundlesOf(classLoaderKey);
+    this.sourceBundles.removeBundlesOf(classLoaderKey);
+  }
+
+
+  /////////////////////////////////////////////////////////////////////////////
+  //
+  // Inner classes
+
+  /**
+   * A map of cached bundles that evicts bundles if the {@link #maximumSize} is exceeded.
+   * <p>
+   * Lookups are lock-free. They only update the recency mark of the found bundle, and only if it
+   * changed since the last lookup. All modifications must be done while holding {@link #lock}.
+   *
+   * @param <V> the type of the cached bundles
+   */
+  private final class BundleMap<V> {
+    private final ConcurrentMap<BundleKey, CacheEntry<V>> entries= new ConcurrentHashMap<>();
+
+    /** The position of the next eviction sample. Only accessed while holding {@link #lock}. */
+    private Iterator<Map.Entry<BundleKey, CacheEntry<V>>> evictionHand;
+
+
+    private V get(final BundleKey key) {
+      final CacheEntry<V> entry= this.entries.get(key);
+      if (entry == null) {
+        return null;
+      }
+
+      final long mark= TranslationCache.this.insertionCount;
+      if (entry.lastAccess != mark) {
+        entry.lastAccess= mark;
+      }
+      return entry.value;
+    }
+
+
+    /**
+     * Inserts the given bundle if there is no bundle for the given key yet. Evicts other bundles
+     * if necessary.
+     * <p>
+     * Must only be called while holding {@link #lock}.
+     *
+     * @return the already existing bundle or <code>null</code> if the given bundle was inserted
+     */
+    private V putIfAbsent(final BundleKey key, final V value) {
+      final CacheEntry<V> existing= this.entries.get(key);
+      if (existing != null) {
+        return existing.value;
+      }
+
+      TranslationCache.this.insertionCount++;
+      this.entries.put(key, new CacheEntry<>(value, TranslationCache.this.insertionCount));
+      while (this.entries.size() > TranslationCache.this.maximumSize) {
+        this.evict(key);
+      }
+      return null;
+    }
+
+
+    /**
+     * Evicts the bundle with the oldest recency mark among a sample of the cached bundles.
+     * The given key is never evicted.
+     * <p>
+     * Must only be called while holding {@link #lock}.
+     */
+    private void evict(final BundleKey insertedKey) {
+      final int sampleSize= Math.min(EVICTION_SAMPLE_SIZE, this.entries.size());
+      Map.Entry<BundleKey, CacheEntry<V>> victim= null;
+      for (int i= 0; i < sampleSize; i++) {
+        if (this.evictionHand == null || !this.evictionHand.hasNext()) {
+          this.evictionHand= this.entries.entrySet().iterator();
+        }
+        final Map.Entry<BundleKey, CacheEntry<V>> candidate= this.evictionHand.next();
+        if (!candidate.getKey().equals(insertedKey)
+          && (victim == null || candidate.getValue().lastAccess < victim.getValue().lastAccess)) {
+          victim= candidate;
+        }
+      }
+
+      if (victim != null && this.entries.remove(victim.getKey(), victim.getValue())) {
+        TranslationCache.this.evictionCount++;
+      }
+    }
+
+
+    /**
+     * Removes all bundles of the given classloader.
+     * <p>
+     * Must only be called while holding {@link #lock}.
+     *
+     * @return the number of removed bundles
+     */
+    private int removeBundlesOf(final ClassLoaderKey classLoaderKey) {
+      final int sizeBefore= this.entries.size();
+      this.entries.keySet().removeIf(k -> k.classLoaderKey == classLoaderKey);
+      return sizeBefore - this.entries.size();
+    }
+
+
+    private void clear() {
+      this.entries.clear();
+    }
+
+
+    private int size() {
+      return this.entries.size();
+    }
+  }
+
+
+  /**
+   * A cached bundle with its recency mark.
+   */
+  private static final class CacheEntry<V> {
+    private final V value;
+
+    /** The value of {@link #insertionCount} at the last lookup of this bundle. */
+    private volatile long lastAccess;
+
+
+    private CacheEntry(final V value, final long lastAccess) {
+      this.value= value;
+      this.lastAccess= lastAccess;
+    }
+  }
+
+
+  /**
+   * The canonical key of a classloader.
+   * <p>
+   * Only weakly references the classloader to not prevent its unloading. Equal to other keys and
+   * {@link ClassLoaderLookup}s of the same classloader (compared by identity).
+   */
+  private static final class ClassLoaderKey extends WeakReference<ClassLoader> {
+    private final int hashCode;
+
+    /** The indexed translations of the classloader. Lazily initialized on the first lookup. */
+    private volatile IndexedTranslations indexedTranslations;
+
+
+    private ClassLoaderKey(final ClassLoader classLoader, final ReferenceQueue<ClassLoader> queue) {
+      super(classLoader, queue);
+      this.hashCode= System.identityHashCode(classLoader);
+    }
+
+
+    @Override
+    public int hashCode() {
+      return this.hashCode;
+    }
+
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      final ClassLoader classLoader= this.get();
+      if (classLoader == null) {
+        return false;
+      }
+      if (obj instanceof ClassLoaderKey) {
+        return classLoader == ((ClassLoaderKey) obj).get();
+      }
+      if (obj instanceof ClassLoaderLookup) {
+        return classLoader == ((ClassLoaderLookup) obj).classLoader;
+      }
+      return false;
+    }
+  }
+
+
+  /**
+   * The translations of the pairs known to a {@link KeyIndex}, cached in an array per locale.
+   */
+  private static final class IndexedTranslations {
+    /** The key index or <code>null</code> if there is none. */
+    private final KeyIndex keyIndex;
+
+    /** The cached translations of each slot per locale. Replaced on clearing. */
+    private volatile ConcurrentMap<Locale, String[]> values= new ConcurrentHashMap<>();
+
+
+    private IndexedTranslations(final KeyIndex keyIndex) {
+      this.keyIndex= keyIndex;
+    }
+
+
+    /**
+     * Returns the cached translations for the given locale.
+     *
+     * @param locale the locale
+     * @return the cached translations (with <code>null</code> for translations not looked up yet)
+     */
+    private String[] getValues(final Locale locale) {
+      return this.values.computeIfAbsent(locale, l -> new String[this.keyIndex.size()]);
+    }
+
+
+    private void clear() {
+      if (this.keyIndex != null) {
+        this.values= new ConcurrentHashMap<>();
+      }
+    }
+  }
+
+
+  /**
+   * A temporary key for looking up the {@link ClassLoaderKey} of a classloader in
+   * {@link #classLoaderKeys}.
+   */
+  private static final class ClassLoaderLookup {
+    private final ClassLoader classLoader;
+
+
+    private ClassLoaderLookup(final ClassLoader classLoader) {
+      this.classLoader= classLoader;
+    }
+
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(this.classLoader);
+    }
+
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      return obj instanceof ClassLoaderKey && ((ClassLoaderKey) obj).get() == this.classLoader;
+    }
+  }
+
+
+  /**
+   * The key of a bundle in this cache.
+   */
+  private static final class BundleKey {
+    private final ClassLoaderKey classLoaderKey;
+    private final String bundleName;
+    private final Locale locale;
+    private final int hashCode;
+
+
+    private BundleKey(final ClassLoaderKey classLoaderKey, final String bundleName, final Locale locale) {
+      this.classLoaderKey= classLoaderKey;
+      this.bundleName= bundleName;
+      this.locale= locale;
+      this.hashCode= 31 * (31 * System.identityHashCode(classLoaderKey) + bundleName.hashCode()) + locale.hashCode();
+    }
+
+
+    @Override
+    public int hashCode() {
+      return this.hashCode;
+    }
+
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof BundleKey)) {
+        return false;
+      }
+      final BundleKey other= (BundleKey) obj;
+      return this.classLoaderKey == other.classLoaderKey
+        && this.bundleName.equals(other.bundleName)
+        && this.locale.equals(other.locale);
+    }
+  }
+
+
+  /**
+   * A TranslationBundle resolving the translations via a chain of bundles.
+   * The first bundle in the chain containing a key provides its translation.
+   * The UTF-8 encoded and the escaped translations are cached on first access.
+   */
+  private static final class ChainedTranslationBundle implements TranslationBundle {
+    private final String bundleName;
+    private final TranslationBundle[] chain;
+    private final ConcurrentMap<String, byte[]> encodedTranslations= new ConcurrentHashMap<>();
+    private final Map<Escaping, ConcurrentMap<String, String>> escapedTranslations= new EnumMap<>(Escaping.class);
+
+
+    private ChainedTranslationBundle(final String bundleName, final List<TranslationBundle> chain) {
+      this.bundleName= bundleName;
+      this.chain= chain.toArray(new TranslationBundle[chain.size()]);
+      for (final Escaping escaping : Escaping.values()) {
+        this.escapedTranslations.put(escaping, new ConcurrentHashMap<>());
+      }
+    }
+
+
+    private boolean isEmpty() {
+      return this.chain.length == 0;
+    }
+
+
+    @Override
+    public String get(final String key) {
+      Objects.requireNonNull(key);
+      for (final TranslationBundle bundle : this.chain) {
+        final String value= bundle.get(key);
+        if (value != null) {
+          return value;
+        }
+      }
+      return null;
+    }
+
+
+    @Override
+    public byte[] getUtf8(final String key) {
+      Objects.requireNonNull(key);
+      final byte[] encoded= this.encodedTranslations.get(key);
+      if (encoded != null) {
+        return encoded;
+      }
+
+      final String value= this.get(key);
+      if (value == null) {
+        return null;
+      }
+
+      final byte[] newlyEncoded= value.getBytes(StandardCharsets.UTF_8);
+      final byte[] existing= this.encodedTranslations.putIfAbsent(key, newlyEncoded);
+      return existing != null ? existing : newlyEncoded;
+    }
+
+
+    @Override
+    public String getEscaped(final String key, final Escaping escaping) {
+      Objects.requireNonNull(key);
+      Objects.requireNonNull(escaping);
+
+      final ConcurrentMap<String, String> cache= this.escapedTranslations.get(escaping);
+      final String escaped= cache.get(key);
+      if (escaped != null) {
+        return escaped;
+      }
+
+      final String value= this.get(key);
+      if (value == null) {
+        return null;
+      }
+
+      final String newlyEscaped= escaping.escape(value);
+      final String existing= cache.putIfAbsent(key, newlyEscaped);
+      return existing != null ? existing : newlyEscaped;
+    }
+
+
+    @Override
+    public Set<String> keySet() {
+      final Set<String> keys= new HashSet<>();
+      for (final TranslationBundle bundle : this.chain) {
+        keys.addAll(bundle.keySet());
+      }
+      return Collections.unmodifiableSet(keys);
+    }
+
+
+    @Override
+    public String toString() {
+      return "ChainedTranslationBundle{" + "bundleName=" + bundleName + ", chain=" + chain.length + '}';
+    }
+  }
+}
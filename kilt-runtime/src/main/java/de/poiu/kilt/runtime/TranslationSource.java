@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.runtime;
+
+import java.util.Locale;
+
+
+/**
+ * A source of translations.
+ * <p>
+ * The I18n accessor class retrieves all translations via a TranslationSource. The default
+ * implementation is the {@link PropertiesTranslationSource} that reads the usual .properties
+ * files from the classpath. Other implementations may provide the translations from compiled
+ * classes, binary resources or remote services.
+ * <p>
+ * A TranslationSource only provides the translations of exactly the requested bundle and locale.
+ * The fallback to less specific locales is done by the {@link TranslationCache}, which also
+ * caches the returned bundles. Therefore a TranslationSource doesn't need to cache the bundles
+ * itself.
+ * <p>
+ * Implementations must be thread-safe.
+ * <p>
+ * Implementations can be registered via the {@link java.util.ServiceLoader} mechanism by listing
+ * them in <code>META-INF/services/de.poiu.kilt.runtime.TranslationSource</code>. The first
+ * registered implementation is then used by the I18n accessor class by default.
+ *
+ * @author mherrn
+ */
+public interface TranslationSource {
+
+  /**
+   * Returns the translations of the given bundle for exactly the given locale.
+   *
+   * @param bundleName the basename of the bundle (for example <code>i18n.messages</code>)
+   * @param locale the locale of the bundle ({@link Locale#ROOT} for the base bundle)
+   * @return the translations of the bundle or <code>null</code> if this source doesn't provide
+   *         the bundle for exactly this locale
+   */
+  public TranslationBundle getBundle(String bundleName, Locale locale);
+
+
+  /**
+   * Returns the translations of the given bundle for exactly the given locale as seen by the
+   * given classloader.
+   * <p>
+   * This allows sharing one TranslationSource between multiple applications with separate
+   * classloaders (for example the web applications in a servlet container). Implementations
+   * must not retain strong references to the given classloader beyond the lifetime of the
+   * classloader itself, since this would prevent its unloading.
+   * <p>
+   * The default implementation ignores the classloader and delegates to
+   * {@link #getBundle(java.lang.String, java.util.Locale)}.
+   *
+   * @param bundleName the basename of the bundle (for example <code>i18n.messages</code>)
+   * @param locale the locale of the bundle ({@link Locale#ROOT} for the base bundle)
+   * @param classLoader the classloader to retrieve the bundle for
+   * @return the translations of the bundle or <code>null</code> if this source doesn't provide
+   *         the bundle for exactly this locale
+   */
+  public default TranslationBundle getBundle(final String bundleName, final Locale locale, final ClassLoader classLoader) {
+    return this.getBundle(bundleName, locale);
+  }
+
+
+  /**
+   * Registers a listener to be notified whenever the bundles provided by this source change.
+   * <p>
+   * The {@link TranslationCache} registers itself via this method to discard its cached bundles
+   * when they become stale. Sources whose bundles never change (like the default
+   * {@link PropertiesTranslationSource}) don't need to override this method.
+   *
+   * @param listener the listener to notify on changes
+   */
+  public default void addChangeListener(final Runnable listener) {
+    // the bundles of this source never change
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.facade;
+
+import de.poiu.kilt.runtime.ByteBufferPool;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ *
+ * @author mherrn
+ */
+public class I18nTest {
+
+  private enum Messages implements KiltEnumFacade {
+    OK("ok"),
+    SIZE("size"),
+    MISSING("missing"),
+    ;
+
+    private final String key;
+
+    private Messages(final String key) {
+      this.key= key;
+    }
+
+    @Override
+    public String getBasename() {
+      return "i18n.messages";
+    }
+
+    @Override
+    public String getKey() {
+      return this.key;
+    }
+  }
+
+
+  @Test
+  public void testGet_KeyIndex() {
+    // preparation
+    final I18n german= new I18n(Locale.GERMAN);
+    final I18n french= new I18n(Locale.FRENCH, false);
+
+    // execution & verification
+    // all of these pairs are contained in the key index of the test resources except "help"
+    for (int i= 0; i < 2; i++) {
+      assertThat(german.get("i18n.messages", "ok")).isEqualTo("Jawohl");
+      assertThat(german.get("i18n.messages", "cancel")).isEqualTo("Cancel");
+      assertThat(german.get("i18n.messages", "help")).isEqualTo(":MISSING:i18n.messages#help:MISSING:");
+      assertThat(german.contains("i18n.messages", "size")).isTrue();
+      assertThat(german.contains("i18n.messages", "help")).isFalse();
+      assertThat(german.contains("i18n.markup", "greeting")).isTrue();
+      assertThat(german.contains("i18n.plurals", "items.few")).isFalse();
+      assertThat(french.get("i18n.messages", "ok")).isEqualTo("D'accord");
+    }
+  }
+
+
+  @Test
+  public void testGetBytes() {
+    // preparation
+    final I18n i18n= new I18n(Locale.GERMAN);
+
+    // execution
+    final byte[] size= i18n.getBytes(Messages.SIZE);
+    final byte[] missing= i18n.getBytes(Messages.MISSING);
+
+    // verification
+    assertThat(new String(size, UTF_8)).isEqualTo("Größe");
+    // the encoded translations are cached
+    assertThat(i18n.getBytes(Messages.SIZE)).isSameAs(size);
+    assertThat(new String(missing, UTF_8)).isEqualTo(":MISSING:i18n.messages#missing:MISSING:");
+  }
+
+
+  @Test
+  public void testGetHtml() {
+    // preparation
+    final I18n i18n= new I18n(Locale.GERMAN);
+
+    // execution
+    final String html= i18n.getHtml("i18n.markup", "greeting");
+
+    // verification
+    assertThat(html).isEqualTo("&lt;b&gt;&quot;Fish&quot; &amp; &#39;Chips&#39;&lt;/b&gt;\n\tEnjoy");
+    // the escaped translations are cached
+    assertThat(i18n.getHtml("i18n.markup", "greeting")).isSameAs(html);
+    // not escaped for JSON
+    assertThat(i18n.getHtml(Messages.OK)).isEqualTo("Jawohl");
+  }
+
+
+  @Test
+  public void testGetJson() {
+    // preparation
+    final I18n i18n= new I18n(Locale.GERMAN);
+
+    // execution
+    final String json= i18n.getJson("i18n.markup", "greeting");
+
+    // verification
+    assertThat(json).isEqualTo("<b>\\\"Fish\\\" & 'Chips'</b>\\n\\tEnjoy");
+    assertThat(i18n.getJson("i18n.markup", "greeting")).isSameAs(json);
+  }
+
+
+  @Test
+  public void testGetPlural() {
+    // preparation
+    final I18n english= new I18n(Locale.ENGLISH);
+    final I18n russian= new I18n(new Locale("ru"));
+    final I18n french= new I18n(Locale.FRENCH);
+
+    // execution & verification
+    assertThat(english.getPlural("i18n.plurals", "items", 1)).isEqualTo("{0} item");
+    assertThat(english.getPlural("i18n.plurals", "items", 0)).isEqualTo("{0} items");
+    // a plural form may be given instead of the base key
+    assertThat(english.getPlural("i18n.plurals", "items.one", 2)).isEqualTo("{0} items");
+    assertThat(russian.getPlural("i18n.plurals", "items", 21)).isEqualTo("{0} предмет");
+    assertThat(russian.getPlural("i18n.plurals", "items", 3)).isEqualTo("{0} предмета");
+    assertThat(russian.getPlural("i18n.plurals", "items", 5)).isEqualTo("{0} предметов");
+    assertThat(french.getPlural("i18n.plurals", "items", 0)).isEqualTo("{0} objet");
+    // missing forms fall back to the 'other' form
+    assertThat(french.getPlural("i18n.plurals", "items", 1_000_000)).isEqualTo("{0} items");
+    assertThat(english.getPlural("i18n.plurals", "missing", 1)).isEqualTo(":MISSING:i18n.plurals#missing.other:MISSING:");
+  }
+
+
+  @Test
+  public void testWriteTo() throws IOException {
+    // preparation
+    final I18n i18n= new I18n(Locale.GERMAN);
+    final ByteArrayOutputStream out= new ByteArrayOutputStream();
+    final ByteBuffer buffer= ByteBuffer.allocate(64);
+
+    // execution
+    final int writtenToStream= i18n.writeTo(Messages.SIZE, out);
+    final int writtenToBuffer= i18n.writeTo(Messages.OK, buffer);
+
+    // verification
+    assertThat(writtenToStream).isEqualTo(7);
+    assertThat(new String(out.toByteArray(), UTF_8)).isEqualTo("Größe");
+    assertThat(writtenToBuffer).isEqualTo(6);
+    assertThat(buffer.position()).isEqualTo(6);
+    assertThat(new String(buffer.array(), 0, 6, UTF_8)).isEqualTo("Jawohl");
+  }
+
+
+  @Test
+  public void testGetByteBuffer() {
+    // preparation
+    final I18n i18n= new I18n(Locale.GERMAN);
+    final ByteBufferPool pool= new ByteBufferPool(16, 1);
+
+    // execution
+    final ByteBuffer ok= i18n.getByteBuffer(Messages.OK, pool);
+    pool.release(ok);
+    final ByteBuffer size= i18n.getByteBuffer(Messages.SIZE, pool);
+    final ByteBuffer missing= i18n.getByteBuffer(Messages.MISSING, pool);
+
+    // verification
+    assertThat(size.isDirect()).isTrue();
+    // the released buffer is reused
+    assertThat(size).isSameAs(ok);
+    assertThat(size.remaining()).isEqualTo(7);
+    final byte[] bytes= new byte[size.remaining()];
+    size.get(bytes);
+    assertThat(new String(bytes, UTF_8)).isEqualTo("Größe");
+
+    // too large for the pool
+    assertThat(missing.isDirect()).isFalse();
+    assertThat(missing.isReadOnly()).isTrue();
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.runtime;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ *
+ * @author mherrn
+ */
+public class EscapingTest {
+
+  @Test
+  public void testEscape_Html() {
+    assertThat(Escaping.HTML.escape("<a href=\"x\">Fish & 'Chips'</a>"))
+      .isEqualTo("&lt;a href=&quot;x&quot;&gt;Fish &amp; &#39;Chips&#39;&lt;/a&gt;");
+  }
+
+
+  @Test
+  public void testEscape_Json() {
+    assertThat(Escaping.JSON.escape("\"C:\\temp\"\n\tä\u0001\u2028"))
+      .isEqualTo("\\\"C:\\\\temp\\\"\\n\\tä\\u0001\\u2028");
+  }
+
+
+  @Test
+  public void testEscape_Unchanged() {
+    // preparation
+    final String s= "Nothing to escape here: äöü";
+
+    // execution & verification
+    assertThat(Escaping.HTML.escape(s)).isSameAs(s);
+    assertThat(Escaping.JSON.escape(s)).isSameAs(s);
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.runtime;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ *
+ * @author mherrn
+ */
+public class KeyIndexTest {
+
+  @Test
+  public void testIndexOf() {
+    // preparation
+    final KeyIndex keyIndex= KeyIndex.load(this.getClass().getClassLoader());
+    final String[][] pairs= {
+      { "i18n.messages", "ok" },
+      { "i18n.messages", "cancel" },
+      { "i18n.messages", "size" },
+      { "i18n.markup",   "greeting" },
+      { "i18n.plurals",  "items.one" },
+      { "i18n.plurals",  "items.few" },
+      { "i18n.plurals",  "items.many" },
+      { "i18n.plurals",  "items.other" },
+    };
+
+    // execution & verification
+    assertThat(keyIndex).isNotNull();
+    assertThat(keyIndex.size()).isEqualTo(pairs.length);
+
+    final Set<Integer> slots= new HashSet<>();
+    for (final String[] pair : pairs) {
+      final int slot= keyIndex.indexOf(pair[0], pair[1]);
+      assertThat(slot).isBetween(0, pairs.length - 1);
+      slots.add(slot);
+    }
+    assertThat(slots).hasSize(pairs.length);
+
+    assertThat(keyIndex.indexOf("i18n.messages", "help")).isEqualTo(-1);
+    assertThat(keyIndex.indexOf("i18n.markup", "ok")).isEqualTo(-1);
+    assertThat(keyIndex.indexOf("i18n.messagesok", "")).isEqualTo(-1);
+  }
+
+
+  @Test
+  public void testRead_Invalid() throws IOException {
+    // execution & verification
+    assertThat(read(new byte[]{ 0x4B, 0x49, 0x4C, 0x54, 0, 0, 0, 2 })).isNull();
+    assertThat(read(new byte[]{ 0x4B, 0x49, 0x4C, 0x54, 0, 0, 0, 1, 0, 0, 0, 0, 0, 0, 0, 1 })).isNull();
+    // a displacement pointing beyond the last slot
+    assertThat(read(new byte[]{ 0x4B, 0x49, 0x4C, 0x54, 0, 0, 0, 1, 0, 0, 0, 1, 0, 0, 0, 1, -1, -1, -1, -3 })).isNull();
+  }
+
+
+  private static KeyIndex read(final byte[] bytes) throws IOException {
+    return KeyIndex.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+  }
+}
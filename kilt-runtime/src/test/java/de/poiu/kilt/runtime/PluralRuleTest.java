@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.runtime;
+
+import java.util.Locale;
+import org.junit.Test;
+
+import static de.poiu.kilt.runtime.PluralCategory.FEW;
+import static de.poiu.kilt.runtime.PluralCategory.MANY;
+import static de.poiu.kilt.runtime.PluralCategory.ONE;
+import static de.poiu.kilt.runtime.PluralCategory.OTHER;
+import static de.poiu.kilt.runtime.PluralCategory.TWO;
+import static de.poiu.kilt.runtime.PluralCategory.ZERO;
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ *
+ * @author mherrn
+ */
+public class PluralRuleTest {
+
+  @Test
+  public void testForLocale() {
+    assertThat(PluralRule.forLocale(Locale.ROOT)).isEqualTo(PluralRule.OTHER_ONLY);
+    assertThat(PluralRule.forLocale(Locale.GERMANY)).isEqualTo(PluralRule.ONE_ONLY);
+    assertThat(PluralRule.forLocale(Locale.JAPANESE)).isEqualTo(PluralRule.OTHER_ONLY);
+    assertThat(PluralRule.forLocale(new Locale("pt", "BR"))).isEqualTo(PluralRule.ZERO_AND_ONE_AND_MILLION);
+    assertThat(PluralRule.forLocale(new Locale("pt", "PT"))).isEqualTo(PluralRule.ONE_AND_MILLION);
+    assertThat(PluralRule.forLocale(new Locale("he"))).isEqualTo(PluralRule.HEBREW);
+    assertThat(PluralRule.forLocale(new Locale("se"))).isEqualTo(PluralRule.HEBREW);
+    assertThat(PluralRule.forLocale(new Locale("ksh"))).isEqualTo(PluralRule.ZERO_AND_ONE_SEPARATE);
+    // unknown languages
+    assertThat(PluralRule.forLocale(new Locale("xx"))).isEqualTo(PluralRule.OTHER_ONLY);
+  }
+
+
+  @Test
+  public void testSelect_English() {
+    final PluralRule rule= PluralRule.forLocale(Locale.ENGLISH);
+    assertThat(rule.select(0)).isEqualTo(OTHER);
+    assertThat(rule.select(1)).isEqualTo(ONE);
+    assertThat(rule.select(-1)).isEqualTo(ONE);
+    assertThat(rule.select(2)).isEqualTo(OTHER);
+    assertThat(rule.select(Long.MIN_VALUE)).isEqualTo(OTHER);
+  }
+
+
+  @Test
+  public void testSelect_French() {
+    final PluralRule rule= PluralRule.forLocale(Locale.FRENCH);
+    assertThat(rule.select(0)).isEqualTo(ONE);
+    assertThat(rule.select(1)).isEqualTo(ONE);
+    assertThat(rule.select(2)).isEqualTo(OTHER);
+    assertThat(rule.select(1_000_000)).isEqualTo(MANY);
+    assertThat(rule.select(1_000_001)).isEqualTo(OTHER);
+  }
+
+
+  @Test
+  public void testSelect_Russian() {
+    final PluralRule rule= PluralRule.forLocale(new Locale("ru"));
+    assertThat(rule.select(1)).isEqualTo(ONE);
+    assertThat(rule.select(21)).isEqualTo(ONE);
+    assertThat(rule.select(2)).isEqualTo(FEW);
+    assertThat(rule.select(24)).isEqualTo(FEW);
+    assertThat(rule.select(0)).isEqualTo(MANY);
+    assertThat(rule.select(5)).isEqualTo(MANY);
+    assertThat(rule.select(11)).isEqualTo(MANY);
+    assertThat(rule.select(12)).isEqualTo(MANY);
+    assertThat(rule.select(111)).isEqualTo(MANY);
+  }
+
+
+  @Test
+  public void testSelect_Polish() {
+    final PluralRule rule= PluralRule.forLocale(new Locale("pl"));
+    assertThat(rule.select(1)).isEqualTo(ONE);
+    assertThat(rule.select(21)).isEqualTo(MANY);
+    assertThat(rule.select(22)).isEqualTo(FEW);
+    assertThat(rule.select(12)).isEqualTo(MANY);
+  }
+
+
+  @Test
+  public void testSelect_Arabic() {
+    final PluralRule rule= PluralRule.forLocale(new Locale("ar"));
+    assertThat(rule.select(0)).isEqualTo(ZERO);
+    assertThat(rule.select(1)).isEqualTo(ONE);
+    assertThat(rule.select(2)).isEqualTo(TWO);
+    assertThat(rule.select(3)).isEqualTo(FEW);
+    assertThat(rule.select(110)).isEqualTo(FEW);
+    assertThat(rule.select(11)).isEqualTo(MANY);
+    assertThat(rule.select(100)).isEqualTo(OTHER);
+    assertThat(rule.select(102)).isEqualTo(OTHER);
+  }
+
+
+  @Test
+  public void testSelect_Breton() {
+    final PluralRule rule= PluralRule.forLocale(new Locale("br"));
+    assertThat(rule.select(1)).isEqualTo(ONE);
+    assertThat(rule.select(21)).isEqualTo(ONE);
+    assertThat(rule.select(71)).isEqualTo(OTHER);
+    assertThat(rule.select(2)).isEqualTo(TWO);
+    assertThat(rule.select(92)).isEqualTo(OTHER);
+    assertThat(rule.select(3)).isEqualTo(FEW);
+    assertThat(rule.select(29)).isEqualTo(FEW);
+    assertThat(rule.select(79)).isEqualTo(OTHER);
+    assertThat(rule.select(0)).isEqualTo(OTHER);
+    assertThat(rule.select(1_000_000)).isEqualTo(MANY);
+  }
+
+
+  @Test
+  public void testSelect_Cornish() {
+    final PluralRule rule= PluralRule.forLocale(new Locale("kw"));
+    assertThat(rule.select(0)).isEqualTo(ZERO);
+    assertThat(rule.select(1)).isEqualTo(ONE);
+    assertThat(rule.select(2)).isEqualTo(TWO);
+    assertThat(rule.select(42)).isEqualTo(TWO);
+    assertThat(rule.select(3000)).isEqualTo(TWO);
+    assertThat(rule.select(100_000)).isEqualTo(TWO);
+    assertThat(rule.select(23)).isEqualTo(FEW);
+    assertThat(rule.select(21)).isEqualTo(MANY);
+    assertThat(rule.select(101)).isEqualTo(MANY);
+    assertThat(rule.select(4)).isEqualTo(OTHER);
+    assertThat(rule.select(30_000)).isEqualTo(OTHER);
+  }
+
+
+  @Test
+  public void testSelect_Manx() {
+    final PluralRule rule= PluralRule.forLocale(new Locale("gv"));
+    assertThat(rule.select(1)).isEqualTo(ONE);
+    assertThat(rule.select(11)).isEqualTo(ONE);
+    assertThat(rule.select(2)).isEqualTo(TWO);
+    assertThat(rule.select(0)).isEqualTo(FEW);
+    assertThat(rule.select(40)).isEqualTo(FEW);
+    assertThat(rule.select(3)).isEqualTo(OTHER);
+    assertThat(rule.select(30)).isEqualTo(OTHER);
+  }
+
+
+  @Test
+  public void testSelect_Tachelhit() {
+    final PluralRule rule= PluralRule.forLocale(new Locale("shi"));
+    assertThat(rule.select(0)).isEqualTo(ONE);
+    assertThat(rule.select(1)).isEqualTo(ONE);
+    assertThat(rule.select(2)).isEqualTo(FEW);
+    assertThat(rule.select(10)).isEqualTo(FEW);
+    assertThat(rule.select(11)).isEqualTo(OTHER);
+  }
+
+
+  @Test
+  public void testToBaseKey() {
+    assertThat(PluralCategory.toBaseKey("items.one")).isEqualTo("items");
+    assertThat(PluralCategory.toBaseKey("items.other")).isEqualTo("items");
+    assertThat(PluralCategory.toBaseKey("items")).isEqualTo("items");
+    assertThat(PluralCategory.toBaseKey("items.oneself")).isEqualTo("items.oneself");
+    assertThat(PluralCategory.toBaseKey(".other")).isEqualTo(".other");
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.runtime;
+
+import de.poiu.kilt.bundlecontent.Language;
+import de.poiu.kilt.bundlecontent.ResourceBundleContent;
+import de.poiu.kilt.bundlecontent.Translation;
+import de.poiu.kilt.serving.TranslationServer;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ *
+ * @author mherrn
+ */
+public class PollingTranslationSourceTest {
+
+  private TranslationServer server;
+
+  private PollingTranslationSource source;
+
+  private final TranslationSource fallback= (bundleName, locale) ->
+    locale.equals(Locale.ROOT)
+    ? new MapTranslationBundle(Collections.singletonMap("ok", "fallback OK"))
+    : null;
+
+
+  @Before
+  public void setUp() throws IOException {
+    this.server= new TranslationServer();
+    this.server.start();
+    this.source= new PollingTranslationSource(this.server.getBaseUri(), this.fallback, 1, TimeUnit.HOURS);
+  }
+
+
+  @After
+  public void tearDown() {
+    this.source.close();
+    this.server.close();
+  }
+
+
+  @Test
+  public void testGetBundle() throws InterruptedException {
+    // preparation
+    this.server.publish(messages("OK", "Jawohl"));
+
+    // execution & verification
+    // the first lookup is served from the fallback and triggers the fetching
+    assertThat(this.source.getBundle("i18n.messages", Locale.ROOT).get("ok")).isEqualTo("fallback OK");
+    assertThat(this.source.getBundle("i18n/messages", Locale.GERMAN)).isNull();
+
+    this.source.refresh();
+    assertThat(this.source.getBundle("i18n.messages", Locale.ROOT).get("ok")).isEqualTo("OK");
+    assertThat(this.source.getBundle("i18n.messages", Locale.GERMAN).get("ok")).isEqualTo("Jawohl");
+    // not provided by server or fallback
+    assertThat(this.source.getBundle("i18n.messages", Locale.FRENCH)).isNull();
+  }
+
+
+  @Test
+  public void testRefresh_ConditionalRequest() throws InterruptedException {
+    // preparation
+    this.server.publish(messages("OK", "Jawohl"));
+    this.source.getBundle("i18n.messages", Locale.GERMAN);
+    this.source.refresh();
+    final TranslationBundle bundle= this.source.getBundle("i18n.messages", Locale.GERMAN);
+    final int servedCount= this.server.getServedCount();
+    final int notModifiedCount= this.server.getNotModifiedCount();
+
+    // execution
+    this.source.refresh();
+
+    // verification
+    assertThat(this.server.getServedCount()).isEqualTo(servedCount);
+    assertThat(this.server.getNotModifiedCount()).isEqualTo(notModifiedCount + 1);
+    assertThat(this.source.getBundle("i18n.messages", Locale.GERMAN)).isSameAs(bundle);
+  }
+
+
+  @Test
+  public void testRefresh_InvalidatesCache() throws InterruptedException {
+    // preparation
+    this.server.publish(messages("OK", "Jawohl"));
+    final TranslationCache cache= new TranslationCache(this.source);
+    assertThat(cache.getBundle("i18n.messages", Locale.GERMAN).get("ok")).isEqualTo("fallback OK");
+    this.source.refresh();
+    assertThat(cache.getBundle("i18n.messages", Locale.GERMAN).get("ok")).isEqualTo("Jawohl");
+
+    // execution
+    this.server.publish(messages("OK", "Genau"));
+    this.source.refresh();
+
+    // verification
+    assertThat(cache.getBundle("i18n.messages", Locale.GERMAN).get("ok")).isEqualTo("Genau");
+  }
+
+
+  @Test
+  public void testRefresh_ServerWithoutETag() throws IOException, InterruptedException {
+    // preparation
+    final AtomicReference<String> content= new AtomicReference<>("ok = Jawohl\n");
+    final HttpServer plainServer= HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    plainServer.createContext("/", exchange -> {
+      final byte[] body= content.get().getBytes(UTF_8);
+      exchange.sendResponseHeaders(200, body.length);
+      try (final OutputStream out= exchange.getResponseBody()) {
+        out.write(body);
+      }
+    });
+    plainServer.start();
+
+    final URI baseUri= URI.create("http://" + plainServer.getAddress().getHostString() + ":" + plainServer.getAddress().getPort() + "/");
+    final AtomicInteger changeCount= new AtomicInteger();
+    try (final PollingTranslationSource plainSource= new PollingTranslationSource(baseUri, this.fallback, 1, TimeUnit.HOURS)) {
+      plainSource.addChangeListener(changeCount::incrementAndGet);
+      plainSource.getBundle("i18n.messages", Locale.GERMAN);
+      plainSource.refresh();
+      final TranslationBundle bundle= plainSource.getBundle("i18n.messages", Locale.GERMAN);
+      final int initialChangeCount= changeCount.get();
+
+      // execution
+      plainSource.refresh();
+      plainSource.refresh();
+
+      // verification
+      assertThat(changeCount.get()).isEqualTo(initialChangeCount);
+      assertThat(plainSource.getBundle("i18n.messages", Locale.GERMAN)).isSameAs(bundle);
+
+      // execution
+      content.set("ok = Genau\n");
+      plainSource.refresh();
+
+      // verification
+      assertThat(changeCount.get()).isEqualTo(initialChangeCount + 1);
+      assertThat(plainSource.getBundle("i18n.messages", Locale.GERMAN).get("ok")).isEqualTo("Genau");
+    } finally {
+      plainServer.stop(0);
+    }
+  }
+
+
+  private static ResourceBundleContent messages(final String rootValue, final String deValue) {
+    final ResourceBundleContent content= ResourceBundleContent.forName("i18n/messages");
+    content.addTranslation("ok", new Translation(Language.of(""),   rootValue));
+    content.addTranslation("ok", new Translation(Language.of("de"), deValue));
+    return content;
+  }
+}
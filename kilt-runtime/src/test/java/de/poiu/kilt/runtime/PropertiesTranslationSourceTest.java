@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.runtime;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+/**
+ *
+ * @author mherrn
+ */
+public class PropertiesTranslationSourceTest {
+
+  @Rule
+  public TemporaryFolder tmpFolder= new TemporaryFolder();
+
+  private final PropertiesTranslationSource source= new PropertiesTranslationSource(this.getClass().getClassLoader(), true);
+
+
+  @Test
+  public void testGetBundle() {
+    // execution
+    final TranslationBundle root= this.source.getBundle("i18n.messages", Locale.ROOT);
+    final TranslationBundle de= this.source.getBundle("i18n.messages", Locale.GERMAN);
+    final TranslationBundle deDe= this.source.getBundle("i18n.messages", Locale.GERMANY);
+
+    // verification
+    assertThat(root.keySet()).containsOnly("ok", "cancel");
+    assertThat(root.get("ok")).isEqualTo("OK");
+    assertThat(de.keySet()).containsOnly("ok", "size");
+    assertThat(de.get("ok")).isEqualTo("Jawohl");
+    assertThat(deDe).isNull();
+  }
+
+
+  @Test
+  public void testGetBundle_Encoding() {
+    // execution
+    final TranslationBundle de= this.source.getBundle("i18n/messages", Locale.GERMAN);
+    final TranslationBundle fr= this.source.getBundle("i18n/messages", Locale.FRENCH);
+
+    // verification
+    // UTF-8
+    assertThat(de.get("size")).isEqualTo("Größe");
+    // fallback to ISO-8859-1
+    assertThat(fr.get("size")).isEqualTo("Taille réelle");
+  }
+
+
+  @Test
+  public void testGetBundle_Deduplication() {
+    // execution
+    final TranslationBundle root= this.source.getBundle("i18n.messages", Locale.ROOT);
+    final TranslationBundle de= this.source.getBundle("i18n.messages", Locale.GERMAN);
+
+    // verification
+    assertThat(this.source.getDeduplicatedBytes()).isGreaterThan(0);
+    assertThat(de.keySet().stream().filter("ok"::equals).findFirst().get())
+      .isSameAs(root.keySet().stream().filter("ok"::equals).findFirst().get());
+  }
+
+
+  @Test
+  public void testGetBundle_Segmented() {
+    // execution
+    final TranslationBundle root= this.source.getBundle("i18n.large", Locale.ROOT);
+    final TranslationBundle de= this.source.getBundle("i18n.large", Locale.GERMAN);
+
+    // verification
+    assertThat(root).isInstanceOf(SegmentedTranslationBundle.class);
+    assertThat(root.get("dialog.ok")).isEqualTo("OK");
+    assertThat(root.get("dialog.cancel")).isEqualTo("Cancel");
+    assertThat(root.get("unknown.key")).isNull();
+    // only the segment of the requested keys is loaded
+    assertThat(((SegmentedTranslationBundle) root).getLoadedSegmentCount()).isEqualTo(1);
+
+    assertThat(de.get("dialog.ok")).isEqualTo("Jawohl");
+    // the German bundle has no segment for these keys
+    assertThat(de.get("menu.file")).isNull();
+    assertThat(de.get("title")).isNull();
+
+    assertThat(root.keySet()).containsOnly("title", "dialog.ok", "dialog.cancel", "menu.file");
+    assertThat(((SegmentedTranslationBundle) root).getLoadedSegmentCount()).isEqualTo(3);
+  }
+
+
+  @Test
+  public void testGetBundle_BundleManifest() throws IOException {
+    // preparation
+    final Path resourceDir= this.tmpFolder.getRoot().toPath();
+    this.write(resourceDir.resolve("META-INF/kilt/bundle-manifest.properties"), "i18n.messages = <default>,de\n");
+    this.write(resourceDir.resolve("i18n/messages.properties"),    "ok = OK\n");
+    this.write(resourceDir.resolve("i18n/messages_de.properties"), "ok = Jawohl\n");
+    // not listed in the manifest and therefore never looked up
+    this.write(resourceDir.resolve("i18n/messages_fr.properties"), "ok = D'accord\n");
+    final PropertiesTranslationSource source= new PropertiesTranslationSource(this.createClassLoader(resourceDir));
+
+    // execution & verification
+    assertThat(source.getBundle("i18n.messages", Locale.ROOT).get("ok")).isEqualTo("OK");
+    assertThat(source.getBundle("i18n.messages", Locale.GERMAN).get("ok")).isEqualTo("Jawohl");
+    assertThat(source.getBundle("i18n.messages", Locale.FRENCH)).isNull();
+  }
+
+
+  @Test
+  public void testGetBundle_ConsolidatedBundles() throws IOException {
+    // preparation
+    final Path resourceDir= this.tmpFolder.getRoot().toPath();
+    this.write(resourceDir.resolve("META-INF/kilt/consolidated/index.properties"),
+               "messages = <default>,de\n",
+               "sub.options = de\n");
+    this.write(resourceDir.resolve("META-INF/kilt/consolidated/bundles.properties"),
+               "messages#ok = OK\n",
+               "messages#cancel = Cancel\n");
+    this.write(resourceDir.resolve("META-INF/kilt/consolidated/bundles_de.properties"),
+               "messages#ok = Jawohl\n",
+               "messages#cancel =\n",
+               "sub.options#size = Größe\n");
+    final PropertiesTranslationSource source= new PropertiesTranslationSource(this.createClassLoader(resourceDir), true);
+
+    // execution
+    final TranslationBundle root= source.getBundle("messages", Locale.ROOT);
+    final TranslationBundle de= source.getBundle("messages", Locale.GERMAN);
+    final TranslationBundle options= source.getBundle("sub/options", Locale.GERMAN);
+
+    // verification
+    assertThat(root.keySet()).containsOnly("ok", "cancel");
+    assertThat(root.get("ok")).isEqualTo("OK");
+    assertThat(de.get("ok")).isEqualTo("Jawohl");
+    assertThat(de.get("cancel")).isEqualTo("");
+    assertThat(options.get("size")).isEqualTo("Größe");
+    // the keys of the packs are deduplicated as well
+    assertThat(source.getDeduplicatedBytes()).isGreaterThan(0);
+  }
+
+
+  /**
+   * Creates a classloader that only sees the given resource directory.
+   */
+  private ClassLoader createClassLoader(final Path resourceDir) throws IOException {
+    return new URLClassLoader(new URL[]{ resourceDir.toUri().toURL() }, null);
+  }
+
+
+  private void write(final Path file, final String... lines) throws IOException {
+    Files.createDirectories(file.getParent());
+    Files.write(file, String.join("", lines).getBytes(UTF_8));
+  }
+}
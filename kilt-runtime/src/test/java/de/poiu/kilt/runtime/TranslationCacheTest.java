@@ -0,0 +1,338 @@
+/*
+ * Copyright (C) 2026 Marco Herrn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.poiu.kilt.runtime;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+
+/**
+ *
+ * @author mherrn
+ */
+public class TranslationCacheTest {
+
+  private Locale defaultLocale;
+
+
+  @Before
+  public void setUp() {
+    this.defaultLocale= Locale.getDefault();
+    Locale.setDefault(Locale.ENGLISH);
+  }
+
+
+  @After
+  public void tearDown() {
+    Locale.setDefault(this.defaultLocale);
+  }
+
+
+  @Test
+  public void testGetBundle_Fallback() {
+    // preparation
+    final RecordingSource source= new RecordingSource();
+    source.put("messages", Locale.ROOT,    "ok", "OK", "cancel", "Cancel");
+    source.put("messages", Locale.GERMAN,  "ok", "Jawohl");
+    source.put("messages", Locale.ENGLISH, "ok", "Okay");
+    final TranslationCache cache= new TranslationCache(source);
+
+    // execution
+    final TranslationBundle germany= cache.getBundle("messages", Locale.GERMANY);
+    final TranslationBundle french= cache.getBundle("messages", Locale.FRENCH);
+
+    // verification
+    assertThat(germany.get("ok")).isEqualTo("Jawohl");
+    assertThat(germany.get("cancel")).isEqualTo("Cancel");
+    assertThat(germany.get("help")).isNull();
+    assertThat(germany.keySet()).containsOnly("ok", "cancel");
+
+    // falls back to the default locale if only the base bundle exists
+    assertThat(french.get("ok")).isEqualTo("Okay");
+    assertThat(french.get("cancel")).isEqualTo("Cancel");
+  }
+
+
+  @Test
+  public void testGetBundle_RequestsEachBundleOnlyOnce() {
+    // preparation
+    final RecordingSource source= new RecordingSource();
+    source.put("messages", Locale.ROOT,   "ok", "OK");
+    source.put("messages", Locale.GERMAN, "ok", "Jawohl");
+    final TranslationCache cache= new TranslationCache(source);
+
+    // execution
+    cache.getBundle("messages", Locale.GERMANY);
+    cache.getBundle("messages", Locale.GERMANY);
+    cache.getBundle("messages", new Locale("de", "AT"));
+
+    // verification
+    assertThat(source.requests).containsExactly(
+      "messages_de_DE",
+      "messages_de",
+      "messages_",
+      "messages_de_AT");
+
+    // execution
+    cache.clear();
+    cache.getBundle("messages", Locale.GERMAN);
+
+    // verification
+    assertThat(source.requests).endsWith(
+      "messages_de",
+      "messages_");
+  }
+
+
+  @Test
+  public void testGetBundle_Missing() {
+    // preparation
+    final TranslationCache cache= new TranslationCache(new RecordingSource());
+
+    // execution & verification
+    assertThatThrownBy(() -> cache.getBundle("messages", Locale.GERMAN))
+      .isInstanceOf(MissingResourceException.class);
+  }
+
+
+  @Test
+  public void testGetBundle_Bounded() {
+    // preparation
+    final RecordingSource source= new RecordingSource();
+    source.put("messages", Locale.ROOT,    "ok", "OK");
+    source.put("messages", Locale.GERMAN,  "ok", "Jawohl");
+    source.put("messages", Locale.ENGLISH, "ok", "Okay");
+    final TranslationCache cache= new TranslationCache(source, 1);
+
+    // execution
+    cache.getBundle("messages", Locale.GERMAN);
+    cache.getBundle("messages", Locale.GERMAN);
+    cache.getBundle("messages", Locale.ENGLISH);
+    final TranslationBundle german= cache.getBundle("messages", Locale.GERMAN);
+
+    // verification
+    assertThat(german.get("ok")).isEqualTo("Jawohl");
+    final CacheStatistics statistics= cache.getStatistics();
+    assertThat(statistics.getHitCount()).isEqualTo(1);
+    assertThat(statistics.getMissCount()).isEqualTo(3);
+    assertThat(statistics.getEvictionCount()).isGreaterThanOrEqualTo(2);
+    assertThat(statistics.getSize()).isEqualTo(1);
+  }
+
+
+  @Test
+  public void testGetBundle_PerClassLoader() {
+    // preparation
+    final RecordingSource source= new RecordingSource();
+    source.put("messages", Locale.ROOT, "ok", "OK");
+    final TranslationCache cache= new TranslationCache(source);
+    final ClassLoader app1= new ClassLoader() { @Override public String toString() { return "app1"; } };
+    final ClassLoader app2= new ClassLoader() { @Override public String toString() { return "app2"; } };
+
+    // execution
+    cache.getBundle("messages", Locale.ENGLISH, app1);
+    cache.getBundle("messages", Locale.ENGLISH, app2);
+    cache.getBundle("messages", Locale.ENGLISH, app1);
+
+    // verification
+    assertThat(source.requests).containsExactly(
+      "messages_en@app1",
+      "messages_@app1",
+      "messages_en@app2",
+      "messages_@app2");
+
+    // execution
+    cache.clear(app1);
+    cache.getBundle("messages", Locale.ENGLISH, app1);
+    cache.getBundle("messages", Locale.ENGLISH, app2);
+
+    // verification
+    assertThat(source.requests).containsExactly(
+      "messages_en@app1",
+      "messages_@app1",
+      "messages_en@app2",
+      "messages_@app2",
+      "messages_en@app1",
+      "messages_@app1");
+    assertThat(cache.getStatistics().getClassLoaderEvictionCount()).isEqualTo(1);
+  }
+
+
+  @Test
+  public void testGetBundle_ConcurrentReads() throws Exception {
+    // preparation
+    final RecordingSource source= new RecordingSource();
+    final Locale[] locales= { Locale.ROOT, Locale.GERMAN, Locale.FRENCH, Locale.ITALIAN, Locale.JAPANESE };
+    for (final Locale locale : locales) {
+      source.put("messages", locale, "ok", "OK " + locale);
+    }
+    final TranslationCache cache= new TranslationCache(source, 3);
+    final ClassLoader app= new ClassLoader() { @Override public String toString() { return "app"; } };
+
+    final int threadCount= 8;
+    final int lookupsPerThread= 20_000;
+    final ExecutorService executor= Executors.newFixedThreadPool(threadCount);
+    final CountDownLatch start= new CountDownLatch(1);
+
+    // execution
+    final List<Future<Integer>> futures= new ArrayList<>();
+    try {
+      for (int t= 0; t < threadCount; t++) {
+        final int offset= t;
+        futures.add(executor.submit(() -> {
+          start.await();
+          int mismatches= 0;
+          for (int i= 0; i < lookupsPerThread; i++) {
+            final Locale locale= locales[(i + offset) % locales.length];
+            final TranslationBundle bundle= (i % 2 == 0)
+              ? cache.getBundle("messages", locale)
+              : cache.getBundle("messages", locale, app);
+            if (!bundle.get("ok").equals("OK " + locale)) {
+              mismatches++;
+            }
+          }
+          return mismatches;
+        }));
+      }
+      start.countDown();
+
+      // verification
+      for (final Future<Integer> future : futures) {
+        assertThat(future.get(1, TimeUnit.MINUTES)).isEqualTo(0);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    final CacheStatistics statistics= cache.getStatistics();
+    assertThat(statistics.getHitCount() + statistics.getMissCount()).isEqualTo((long) threadCount * lookupsPerThread);
+    assertThat(statistics.getSize()).isLessThanOrEqualTo(3);
+  }
+
+
+  @Test
+  public void testGetTranslation_KeyIndex() {
+    // preparation
+    final RecordingSource source= new RecordingSource();
+    source.put("i18n.messages", Locale.ROOT,   "ok", "OK", "cancel", "Cancel", "help", "Help");
+    source.put("i18n.messages", Locale.GERMAN, "ok", "Jawohl");
+    final KeyIndex keyIndex= KeyIndex.load(this.getClass().getClassLoader());
+    final TranslationCache cache= new TranslationCache(source, 16, keyIndex);
+
+    // execution & verification
+    assertThat(cache.getTranslation("i18n.messages", "ok", Locale.GERMAN)).isEqualTo("Jawohl");
+    assertThat(cache.getTranslation("i18n.messages", "cancel", Locale.GERMAN)).isEqualTo("Cancel");
+    assertThat(cache.getTranslation("i18n.messages", "size", Locale.GERMAN)).isNull();
+    assertThat(cache.getStatistics().getHitCount() + cache.getStatistics().getMissCount()).isEqualTo(3);
+
+    // indexed pairs are served from the cached translations after their first lookup
+    assertThat(cache.getTranslation("i18n.messages", "ok", Locale.GERMAN)).isEqualTo("Jawohl");
+    assertThat(cache.getTranslation("i18n.messages", "size", Locale.GERMAN)).isNull();
+    assertThat(cache.getStatistics().getHitCount() + cache.getStatistics().getMissCount()).isEqualTo(3);
+
+    // pairs unknown to the index are resolved via the bundle
+    assertThat(cache.getTranslation("i18n.messages", "help", Locale.GERMAN)).isEqualTo("Help");
+    assertThat(cache.getStatistics().getHitCount() + cache.getStatistics().getMissCount()).isEqualTo(4);
+
+    // the cached translations are discarded when clearing the cache
+    source.put("i18n.messages", Locale.GERMAN, "ok", "Jawohl!", "size", "Größe");
+    cache.clear();
+    assertThat(cache.getTranslation("i18n.messages", "ok", Locale.GERMAN)).isEqualTo("Jawohl!");
+    assertThat(cache.getTranslation("i18n.messages", "size", Locale.GERMAN)).isEqualTo("Größe");
+
+    // missing bundles are reported even for indexed pairs
+    assertThatThrownBy(() -> cache.getTranslation("i18n.markup", "greeting", Locale.GERMAN))
+      .isInstanceOf(MissingResourceException.class);
+  }
+
+
+  @Test
+  public void testGetTranslation_KeyIndexOfClassLoader() {
+    // preparation
+    final RecordingSource source= new RecordingSource();
+    source.put("i18n.messages", Locale.ROOT, "ok", "OK");
+    final TranslationCache cache= new TranslationCache(source);
+    final ClassLoader app= new ClassLoader(this.getClass().getClassLoader()) { @Override public String toString() { return "app"; } };
+
+    // execution
+    cache.getTranslation("i18n.messages", "ok", Locale.ROOT, app);
+    cache.getTranslation("i18n.messages", "ok", Locale.ROOT, app);
+    cache.getTranslation("i18n.messages", "ok", Locale.ROOT);
+    cache.getTranslation("i18n.messages", "ok", Locale.ROOT);
+
+    // verification
+    // only the lookups without classloader go through the bundle again, since the cache has no key index for them
+    final CacheStatistics statistics= cache.getStatistics();
+    assertThat(statistics.getHitCount()).isEqualTo(1);
+    assertThat(statistics.getMissCount()).isEqualTo(2);
+
+    // execution
+    source.put("i18n.messages", Locale.ROOT, "ok", "Okay");
+    cache.clear(app);
+
+    // verification
+    assertThat(cache.getTranslation("i18n.messages", "ok", Locale.ROOT, app)).isEqualTo("Okay");
+  }
+
+
+  /**
+   * A TranslationSource serving the translations from a map and recording all requests.
+   */
+  private static class RecordingSource implements TranslationSource {
+    private final Map<String, Map<String, String>> bundles= new HashMap<>();
+    private final List<String> requests= new ArrayList<>();
+
+
+    void put(final String bundleName, final Locale locale, final String... keysAndValues) {
+      final Map<String, String> translations= new HashMap<>();
+      for (int i= 0; i < keysAndValues.length; i+= 2) {
+        translations.put(keysAndValues[i], keysAndValues[i + 1]);
+      }
+      this.bundles.put(bundleName + "_" + locale, translations);
+    }
+
+
+    @Override
+    public synchronized TranslationBundle getBundle(final String bundleName, final Locale locale) {
+      this.requests.add(bundleName + "_" + locale);
+      final Map<String, String> translations= this.bundles.get(bundleName + "_" + locale);
+      return translations != null ? new MapTranslationBundle(translations) : null;
+    }
+
+
+    @Override
+    public synchronized TranslationBundle getBundle(final String bundleName, final Locale locale, final ClassLoader classLoader) {
+      this.requests.add(bundleName + "_" + locale + "@" + classLoader);
+      final Map<String, String> translations= this.bundles.get(bundleName + "_" + locale);
+      return translations != null ? new MapTranslationBundle(translations) : null;
+    }
+  }
+}